@@ -93,6 +93,7 @@ private static void initCodeWriterProvider(JadxArgs jadxArgs) {
 				jadxArgs.setCodeWriterProvider(SimpleCodeWriter::new);
 				break;
 			case JSON:
+			case NDJSON:
 				// needed for code offsets and source lines
 				jadxArgs.setCodeWriterProvider(AnnotatedCodeWriter::new);
 				break;
@@ -80,9 +80,17 @@ public class JadxCLIArgs implements IJadxConfig {
 	@Parameter(names = { "--single-class-output" }, description = "file or dir for write if decompile a single class")
 	protected String singleClassOutput = null;
 
-	@Parameter(names = { "--output-format" }, description = "can be 'java' or 'json'")
+	@Parameter(names = { "--output-format" }, description = "can be 'java', 'json' or 'ndjson' (all classes in one file, one json per line)")
 	protected String outputFormat = "java";
 
+	@Parameter(
+			names = { "--output-sink" },
+			description = "output type:"
+					+ "\n 'dir' - save files into output directory (default)"
+					+ "\n 'zip' - write all files into '<output-dir>.zip' archive (or output dir path if it ends with '.zip' or '.jar')"
+	)
+	protected String outputSink = "dir";
+
 	@Parameter(names = { "-e", "--export-gradle" }, description = "save as gradle project (set '--export-gradle-type' to 'auto')")
 	protected boolean exportAsGradleProject = false;
 
@@ -181,6 +189,12 @@ public class JadxCLIArgs implements IJadxConfig {
 	)
 	protected String deobfuscationWhitelistStr = DeobfWhitelist.DEFAULT_STR;
 
+	@Parameter(
+			names = { "--deobf-parallel" },
+			description = "rename fields and methods in parallel (by packages), result is same as in sequential mode"
+	)
+	protected boolean deobfuscationParallel = false;
+
 	@JadxConfigExclude
 	@Parameter(
 			names = { "--deobf-cfg-file" },
@@ -274,6 +288,27 @@ public class JadxCLIArgs implements IJadxConfig {
 	@Parameter(names = { "--type-update-limit" }, description = "type update limit count (per one instruction)")
 	protected int typeUpdatesLimitCount = 10;
 
+	@Parameter(names = { "--type-search-limit" }, description = "multi-variable type search iterations limit (per method)")
+	protected int typeSearchIterationsLimit = 1_000_000;
+
+	@Parameter(
+			names = { "--type-inference-time-limit" },
+			description = "type inference time limit in milliseconds (per method), 0 - no limit"
+	)
+	protected int typeInferenceTimeLimit = 0;
+
+	@Parameter(
+			names = { "--method-time-limit" },
+			description = "method decompilation time limit in milliseconds, on timeout method generated in fallback mode, 0 - no limit"
+	)
+	protected int methodDecompileTimeLimit = 0;
+
+	@Parameter(
+			names = { "--class-time-limit" },
+			description = "class decompilation time limit in milliseconds, on timeout remaining methods generated in fallback mode, 0 - no limit"
+	)
+	protected int classDecompileTimeLimit = 0;
+
 	@Parameter(names = { "--fs-case-sensitive" }, description = "treat filesystem as case sensitive, false by default")
 	protected boolean fsCaseSensitive = false;
 
@@ -460,6 +495,7 @@ public JadxArgs toJadxArgs() {
 		args.setOutDirSrc(FileUtils.toFile(outDirSrc));
 		args.setOutDirRes(FileUtils.toFile(outDirRes));
 		args.setOutputFormat(JadxArgs.OutputFormatEnum.valueOf(outputFormat.toUpperCase()));
+		args.setOutputSink(JadxArgs.OutputSinkEnum.valueOf(outputSink.toUpperCase()));
 		args.setThreadsCount(threadsCount);
 		args.setSkipSources(skipSources);
 		args.setSkipResources(skipResources);
@@ -482,6 +518,7 @@ public JadxArgs toJadxArgs() {
 		args.setDeobfuscationMinLength(deobfuscationMinLength);
 		args.setDeobfuscationMaxLength(deobfuscationMaxLength);
 		args.setDeobfuscationWhitelist(Arrays.asList(deobfuscationWhitelistStr.split(" ")));
+		args.setDeobfuscationParallel(deobfuscationParallel);
 		args.setUseSourceNameAsClassNameAlias(getUseSourceNameAsClassNameAlias());
 		args.setUseHeadersForDetectResourceExtensions(useHeadersForDetectResourceExtensions);
 		args.setSourceNameRepeatLimit(sourceNameRepeatLimit);
@@ -508,6 +545,10 @@ public JadxArgs toJadxArgs() {
 		args.setCommentsLevel(commentsLevel);
 		args.setIntegerFormat(integerFormat);
 		args.setTypeUpdatesLimitCount(typeUpdatesLimitCount);
+		args.setTypeSearchIterationsLimit(typeSearchIterationsLimit);
+		args.setTypeInferenceTimeLimit(typeInferenceTimeLimit);
+		args.setMethodDecompileTimeLimit(methodDecompileTimeLimit);
+		args.setClassDecompileTimeLimit(classDecompileTimeLimit);
 		args.setUseDxInput(useDx);
 		args.setPluginOptions(pluginOptions);
 		args.setDisabledPlugins(Arrays.stream(disablePlugins.split(",")).map(String::trim).collect(Collectors.toSet()));
@@ -720,6 +761,14 @@ public void setDeobfuscationWhitelistStr(String deobfuscationWhitelistStr) {
 		this.deobfuscationWhitelistStr = deobfuscationWhitelistStr;
 	}
 
+	public boolean isDeobfuscationParallel() {
+		return deobfuscationParallel;
+	}
+
+	public void setDeobfuscationParallel(boolean deobfuscationParallel) {
+		this.deobfuscationParallel = deobfuscationParallel;
+	}
+
 	public String getGeneratedRenamesMappingFile() {
 		return generatedRenamesMappingFile;
 	}
@@ -803,6 +852,38 @@ public void setTypeUpdatesLimitCount(int typeUpdatesLimitCount) {
 		this.typeUpdatesLimitCount = typeUpdatesLimitCount;
 	}
 
+	public int getTypeSearchIterationsLimit() {
+		return typeSearchIterationsLimit;
+	}
+
+	public void setTypeSearchIterationsLimit(int typeSearchIterationsLimit) {
+		this.typeSearchIterationsLimit = typeSearchIterationsLimit;
+	}
+
+	public int getTypeInferenceTimeLimit() {
+		return typeInferenceTimeLimit;
+	}
+
+	public void setTypeInferenceTimeLimit(int typeInferenceTimeLimit) {
+		this.typeInferenceTimeLimit = typeInferenceTimeLimit;
+	}
+
+	public int getMethodDecompileTimeLimit() {
+		return methodDecompileTimeLimit;
+	}
+
+	public void setMethodDecompileTimeLimit(int methodDecompileTimeLimit) {
+		this.methodDecompileTimeLimit = methodDecompileTimeLimit;
+	}
+
+	public int getClassDecompileTimeLimit() {
+		return classDecompileTimeLimit;
+	}
+
+	public void setClassDecompileTimeLimit(int classDecompileTimeLimit) {
+		this.classDecompileTimeLimit = classDecompileTimeLimit;
+	}
+
 	public boolean isEscapeUnicode() {
 		return escapeUnicode;
 	}
@@ -927,6 +1008,10 @@ public void setOutputFormat(String outputFormat) {
 		this.outputFormat = outputFormat;
 	}
 
+	public void setOutputSink(String outputSink) {
+		this.outputSink = outputSink;
+	}
+
 	public Set<RenameEnum> getRenameFlags() {
 		return renameFlags;
 	}
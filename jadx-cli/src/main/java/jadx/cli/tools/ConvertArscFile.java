@@ -2,9 +2,11 @@
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -72,8 +74,8 @@ public static void main(String[] args) throws IOException {
 				}
 			} else {
 				// Load resources.arsc from extracted file
-				try (InputStream inputStream = Files.newInputStream(resFile)) {
-					resTableParser.decode(inputStream);
+				try (FileChannel channel = FileChannel.open(resFile, StandardOpenOption.READ)) {
+					resTableParser.decode(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
 				}
 			}
 			Map<Integer, String> singleResMap = resTableParser.getResStorage().getResourcesNames();
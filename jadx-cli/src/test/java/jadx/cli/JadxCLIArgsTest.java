@@ -7,6 +7,8 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import jadx.api.JadxArgs;
+
 import static jadx.core.utils.Utils.newConstStringMap;
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -33,6 +35,27 @@ public void testSrcOption() {
 		assertThat(parse("").isSkipSources()).isFalse();
 	}
 
+	@Test
+	public void testTypeInferenceLimitsOptions() {
+		JadxCLIArgs args = parse("--type-search-limit", "1000", "--type-inference-time-limit", "500");
+		assertThat(args.getTypeSearchIterationsLimit()).isEqualTo(1000);
+		assertThat(args.getTypeInferenceTimeLimit()).isEqualTo(500);
+		assertThat(args.toJadxArgs().getTypeInferenceTimeLimit()).isEqualTo(500);
+
+		assertThat(parse("").toJadxArgs().getTypeInferenceTimeLimit()).isZero();
+	}
+
+	@Test
+	public void testDecompileTimeLimitsOptions() {
+		JadxArgs args = parse("--method-time-limit", "200", "--class-time-limit", "1000").toJadxArgs();
+		assertThat(args.getMethodDecompileTimeLimit()).isEqualTo(200);
+		assertThat(args.getClassDecompileTimeLimit()).isEqualTo(1000);
+
+		JadxArgs defaultArgs = parse("").toJadxArgs();
+		assertThat(defaultArgs.getMethodDecompileTimeLimit()).isZero();
+		assertThat(defaultArgs.getClassDecompileTimeLimit()).isZero();
+	}
+
 	@Test
 	public void testOptionsOverride() {
 		assertThat(override(new JadxCLIArgs(), "--no-imports").isUseImports()).isFalse();
@@ -312,20 +312,28 @@ synchronized InputStream getInputStream(JadxZipEntry entry) {
 		return stream;
 	}
 
-	synchronized byte[] getBytes(JadxZipEntry entry) {
+	/**
+	 * Not synchronized: buffer copy with own position used, so entries can be decompressed in parallel
+	 */
+	byte[] getBytes(JadxZipEntry entry) {
 		if (verify) {
 			verifyEntry(entry);
 		}
+		ByteBuffer buf = byteBuffer.duplicate();
 		if (entry.getCompressMethod() == 8) {
 			try {
-				return ZipDeflate.decompressEntryToBytes(byteBuffer, entry);
+				return ZipDeflate.decompressEntryToBytes(buf, entry);
 			} catch (Exception e) {
-				entryParseFailed(entry, e);
-				return useFallbackParser(entry).getBytes();
+				return getBytesWithFallback(entry, e);
 			}
 		}
 		// treat any other compression methods values as UNCOMPRESSED
-		return bufferToBytes(byteBuffer, entry.getDataStart(), (int) entry.getUncompressedSize());
+		return bufferToBytes(buf, entry.getDataStart(), (int) entry.getUncompressedSize());
+	}
+
+	private synchronized byte[] getBytesWithFallback(JadxZipEntry entry, Exception e) {
+		entryParseFailed(entry, e);
+		return useFallbackParser(entry).getBytes();
 	}
 
 	private static void verifyEntry(JadxZipEntry entry) {
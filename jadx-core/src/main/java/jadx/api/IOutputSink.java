@@ -0,0 +1,29 @@
+package jadx.api;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+
+/**
+ * Destination for saved sources and resources.
+ * Target file paths are resolved against output directories from {@link JadxArgs},
+ * methods can be called concurrently from save worker threads.
+ */
+public interface IOutputSink extends Closeable {
+
+	/**
+	 * Save text with trailing line separator
+	 */
+	void saveText(File file, String text) throws IOException;
+
+	void saveBytes(File file, byte[] data) throws IOException;
+
+	void saveStream(File file, InputStream in) throws IOException;
+
+	/**
+	 * Move already written local file into output
+	 */
+	void saveFile(File file, Path source) throws IOException;
+}
@@ -33,6 +33,8 @@
 import jadx.api.security.IJadxSecurity;
 import jadx.api.security.JadxSecurityFlag;
 import jadx.api.security.impl.JadxSecurity;
+import jadx.api.snapshot.IPreDecompileSnapshotCache;
+import jadx.api.snapshot.impl.EmptyPreDecompileSnapshotCache;
 import jadx.api.usage.IUsageInfoCache;
 import jadx.api.usage.impl.InMemoryUsageInfoCache;
 import jadx.core.deobf.DeobfAliasProvider;
@@ -70,6 +72,12 @@ public class JadxArgs implements Closeable {
 	 */
 	private IUsageInfoCache usageInfoCache = new InMemoryUsageInfoCache();
 
+	/**
+	 * Results of pre-decompile passes saved between project loads.
+	 * Can be set to {@link jadx.api.snapshot.impl.DiskPreDecompileSnapshotCache} to skip rename passes on next load.
+	 */
+	private IPreDecompileSnapshotCache preDecompileSnapshotCache = new EmptyPreDecompileSnapshotCache();
+
 	private Function<JadxArgs, ICodeWriter> codeWriterProvider = AnnotatedCodeWriter::new;
 
 	private int threadsCount = DEFAULT_THREADS_COUNT;
@@ -121,6 +129,12 @@ public class JadxArgs implements Closeable {
 	 */
 	private List<String> deobfuscationWhitelist = DeobfWhitelist.DEFAULT_LIST;
 
+	/**
+	 * Check and rename fields and methods in parallel (by packages), result is same as in sequential mode.
+	 * Used only with default alias provider, custom rename condition should be thread safe.
+	 */
+	private boolean deobfuscationParallel = false;
+
 	/**
 	 * Nodes alias provider for deobfuscator and rename visitor
 	 */
@@ -148,12 +162,27 @@ public enum RenameEnum {
 
 	private Set<RenameEnum> renameFlags = EnumSet.allOf(RenameEnum.class);
 
+	/**
+	 * NDJSON - all classes saved into one file in source output dir ('classes.ndjson'),
+	 * one line with class json in same format as JSON mode
+	 */
 	public enum OutputFormatEnum {
-		JAVA, JSON
+		JAVA, JSON, NDJSON
 	}
 
 	private OutputFormatEnum outputFormat = OutputFormatEnum.JAVA;
 
+	/**
+	 * DIR - save every class and resource into own file
+	 * ZIP - write all files into one archive: output dir path if it ends with '.zip' or '.jar',
+	 * or output dir path with '.zip' suffix. Each save call rewrites the whole archive.
+	 */
+	public enum OutputSinkEnum {
+		DIR, ZIP
+	}
+
+	private OutputSinkEnum outputSink = OutputSinkEnum.DIR;
+
 	private DecompilationMode decompilationMode = DecompilationMode.AUTO;
 
 	private ICodeData codeData;
@@ -172,6 +201,29 @@ public enum OutputFormatEnum {
 	 */
 	private int typeUpdatesLimitCount = 10;
 
+	/**
+	 * Maximum iterations count for multi-variable type search in one method.
+	 */
+	private int typeSearchIterationsLimit = 1_000_000;
+
+	/**
+	 * Time limit in milliseconds for type inference in one method, 0 - no limit.
+	 * On reaching limit type inference stopped and method code will contain unresolved types.
+	 */
+	private int typeInferenceTimeLimit = 0;
+
+	/**
+	 * Time limit in milliseconds for decompilation of one method, 0 - no limit.
+	 * Checked between decompilation passes, method exceeded limit will be generated in fallback mode.
+	 */
+	private int methodDecompileTimeLimit = 0;
+
+	/**
+	 * Time limit in milliseconds for decompilation of one top level class (including inner classes), 0 - no limit.
+	 * After reaching limit, all not yet processed methods will be generated in fallback mode.
+	 */
+	private int classDecompileTimeLimit = 0;
+
 	private boolean useDxInput = false;
 
 	public enum UseKotlinMethodsForVarNames {
@@ -234,6 +286,9 @@ public void close() {
 			if (usageInfoCache != null) {
 				usageInfoCache.close();
 			}
+			if (preDecompileSnapshotCache != null) {
+				preDecompileSnapshotCache.close();
+			}
 			if (pluginLoader != null) {
 				pluginLoader.close();
 			}
@@ -242,6 +297,7 @@ public void close() {
 		} finally {
 			codeCache = null;
 			usageInfoCache = null;
+			preDecompileSnapshotCache = null;
 		}
 	}
 
@@ -526,6 +582,14 @@ public void setDeobfuscationWhitelist(List<String> deobfuscationWhitelist) {
 		this.deobfuscationWhitelist = deobfuscationWhitelist;
 	}
 
+	public boolean isDeobfuscationParallel() {
+		return deobfuscationParallel;
+	}
+
+	public void setDeobfuscationParallel(boolean deobfuscationParallel) {
+		this.deobfuscationParallel = deobfuscationParallel;
+	}
+
 	public File getGeneratedRenamesMappingFile() {
 		return generatedRenamesMappingFile;
 	}
@@ -673,13 +737,21 @@ public OutputFormatEnum getOutputFormat() {
 	}
 
 	public boolean isJsonOutput() {
-		return outputFormat == OutputFormatEnum.JSON;
+		return outputFormat == OutputFormatEnum.JSON || outputFormat == OutputFormatEnum.NDJSON;
 	}
 
 	public void setOutputFormat(OutputFormatEnum outputFormat) {
 		this.outputFormat = outputFormat;
 	}
 
+	public OutputSinkEnum getOutputSink() {
+		return outputSink;
+	}
+
+	public void setOutputSink(OutputSinkEnum outputSink) {
+		this.outputSink = outputSink;
+	}
+
 	public DecompilationMode getDecompilationMode() {
 		return decompilationMode;
 	}
@@ -712,6 +784,14 @@ public void setUsageInfoCache(IUsageInfoCache usageInfoCache) {
 		this.usageInfoCache = usageInfoCache;
 	}
 
+	public IPreDecompileSnapshotCache getPreDecompileSnapshotCache() {
+		return preDecompileSnapshotCache;
+	}
+
+	public void setPreDecompileSnapshotCache(IPreDecompileSnapshotCache preDecompileSnapshotCache) {
+		this.preDecompileSnapshotCache = preDecompileSnapshotCache;
+	}
+
 	public ICodeData getCodeData() {
 		return codeData;
 	}
@@ -760,6 +840,38 @@ public void setTypeUpdatesLimitCount(int typeUpdatesLimitCount) {
 		this.typeUpdatesLimitCount = Math.max(1, typeUpdatesLimitCount);
 	}
 
+	public int getTypeSearchIterationsLimit() {
+		return typeSearchIterationsLimit;
+	}
+
+	public void setTypeSearchIterationsLimit(int typeSearchIterationsLimit) {
+		this.typeSearchIterationsLimit = Math.max(1, typeSearchIterationsLimit);
+	}
+
+	public int getTypeInferenceTimeLimit() {
+		return typeInferenceTimeLimit;
+	}
+
+	public void setTypeInferenceTimeLimit(int typeInferenceTimeLimit) {
+		this.typeInferenceTimeLimit = Math.max(0, typeInferenceTimeLimit);
+	}
+
+	public int getMethodDecompileTimeLimit() {
+		return methodDecompileTimeLimit;
+	}
+
+	public void setMethodDecompileTimeLimit(int methodDecompileTimeLimit) {
+		this.methodDecompileTimeLimit = Math.max(0, methodDecompileTimeLimit);
+	}
+
+	public int getClassDecompileTimeLimit() {
+		return classDecompileTimeLimit;
+	}
+
+	public void setClassDecompileTimeLimit(int classDecompileTimeLimit) {
+		this.classDecompileTimeLimit = Math.max(0, classDecompileTimeLimit);
+	}
+
 	public boolean isUseDxInput() {
 		return useDxInput;
 	}
@@ -866,6 +978,8 @@ public String makeCodeArgsHash(@Nullable JadxDecompiler decompiler) {
 				+ debugInfo + escapeUnicode + replaceConsts + restoreSwitchOverString
 				+ respectBytecodeAccModifiers + fsCaseSensitive + renameFlags
 				+ commentsLevel + useDxInput + integerFormat + typeUpdatesLimitCount
+				+ typeSearchIterationsLimit + typeInferenceTimeLimit
+				+ methodDecompileTimeLimit + classDecompileTimeLimit
 				+ "|" + buildPluginsHash(decompiler);
 		return FileUtils.md5Sum(argStr);
 	}
@@ -907,6 +1021,7 @@ public String toString() {
 				+ ", deobfuscationMinLength=" + deobfuscationMinLength
 				+ ", deobfuscationMaxLength=" + deobfuscationMaxLength
 				+ ", deobfuscationWhitelist=" + deobfuscationWhitelist
+				+ ", deobfuscationParallel=" + deobfuscationParallel
 				+ ", escapeUnicode=" + escapeUnicode
 				+ ", replaceConsts=" + replaceConsts
 				+ ", restoreSwitchOverString=" + restoreSwitchOverString
@@ -916,6 +1031,7 @@ public String toString() {
 				+ ", fsCaseSensitive=" + fsCaseSensitive
 				+ ", renameFlags=" + renameFlags
 				+ ", outputFormat=" + outputFormat
+				+ ", outputSink=" + outputSink
 				+ ", commentsLevel=" + commentsLevel
 				+ ", codeCache=" + codeCache
 				+ ", codeWriter=" + codeWriterProvider.apply(this).getClass().getSimpleName()
@@ -925,6 +1041,10 @@ public String toString() {
 				+ ", rawCFGOutput=" + rawCFGOutput
 				+ ", useHeadersForDetectResourceExtensions=" + useHeadersForDetectResourceExtensions
 				+ ", typeUpdatesLimitCount=" + typeUpdatesLimitCount
+				+ ", typeSearchIterationsLimit=" + typeSearchIterationsLimit
+				+ ", typeInferenceTimeLimit=" + typeInferenceTimeLimit
+				+ ", methodDecompileTimeLimit=" + methodDecompileTimeLimit
+				+ ", classDecompileTimeLimit=" + classDecompileTimeLimit
 				+ '}';
 	}
 }
@@ -1,12 +1,14 @@
 package jadx.api;
 
 import java.io.File;
+import java.nio.file.Path;
 import java.util.List;
 
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import jadx.api.impl.ZipOutputSink;
 import jadx.core.utils.exceptions.JadxArgsValidateException;
 
 public class JadxArgsValidator {
@@ -54,11 +56,34 @@ private static void validateOutDirs(JadxArgs args) {
 			args.setOutDirRes(new File(args.getOutDir(), JadxArgs.DEFAULT_RES_DIR));
 		}
 
+		if (args.getOutputSink() == JadxArgs.OutputSinkEnum.ZIP) {
+			checkArchiveOutput(args);
+			return;
+		}
 		checkDir(args.getOutDir(), "Output");
 		checkDir(args.getOutDirSrc(), "Source output");
 		checkDir(args.getOutDirRes(), "Resources output");
 	}
 
+	private static void checkArchiveOutput(JadxArgs args) {
+		if (args.getExportGradleType() != null) {
+			throw new JadxArgsValidateException("Gradle export not supported with zip output");
+		}
+		Path outDir = args.getOutDir().toPath().toAbsolutePath().normalize();
+		checkInArchive(outDir, args.getOutDirSrc(), "Source output");
+		checkInArchive(outDir, args.getOutDirRes(), "Resources output");
+		File archiveFile = ZipOutputSink.getArchiveFile(args.getOutDir());
+		if (archiveFile.isDirectory()) {
+			throw new JadxArgsValidateException("Output archive exists as directory " + archiveFile);
+		}
+	}
+
+	private static void checkInArchive(Path outDir, File dir, String desc) {
+		if (!dir.toPath().toAbsolutePath().normalize().startsWith(outDir)) {
+			throw new JadxArgsValidateException(desc + " directory should be inside output directory for zip output: " + dir);
+		}
+	}
+
 	@NotNull
 	private static File makeDirFromInput(JadxArgs args) {
 		String outDirName;
@@ -21,6 +21,8 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import jadx.api.impl.DirOutputSink;
+import jadx.api.impl.ZipOutputSink;
 import jadx.api.metadata.ICodeAnnotation;
 import jadx.api.metadata.ICodeNodeRef;
 import jadx.api.metadata.annotations.NodeDeclareRef;
@@ -36,6 +38,7 @@
 import jadx.api.plugins.pass.types.JadxPassType;
 import jadx.api.utils.tasks.ITaskExecutor;
 import jadx.core.Jadx;
+import jadx.core.codegen.json.JsonLinesWriter;
 import jadx.core.dex.attributes.AFlag;
 import jadx.core.dex.nodes.ClassNode;
 import jadx.core.dex.nodes.FieldNode;
@@ -304,38 +307,71 @@ private TaskExecutor getSaveTasks(boolean saveSources, boolean saveResources) {
 		}
 		OutDirs outDirs;
 		ExportGradle gradleExport;
+		IOutputSink sink;
 		if (args.getExportGradleType() != null) {
 			gradleExport = new ExportGradle(root, args.getOutDir(), getResources());
 			outDirs = gradleExport.init();
+			sink = DirOutputSink.INSTANCE;
 		} else {
 			gradleExport = null;
 			outDirs = new OutDirs(args.getOutDirSrc(), args.getOutDirRes());
-			outDirs.makeDirs();
+			sink = buildOutputSink();
+			if (sink == DirOutputSink.INSTANCE) {
+				outDirs.makeDirs();
+			}
 		}
 
 		TaskExecutor executor = new TaskExecutor();
 		executor.setThreadsCount(args.getThreadsCount());
 		if (saveResources) {
 			// save resources first because decompilation can stop or fail
-			appendResourcesSaveTasks(executor, outDirs.getResOutDir());
+			appendResourcesSaveTasks(executor, outDirs.getResOutDir(), sink);
 		}
 		if (saveSources) {
-			appendSourcesSave(executor, outDirs.getSrcOutDir());
+			appendSourcesSave(executor, outDirs.getSrcOutDir(), sink);
 		}
 		if (gradleExport != null) {
 			executor.addSequentialTask(gradleExport::generateGradleFiles);
 		}
+		if (sink != DirOutputSink.INSTANCE) {
+			executor.addSequentialTask(() -> closeOutputSink(sink));
+		}
 		return executor;
 	}
 
-	private void appendResourcesSaveTasks(ITaskExecutor executor, File outDir) {
+	private IOutputSink buildOutputSink() {
+		switch (args.getOutputSink()) {
+			case DIR:
+				return DirOutputSink.INSTANCE;
+
+			case ZIP:
+				File archiveFile = ZipOutputSink.getArchiveFile(args.getOutDir());
+				IOutputSink zipSink = new ZipOutputSink(archiveFile, args.getOutDir());
+				// also close on decompiler close if save was interrupted
+				addCloseable(zipSink);
+				return zipSink;
+
+			default:
+				throw new JadxRuntimeException("Unknown output sink: " + args.getOutputSink());
+		}
+	}
+
+	private static void closeOutputSink(IOutputSink sink) {
+		try {
+			sink.close();
+		} catch (Exception e) {
+			throw new JadxRuntimeException("Failed to finish output: " + sink, e);
+		}
+	}
+
+	private void appendResourcesSaveTasks(ITaskExecutor executor, File outDir, IOutputSink sink) {
 		if (args.isSkipFilesSave()) {
 			return;
 		}
 		// process AndroidManifest.xml first to load complete resource ids table
 		for (ResourceFile resourceFile : getResources()) {
 			if (resourceFile.getType() == ResourceType.MANIFEST) {
-				new ResourcesSaver(this, outDir, resourceFile).run();
+				new ResourcesSaver(this, outDir, resourceFile, sink).run();
 				break;
 			}
 		}
@@ -361,7 +397,7 @@ private void appendResourcesSaveTasks(ITaskExecutor executor, File outDir) {
 				// do not trust file extensions, use only sources set as class inputs
 				continue;
 			}
-			tasks.add(new ResourcesSaver(this, outDir, resourceFile));
+			tasks.add(new ResourcesSaver(this, outDir, resourceFile, sink));
 		}
 		executor.addParallelTasks(tasks);
 	}
@@ -389,7 +425,7 @@ private Set<String> collectCodeSources() {
 		return set;
 	}
 
-	private void appendSourcesSave(ITaskExecutor executor, File outDir) {
+	private void appendSourcesSave(ITaskExecutor executor, File outDir, IOutputSink sink) {
 		List<JavaClass> classes = getClasses();
 		List<JavaClass> processQueue = filterClasses(classes);
 		List<List<JavaClass>> batches;
@@ -398,6 +434,9 @@ private void appendSourcesSave(ITaskExecutor executor, File outDir) {
 		} catch (Exception e) {
 			throw new JadxRuntimeException("Decompilation batches build failed", e);
 		}
+		JsonLinesWriter linesWriter = buildJsonLinesWriter(outDir, sink, classes.size());
+		// lines written in classes list order
+		Map<JavaClass, Integer> clsIndexes = linesWriter != null ? buildIndexMap(classes) : Collections.emptyMap();
 		List<Runnable> decompileTasks = new ArrayList<>(batches.size());
 		for (List<JavaClass> decompileBatch : batches) {
 			decompileTasks.add(() -> {
@@ -405,7 +444,15 @@ private void appendSourcesSave(ITaskExecutor executor, File outDir) {
 					try {
 						ClassNode clsNode = cls.getClassNode();
 						ICodeInfo code = clsNode.getCode();
-						SaveCode.save(outDir, clsNode, code);
+						if (linesWriter != null) {
+							Integer index = clsIndexes.get(cls);
+							if (index == null) {
+								throw new JadxRuntimeException("Class not found in classes list: " + cls);
+							}
+							SaveCode.save(linesWriter, index, clsNode, code);
+						} else {
+							SaveCode.save(sink, outDir, clsNode, code);
+						}
 					} catch (Exception e) {
 						LOG.error("Error saving class: {}", cls, e);
 					}
@@ -414,6 +461,39 @@ private void appendSourcesSave(ITaskExecutor executor, File outDir) {
 			});
 		}
 		executor.addParallelTasks(decompileTasks);
+		if (linesWriter != null) {
+			executor.addSequentialTask(() -> {
+				try {
+					linesWriter.finish();
+				} catch (Exception e) {
+					throw new JadxRuntimeException("Failed to save classes json", e);
+				}
+			});
+		}
+	}
+
+	private @Nullable JsonLinesWriter buildJsonLinesWriter(File outDir, IOutputSink sink, int classesCount) {
+		if (args.getOutputFormat() != JadxArgs.OutputFormatEnum.NDJSON || args.isSkipFilesSave()) {
+			return null;
+		}
+		try {
+			File outFile = new File(outDir, JsonLinesWriter.FILE_NAME);
+			JsonLinesWriter linesWriter = new JsonLinesWriter(sink, outFile, args.getFilesGetter().getTempDir(), classesCount);
+			// remove temp file if save not finished
+			addCloseable(linesWriter);
+			return linesWriter;
+		} catch (Exception e) {
+			throw new JadxRuntimeException("Failed to init classes json writer", e);
+		}
+	}
+
+	private static Map<JavaClass, Integer> buildIndexMap(List<JavaClass> classes) {
+		int count = classes.size();
+		Map<JavaClass, Integer> map = new HashMap<>(count);
+		for (int i = 0; i < count; i++) {
+			map.put(classes.get(i), i);
+		}
+		return map;
 	}
 
 	private List<JavaClass> filterClasses(List<JavaClass> classes) {
@@ -74,6 +74,20 @@ public synchronized ICodeInfo reload() {
 		return cls.reloadCode();
 	}
 
+	/**
+	 * Get class code only if already decompiled and saved in code cache
+	 */
+	public @Nullable ICodeInfo getCodeFromCache() {
+		return cls.getCodeFromCache();
+	}
+
+	/**
+	 * Replace class code in code cache, class not decompiled
+	 */
+	public synchronized void updateCode(ICodeInfo codeInfo) {
+		cls.updateCodeInCache(codeInfo);
+	}
+
 	public void unload() {
 		listsLoaded = false;
 		cls.unloadCode();
@@ -195,21 +209,21 @@ public ICodeAnnotation getAnnotationAt(int pos) {
 	}
 
 	public Map<Integer, JavaNode> getUsageMap() {
-		Map<Integer, ICodeAnnotation> map = getCodeInfo().getCodeMetadata().getAsMap();
-		if (map.isEmpty() || decompiler == null) {
+		ICodeInfo codeInfo = getCodeInfo();
+		if (!codeInfo.hasMetadata() || decompiler == null) {
 			return Collections.emptyMap();
 		}
-		Map<Integer, JavaNode> resultMap = new HashMap<>(map.size());
-		for (Map.Entry<Integer, ICodeAnnotation> entry : map.entrySet()) {
-			int codePosition = entry.getKey();
-			ICodeAnnotation obj = entry.getValue();
-			if (obj instanceof ICodeNodeRef) {
-				JavaNode node = getRootDecompiler().getJavaNodeByRef((ICodeNodeRef) obj);
+		JadxDecompiler rootDecompiler = getRootDecompiler();
+		Map<Integer, JavaNode> resultMap = new HashMap<>();
+		codeInfo.getCodeMetadata().searchDown(0, (codePosition, ann) -> {
+			if (ann instanceof ICodeNodeRef) {
+				JavaNode node = rootDecompiler.getJavaNodeByRef((ICodeNodeRef) ann);
 				if (node != null) {
 					resultMap.put(codePosition, node);
 				}
 			}
-		}
+			return null;
+		});
 		return resultMap;
 	}
 
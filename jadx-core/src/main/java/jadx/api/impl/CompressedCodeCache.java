@@ -0,0 +1,126 @@
+package jadx.api.impl;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jadx.api.ICodeCache;
+import jadx.api.ICodeInfo;
+
+/**
+ * Store code compressed in back cache ({@link CompressedCodeInfo}),
+ * recently added or requested classes kept uncompressed in small LRU set.
+ */
+public class CompressedCodeCache extends DelegateCodeCache {
+	private static final Logger LOG = LoggerFactory.getLogger(CompressedCodeCache.class);
+
+	public static final int DEFAULT_HOT_SET_SIZE = 32;
+
+	private final Map<String, ICodeInfo> hotSet;
+	private final AtomicLong rawSize = new AtomicLong();
+	private final AtomicLong compressedSize = new AtomicLong();
+
+	public CompressedCodeCache() {
+		this(new InMemoryCodeCache(), DEFAULT_HOT_SET_SIZE);
+	}
+
+	public CompressedCodeCache(ICodeCache backCache, int hotSetSize) {
+		super(backCache);
+		this.hotSet = new LinkedHashMap<>(hotSetSize, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, ICodeInfo> eldest) {
+				return size() > hotSetSize;
+			}
+		};
+	}
+
+	@Override
+	public void add(String clsFullName, ICodeInfo codeInfo) {
+		if (codeInfo == ICodeInfo.EMPTY) {
+			removeHot(clsFullName);
+			backCache.add(clsFullName, codeInfo);
+			return;
+		}
+		CompressedCodeInfo compressed = CompressedCodeInfo.compress(codeInfo);
+		rawSize.addAndGet(compressed.getSize());
+		compressedSize.addAndGet(compressed.getCompressedSize());
+		backCache.add(clsFullName, compressed);
+		putHot(clsFullName, codeInfo);
+	}
+
+	@Override
+	public void remove(String clsFullName) {
+		removeHot(clsFullName);
+		backCache.remove(clsFullName);
+	}
+
+	@Override
+	public @NotNull ICodeInfo get(String clsFullName) {
+		ICodeInfo hotCode = getHot(clsFullName);
+		if (hotCode != null) {
+			return hotCode;
+		}
+		ICodeInfo codeInfo = backCache.get(clsFullName);
+		if (codeInfo instanceof CompressedCodeInfo) {
+			ICodeInfo decompressed = ((CompressedCodeInfo) codeInfo).decompress();
+			putHot(clsFullName, decompressed);
+			return decompressed;
+		}
+		return codeInfo;
+	}
+
+	@Override
+	public @Nullable String getCode(String clsFullName) {
+		ICodeInfo codeInfo = get(clsFullName);
+		if (codeInfo == ICodeInfo.EMPTY) {
+			return backCache.getCode(clsFullName);
+		}
+		return codeInfo.getCodeStr();
+	}
+
+	/**
+	 * Compressed to raw code size ratio for all added classes
+	 */
+	public double getCompressionRatio() {
+		long raw = rawSize.get();
+		if (raw == 0) {
+			return 1.0;
+		}
+		return (double) compressedSize.get() / raw;
+	}
+
+	private synchronized @Nullable ICodeInfo getHot(String clsFullName) {
+		return hotSet.get(clsFullName);
+	}
+
+	private synchronized void putHot(String clsFullName, ICodeInfo codeInfo) {
+		hotSet.put(clsFullName, codeInfo);
+	}
+
+	private synchronized void removeHot(String clsFullName) {
+		hotSet.remove(clsFullName);
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (LOG.isDebugEnabled() && rawSize.get() != 0) {
+			LOG.debug("Code compressed from {} to {} bytes, ratio: {}",
+					rawSize.get(), compressedSize.get(), String.format("%.3f", getCompressionRatio()));
+		}
+		synchronized (this) {
+			hotSet.clear();
+		}
+		super.close();
+	}
+
+	@Override
+	public String toString() {
+		return "CompressedCodeCache: ratio=" + String.format("%.3f", getCompressionRatio()) + ", back cache=" + backCache;
+	}
+}
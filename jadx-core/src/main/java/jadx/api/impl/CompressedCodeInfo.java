@@ -0,0 +1,143 @@
+package jadx.api.impl;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import jadx.api.ICodeInfo;
+import jadx.api.metadata.ICodeMetadata;
+import jadx.core.utils.exceptions.JadxRuntimeException;
+
+/**
+ * Code stored as deflated UTF-8 bytes, decompressed on every access.
+ * Metadata kept as is, offsets are still valid for decompressed code string.
+ */
+public class CompressedCodeInfo implements ICodeInfo {
+
+	private final byte[] data;
+	private final int size;
+	private final ICodeMetadata metadata;
+
+	public static CompressedCodeInfo compress(ICodeInfo codeInfo) {
+		byte[] bytes = codeInfo.getCodeStr().getBytes(StandardCharsets.UTF_8);
+		return new CompressedCodeInfo(deflate(bytes), bytes.length, codeInfo.getCodeMetadata());
+	}
+
+	private CompressedCodeInfo(byte[] data, int size, ICodeMetadata metadata) {
+		this.data = data;
+		this.size = size;
+		this.metadata = metadata;
+	}
+
+	/**
+	 * Decompress once and return code info with plain string
+	 */
+	public ICodeInfo decompress() {
+		String code = getCodeStr();
+		if (metadata == ICodeMetadata.EMPTY) {
+			return new SimpleCodeInfo(code);
+		}
+		return new DecompressedCodeInfo(code, metadata);
+	}
+
+	@Override
+	public String getCodeStr() {
+		return new String(inflate(data, size), StandardCharsets.UTF_8);
+	}
+
+	@Override
+	public ICodeMetadata getCodeMetadata() {
+		return metadata;
+	}
+
+	@Override
+	public boolean hasMetadata() {
+		return metadata != ICodeMetadata.EMPTY;
+	}
+
+	/**
+	 * Size of code in UTF-8 encoding
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	public int getCompressedSize() {
+		return data.length;
+	}
+
+	private static byte[] deflate(byte[] bytes) {
+		Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+		try {
+			deflater.setInput(bytes);
+			deflater.finish();
+			ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4 + 64);
+			byte[] buf = new byte[8 * 1024];
+			while (!deflater.finished()) {
+				int len = deflater.deflate(buf);
+				out.write(buf, 0, len);
+			}
+			return out.toByteArray();
+		} finally {
+			deflater.end();
+		}
+	}
+
+	private static byte[] inflate(byte[] data, int size) {
+		Inflater inflater = new Inflater();
+		try {
+			inflater.setInput(data);
+			byte[] result = new byte[size];
+			int pos = 0;
+			while (pos < size) {
+				int len = inflater.inflate(result, pos, size - pos);
+				if (len == 0 && (inflater.finished() || inflater.needsInput())) {
+					throw new JadxRuntimeException("Unexpected end of compressed code data");
+				}
+				pos += len;
+			}
+			return result;
+		} catch (DataFormatException e) {
+			throw new JadxRuntimeException("Failed to decompress code", e);
+		} finally {
+			inflater.end();
+		}
+	}
+
+	@Override
+	public String toString() {
+		return getCodeStr();
+	}
+
+	private static final class DecompressedCodeInfo implements ICodeInfo {
+		private final String code;
+		private final ICodeMetadata metadata;
+
+		private DecompressedCodeInfo(String code, ICodeMetadata metadata) {
+			this.code = code;
+			this.metadata = metadata;
+		}
+
+		@Override
+		public String getCodeStr() {
+			return code;
+		}
+
+		@Override
+		public ICodeMetadata getCodeMetadata() {
+			return metadata;
+		}
+
+		@Override
+		public boolean hasMetadata() {
+			return true;
+		}
+
+		@Override
+		public String toString() {
+			return code;
+		}
+	}
+}
@@ -0,0 +1,63 @@
+package jadx.api.impl;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import jadx.api.IOutputSink;
+import jadx.core.utils.files.FileUtils;
+
+/**
+ * Write every entry into own file
+ */
+public class DirOutputSink implements IOutputSink {
+
+	public static final DirOutputSink INSTANCE = new DirOutputSink();
+
+	@Override
+	public void saveText(File file, String text) throws IOException {
+		File outFile = FileUtils.prepareFile(file);
+		try (PrintWriter out = new PrintWriter(outFile, StandardCharsets.UTF_8)) {
+			out.println(text);
+		}
+	}
+
+	@Override
+	public void saveBytes(File file, byte[] data) throws IOException {
+		FileUtils.makeDirsForFile(file);
+		Files.write(file.toPath(), data);
+	}
+
+	@Override
+	public void saveStream(File file, InputStream in) throws IOException {
+		FileUtils.makeDirsForFile(file);
+		Path target = file.toPath();
+		try {
+			Files.copy(in, target, StandardCopyOption.REPLACE_EXISTING);
+		} catch (Exception e) {
+			Files.deleteIfExists(target); // delete partially written file
+			throw e;
+		}
+	}
+
+	@Override
+	public void saveFile(File file, Path source) throws IOException {
+		FileUtils.makeDirsForFile(file);
+		Files.move(source, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+	}
+
+	@Override
+	public void close() {
+		// do nothing
+	}
+
+	@Override
+	public String toString() {
+		return "DirOutputSink";
+	}
+}
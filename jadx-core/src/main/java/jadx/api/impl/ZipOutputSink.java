@@ -0,0 +1,225 @@
+package jadx.api.impl;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jadx.api.IOutputSink;
+import jadx.core.utils.exceptions.JadxRuntimeException;
+import jadx.core.utils.files.FileUtils;
+
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Write all entries into one zip archive.
+ * Entry names are file paths relative to root directory (not created on disk).
+ * <br>
+ * Entry data appended into one temp data file near archive, only entry position kept in memory.
+ * Duplicate path overwritten by last saved entry (same as in {@link DirOutputSink}).
+ * On close entries packed sorted by name and with fixed time,
+ * this way archive content doesn't depend on save threads timing.
+ */
+public class ZipOutputSink implements IOutputSink {
+	private static final Logger LOG = LoggerFactory.getLogger(ZipOutputSink.class);
+
+	private static final byte[] LINE_SEPARATOR = System.lineSeparator().getBytes(StandardCharsets.UTF_8);
+	private static final LocalDateTime ENTRY_TIME = LocalDateTime.of(1980, 1, 1, 0, 0);
+
+	private final Path archiveFile;
+	private final Path rootDir;
+	private final Map<String, DataSlot> entries = new TreeMap<>();
+	private @Nullable Path dataFile;
+	private @Nullable FileChannel data;
+	private long dataSize;
+
+	public ZipOutputSink(File archiveFile, File rootDir) {
+		this.archiveFile = archiveFile.toPath().toAbsolutePath().normalize();
+		this.rootDir = rootDir.toPath().toAbsolutePath().normalize();
+	}
+
+	/**
+	 * Use directory path as archive if it already has archive extension, otherwise append '.zip'
+	 */
+	public static File getArchiveFile(File outDir) {
+		String name = outDir.getName().toLowerCase();
+		if (name.endsWith(".zip") || name.endsWith(".jar")) {
+			return outDir;
+		}
+		return new File(outDir.getPath() + ".zip");
+	}
+
+	@Override
+	public void saveText(File file, String text) throws IOException {
+		byte[] textBytes = text.getBytes(StandardCharsets.UTF_8);
+		byte[] bytes = new byte[textBytes.length + LINE_SEPARATOR.length];
+		System.arraycopy(textBytes, 0, bytes, 0, textBytes.length);
+		System.arraycopy(LINE_SEPARATOR, 0, bytes, textBytes.length, LINE_SEPARATOR.length);
+		saveBytes(file, bytes);
+	}
+
+	@Override
+	public void saveBytes(File file, byte[] bytes) throws IOException {
+		addEntry(file, out -> writeFully(out, ByteBuffer.wrap(bytes)));
+	}
+
+	@Override
+	public void saveStream(File file, InputStream in) throws IOException {
+		addEntry(file, out -> {
+			byte[] buf = new byte[8 * 1024];
+			while (true) {
+				int len = in.read(buf);
+				if (len == -1) {
+					break;
+				}
+				writeFully(out, ByteBuffer.wrap(buf, 0, len));
+			}
+		});
+	}
+
+	@Override
+	public void saveFile(File file, Path source) throws IOException {
+		addEntry(file, out -> {
+			try (FileChannel in = FileChannel.open(source, READ)) {
+				long start = out.position();
+				long size = in.size();
+				long pos = 0;
+				while (pos < size) {
+					long copied = out.transferFrom(in, start + pos, size - pos);
+					if (copied <= 0) {
+						throw new IOException("Failed to copy file: " + source);
+					}
+					pos += copied;
+				}
+				out.position(start + size);
+			}
+		});
+		Files.delete(source);
+	}
+
+	private interface EntryWriter {
+		void write(FileChannel out) throws IOException;
+	}
+
+	/**
+	 * Append entry data and register it under entry name, replacing previous entry with same name.
+	 * On write error data position reset, so broken entry not added.
+	 */
+	private synchronized void addEntry(File file, EntryWriter writer) throws IOException {
+		String entryName = getEntryName(file);
+		FileChannel out = getData();
+		long start = dataSize;
+		out.position(start);
+		try {
+			writer.write(out);
+		} catch (Exception e) {
+			out.position(start);
+			throw e;
+		}
+		long end = out.position();
+		dataSize = end;
+		entries.put(entryName, new DataSlot(start, end - start));
+	}
+
+	private static void writeFully(FileChannel out, ByteBuffer buf) throws IOException {
+		while (buf.hasRemaining()) {
+			out.write(buf);
+		}
+	}
+
+	private String getEntryName(File file) {
+		Path path = file.toPath().toAbsolutePath().normalize();
+		if (!path.startsWith(rootDir)) {
+			throw new JadxRuntimeException("File path outside of output archive: " + file);
+		}
+		return rootDir.relativize(path).toString().replace(File.separatorChar, '/');
+	}
+
+	private FileChannel getData() throws IOException {
+		FileChannel channel = data;
+		if (channel == null) {
+			Path parentDir = archiveFile.getParent();
+			Files.createDirectories(parentDir);
+			Path file = Files.createTempFile(parentDir, archiveFile.getFileName().toString(), ".tmp");
+			dataFile = file;
+			channel = FileChannel.open(file, READ, WRITE);
+			data = channel;
+		}
+		return channel;
+	}
+
+	public Path getArchiveFile() {
+		return archiveFile;
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		FileChannel channel = data;
+		if (channel == null) {
+			return;
+		}
+		data = null;
+		try {
+			try (ZipOutputStream zipOut = new ZipOutputStream(new BufferedOutputStream(Files.newOutputStream(archiveFile)))) {
+				WritableByteChannel zipChannel = Channels.newChannel(zipOut);
+				for (Map.Entry<String, DataSlot> entry : entries.entrySet()) {
+					ZipEntry zipEntry = new ZipEntry(entry.getKey());
+					zipEntry.setTimeLocal(ENTRY_TIME);
+					zipOut.putNextEntry(zipEntry);
+					copy(channel, entry.getValue(), zipChannel);
+					zipOut.closeEntry();
+				}
+			}
+			LOG.debug("Output archive saved: {}, entries: {}", archiveFile, entries.size());
+		} finally {
+			channel.close();
+			FileUtils.deleteFileIfExists(dataFile);
+			dataFile = null;
+			entries.clear();
+		}
+	}
+
+	private static void copy(FileChannel in, DataSlot slot, WritableByteChannel out) throws IOException {
+		long pos = slot.offset;
+		long end = slot.offset + slot.length;
+		while (pos < end) {
+			long copied = in.transferTo(pos, end - pos, out);
+			if (copied <= 0) {
+				throw new IOException("Unexpected end of data file at: " + pos);
+			}
+			pos += copied;
+		}
+	}
+
+	private static final class DataSlot {
+		private final long offset;
+		private final long length;
+
+		private DataSlot(long offset, long length) {
+			this.offset = offset;
+			this.length = length;
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "ZipOutputSink{" + archiveFile + '}';
+	}
+}
@@ -1,7 +1,10 @@
 package jadx.api.metadata.impl;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import java.util.NavigableMap;
 import java.util.TreeMap;
@@ -16,66 +19,191 @@
 import jadx.api.metadata.annotations.NodeDeclareRef;
 import jadx.core.utils.Utils;
 
+/**
+ * Annotations stored in arrays sorted by position, all lookups done by binary search:
+ * - enclosing node (class or method) precomputed for every annotation
+ * - annotations indexes grouped by type for type search
+ * <br>
+ * Map (in reversed order) not stored, new copy built on each {@link #getAsMap()} call.
+ */
 public class CodeMetadataStorage implements ICodeMetadata {
 
+	private static final int[] EMPTY_INDEXES = new int[0];
+	private static final ICodeAnnotation[] EMPTY_ANNOTATIONS = new ICodeAnnotation[0];
+	private static final ICodeNodeRef[] EMPTY_NODES = new ICodeNodeRef[0];
+	private static final AnnType[] ANN_TYPES = AnnType.values();
+
 	public static ICodeMetadata build(Map<Integer, Integer> lines, Map<Integer, ICodeAnnotation> map) {
 		if (map.isEmpty() && lines.isEmpty()) {
 			return ICodeMetadata.EMPTY;
 		}
-		Comparator<Integer> reverseCmp = Comparator.comparingInt(Integer::intValue).reversed();
-		NavigableMap<Integer, ICodeAnnotation> navMap = new TreeMap<>(reverseCmp);
-		navMap.putAll(map);
-		return new CodeMetadataStorage(lines, navMap);
+		int size = map.size();
+		List<Map.Entry<Integer, ICodeAnnotation>> entries = new ArrayList<>(map.entrySet());
+		entries.sort(Map.Entry.comparingByKey());
+		int[] positions = new int[size];
+		ICodeAnnotation[] annotations = new ICodeAnnotation[size];
+		for (int i = 0; i < size; i++) {
+			Map.Entry<Integer, ICodeAnnotation> entry = entries.get(i);
+			positions[i] = entry.getKey();
+			annotations[i] = entry.getValue();
+		}
+		return new CodeMetadataStorage(lines, positions, annotations);
 	}
 
 	public static ICodeMetadata empty() {
-		return new CodeMetadataStorage(Collections.emptyMap(), Collections.emptyNavigableMap());
+		return new CodeMetadataStorage(Collections.emptyMap(), EMPTY_INDEXES, EMPTY_ANNOTATIONS);
 	}
 
 	private final Map<Integer, Integer> lines;
 
-	private final NavigableMap<Integer, ICodeAnnotation> navMap;
+	/**
+	 * Sorted in ascending order
+	 */
+	private final int[] positions;
+	private final ICodeAnnotation[] annotations;
+
+	/**
+	 * Class or method enclosing annotation with same index
+	 */
+	private final ICodeNodeRef[] enclosingNodes;
+
+	/**
+	 * Sorted annotation indexes for each type
+	 */
+	private final int[][] typeIndexes;
 
-	private CodeMetadataStorage(Map<Integer, Integer> lines, NavigableMap<Integer, ICodeAnnotation> navMap) {
+	/**
+	 * Sorted indexes of class and method declarations
+	 */
+	private final int[] declIndexes;
+
+	private CodeMetadataStorage(Map<Integer, Integer> lines, int[] positions, ICodeAnnotation[] annotations) {
 		this.lines = lines;
-		this.navMap = navMap;
+		this.positions = positions;
+		this.annotations = annotations;
+		int size = positions.length;
+		if (size == 0) {
+			this.enclosingNodes = EMPTY_NODES;
+			this.typeIndexes = new int[ANN_TYPES.length][];
+			Arrays.fill(typeIndexes, EMPTY_INDEXES);
+			this.declIndexes = EMPTY_INDEXES;
+			return;
+		}
+		int[] typeCounts = new int[ANN_TYPES.length];
+		for (ICodeAnnotation ann : annotations) {
+			typeCounts[ann.getAnnType().ordinal()]++;
+		}
+		this.typeIndexes = new int[ANN_TYPES.length][];
+		for (int t = 0; t < ANN_TYPES.length; t++) {
+			typeIndexes[t] = typeCounts[t] == 0 ? EMPTY_INDEXES : new int[typeCounts[t]];
+		}
+		Arrays.fill(typeCounts, 0);
+
+		this.enclosingNodes = new ICodeNodeRef[size];
+		int[] decls = new int[size];
+		int declsCount = 0;
+		// stack of not closed class or method declarations, 'END' close nearest one
+		ICodeNodeRef[] stack = new ICodeNodeRef[16];
+		int stackSize = 0;
+		for (int i = 0; i < size; i++) {
+			ICodeAnnotation ann = annotations[i];
+			int type = ann.getAnnType().ordinal();
+			typeIndexes[type][typeCounts[type]++] = i;
+			switch (ann.getAnnType()) {
+				case END:
+					if (stackSize > 0) {
+						stack[--stackSize] = null;
+					}
+					break;
+
+				case DECLARATION:
+					ICodeNodeRef node = ((NodeDeclareRef) ann).getNode();
+					if (isClassOrMethod(node)) {
+						decls[declsCount++] = i;
+						if (stackSize == stack.length) {
+							stack = Arrays.copyOf(stack, stackSize * 2);
+						}
+						stack[stackSize++] = node;
+					}
+					break;
+			}
+			enclosingNodes[i] = stackSize == 0 ? null : stack[stackSize - 1];
+		}
+		this.declIndexes = Arrays.copyOf(decls, declsCount);
+	}
+
+	private static boolean isClassOrMethod(ICodeNodeRef node) {
+		AnnType nodeType = node.getAnnType();
+		return nodeType == AnnType.CLASS || nodeType == AnnType.METHOD;
+	}
+
+	/**
+	 * Index of annotation at position or before it, -1 if not found
+	 */
+	private int floorIndex(int position) {
+		int idx = Arrays.binarySearch(positions, position);
+		return idx >= 0 ? idx : -idx - 2;
+	}
+
+	/**
+	 * Index of annotation at position or after it, {@code positions.length} if not found
+	 */
+	private int ceilIndex(int position) {
+		int idx = Arrays.binarySearch(positions, position);
+		return idx >= 0 ? idx : -idx - 1;
+	}
+
+	/**
+	 * Search in sorted annotation indexes for last one placed at position or before it
+	 */
+	private int floorIndexIn(int[] indexes, int position) {
+		int low = 0;
+		int high = indexes.length - 1;
+		int result = -1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			int idx = indexes[mid];
+			if (positions[idx] <= position) {
+				result = idx;
+				low = mid + 1;
+			} else {
+				high = mid - 1;
+			}
+		}
+		return result;
 	}
 
 	@Override
 	public ICodeAnnotation getAt(int position) {
-		return navMap.get(position);
+		int idx = Arrays.binarySearch(positions, position);
+		return idx >= 0 ? annotations[idx] : null;
 	}
 
 	@Override
 	public @Nullable ICodeAnnotation getClosestUp(int position) {
-		Map.Entry<Integer, ICodeAnnotation> entryBefore = navMap.higherEntry(position);
-		return entryBefore != null ? entryBefore.getValue() : null;
+		int idx = floorIndex(position - 1);
+		return idx >= 0 ? annotations[idx] : null;
 	}
 
 	@Override
 	public @Nullable ICodeAnnotation searchUp(int position, AnnType annType) {
-		for (ICodeAnnotation v : navMap.tailMap(position, true).values()) {
-			if (v.getAnnType() == annType) {
-				return v;
-			}
-		}
-		return null;
+		int idx = floorIndexIn(typeIndexes[annType.ordinal()], position);
+		return idx >= 0 ? annotations[idx] : null;
 	}
 
 	@Override
 	public @Nullable ICodeAnnotation searchUp(int position, int limitPos, AnnType annType) {
-		for (ICodeAnnotation v : navMap.subMap(position, true, limitPos, true).values()) {
-			if (v.getAnnType() == annType) {
-				return v;
-			}
+		int idx = floorIndexIn(typeIndexes[annType.ordinal()], position);
+		if (idx >= 0 && positions[idx] >= limitPos) {
+			return annotations[idx];
 		}
 		return null;
 	}
 
 	@Override
 	public <T> @Nullable T searchUp(int startPos, BiFunction<Integer, ICodeAnnotation, T> visitor) {
-		for (Map.Entry<Integer, ICodeAnnotation> entry : navMap.tailMap(startPos, true).entrySet()) {
-			T value = visitor.apply(entry.getKey(), entry.getValue());
+		for (int i = floorIndex(startPos); i >= 0; i--) {
+			T value = visitor.apply(positions[i], annotations[i]);
 			if (value != null) {
 				return value;
 			}
@@ -85,9 +213,9 @@ public ICodeAnnotation getAt(int position) {
 
 	@Override
 	public <T> @Nullable T searchDown(int startPos, BiFunction<Integer, ICodeAnnotation, T> visitor) {
-		NavigableMap<Integer, ICodeAnnotation> map = navMap.headMap(startPos, true).descendingMap();
-		for (Map.Entry<Integer, ICodeAnnotation> entry : map.entrySet()) {
-			T value = visitor.apply(entry.getKey(), entry.getValue());
+		int size = positions.length;
+		for (int i = ceilIndex(startPos); i < size; i++) {
+			T value = visitor.apply(positions[i], annotations[i]);
 			if (value != null) {
 				return value;
 			}
@@ -97,45 +225,35 @@ public ICodeAnnotation getAt(int position) {
 
 	@Override
 	public ICodeNodeRef getNodeAt(int position) {
-		int nesting = 0;
-		for (ICodeAnnotation ann : navMap.tailMap(position, true).values()) {
-			switch (ann.getAnnType()) {
-				case END:
-					nesting++;
-					break;
-
-				case DECLARATION:
-					ICodeNodeRef node = ((NodeDeclareRef) ann).getNode();
-					AnnType nodeType = node.getAnnType();
-					if (nodeType == AnnType.CLASS || nodeType == AnnType.METHOD) {
-						if (nesting == 0) {
-							return node;
-						}
-						nesting--;
-					}
-					break;
-			}
-		}
-		return null;
+		int idx = floorIndex(position);
+		return idx >= 0 ? enclosingNodes[idx] : null;
 	}
 
 	@Override
 	public ICodeNodeRef getNodeBelow(int position) {
-		for (ICodeAnnotation ann : navMap.headMap(position, true).descendingMap().values()) {
-			if (ann.getAnnType() == AnnType.DECLARATION) {
-				ICodeNodeRef node = ((NodeDeclareRef) ann).getNode();
-				AnnType nodeType = node.getAnnType();
-				if (nodeType == AnnType.CLASS || nodeType == AnnType.METHOD) {
-					return node;
-				}
+		int low = 0;
+		int high = declIndexes.length - 1;
+		int result = -1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			int idx = declIndexes[mid];
+			if (positions[idx] >= position) {
+				result = idx;
+				high = mid - 1;
+			} else {
+				low = mid + 1;
 			}
 		}
-		return null;
+		return result >= 0 ? ((NodeDeclareRef) annotations[result]).getNode() : null;
 	}
 
 	@Override
 	public NavigableMap<Integer, ICodeAnnotation> getAsMap() {
-		return navMap;
+		NavigableMap<Integer, ICodeAnnotation> map = new TreeMap<>(Comparator.reverseOrder());
+		for (int i = 0; i < positions.length; i++) {
+			map.put(positions[i], annotations[i]);
+		}
+		return map;
 	}
 
 	@Override
@@ -146,6 +264,6 @@ public Map<Integer, Integer> getLineMapping() {
 	@Override
 	public String toString() {
 		return "CodeMetadata{\nlines=" + lines
-				+ "\nannotations=\n " + Utils.listToString(navMap.descendingMap().entrySet(), "\n ") + "\n}";
+				+ "\nannotations=\n " + Utils.listToString(getAsMap().descendingMap().entrySet(), "\n ") + "\n}";
 	}
 }
@@ -81,6 +81,16 @@ public <E extends Enum<?>> OptionBuilder<E> enumOption(String name, E[] values,
 						.parser(v -> valueOf.apply(v.toUpperCase(Locale.ROOT))));
 	}
 
+	/**
+	 * Option with name '{pluginId}.cache' to enable files cache in plugin cache dir, enabled by default.
+	 * Cache files can be saved using {@link jadx.core.utils.files.CacheFileUtils} helpers.
+	 */
+	public OptionBuilder<Boolean> cacheOption(String pluginId, String desc) {
+		return boolOption(pluginId + ".cache")
+				.description(desc)
+				.defaultValue(true);
+	}
+
 	@Override
 	public void setOptions(Map<String, String> map) {
 		for (OptionData<?> option : options) {
@@ -0,0 +1,19 @@
+package jadx.api.snapshot;
+
+import java.io.Closeable;
+
+import org.jetbrains.annotations.Nullable;
+
+import jadx.core.dex.visitors.prepare.PreDecompileSnapshot;
+
+/**
+ * Storage for results of pre-decompile passes.
+ * Key built from inputs, options and passes list by {@link PreDecompileSnapshot#buildKey}.
+ */
+public interface IPreDecompileSnapshotCache extends Closeable {
+
+	@Nullable
+	PreDecompileSnapshot get(String key);
+
+	void set(String key, PreDecompileSnapshot snapshot);
+}
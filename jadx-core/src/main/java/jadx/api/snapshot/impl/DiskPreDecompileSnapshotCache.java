@@ -0,0 +1,197 @@
+package jadx.api.snapshot.impl;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jadx.api.snapshot.IPreDecompileSnapshotCache;
+import jadx.core.dex.visitors.prepare.PreDecompileSnapshot;
+import jadx.core.dex.visitors.prepare.PreDecompileSnapshot.ClsData;
+import jadx.core.dex.visitors.prepare.PreDecompileSnapshot.MemberData;
+import jadx.core.utils.exceptions.JadxRuntimeException;
+import jadx.core.utils.files.CacheFileUtils;
+
+/**
+ * Keep only one snapshot in binary file inside cache directory.
+ * Snapshot with different key replaced on next save, so size limit not needed,
+ * but cache directory should be per project (like in jadx-gui).
+ */
+public class DiskPreDecompileSnapshotCache implements IPreDecompileSnapshotCache {
+	private static final Logger LOG = LoggerFactory.getLogger(DiskPreDecompileSnapshotCache.class);
+
+	private static final int SNAPSHOT_VERSION = 1;
+	private static final byte[] HEADER = "jadx.snapshot".getBytes(StandardCharsets.US_ASCII);
+
+	private final Path snapshotFile;
+
+	public DiskPreDecompileSnapshotCache(Path cacheDir) {
+		this.snapshotFile = cacheDir.resolve("snapshot");
+	}
+
+	@Override
+	public synchronized @Nullable PreDecompileSnapshot get(String key) {
+		if (!Files.isRegularFile(snapshotFile)) {
+			return null;
+		}
+		try {
+			ByteBuffer buf = ByteBuffer.wrap(Files.readAllBytes(snapshotFile));
+			byte[] header = new byte[HEADER.length];
+			buf.get(header);
+			if (!Arrays.equals(header, HEADER) || buf.getInt() != SNAPSHOT_VERSION) {
+				LOG.debug("Found pre-decompile snapshot with unknown format: {}", snapshotFile);
+				return null;
+			}
+			if (!key.equals(readString(buf))) {
+				LOG.debug("Found pre-decompile snapshot with different key");
+				return null;
+			}
+			return readSnapshot(buf);
+		} catch (Exception e) {
+			LOG.warn("Failed to read pre-decompile snapshot: {}", snapshotFile, e);
+			return null;
+		}
+	}
+
+	@Override
+	public synchronized void set(String key, PreDecompileSnapshot snapshot) {
+		try {
+			CacheFileUtils.writeFileAtomic(snapshotFile, out -> {
+				out.write(HEADER);
+				out.writeInt(SNAPSHOT_VERSION);
+				writeString(out, key);
+				writeSnapshot(out, snapshot);
+			});
+		} catch (Exception e) {
+			LOG.warn("Failed to save pre-decompile snapshot: {}", snapshotFile, e);
+		}
+	}
+
+	@Override
+	public void close() {
+		// nothing to release
+	}
+
+	private static void writeSnapshot(DataOutputStream out, PreDecompileSnapshot snapshot) throws IOException {
+		Map<String, String> pkgAliases = snapshot.getPkgAliases();
+		out.writeInt(pkgAliases.size());
+		for (Map.Entry<String, String> entry : pkgAliases.entrySet()) {
+			writeString(out, entry.getKey());
+			writeString(out, entry.getValue());
+		}
+		List<ClsData> classes = snapshot.getClasses();
+		out.writeInt(classes.size());
+		for (ClsData cls : classes) {
+			out.writeInt(cls.getIndex());
+			writeString(out, cls.getRawName());
+			writeString(out, cls.getAliasPkg());
+			writeString(out, cls.getAliasShortName());
+			writeString(out, cls.getRenameReason());
+			writeMembers(out, cls.getFields());
+			writeMembers(out, cls.getMethods());
+		}
+		int[] aliasIndexes = snapshot.getAliasIndexes();
+		out.writeInt(aliasIndexes.length);
+		for (int index : aliasIndexes) {
+			out.writeInt(index);
+		}
+	}
+
+	private static void writeMembers(DataOutputStream out, List<MemberData> members) throws IOException {
+		out.writeInt(members.size());
+		for (MemberData member : members) {
+			out.writeInt(member.getIndex());
+			writeString(out, member.getName());
+			writeString(out, member.getAlias());
+			writeString(out, member.getRenameReason());
+		}
+	}
+
+	private static PreDecompileSnapshot readSnapshot(ByteBuffer in) {
+		int pkgCount = readCount(in);
+		Map<String, String> pkgAliases = new LinkedHashMap<>(pkgCount);
+		for (int i = 0; i < pkgCount; i++) {
+			pkgAliases.put(readString(in), readString(in));
+		}
+		int clsCount = readCount(in);
+		List<ClsData> classes = new ArrayList<>(clsCount);
+		for (int i = 0; i < clsCount; i++) {
+			int index = in.getInt();
+			String rawName = readString(in);
+			String aliasPkg = readString(in);
+			String aliasShortName = readString(in);
+			String renameReason = readString(in);
+			List<MemberData> fields = readMembers(in);
+			List<MemberData> methods = readMembers(in);
+			classes.add(new ClsData(index, rawName, aliasPkg, aliasShortName, renameReason, fields, methods));
+		}
+		int indexesCount = readCount(in);
+		int[] aliasIndexes = new int[indexesCount];
+		for (int i = 0; i < indexesCount; i++) {
+			aliasIndexes[i] = in.getInt();
+		}
+		return new PreDecompileSnapshot(pkgAliases, classes, aliasIndexes);
+	}
+
+	private static List<MemberData> readMembers(ByteBuffer in) {
+		int count = readCount(in);
+		if (count == 0) {
+			return Collections.emptyList();
+		}
+		List<MemberData> members = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			int index = in.getInt();
+			String name = readString(in);
+			String alias = readString(in);
+			String renameReason = readString(in);
+			members.add(new MemberData(index, name, alias, renameReason));
+		}
+		return members;
+	}
+
+	/**
+	 * Check count before allocation, every element takes at least one byte
+	 */
+	private static int readCount(ByteBuffer in) {
+		int count = in.getInt();
+		if (count < 0 || count > in.remaining()) {
+			throw new JadxRuntimeException("Invalid elements count: " + count);
+		}
+		return count;
+	}
+
+	/**
+	 * Length prefixed UTF-8 string, -1 length used for null
+	 */
+	private static void writeString(DataOutputStream out, @Nullable String str) throws IOException {
+		if (str == null) {
+			out.writeInt(-1);
+			return;
+		}
+		byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static @Nullable String readString(ByteBuffer in) {
+		int len = in.getInt();
+		if (len == -1) {
+			return null;
+		}
+		String str = new String(in.array(), in.position(), len, StandardCharsets.UTF_8);
+		in.position(in.position() + len);
+		return str;
+	}
+}
@@ -0,0 +1,21 @@
+package jadx.api.snapshot.impl;
+
+import org.jetbrains.annotations.Nullable;
+
+import jadx.api.snapshot.IPreDecompileSnapshotCache;
+import jadx.core.dex.visitors.prepare.PreDecompileSnapshot;
+
+public class EmptyPreDecompileSnapshotCache implements IPreDecompileSnapshotCache {
+	@Override
+	public @Nullable PreDecompileSnapshot get(String key) {
+		return null;
+	}
+
+	@Override
+	public void set(String key, PreDecompileSnapshot snapshot) {
+	}
+
+	@Override
+	public void close() {
+	}
+}
@@ -20,6 +20,7 @@
 import jadx.core.dex.nodes.ClassNode;
 import jadx.core.dex.nodes.LoadStage;
 import jadx.core.dex.nodes.RootNode;
+import jadx.core.dex.visitors.DecompileTimeLimiter;
 import jadx.core.dex.visitors.DepthTraversal;
 import jadx.core.dex.visitors.IDexTreeVisitor;
 import jadx.core.utils.Utils;
@@ -78,8 +79,9 @@ private ICodeInfo process(ClassNode cls, boolean codegen) {
 				}
 				if (cls.getState() == LOADED) {
 					cls.setState(PROCESS_STARTED);
+					DecompileTimeLimiter timeLimiter = DecompileTimeLimiter.build(cls.root().getArgs());
 					for (IDexTreeVisitor visitor : passes) {
-						DepthTraversal.visit(visitor, cls);
+						DepthTraversal.visit(visitor, cls, timeLimiter);
 					}
 					cls.setState(PROCESS_COMPLETE);
 				}
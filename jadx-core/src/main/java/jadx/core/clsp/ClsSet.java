@@ -1,11 +1,9 @@
 package jadx.core.clsp;
 
-import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
-import java.io.DataInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -41,10 +39,10 @@ public class ClsSet {
 	private static final String CLST_EXTENSION = ".jcst";
 	private static final String CLST_FILENAME = "core" + CLST_EXTENSION;
 
-	private static final String CLST_PATH = "/clst/" + CLST_FILENAME;
+	static final String CLST_PATH = "/clst/" + CLST_FILENAME;
 
-	private static final String JADX_CLS_SET_HEADER = "jadx-cst";
-	private static final int VERSION = 5;
+	static final String JADX_CLS_SET_HEADER = "jadx-cst";
+	static final int VERSION = 6;
 
 	private static final String STRING_CHARSET = "US-ASCII";
 
@@ -71,19 +69,19 @@ private enum TypeEnum {
 
 	private ClspClass[] classes;
 
+	/**
+	 * Shared class set data, used for lazy loading of class details
+	 */
+	private ClsSetData data;
+	private int[] detailsOffsets;
+
 	public void loadFromClstFile() throws IOException, DecodeException {
 		long startTime = System.currentTimeMillis();
-		try (InputStream input = ClsSet.class.getResourceAsStream(CLST_PATH)) {
-			if (input == null) {
-				throw new JadxRuntimeException("Can't load classpath file: " + CLST_PATH);
-			}
-			load(input);
-		}
+		load(ClsSetData.getBundled());
 		if (LOG.isDebugEnabled()) {
 			long time = System.currentTimeMillis() - startTime;
-			int methodsCount = Stream.of(classes).mapToInt(clspClass -> clspClass.getMethodsMap().size()).sum();
-			LOG.debug("Clst file loaded in {}ms, android api: {}, classes: {}, methods: {}",
-					time, androidApiLevel, classes.length, methodsCount);
+			LOG.debug("Clst file loaded in {}ms, android api: {}, classes: {}",
+					time, androidApiLevel, classes.length);
 		}
 	}
 
@@ -204,23 +202,33 @@ private void save(OutputStream output) throws IOException {
 		out.writeInt(androidApiLevel);
 
 		Map<String, ClspClass> names = new HashMap<>(classes.length);
-		out.writeInt(classes.length);
 		for (ClspClass cls : classes) {
-			out.writeInt(cls.getAccFlags());
-			writeUnsignedByte(out, cls.getSource().ordinal());
-			String clsName = cls.getName();
-			writeString(out, clsName);
-			names.put(clsName, cls);
-		}
-		for (ClspClass cls : classes) {
-			writeArgTypesArray(out, cls.getParents(), names);
-			writeArgTypesList(out, cls.getTypeParameters(), names);
+			names.put(cls.getName(), cls);
+		}
+		// write classes data first to collect offsets for index
+		int[] offsets = new int[classes.length];
+		ByteArrayOutputStream dataBytes = new ByteArrayOutputStream();
+		DataOutputStream dataOut = new DataOutputStream(dataBytes);
+		for (int i = 0; i < classes.length; i++) {
+			ClspClass cls = classes[i];
+			offsets[i] = dataOut.size();
+			writeArgTypesArray(dataOut, cls.getParents(), names);
+			writeArgTypesList(dataOut, cls.getTypeParameters(), names);
 			List<ClspMethod> methods = cls.getSortedMethodsList();
-			out.writeShort(methods.size());
+			dataOut.writeShort(methods.size());
 			for (ClspMethod method : methods) {
-				writeMethod(out, method, names);
+				writeMethod(dataOut, method, names);
 			}
 		}
+		out.writeInt(classes.length);
+		for (int i = 0; i < classes.length; i++) {
+			ClspClass cls = classes[i];
+			out.writeInt(cls.getAccFlags());
+			writeUnsignedByte(out, cls.getSource().ordinal());
+			writeString(out, cls.getName());
+			out.writeInt(offsets[i]);
+		}
+		dataBytes.writeTo(out);
 		int methodsCount = Stream.of(classes).mapToInt(c -> c.getMethodsMap().size()).sum();
 		LOG.info("Classes: {}, methods: {}, file size: {} bytes", classes.length, methodsCount, out.size());
 	}
@@ -304,47 +312,38 @@ private static void writeArgType(DataOutputStream out, ArgType argType, Map<Stri
 		}
 	}
 
-	private void load(InputStream input) throws IOException, DecodeException {
-		try (DataInputStream in = new DataInputStream(new BufferedInputStream(input))) {
-			byte[] header = new byte[JADX_CLS_SET_HEADER.length()];
-			int readHeaderLength = in.read(header);
-			if (readHeaderLength != JADX_CLS_SET_HEADER.length()
-					|| !JADX_CLS_SET_HEADER.equals(new String(header, STRING_CHARSET))) {
-				throw new DecodeException("Wrong jadx class set header");
-			}
-			int version = in.readByte();
-			if (version != VERSION) {
-				throw new DecodeException("Wrong jadx class set version, got: " + version + ", expect: " + VERSION);
-			}
-			androidApiLevel = in.readInt();
-			int clsCount = in.readInt();
-			classes = new ClspClass[clsCount];
-			for (int i = 0; i < clsCount; i++) {
-				int accFlags = in.readInt();
-				ClspClassSource clsSource = readClsSource(in);
-				String name = readString(in);
-				classes[i] = new ClspClass(ArgType.object(name), i, accFlags, clsSource);
-			}
-			for (int i = 0; i < clsCount; i++) {
-				ClspClass nClass = classes[i];
-				ClassInfo clsInfo = ClassInfo.fromType(root, nClass.getClsType());
-				nClass.setParents(readArgTypesArray(in));
-				nClass.setTypeParameters(readArgTypesList(in));
-				nClass.setMethods(readClsMethods(in, clsInfo));
-			}
+	private void load(ClsSetData setData) {
+		data = setData;
+		androidApiLevel = setData.getAndroidApiLevel();
+		int clsCount = setData.getClassesCount();
+		classes = new ClspClass[clsCount];
+		detailsOffsets = new int[clsCount];
+		for (int i = 0; i < clsCount; i++) {
+			ArgType clsType = ArgType.object(setData.getClassName(i));
+			classes[i] = new ClspClass(clsType, i, setData.getAccFlags(i), setData.getSource(i));
+		}
+		// parents required for classes hierarchy, other class details will be loaded on first access
+		for (int i = 0; i < clsCount; i++) {
+			ClspClass nClass = classes[i];
+			ClsSetData.Reader in = setData.classDataReader(i);
+			nClass.setParents(readArgTypesArray(in));
+			detailsOffsets[i] = in.getPos();
+			nClass.setDetailsLoader(this);
 		}
 	}
 
-	private static ClspClassSource readClsSource(DataInputStream in) throws IOException, DecodeException {
-		int source = readUnsignedByte(in);
-		ClspClassSource[] clspClassSources = ClspClassSource.values();
-		if (source < 0 || source > clspClassSources.length) {
-			throw new DecodeException("Wrong jadx source identifier: " + source);
-		}
-		return clspClassSources[source];
+	/**
+	 * Decode type parameters and methods for class from class set data.
+	 * Called by {@link ClspClass} on first access (under class lock).
+	 */
+	void loadDetails(ClspClass cls) {
+		ClsSetData.Reader in = data.reader(detailsOffsets[cls.getId()]);
+		ClassInfo clsInfo = ClassInfo.fromType(root, cls.getClsType());
+		cls.setTypeParameters(readArgTypesList(in));
+		cls.setMethods(readClsMethods(in, clsInfo));
 	}
 
-	private List<ClspMethod> readClsMethods(DataInputStream in, ClassInfo clsInfo) throws IOException {
+	private List<ClspMethod> readClsMethods(ClsSetData.Reader in, ClassInfo clsInfo) {
 		int mCount = in.readShort();
 		List<ClspMethod> methods = new ArrayList<>(mCount);
 		for (int j = 0; j < mCount; j++) {
@@ -353,8 +352,8 @@ private List<ClspMethod> readClsMethods(DataInputStream in, ClassInfo clsInfo) t
 		return methods;
 	}
 
-	private ClspMethod readMethod(DataInputStream in, ClassInfo clsInfo) throws IOException {
-		String name = readString(in);
+	private ClspMethod readMethod(ClsSetData.Reader in, ClassInfo clsInfo) {
+		String name = in.readString();
 		List<ArgType> argTypes = readArgTypesList(in);
 		ArgType retType = readArgType(in);
 		List<ArgType> genericArgTypes = readArgTypesList(in);
@@ -374,7 +373,7 @@ private ClspMethod readMethod(DataInputStream in, ClassInfo clsInfo) throws IOEx
 				typeParameters, throwList, accFlags);
 	}
 
-	private List<ArgType> readArgTypesList(DataInputStream in) throws IOException {
+	private List<ArgType> readArgTypesList(ClsSetData.Reader in) {
 		int count = in.readByte();
 		if (count == 0) {
 			return Collections.emptyList();
@@ -387,7 +386,7 @@ private List<ArgType> readArgTypesList(DataInputStream in) throws IOException {
 	}
 
 	@Nullable
-	private ArgType[] readArgTypesArray(DataInputStream in) throws IOException {
+	private ArgType[] readArgTypesArray(ClsSetData.Reader in) {
 		int count = in.readByte();
 		switch (count) {
 			case -1:
@@ -405,7 +404,7 @@ private ArgType[] readArgTypesArray(DataInputStream in) throws IOException {
 		}
 	}
 
-	private ArgType readArgType(DataInputStream in) throws IOException {
+	private ArgType readArgType(ClsSetData.Reader in) {
 		int ordinal = in.readByte();
 		if (ordinal == -1) {
 			return null;
@@ -429,7 +428,7 @@ private ArgType readArgType(DataInputStream in) throws IOException {
 				return ArgType.generic(clsType, readArgTypesList(in));
 
 			case GENERIC_TYPE_VARIABLE:
-				String typeVar = readString(in);
+				String typeVar = in.readString();
 				List<ArgType> extendTypes = readArgTypesList(in);
 				return ArgType.genericType(typeVar, extendTypes);
 
@@ -458,25 +457,6 @@ private static void writeString(DataOutputStream out, String name) throws IOExce
 		out.write(bytes);
 	}
 
-	private static String readString(DataInputStream in) throws IOException {
-		int len = readUnsignedByte(in);
-		return readString(in, len);
-	}
-
-	private static String readString(DataInputStream in, int len) throws IOException {
-		byte[] bytes = new byte[len];
-		int count = in.read(bytes);
-		while (count != len) {
-			int res = in.read(bytes, count, len - count);
-			if (res == -1) {
-				throw new IOException("String read error");
-			} else {
-				count += res;
-			}
-		}
-		return new String(bytes, STRING_CHARSET);
-	}
-
 	private static void writeUnsignedByte(DataOutputStream out, int value) throws IOException {
 		if (value < 0 || value >= 0xFF) {
 			throw new JadxRuntimeException("Unsigned byte value is too big: " + value);
@@ -484,10 +464,6 @@ private static void writeUnsignedByte(DataOutputStream out, int value) throws IO
 		out.writeByte(value);
 	}
 
-	private static int readUnsignedByte(DataInputStream in) throws IOException {
-		return ((int) in.readByte()) & 0xFF;
-	}
-
 	public int getClassesCount() {
 		return classes.length;
 	}
@@ -0,0 +1,197 @@
+package jadx.core.clsp;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jadx.core.utils.exceptions.DecodeException;
+import jadx.core.utils.exceptions.JadxRuntimeException;
+
+/**
+ * Raw class set file data with classes index.
+ * <br>
+ * Immutable and not bound to any {@link jadx.core.dex.nodes.RootNode},
+ * so bundled class set loaded only once and shared by all decompiler instances.
+ * Class details decoded from buffer on demand (see {@link ClsSet}).
+ */
+public final class ClsSetData {
+	private static final Logger LOG = LoggerFactory.getLogger(ClsSetData.class);
+
+	private static volatile ClsSetData bundled;
+
+	private final ByteBuffer buf;
+	private final int androidApiLevel;
+	private final String[] names;
+	private final int[] accFlags;
+	private final byte[] sources;
+	private final int[] dataOffsets;
+
+	/**
+	 * Get class set file bundled with jadx, loaded once per JVM
+	 */
+	public static ClsSetData getBundled() throws IOException, DecodeException {
+		ClsSetData data = bundled;
+		if (data == null) {
+			synchronized (ClsSetData.class) {
+				data = bundled;
+				if (data == null) {
+					data = loadBundled();
+					bundled = data;
+				}
+			}
+		}
+		return data;
+	}
+
+	private static ClsSetData loadBundled() throws IOException, DecodeException {
+		URL url = ClsSetData.class.getResource(ClsSet.CLST_PATH);
+		if (url == null) {
+			throw new JadxRuntimeException("Can't load classpath file: " + ClsSet.CLST_PATH);
+		}
+		if (url.getProtocol().equals("file")) {
+			try {
+				return load(Paths.get(url.toURI()));
+			} catch (URISyntaxException e) {
+				LOG.debug("Failed to resolve class set file path: {}", url, e);
+			}
+		}
+		// resource inside jar can't be mapped, read into memory
+		try (InputStream input = url.openStream()) {
+			return new ClsSetData(ByteBuffer.wrap(input.readAllBytes()));
+		}
+	}
+
+	/**
+	 * Load class set file using memory mapping
+	 */
+	public static ClsSetData load(Path path) throws IOException, DecodeException {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			return new ClsSetData(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+		}
+	}
+
+	private ClsSetData(ByteBuffer buffer) throws DecodeException {
+		this.buf = buffer.asReadOnlyBuffer();
+		Reader in = reader(0);
+		String header = in.readString(ClsSet.JADX_CLS_SET_HEADER.length());
+		if (!ClsSet.JADX_CLS_SET_HEADER.equals(header)) {
+			throw new DecodeException("Wrong jadx class set header");
+		}
+		int version = in.readByte();
+		if (version != ClsSet.VERSION) {
+			throw new DecodeException("Wrong jadx class set version, got: " + version + ", expect: " + ClsSet.VERSION);
+		}
+		this.androidApiLevel = in.readInt();
+		int clsCount = in.readInt();
+		this.names = new String[clsCount];
+		this.accFlags = new int[clsCount];
+		this.sources = new byte[clsCount];
+		this.dataOffsets = new int[clsCount];
+		int sourcesCount = ClspClassSource.values().length;
+		for (int i = 0; i < clsCount; i++) {
+			accFlags[i] = in.readInt();
+			int source = in.readUnsignedByte();
+			if (source >= sourcesCount) {
+				throw new DecodeException("Wrong jadx source identifier: " + source);
+			}
+			sources[i] = (byte) source;
+			names[i] = in.readString();
+			dataOffsets[i] = in.readInt();
+		}
+		int dataStart = in.getPos();
+		for (int i = 0; i < clsCount; i++) {
+			dataOffsets[i] += dataStart;
+		}
+	}
+
+	public int getAndroidApiLevel() {
+		return androidApiLevel;
+	}
+
+	public int getClassesCount() {
+		return names.length;
+	}
+
+	public String getClassName(int id) {
+		return names[id];
+	}
+
+	public int getAccFlags(int id) {
+		return accFlags[id];
+	}
+
+	public ClspClassSource getSource(int id) {
+		return ClspClassSource.values()[sources[id]];
+	}
+
+	/**
+	 * Create reader positioned at class data start
+	 */
+	Reader classDataReader(int id) {
+		return reader(dataOffsets[id]);
+	}
+
+	Reader reader(int pos) {
+		return new Reader(buf, pos);
+	}
+
+	/**
+	 * Simple reader over shared buffer. Use only absolute access, so buffer state not changed.
+	 */
+	static final class Reader {
+		private final ByteBuffer buf;
+		private int pos;
+
+		private Reader(ByteBuffer buf, int pos) {
+			this.buf = buf;
+			this.pos = pos;
+		}
+
+		public int getPos() {
+			return pos;
+		}
+
+		public byte readByte() {
+			return buf.get(pos++);
+		}
+
+		public int readUnsignedByte() {
+			return buf.get(pos++) & 0xFF;
+		}
+
+		public short readShort() {
+			short value = buf.getShort(pos);
+			pos += 2;
+			return value;
+		}
+
+		public int readInt() {
+			int value = buf.getInt(pos);
+			pos += 4;
+			return value;
+		}
+
+		public String readString() {
+			return readString(readUnsignedByte());
+		}
+
+		public String readString(int len) {
+			byte[] bytes = new byte[len];
+			for (int i = 0; i < len; i++) {
+				bytes[i] = buf.get(pos + i);
+			}
+			pos += len;
+			return new String(bytes, StandardCharsets.US_ASCII);
+		}
+	}
+}
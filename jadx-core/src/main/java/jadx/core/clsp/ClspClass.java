@@ -8,6 +8,7 @@
 import java.util.Objects;
 
 import org.intellij.lang.annotations.MagicConstant;
+import org.jetbrains.annotations.Nullable;
 
 import jadx.api.plugins.input.data.AccessFlags;
 import jadx.core.dex.instructions.args.ArgType;
@@ -26,6 +27,11 @@ public class ClspClass {
 
 	private final ClspClassSource source;
 
+	/**
+	 * Set for classes from class set file until methods and type parameters are loaded
+	 */
+	private volatile @Nullable ClsSet detailsLoader;
+
 	public ClspClass(ArgType clsType, int id, int accFlags, ClspClassSource source) {
 		this.clsType = clsType;
 		this.id = id;
@@ -66,10 +72,12 @@ public void setParents(ArgType[] parents) {
 	}
 
 	public Map<String, ClspMethod> getMethodsMap() {
+		loadDetails();
 		return methodsMap;
 	}
 
 	public List<ClspMethod> getSortedMethodsList() {
+		loadDetails();
 		List<ClspMethod> list = new ArrayList<>(methodsMap.size());
 		list.addAll(methodsMap.values());
 		Collections.sort(list);
@@ -89,6 +97,7 @@ public void setMethods(List<ClspMethod> methods) {
 	}
 
 	public List<ArgType> getTypeParameters() {
+		loadDetails();
 		return typeParameters;
 	}
 
@@ -100,6 +109,22 @@ public ClspClassSource getSource() {
 		return this.source;
 	}
 
+	void setDetailsLoader(@Nullable ClsSet detailsLoader) {
+		this.detailsLoader = detailsLoader;
+	}
+
+	private void loadDetails() {
+		if (detailsLoader != null) {
+			synchronized (this) {
+				ClsSet loader = detailsLoader;
+				if (loader != null) {
+					loader.loadDetails(this);
+					detailsLoader = null;
+				}
+			}
+		}
+	}
+
 	@Override
 	public int hashCode() {
 		return clsType.hashCode();
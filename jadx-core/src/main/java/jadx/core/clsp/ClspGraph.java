@@ -13,7 +13,6 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import jadx.core.Consts;
 import jadx.core.dex.info.MethodInfo;
 import jadx.core.dex.instructions.args.ArgType;
 import jadx.core.dex.nodes.ClassNode;
@@ -30,8 +29,7 @@ public class ClspGraph {
 
 	private final RootNode root;
 	private Map<String, ClspClass> nameMap;
-	private Map<String, Set<String>> superTypesCache;
-	private Map<String, List<String>> implementsCache;
+	private ClspHierarchyIndex hierarchyIndex;
 
 	private final Set<String> missingClasses = new HashSet<>();
 
@@ -64,8 +62,7 @@ public void addApp(List<ClassNode> classes) {
 	}
 
 	public void initCache() {
-		fillSuperTypesCache();
-		fillImplementsCache();
+		hierarchyIndex = ClspHierarchyIndex.build(nameMap);
 	}
 
 	public boolean isClsKnown(String fullName) {
@@ -116,25 +113,14 @@ private void addClass(ClassNode cls) {
 	 * @return {@code clsName} instanceof {@code implClsName}
 	 */
 	public boolean isImplements(String clsName, String implClsName) {
-		Set<String> anc = getSuperTypes(clsName);
-		return anc.contains(implClsName);
+		return hierarchyIndex.isImplements(clsName, implClsName);
 	}
 
+	/**
+	 * @return sorted list of all subtypes of {@code clsName}
+	 */
 	public List<String> getImplementations(String clsName) {
-		List<String> list = implementsCache.get(clsName);
-		return list == null ? Collections.emptyList() : list;
-	}
-
-	private void fillImplementsCache() {
-		Map<String, List<String>> map = new HashMap<>(nameMap.size());
-		List<String> classes = new ArrayList<>(nameMap.keySet());
-		Collections.sort(classes);
-		for (String cls : classes) {
-			for (String st : getSuperTypes(cls)) {
-				map.computeIfAbsent(st, v -> new ArrayList<>()).add(cls);
-			}
-		}
-		implementsCache = map;
+		return hierarchyIndex.getImplementations(clsName);
 	}
 
 	public String getCommonAncestor(String clsName, String implClsName) {
@@ -149,19 +135,18 @@ public String getCommonAncestor(String clsName, String implClsName) {
 		if (isImplements(clsName, implClsName)) {
 			return implClsName;
 		}
-		Set<String> anc = getSuperTypes(clsName);
-		return searchCommonParent(anc, cls);
+		return searchCommonParent(clsName, cls);
 	}
 
-	private String searchCommonParent(Set<String> anc, ClspClass cls) {
+	private String searchCommonParent(String clsName, ClspClass cls) {
 		for (ArgType p : cls.getParents()) {
 			String name = p.getObject();
-			if (anc.contains(name)) {
+			if (isImplements(clsName, name)) {
 				return name;
 			}
 			ClspClass nCls = getClspClass(p);
 			if (nCls != null) {
-				String r = searchCommonParent(anc, nCls);
+				String r = searchCommonParent(clsName, nCls);
 				if (r != null) {
 					return r;
 				}
@@ -170,62 +155,12 @@ private String searchCommonParent(Set<String> anc, ClspClass cls) {
 		return null;
 	}
 
+	/**
+	 * Get all super types of {@code clsName}.
+	 * Result set is immutable and cached per class, {@code contains} check is done by hierarchy index.
+	 */
 	public Set<String> getSuperTypes(String clsName) {
-		Set<String> result = superTypesCache.get(clsName);
-		return result == null ? Collections.emptySet() : result;
-	}
-
-	private static final Set<String> OBJECT_SINGLE_SET = Collections.singleton(Consts.CLASS_OBJECT);
-
-	private void fillSuperTypesCache() {
-		Map<String, Set<String>> map = new HashMap<>(nameMap.size());
-		Set<String> tmpSet = new HashSet<>();
-		for (Map.Entry<String, ClspClass> entry : nameMap.entrySet()) {
-			ClspClass cls = entry.getValue();
-			tmpSet.clear();
-			addSuperTypes(cls, tmpSet);
-			Set<String> result;
-			int size = tmpSet.size();
-			switch (size) {
-				case 0: {
-					result = Collections.emptySet();
-					break;
-				}
-				case 1: {
-					String supCls = tmpSet.iterator().next();
-					if (supCls.equals(Consts.CLASS_OBJECT)) {
-						result = OBJECT_SINGLE_SET;
-					} else {
-						result = Collections.singleton(supCls);
-					}
-					break;
-				}
-				default: {
-					result = new HashSet<>(tmpSet);
-					break;
-				}
-			}
-			map.put(cls.getName(), result);
-		}
-		superTypesCache = map;
-	}
-
-	private void addSuperTypes(ClspClass cls, Set<String> result) {
-		for (ArgType parentType : cls.getParents()) {
-			if (parentType == null) {
-				continue;
-			}
-			ClspClass parentCls = getClspClass(parentType);
-			if (parentCls != null) {
-				boolean isNew = result.add(parentCls.getName());
-				if (isNew) {
-					addSuperTypes(parentCls, result);
-				}
-			} else {
-				// parent type is unknown
-				result.add(parentType.getObject());
-			}
-		}
+		return hierarchyIndex.getSuperTypes(clsName);
 	}
 
 	@Nullable
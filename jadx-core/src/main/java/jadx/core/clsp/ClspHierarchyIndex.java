@@ -0,0 +1,528 @@
+package jadx.core.clsp;
+
+import java.util.AbstractList;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Map;
+import java.util.Set;
+
+import org.jetbrains.annotations.Nullable;
+
+import jadx.core.dex.instructions.args.ArgType;
+
+/**
+ * Compact classes hierarchy index built from classpath graph.
+ * <br>
+ * Classes referenced by dense int ids assigned in class names order.
+ * Super class chain encoded by pre/post numbering of the super class tree,
+ * so check if class is a subclass of other class is O(1).
+ * Other (not from super class chain) super types like interfaces
+ * stored as sorted id arrays packed into one int array.
+ * <br>
+ * Index is immutable after build and can be accessed from several threads.
+ * Super types sets created on first request and cached by class id,
+ * concurrent requests can only create equal sets, so no synchronization needed.
+ */
+final class ClspHierarchyIndex {
+	private static final int[] EMPTY_INT_ARRAY = new int[0];
+	private static final int NO_ID = -1;
+
+	private final String[] names;
+	private final Map<String, Integer> idsMap;
+
+	private final int[] superCls;
+	private final int[] pre;
+	private final int[] post;
+
+	/**
+	 * Transitive super types not from super class chain,
+	 * for class with {@code id} stored in range: {@code extraIds[extraOffsets[id]..extraOffsets[id + 1]]}
+	 */
+	private final int[] extraOffsets;
+	private final int[] extraIds;
+
+	/**
+	 * Reverse index: all classes which are subtypes of class with {@code id}
+	 */
+	private final int[] implOffsets;
+	private final int[] implIds;
+
+	private final SuperTypesSet[] superTypesCache;
+
+	static ClspHierarchyIndex build(Map<String, ClspClass> nameMap) {
+		return new Builder(nameMap).build();
+	}
+
+	private ClspHierarchyIndex(Builder builder) {
+		this.names = builder.names;
+		this.idsMap = builder.idsMap;
+		this.superCls = builder.superCls;
+		this.pre = builder.pre;
+		this.post = builder.post;
+		this.extraOffsets = builder.extraOffsets;
+		this.extraIds = builder.extraIds;
+		this.implOffsets = builder.implOffsets;
+		this.implIds = builder.implIds;
+		this.superTypesCache = new SuperTypesSet[builder.names.length];
+	}
+
+	public int getId(String clsName) {
+		Integer id = idsMap.get(clsName);
+		return id == null ? NO_ID : id;
+	}
+
+	/**
+	 * @return {@code clsName} instanceof {@code implClsName}
+	 */
+	public boolean isImplements(String clsName, String implClsName) {
+		int clsId = getId(clsName);
+		if (clsId == NO_ID) {
+			return false;
+		}
+		int implId = getId(implClsName);
+		if (implId == NO_ID) {
+			return false;
+		}
+		return isImplements(clsId, implId);
+	}
+
+	public boolean isImplements(int clsId, int implId) {
+		if (isSuperClass(clsId, implId)) {
+			return true;
+		}
+		int start = extraOffsets[clsId];
+		int end = extraOffsets[clsId + 1];
+		return start != end && Arrays.binarySearch(extraIds, start, end, implId) >= 0;
+	}
+
+	/**
+	 * Check if {@code superId} is in super class chain of {@code clsId} (class itself excluded)
+	 */
+	private boolean isSuperClass(int clsId, int superId) {
+		return pre[superId] < pre[clsId] && post[clsId] < post[superId];
+	}
+
+	/**
+	 * @return all super types of {@code clsName}, returned set is immutable and cached
+	 */
+	public Set<String> getSuperTypes(String clsName) {
+		int id = getId(clsName);
+		if (id == NO_ID) {
+			return Collections.emptySet();
+		}
+		SuperTypesSet set = superTypesCache[id];
+		if (set == null) {
+			set = new SuperTypesSet(id, collectSuperTypes(id));
+			superTypesCache[id] = set;
+		}
+		return set;
+	}
+
+	/**
+	 * Super class chain (from nearest) followed by other super types
+	 */
+	private int[] collectSuperTypes(int id) {
+		int chainLen = 0;
+		int sup = superCls[id];
+		while (sup != NO_ID) {
+			chainLen++;
+			sup = superCls[sup];
+		}
+		int extraStart = extraOffsets[id];
+		int extraLen = extraOffsets[id + 1] - extraStart;
+		if (chainLen + extraLen == 0) {
+			return EMPTY_INT_ARRAY;
+		}
+		int[] ids = new int[chainLen + extraLen];
+		int k = 0;
+		sup = superCls[id];
+		while (sup != NO_ID) {
+			ids[k++] = sup;
+			sup = superCls[sup];
+		}
+		System.arraycopy(extraIds, extraStart, ids, k, extraLen);
+		return ids;
+	}
+
+	/**
+	 * @return sorted list of all classes which are subtypes of {@code clsName}
+	 */
+	public List<String> getImplementations(String clsName) {
+		int id = getId(clsName);
+		if (id == NO_ID) {
+			return Collections.emptyList();
+		}
+		int start = implOffsets[id];
+		int end = implOffsets[id + 1];
+		if (start == end) {
+			return Collections.emptyList();
+		}
+		return new IdsNamesList(start, end);
+	}
+
+	private final class IdsNamesList extends AbstractList<String> {
+		private final int start;
+		private final int size;
+
+		private IdsNamesList(int start, int end) {
+			this.start = start;
+			this.size = end - start;
+		}
+
+		@Override
+		public String get(int index) {
+			if (index < 0 || index >= size) {
+				throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+			}
+			return names[implIds[start + index]];
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+	}
+
+	/**
+	 * Immutable set of class super types, {@code contains} check done by index
+	 */
+	private final class SuperTypesSet extends AbstractSet<String> {
+		private final int clsId;
+		private final int[] ids;
+
+		private SuperTypesSet(int clsId, int[] ids) {
+			this.clsId = clsId;
+			this.ids = ids;
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			if (!(o instanceof String)) {
+				return false;
+			}
+			int id = getId((String) o);
+			return id != NO_ID && isImplements(clsId, id);
+		}
+
+		@Override
+		public Iterator<String> iterator() {
+			return new Iterator<String>() {
+				private int pos;
+
+				@Override
+				public boolean hasNext() {
+					return pos < ids.length;
+				}
+
+				@Override
+				public String next() {
+					if (pos >= ids.length) {
+						throw new NoSuchElementException();
+					}
+					return names[ids[pos++]];
+				}
+			};
+		}
+
+		@Override
+		public int size() {
+			return ids.length;
+		}
+	}
+
+	private static final class Builder {
+		private final Map<String, ClspClass> nameMap;
+
+		private String[] names;
+		private Map<String, Integer> idsMap;
+		private int[] superCls;
+		private int[] pre;
+		private int[] post;
+		private int[] extraOffsets;
+		private int[] extraIds;
+		private int[] implOffsets;
+		private int[] implIds;
+
+		/**
+		 * Temporary per class data: non-chain super types and processing state
+		 */
+		private int[][] extraSets;
+		private byte[] extraState;
+
+		Builder(Map<String, ClspClass> nameMap) {
+			this.nameMap = nameMap;
+		}
+
+		ClspHierarchyIndex build() {
+			assignIds();
+			fillSuperClasses();
+			numberSuperClassTree();
+			fillExtraSuperTypes();
+			fillImplementations();
+			return new ClspHierarchyIndex(this);
+		}
+
+		private void assignIds() {
+			Set<String> allNames = new HashSet<>(nameMap.keySet());
+			for (ClspClass cls : nameMap.values()) {
+				for (ArgType parent : cls.getParents()) {
+					if (parent != null) {
+						// add unknown parent types
+						allNames.add(parent.getObject());
+					}
+				}
+			}
+			String[] namesArr = allNames.toArray(new String[0]);
+			Arrays.sort(namesArr);
+			int count = namesArr.length;
+			Map<String, Integer> map = new HashMap<>(count);
+			for (int i = 0; i < count; i++) {
+				map.put(namesArr[i], i);
+			}
+			this.names = namesArr;
+			this.idsMap = map;
+		}
+
+		@Nullable
+		private ClspClass getCls(int id) {
+			return nameMap.get(names[id]);
+		}
+
+		private int getParentId(ArgType parent) {
+			if (parent == null) {
+				return NO_ID;
+			}
+			return idsMap.get(parent.getObject());
+		}
+
+		private void fillSuperClasses() {
+			int count = names.length;
+			int[] sup = new int[count];
+			for (int id = 0; id < count; id++) {
+				ClspClass cls = getCls(id);
+				if (cls == null || cls.getParents().length == 0) {
+					sup[id] = NO_ID;
+				} else {
+					sup[id] = getParentId(cls.getParents()[0]);
+				}
+			}
+			// break possible cycles in super class chains (can appear in malformed inputs)
+			byte[] state = new byte[count];
+			for (int id = 0; id < count; id++) {
+				int cur = id;
+				while (cur != NO_ID && state[cur] == 0) {
+					state[cur] = 1;
+					int next = sup[cur];
+					if (next != NO_ID && state[next] == 1) {
+						sup[cur] = NO_ID;
+						break;
+					}
+					cur = next;
+				}
+				cur = id;
+				while (cur != NO_ID && state[cur] == 1) {
+					state[cur] = 2;
+					cur = sup[cur];
+				}
+			}
+			this.superCls = sup;
+		}
+
+		private void numberSuperClassTree() {
+			int count = names.length;
+			// children lists packed into one array
+			int[] childOffsets = new int[count + 1];
+			for (int id = 0; id < count; id++) {
+				int s = superCls[id];
+				if (s != NO_ID) {
+					childOffsets[s + 1]++;
+				}
+			}
+			for (int i = 0; i < count; i++) {
+				childOffsets[i + 1] += childOffsets[i];
+			}
+			int[] children = new int[childOffsets[count]];
+			int[] fillPos = Arrays.copyOf(childOffsets, count);
+			for (int id = 0; id < count; id++) {
+				int s = superCls[id];
+				if (s != NO_ID) {
+					children[fillPos[s]++] = id;
+				}
+			}
+			int[] preArr = new int[count];
+			int[] postArr = new int[count];
+			int[] stack = new int[count];
+			int[] nextChild = new int[count];
+			int counter = 0;
+			for (int rootId = 0; rootId < count; rootId++) {
+				if (superCls[rootId] != NO_ID) {
+					continue;
+				}
+				int sp = 0;
+				stack[sp++] = rootId;
+				preArr[rootId] = counter++;
+				nextChild[rootId] = childOffsets[rootId];
+				while (sp != 0) {
+					int cur = stack[sp - 1];
+					if (nextChild[cur] < childOffsets[cur + 1]) {
+						int child = children[nextChild[cur]++];
+						preArr[child] = counter++;
+						nextChild[child] = childOffsets[child];
+						stack[sp++] = child;
+					} else {
+						postArr[cur] = counter++;
+						sp--;
+					}
+				}
+			}
+			this.pre = preArr;
+			this.post = postArr;
+		}
+
+		private boolean inSuperClassChain(int clsId, int superId) {
+			return pre[superId] < pre[clsId] && post[clsId] < post[superId];
+		}
+
+		private void fillExtraSuperTypes() {
+			int count = names.length;
+			extraSets = new int[count][];
+			extraState = new byte[count];
+			int total = 0;
+			for (int id = 0; id < count; id++) {
+				total += getExtraSet(id).length;
+			}
+			int[] offsets = new int[count + 1];
+			int[] ids = new int[total];
+			int pos = 0;
+			for (int id = 0; id < count; id++) {
+				offsets[id] = pos;
+				int[] set = extraSets[id];
+				System.arraycopy(set, 0, ids, pos, set.length);
+				pos += set.length;
+			}
+			offsets[count] = pos;
+			this.extraOffsets = offsets;
+			this.extraIds = ids;
+			this.extraSets = null;
+			this.extraState = null;
+		}
+
+		/**
+		 * Collect all super types not presented in super class chain
+		 */
+		private int[] getExtraSet(int id) {
+			int[] set = extraSets[id];
+			if (set != null) {
+				return set;
+			}
+			if (extraState[id] == 1) {
+				// cycle in interfaces hierarchy
+				return EMPTY_INT_ARRAY;
+			}
+			extraState[id] = 1;
+			int[] result = collectExtraSet(id);
+			extraState[id] = 2;
+			extraSets[id] = result;
+			return result;
+		}
+
+		private int[] collectExtraSet(int id) {
+			ClspClass cls = getCls(id);
+			if (cls == null) {
+				return EMPTY_INT_ARRAY;
+			}
+			ArgType[] parents = cls.getParents();
+			int superId = superCls[id];
+			int[] superSet = superId == NO_ID ? EMPTY_INT_ARRAY : getExtraSet(superId);
+			if (parents.length <= 1) {
+				// interfaces of super class not in chain of this class
+				return superSet;
+			}
+			Set<Integer> set = new HashSet<>();
+			for (int i : superSet) {
+				set.add(i);
+			}
+			for (int i = 1; i < parents.length; i++) {
+				int parentId = getParentId(parents[i]);
+				if (parentId == NO_ID) {
+					continue;
+				}
+				addWithSuperTypes(id, parentId, set);
+			}
+			set.remove(id);
+			if (set.size() == superSet.length) {
+				// reuse super class array if nothing added
+				return superSet;
+			}
+			int[] arr = new int[set.size()];
+			int k = 0;
+			for (Integer i : set) {
+				arr[k++] = i;
+			}
+			Arrays.sort(arr);
+			return arr;
+		}
+
+		private void addWithSuperTypes(int clsId, int typeId, Set<Integer> set) {
+			if (!inSuperClassChain(clsId, typeId)) {
+				set.add(typeId);
+			}
+			int sup = superCls[typeId];
+			while (sup != NO_ID) {
+				if (!inSuperClassChain(clsId, sup)) {
+					set.add(sup);
+				}
+				sup = superCls[sup];
+			}
+			for (int extraId : getExtraSet(typeId)) {
+				if (!inSuperClassChain(clsId, extraId)) {
+					set.add(extraId);
+				}
+			}
+		}
+
+		private void fillImplementations() {
+			int count = names.length;
+			int[] offsets = new int[count + 1];
+			forEachSuperType((cls, sup) -> offsets[sup + 1]++);
+			for (int i = 0; i < count; i++) {
+				offsets[i + 1] += offsets[i];
+			}
+			int[] ids = new int[offsets[count]];
+			int[] fillPos = Arrays.copyOf(offsets, count);
+			// classes iterated in ids order, so result lists will be sorted by names
+			forEachSuperType((cls, sup) -> ids[fillPos[sup]++] = cls);
+			this.implOffsets = offsets;
+			this.implIds = ids;
+		}
+
+		private void forEachSuperType(IdsPairConsumer consumer) {
+			int count = names.length;
+			for (int id = 0; id < count; id++) {
+				if (getCls(id) == null) {
+					// unknown class
+					continue;
+				}
+				int sup = superCls[id];
+				while (sup != NO_ID) {
+					consumer.accept(id, sup);
+					sup = superCls[sup];
+				}
+				for (int i = extraOffsets[id], end = extraOffsets[id + 1]; i < end; i++) {
+					consumer.accept(id, extraIds[i]);
+				}
+			}
+		}
+	}
+
+	@FunctionalInterface
+	private interface IdsPairConsumer {
+		void accept(int clsId, int superId);
+	}
+}
@@ -50,6 +50,7 @@
 import jadx.core.utils.Utils;
 import jadx.core.utils.android.AndroidResourcesUtils;
 import jadx.core.utils.exceptions.CodegenException;
+import jadx.core.utils.exceptions.DecodeException;
 import jadx.core.utils.exceptions.JadxRuntimeException;
 
 public class ClassGen {
@@ -394,16 +395,7 @@ public void addMethodCode(ICodeWriter code, MethodNode mth) throws CodegenExcept
 			mthGen.addDefinition(code);
 			code.add(';');
 		} else {
-			boolean badCode = mth.contains(AFlag.INCONSISTENT_CODE);
-			if (badCode && showInconsistentCode) {
-				badCode = false;
-			}
-			MethodGen mthGen;
-			if (badCode || fallback || mth.contains(AType.JADX_ERROR)) {
-				mthGen = MethodGen.getFallbackMethodGen(mth);
-			} else {
-				mthGen = new MethodGen(this, mth);
-			}
+			MethodGen mthGen = makeMethodGen(mth);
 			if (mthGen.addDefinition(code)) {
 				code.add(' ');
 			}
@@ -416,6 +408,27 @@ public void addMethodCode(ICodeWriter code, MethodNode mth) throws CodegenExcept
 		}
 	}
 
+	/**
+	 * Select method generator for method with code, fallback generator used for failed methods
+	 */
+	public MethodGen makeMethodGen(MethodNode mth) throws CodegenException {
+		if (mth.contains(AType.DECOMPILE_MODE_OVERRIDE)) {
+			// method processing was stopped, reload instructions before generation
+			MethodGen mthGen = MethodGen.getFallbackMethodGen(mth);
+			try {
+				mthGen.reloadInFallbackMode();
+			} catch (DecodeException e) {
+				throw new CodegenException(mth, "Failed to reload method instructions", e);
+			}
+			return mthGen;
+		}
+		boolean badCode = mth.contains(AFlag.INCONSISTENT_CODE) && !showInconsistentCode;
+		if (badCode || fallback || mth.contains(AType.JADX_ERROR)) {
+			return MethodGen.getFallbackMethodGen(mth);
+		}
+		return new MethodGen(this, mth);
+	}
+
 	private void addFields(ICodeWriter code) throws CodegenException {
 		addEnumFields(code);
 		for (FieldNode f : cls.getFields()) {
@@ -22,6 +22,7 @@ public static ICodeInfo generate(ClassNode cls) {
 				return generateJavaCode(cls, args);
 
 			case JSON:
+			case NDJSON:
 				return generateJson(cls);
 
 			default:
@@ -46,6 +46,7 @@
 import jadx.core.dex.visitors.IDexTreeVisitor;
 import jadx.core.utils.Utils;
 import jadx.core.utils.exceptions.CodegenException;
+import jadx.core.utils.exceptions.DecodeException;
 import jadx.core.utils.exceptions.JadxOverflowException;
 
 import static jadx.core.codegen.MethodGen.FallbackOption.BLOCK_DUMP;
@@ -268,7 +269,10 @@ private void addMethodArguments(ICodeWriter code, List<RegisterArg> args) {
 
 	public void addInstructions(ICodeWriter code) throws CodegenException {
 		JadxArgs args = mth.root().getArgs();
-		DecompileModeOverrideAttr modeOverrideAttr = mth.getTopParentClass().get(AType.DECOMPILE_MODE_OVERRIDE);
+		DecompileModeOverrideAttr modeOverrideAttr = mth.get(AType.DECOMPILE_MODE_OVERRIDE);
+		if (modeOverrideAttr == null) {
+			modeOverrideAttr = mth.getTopParentClass().get(AType.DECOMPILE_MODE_OVERRIDE);
+		}
 		DecompilationMode mode;
 		if (modeOverrideAttr != null) {
 			mode = modeOverrideAttr.getMode();
@@ -403,21 +407,12 @@ public void addFallbackMethodCode(ICodeWriter code, FallbackOption fallbackOptio
 			}
 		}
 		if (fallbackOption != FALLBACK_MODE) {
-			List<JadxError> errors = mth.getAll(AType.JADX_ERROR); // preserve error before unload
 			try {
-				// load original instructions
-				mth.unload();
-				mth.load();
-				for (IDexTreeVisitor visitor : Jadx.getFallbackPassesList()) {
-					DepthTraversal.visit(visitor, mth);
-				}
-				errors.forEach(err -> mth.addAttr(AType.JADX_ERROR, err));
+				reloadInFallbackMode();
 			} catch (Exception e) {
 				LOG.error("Error reload instructions in fallback mode:", e);
 				code.startLine("// Can't load method instructions: " + e.getMessage());
 				return;
-			} finally {
-				errors.forEach(err -> mth.addAttr(AType.JADX_ERROR, err));
 			}
 		}
 		InsnNode[] insnArr = mth.getInstructions();
@@ -433,6 +428,27 @@ public void addFallbackMethodCode(ICodeWriter code, FallbackOption fallbackOptio
 		code.decIndent();
 	}
 
+	/**
+	 * Load original instructions and process them with fallback passes
+	 */
+	public void reloadInFallbackMode() throws DecodeException {
+		// preserve errors and mode override before unload
+		List<JadxError> errors = mth.getAll(AType.JADX_ERROR);
+		DecompileModeOverrideAttr modeOverrideAttr = mth.get(AType.DECOMPILE_MODE_OVERRIDE);
+		try {
+			mth.unload();
+			mth.load();
+			for (IDexTreeVisitor visitor : Jadx.getFallbackPassesList()) {
+				DepthTraversal.visit(visitor, mth);
+			}
+		} finally {
+			errors.forEach(err -> mth.addAttr(AType.JADX_ERROR, err));
+			if (modeOverrideAttr != null) {
+				mth.addAttr(modeOverrideAttr);
+			}
+		}
+	}
+
 	public enum FallbackOption {
 		FALLBACK_MODE,
 		BLOCK_DUMP,
@@ -1,14 +1,16 @@
 package jadx.core.codegen.json;
 
-import java.util.ArrayList;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
 import org.jetbrains.annotations.Nullable;
 
-import com.google.gson.FieldNamingPolicy;
 import com.google.gson.Gson;
+import com.google.gson.stream.JsonWriter;
 
 import jadx.api.ICodeInfo;
 import jadx.api.ICodeWriter;
@@ -19,10 +21,6 @@
 import jadx.api.metadata.annotations.InsnCodeOffset;
 import jadx.core.codegen.ClassGen;
 import jadx.core.codegen.MethodGen;
-import jadx.core.codegen.json.cls.JsonClass;
-import jadx.core.codegen.json.cls.JsonCodeLine;
-import jadx.core.codegen.json.cls.JsonField;
-import jadx.core.codegen.json.cls.JsonMethod;
 import jadx.core.codegen.utils.CodeGenUtils;
 import jadx.core.dex.attributes.AFlag;
 import jadx.core.dex.info.ClassInfo;
@@ -35,10 +33,15 @@
 import jadx.core.utils.Utils;
 import jadx.core.utils.exceptions.JadxRuntimeException;
 
+/**
+ * Write class json with streaming writer, no intermediate object tree.
+ * Keys order and names are same as from gson serialization of previously used json classes:
+ * own fields first and common node fields ('name', 'alias', 'declaration', 'access-flags') at the end,
+ * null values are skipped.
+ */
 public class JsonCodeGen {
 
 	private static final Gson GSON = GsonUtils.defaultGsonBuilder()
-			.setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_DASHES)
 			.disableHtmlEscaping()
 			.create();
 
@@ -52,12 +55,23 @@ public JsonCodeGen(ClassNode cls) {
 		this.args = root.getArgs();
 	}
 
-	public String process() {
-		JsonClass jsonCls = processCls(cls, null);
-		return GSON.toJson(jsonCls);
+	public String process() throws IOException {
+		StringWriter strWriter = new StringWriter();
+		process(strWriter);
+		return strWriter.toString();
 	}
 
-	private JsonClass processCls(ClassNode cls, @Nullable ClassGen parentCodeGen) {
+	public void process(Writer writer) throws IOException {
+		JsonWriter out = GSON.newJsonWriter(writer);
+		if (args.getOutputFormat() == JadxArgs.OutputFormatEnum.NDJSON) {
+			// compact style, one class per line
+			out.setIndent("");
+		}
+		processCls(out, cls, null);
+		out.flush();
+	}
+
+	private void processCls(JsonWriter out, ClassNode cls, @Nullable ClassGen parentCodeGen) throws IOException {
 		ClassGen classGen;
 		if (parentCodeGen == null) {
 			classGen = new ClassGen(cls, args);
@@ -65,109 +79,121 @@ private JsonClass processCls(ClassNode cls, @Nullable ClassGen parentCodeGen) {
 			classGen = new ClassGen(cls, parentCodeGen);
 		}
 		ClassInfo classInfo = cls.getClassInfo();
-
-		JsonClass jsonCls = new JsonClass();
-		jsonCls.setPkg(classInfo.getAliasPkg());
-		jsonCls.setDex(cls.getInputFileName());
-		jsonCls.setName(classInfo.getFullName());
-		if (classInfo.hasAlias()) {
-			jsonCls.setAlias(classInfo.getAliasFullName());
-		}
-		jsonCls.setType(getClassTypeStr(cls));
-		jsonCls.setAccessFlags(cls.getAccessFlags().rawValue());
+		String superClassAlias = null;
 		ArgType superClass = cls.getSuperClass();
 		if (superClass != null
 				&& !superClass.equals(ArgType.OBJECT)
 				&& !cls.contains(AFlag.REMOVE_SUPER_CLASS)) {
-			jsonCls.setSuperClass(getTypeAlias(classGen, superClass));
+			superClassAlias = getTypeAlias(classGen, superClass);
 		}
+		List<String> interfaces = null;
 		if (!cls.getInterfaces().isEmpty()) {
-			jsonCls.setInterfaces(Utils.collectionMap(cls.getInterfaces(), clsType -> getTypeAlias(classGen, clsType)));
+			interfaces = Utils.collectionMap(cls.getInterfaces(), clsType -> getTypeAlias(classGen, clsType));
 		}
-
 		ICodeWriter cw = new SimpleCodeWriter(args);
 		CodeGenUtils.addErrorsAndComments(cw, cls);
 		classGen.addClassDeclaration(cw);
-		jsonCls.setDeclaration(cw.getCodeStr());
+		String declaration = cw.getCodeStr();
 
-		addFields(cls, jsonCls, classGen);
-		addMethods(cls, jsonCls, classGen);
-		addInnerClasses(cls, jsonCls, classGen);
+		out.beginObject();
+		out.name("package").value(classInfo.getAliasPkg());
+		out.name("type").value(getClassTypeStr(cls));
+		out.name("extends").value(superClassAlias);
+		writeStrList(out, "implements", interfaces);
+		out.name("dex").value(cls.getInputFileName());
+
+		addFields(out, cls, classGen);
+		addMethods(out, cls, classGen);
+		addInnerClasses(out, cls, classGen);
 
 		if (!cls.getClassInfo().isInner()) {
 			List<String> imports = Utils.collectionMap(classGen.getImports(), ClassInfo::getAliasFullName);
 			Collections.sort(imports);
-			jsonCls.setImports(imports);
+			writeStrList(out, "imports", imports);
 		}
-		return jsonCls;
+		writeNode(out, classInfo.getFullName(), classInfo.hasAlias() ? classInfo.getAliasFullName() : null,
+				declaration, cls.getAccessFlags().rawValue());
+		out.endObject();
 	}
 
-	private void addInnerClasses(ClassNode cls, JsonClass jsonCls, ClassGen classGen) {
+	private void addInnerClasses(JsonWriter out, ClassNode cls, ClassGen classGen) throws IOException {
 		List<ClassNode> innerClasses = cls.getInnerClasses();
 		if (innerClasses.isEmpty()) {
 			return;
 		}
-		jsonCls.setInnerClasses(new ArrayList<>(innerClasses.size()));
+		out.name("inner-classes").beginArray();
 		for (ClassNode innerCls : innerClasses) {
 			if (innerCls.contains(AFlag.DONT_GENERATE)) {
 				continue;
 			}
-			JsonClass innerJsonCls = processCls(innerCls, classGen);
-			jsonCls.getInnerClasses().add(innerJsonCls);
+			processCls(out, innerCls, classGen);
 		}
+		out.endArray();
 	}
 
-	private void addFields(ClassNode cls, JsonClass jsonCls, ClassGen classGen) {
-		jsonCls.setFields(new ArrayList<>());
+	private void addFields(JsonWriter out, ClassNode cls, ClassGen classGen) throws IOException {
+		out.name("fields").beginArray();
 		for (FieldNode field : cls.getFields()) {
 			if (field.contains(AFlag.DONT_GENERATE)) {
 				continue;
 			}
-			JsonField jsonField = new JsonField();
-			jsonField.setName(field.getName());
-			if (field.getFieldInfo().hasAlias()) {
-				jsonField.setAlias(field.getAlias());
-			}
-
 			ICodeWriter cw = new SimpleCodeWriter(args);
 			classGen.addField(cw, field);
-			jsonField.setDeclaration(cw.getCodeStr());
-			jsonField.setAccessFlags(field.getAccessFlags().rawValue());
-			jsonCls.getFields().add(jsonField);
+
+			out.beginObject();
+			writeNode(out, field.getName(), field.getFieldInfo().hasAlias() ? field.getAlias() : null,
+					cw.getCodeStr(), field.getAccessFlags().rawValue());
+			out.endObject();
 		}
+		out.endArray();
 	}
 
-	private void addMethods(ClassNode cls, JsonClass jsonCls, ClassGen classGen) {
-		jsonCls.setMethods(new ArrayList<>());
+	private void addMethods(JsonWriter out, ClassNode cls, ClassGen classGen) throws IOException {
+		out.name("methods").beginArray();
 		for (MethodNode mth : cls.getMethods()) {
 			if (mth.contains(AFlag.DONT_GENERATE)) {
 				continue;
 			}
-			JsonMethod jsonMth = new JsonMethod();
-			jsonMth.setName(mth.getName());
-			if (mth.getMethodInfo().hasAlias()) {
-				jsonMth.setAlias(mth.getAlias());
-			}
-			jsonMth.setSignature(mth.getMethodInfo().getShortId());
-			jsonMth.setReturnType(getTypeAlias(classGen, mth.getReturnType()));
-			jsonMth.setArguments(Utils.collectionMap(mth.getMethodInfo().getArgumentsTypes(), clsType -> getTypeAlias(classGen, clsType)));
-
-			MethodGen mthGen = new MethodGen(classGen, mth);
+			String returnType = getTypeAlias(classGen, mth.getReturnType());
+			List<String> arguments = Utils.collectionMap(mth.getMethodInfo().getArgumentsTypes(), clsType -> getTypeAlias(classGen, clsType));
+			MethodGen mthGen = makeMethodGen(classGen, mth);
 			ICodeWriter cw = new AnnotatedCodeWriter(args);
 			mthGen.addDefinition(cw);
-			jsonMth.setDeclaration(cw.getCodeStr());
-			jsonMth.setAccessFlags(mth.getAccessFlags().rawValue());
-			jsonMth.setLines(fillMthCode(mth, mthGen));
-			jsonMth.setOffset("0x" + Long.toHexString(mth.getMethodCodeOffset()));
-			jsonCls.getMethods().add(jsonMth);
+
+			out.beginObject();
+			out.name("signature").value(mth.getMethodInfo().getShortId());
+			out.name("return-type").value(returnType);
+			writeStrList(out, "arguments", arguments);
+			out.name("lines");
+			writeMthCode(out, mth, mthGen);
+			out.name("offset").value("0x" + Long.toHexString(mth.getMethodCodeOffset()));
+			writeNode(out, mth.getName(), mth.getMethodInfo().hasAlias() ? mth.getAlias() : null,
+					cw.getCodeStr(), mth.getAccessFlags().rawValue());
+			out.endObject();
 		}
+		out.endArray();
 	}
 
-	private List<JsonCodeLine> fillMthCode(MethodNode mth, MethodGen mthGen) {
+	/**
+	 * Same method generator as in {@link ClassGen#addMethodCode(ICodeWriter, MethodNode)}
+	 */
+	private static MethodGen makeMethodGen(ClassGen classGen, MethodNode mth) {
 		if (mth.isNoCode()) {
-			return Collections.emptyList();
+			return new MethodGen(classGen, mth);
 		}
+		try {
+			return classGen.makeMethodGen(mth);
+		} catch (Exception e) {
+			throw new JadxRuntimeException("Method generation error", e);
+		}
+	}
 
+	private void writeMthCode(JsonWriter out, MethodNode mth, MethodGen mthGen) throws IOException {
+		out.beginArray();
+		if (mth.isNoCode()) {
+			out.endArray();
+			return;
+		}
 		ICodeWriter cw = mth.root().makeCodeWriter();
 		try {
 			mthGen.addInstructions(cw);
@@ -177,7 +203,8 @@ private List<JsonCodeLine> fillMthCode(MethodNode mth, MethodGen mthGen) {
 		ICodeInfo code = cw.finish();
 		String codeStr = code.getCodeStr();
 		if (codeStr.isEmpty()) {
-			return Collections.emptyList();
+			out.endArray();
+			return;
 		}
 
 		String[] lines = codeStr.split(args.getCodeNewLineStr());
@@ -186,24 +213,42 @@ private List<JsonCodeLine> fillMthCode(MethodNode mth, MethodGen mthGen) {
 		long mthCodeOffset = mth.getMethodCodeOffset() + 16;
 
 		int linesCount = lines.length;
-		List<JsonCodeLine> codeLines = new ArrayList<>(linesCount);
 		int lineStartPos = 0;
 		int newLineLen = args.getCodeNewLineStr().length();
 		for (int i = 0; i < linesCount; i++) {
 			String codeLine = lines[i];
 			int line = i + 2;
-			JsonCodeLine jsonCodeLine = new JsonCodeLine();
-			jsonCodeLine.setCode(codeLine);
-			jsonCodeLine.setSourceLine(lineMapping.get(line));
+			out.beginObject();
+			out.name("code").value(codeLine);
 			Object obj = metadata.getAt(lineStartPos);
 			if (obj instanceof InsnCodeOffset) {
 				long offset = ((InsnCodeOffset) obj).getOffset();
-				jsonCodeLine.setOffset("0x" + Long.toHexString(mthCodeOffset + offset * 2));
+				out.name("offset").value("0x" + Long.toHexString(mthCodeOffset + offset * 2));
 			}
-			codeLines.add(jsonCodeLine);
+			out.name("source-line").value(lineMapping.get(line));
+			out.endObject();
 			lineStartPos += codeLine.length() + newLineLen;
 		}
-		return codeLines;
+		out.endArray();
+	}
+
+	private static void writeNode(JsonWriter out, String name, @Nullable String alias,
+			String declaration, int accessFlags) throws IOException {
+		out.name("name").value(name);
+		out.name("alias").value(alias);
+		out.name("declaration").value(declaration);
+		out.name("access-flags").value(accessFlags);
+	}
+
+	private static void writeStrList(JsonWriter out, String name, @Nullable List<String> list) throws IOException {
+		if (list == null) {
+			return;
+		}
+		out.name(name).beginArray();
+		for (String str : list) {
+			out.value(str);
+		}
+		out.endArray();
 	}
 
 	private String getTypeAlias(ClassGen classGen, ArgType clsType) {
@@ -0,0 +1,131 @@
+package jadx.core.codegen.json;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jadx.api.IOutputSink;
+import jadx.core.utils.files.FileUtils;
+
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Collect json of all classes into one file, one class per line (NDJSON).
+ * <br>
+ * Lines appended in order of save completion into temp file, only line position stored
+ * in slot for class index, so class code not kept in memory.
+ * On finish, lines copied into output file in order of class indexes.
+ */
+public class JsonLinesWriter implements Closeable {
+	private static final Logger LOG = LoggerFactory.getLogger(JsonLinesWriter.class);
+
+	public static final String FILE_NAME = "classes.ndjson";
+
+	private static final byte[] NEW_LINE = { '\n' };
+
+	private final IOutputSink sink;
+	private final File outFile;
+	private final Path tempDir;
+	private final Path dataFile;
+	private final long[] slotOffsets;
+	private final int[] slotLengths;
+	private FileChannel data;
+	private long dataSize;
+	private int count;
+
+	/**
+	 * @param slotsCount count of class indexes, see {@link #add(int, String)}
+	 */
+	public JsonLinesWriter(IOutputSink sink, File outFile, Path tempDir, int slotsCount) throws IOException {
+		this.sink = sink;
+		this.outFile = outFile;
+		this.tempDir = tempDir;
+		this.slotOffsets = new long[slotsCount];
+		this.slotLengths = new int[slotsCount];
+		Arrays.fill(slotLengths, -1);
+		FileUtils.makeDirs(tempDir);
+		this.dataFile = Files.createTempFile(tempDir, "classes-", ".data");
+		this.data = FileChannel.open(dataFile, WRITE);
+	}
+
+	/**
+	 * Add class json line into slot with class index.
+	 * Lines from slots written to output in indexes order, empty slots skipped.
+	 */
+	public synchronized void add(int index, String clsJson) throws IOException {
+		if (data == null) {
+			throw new IOException("Output already finished: " + outFile);
+		}
+		if (index < 0 || index >= slotOffsets.length) {
+			throw new IOException("Unknown class index: " + index + ", slots count: " + slotOffsets.length);
+		}
+		ByteBuffer buf = ByteBuffer.wrap(clsJson.getBytes(StandardCharsets.UTF_8));
+		int len = buf.remaining();
+		while (buf.hasRemaining()) {
+			data.write(buf);
+		}
+		if (slotLengths[index] == -1) {
+			count++;
+		}
+		slotOffsets[index] = dataSize;
+		slotLengths[index] = len;
+		dataSize += len;
+	}
+
+	public synchronized void finish() throws IOException {
+		if (data == null) {
+			return;
+		}
+		data.close();
+		data = null;
+		Path linesFile = Files.createTempFile(tempDir, "classes-", ".ndjson");
+		try (FileChannel in = FileChannel.open(dataFile, READ);
+				FileChannel out = FileChannel.open(linesFile, WRITE)) {
+			for (int i = 0; i < slotLengths.length; i++) {
+				int len = slotLengths[i];
+				if (len != -1) {
+					copy(in, slotOffsets[i], len, out);
+					out.write(ByteBuffer.wrap(NEW_LINE));
+				}
+			}
+		} catch (IOException e) {
+			FileUtils.deleteFileIfExists(linesFile);
+			throw e;
+		} finally {
+			FileUtils.deleteFileIfExists(dataFile);
+		}
+		sink.saveFile(outFile, linesFile);
+		LOG.debug("Saved {} classes into {}", count, outFile);
+	}
+
+	private static void copy(FileChannel in, long offset, int len, FileChannel out) throws IOException {
+		long pos = offset;
+		long end = offset + len;
+		while (pos < end) {
+			long copied = in.transferTo(pos, end - pos, out);
+			if (copied <= 0) {
+				throw new IOException("Unexpected end of data file at: " + pos);
+			}
+			pos += copied;
+		}
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		if (data != null) {
+			data.close();
+			data = null;
+		}
+		FileUtils.deleteFileIfExists(dataFile);
+	}
+}
@@ -1,5 +0,0 @@
-package jadx.core.codegen.json.cls;
-
-public class JsonField extends JsonNode {
-	String type;
-}
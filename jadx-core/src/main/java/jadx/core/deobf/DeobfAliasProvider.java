@@ -32,6 +32,13 @@ public void initIndexes(int pkg, int cls, int fld, int mth) {
 		mthIndex = mth;
 	}
 
+	/**
+	 * Current indexes in same order as in {@link #initIndexes(int, int, int, int)}
+	 */
+	public int[] getIndexes() {
+		return new int[] { pkgIndex, clsIndex, fldIndex, mthIndex };
+	}
+
 	@Override
 	public String forPackage(PackageNode pkg) {
 		return String.format("p%03d%s", pkgIndex++, prepareNamePart(pkg.getPkgInfo().getName()));
@@ -45,13 +52,41 @@ public String forClass(ClassNode cls) {
 
 	@Override
 	public String forField(FieldNode fld) {
-		return String.format("f%d%s", fldIndex++, prepareNamePart(fld.getName()));
+		return forField(fld, fldIndex++);
 	}
 
 	@Override
 	public String forMethod(MethodNode mth) {
+		return forMethod(mth, mthIndex++);
+	}
+
+	/**
+	 * Reserve index for field alias, generated later by {@link #forField(FieldNode, int)}
+	 */
+	public int nextFieldIndex() {
+		return fldIndex++;
+	}
+
+	/**
+	 * Reserve index for method alias, generated later by {@link #forMethod(MethodNode, int)}
+	 */
+	public int nextMethodIndex() {
+		return mthIndex++;
+	}
+
+	/**
+	 * Make field alias with already reserved index, safe to call from several threads
+	 */
+	public String forField(FieldNode fld, int index) {
+		return String.format("f%d%s", index, prepareNamePart(fld.getName()));
+	}
+
+	/**
+	 * Make method alias with already reserved index, safe to call from several threads
+	 */
+	public String forMethod(MethodNode mth, int index) {
 		String prefix = mth.contains(AType.METHOD_OVERRIDE) ? "mo" : "m";
-		return String.format("%s%d%s", prefix, mthIndex++, prepareNamePart(mth.getName()));
+		return String.format("%s%d%s", prefix, index, prepareNamePart(mth.getName()));
 	}
 
 	private String prepareNamePart(String name) {
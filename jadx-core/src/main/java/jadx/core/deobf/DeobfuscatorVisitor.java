@@ -19,6 +19,10 @@ public void init(RootNode root) throws JadxException {
 		if (!args.isDeobfuscationOn()) {
 			return;
 		}
+		if (root.getRestoredSnapshot() != null) {
+			// aliases will be restored in RenameVisitor
+			return;
+		}
 		DeobfPresets mapping = DeobfPresets.build(root);
 		if (args.getGeneratedRenamesMappingFileMode().shouldRead()) {
 			if (mapping.load()) {
@@ -28,10 +32,34 @@ public void init(RootNode root) throws JadxException {
 		IAliasProvider aliasProvider = args.getAliasProvider();
 		IRenameCondition renameCondition = args.getRenameCondition();
 		mapping.initIndexes(aliasProvider);
-		process(root, renameCondition, aliasProvider);
+		if (args.isDeobfuscationParallel()
+				&& args.getThreadsCount() > 1
+				&& aliasProvider instanceof DeobfAliasProvider) {
+			ParallelDeobfuscator.process(root, renameCondition, (DeobfAliasProvider) aliasProvider, args.getThreadsCount());
+		} else {
+			process(root, renameCondition, aliasProvider);
+		}
 	}
 
 	public static void process(RootNode root, IRenameCondition renameCondition, IAliasProvider aliasProvider) {
+		renamePackages(root, renameCondition, aliasProvider);
+		for (ClassNode cls : root.getClasses()) {
+			renameClass(cls, renameCondition, aliasProvider);
+			for (FieldNode fld : cls.getFields()) {
+				if (renameCondition.shouldRename(fld)) {
+					String fldAlias = aliasProvider.forField(fld);
+					if (fldAlias != null) {
+						fld.rename(fldAlias);
+					}
+				}
+			}
+			for (MethodNode mth : cls.getMethods()) {
+				renameMethod(mth, renameCondition, aliasProvider);
+			}
+		}
+	}
+
+	static void renamePackages(RootNode root, IRenameCondition renameCondition, IAliasProvider aliasProvider) {
 		boolean pkgUpdated = false;
 		for (PackageNode pkg : root.getPackages()) {
 			if (renameCondition.shouldRename(pkg)) {
@@ -45,29 +73,22 @@ public static void process(RootNode root, IRenameCondition renameCondition, IAli
 		if (pkgUpdated) {
 			root.runPackagesUpdate();
 		}
+	}
 
-		for (ClassNode cls : root.getClasses()) {
-			if (renameCondition.shouldRename(cls)) {
-				String clsAlias = aliasProvider.forClass(cls);
-				if (clsAlias != null) {
-					cls.rename(clsAlias);
-				}
+	static void renameClass(ClassNode cls, IRenameCondition renameCondition, IAliasProvider aliasProvider) {
+		if (renameCondition.shouldRename(cls)) {
+			String clsAlias = aliasProvider.forClass(cls);
+			if (clsAlias != null) {
+				cls.rename(clsAlias);
 			}
-			for (FieldNode fld : cls.getFields()) {
-				if (renameCondition.shouldRename(fld)) {
-					String fldAlias = aliasProvider.forField(fld);
-					if (fldAlias != null) {
-						fld.rename(fldAlias);
-					}
-				}
-			}
-			for (MethodNode mth : cls.getMethods()) {
-				if (renameCondition.shouldRename(mth)) {
-					String mthAlias = aliasProvider.forMethod(mth);
-					if (mthAlias != null) {
-						mth.rename(mthAlias);
-					}
-				}
+		}
+	}
+
+	static void renameMethod(MethodNode mth, IRenameCondition renameCondition, IAliasProvider aliasProvider) {
+		if (renameCondition.shouldRename(mth)) {
+			String mthAlias = aliasProvider.forMethod(mth);
+			if (mthAlias != null) {
+				mth.rename(mthAlias);
 			}
 		}
 	}
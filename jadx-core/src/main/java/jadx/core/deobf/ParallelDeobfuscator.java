@@ -0,0 +1,154 @@
+package jadx.core.deobf;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+import jadx.api.deobf.IRenameCondition;
+import jadx.core.dex.attributes.AType;
+import jadx.core.dex.nodes.ClassNode;
+import jadx.core.dex.nodes.FieldNode;
+import jadx.core.dex.nodes.MethodNode;
+import jadx.core.dex.nodes.PackageNode;
+import jadx.core.dex.nodes.RootNode;
+import jadx.core.utils.Utils;
+import jadx.core.utils.exceptions.JadxRuntimeException;
+
+/**
+ * Deobfuscation with fields and methods processed in parallel by packages.
+ * Result is same as in sequential mode ({@link DeobfuscatorVisitor#process}):
+ * <ul>
+ * <li>packages and classes renamed in classes order, class rename change checks for inner classes</li>
+ * <li>rename conditions for fields and methods checked in parallel</li>
+ * <li>merge step reserve alias indexes in classes order and check override methods,
+ * because such rename also applied to related methods from other classes</li>
+ * <li>aliases with reserved indexes generated and applied in parallel</li>
+ * </ul>
+ * Rename condition should be thread safe.
+ */
+public class ParallelDeobfuscator {
+	private static final int NO_RENAME = -1;
+	private static final int RENAME = -2;
+	private static final int CHECK_IN_MERGE = -3;
+
+	public static void process(RootNode root, IRenameCondition renameCondition, DeobfAliasProvider aliasProvider, int threads) {
+		DeobfuscatorVisitor.renamePackages(root, renameCondition, aliasProvider);
+		List<ClassNode> classes = root.getClasses();
+		for (ClassNode cls : classes) {
+			DeobfuscatorVisitor.renameClass(cls, renameCondition, aliasProvider);
+		}
+		List<ClassMembers> membersList = new ArrayList<>(classes.size());
+		Map<PackageNode, List<ClassMembers>> pkgMap = new LinkedHashMap<>();
+		for (ClassNode cls : classes) {
+			ClassMembers members = new ClassMembers(cls);
+			membersList.add(members);
+			pkgMap.computeIfAbsent(cls.getPackageNode(), p -> new ArrayList<>()).add(members);
+		}
+		Collection<List<ClassMembers>> groups = pkgMap.values();
+		if (groups.isEmpty()) {
+			return;
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, groups.size()), Utils.simpleThreadFactory("deobf"));
+		try {
+			runForGroups(executor, groups, members -> members.check(renameCondition));
+			for (ClassMembers members : membersList) {
+				members.merge(renameCondition, aliasProvider);
+			}
+			runForGroups(executor, groups, members -> members.apply(aliasProvider));
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static void runForGroups(ExecutorService executor, Collection<List<ClassMembers>> groups, Consumer<ClassMembers> action) {
+		try {
+			List<Future<?>> futures = new ArrayList<>(groups.size());
+			for (List<ClassMembers> group : groups) {
+				futures.add(executor.submit(() -> group.forEach(action)));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new JadxRuntimeException("Deobfuscation interrupted", e);
+		} catch (ExecutionException e) {
+			throw new JadxRuntimeException("Deobfuscation failed", e.getCause());
+		}
+	}
+
+	/**
+	 * Alias index (or one of rename states before merge) for every field and method of class
+	 */
+	private static final class ClassMembers {
+		private final ClassNode cls;
+		private final int[] fields;
+		private final int[] methods;
+
+		private ClassMembers(ClassNode cls) {
+			this.cls = cls;
+			this.fields = new int[cls.getFields().size()];
+			this.methods = new int[cls.getMethods().size()];
+		}
+
+		private void check(IRenameCondition renameCondition) {
+			List<FieldNode> clsFields = cls.getFields();
+			for (int i = 0; i < fields.length; i++) {
+				fields[i] = renameCondition.shouldRename(clsFields.get(i)) ? RENAME : NO_RENAME;
+			}
+			List<MethodNode> clsMethods = cls.getMethods();
+			for (int i = 0; i < methods.length; i++) {
+				MethodNode mth = clsMethods.get(i);
+				if (mth.contains(AType.METHOD_OVERRIDE)) {
+					methods[i] = CHECK_IN_MERGE;
+				} else {
+					methods[i] = renameCondition.shouldRename(mth) ? RENAME : NO_RENAME;
+				}
+			}
+		}
+
+		private void merge(IRenameCondition renameCondition, DeobfAliasProvider aliasProvider) {
+			for (int i = 0; i < fields.length; i++) {
+				if (fields[i] == RENAME) {
+					fields[i] = aliasProvider.nextFieldIndex();
+				}
+			}
+			List<MethodNode> clsMethods = cls.getMethods();
+			for (int i = 0; i < methods.length; i++) {
+				int state = methods[i];
+				if (state == RENAME) {
+					methods[i] = aliasProvider.nextMethodIndex();
+				} else if (state == CHECK_IN_MERGE) {
+					DeobfuscatorVisitor.renameMethod(clsMethods.get(i), renameCondition, aliasProvider);
+					methods[i] = NO_RENAME;
+				}
+			}
+		}
+
+		private void apply(DeobfAliasProvider aliasProvider) {
+			List<FieldNode> clsFields = cls.getFields();
+			for (int i = 0; i < fields.length; i++) {
+				int index = fields[i];
+				if (index >= 0) {
+					FieldNode fld = clsFields.get(i);
+					fld.rename(aliasProvider.forField(fld, index));
+				}
+			}
+			List<MethodNode> clsMethods = cls.getMethods();
+			for (int i = 0; i < methods.length; i++) {
+				int index = methods[i];
+				if (index >= 0) {
+					MethodNode mth = clsMethods.get(i);
+					mth.rename(aliasProvider.forMethod(mth, index));
+				}
+			}
+		}
+	}
+}
@@ -38,6 +38,7 @@
 import jadx.core.dex.trycatch.CatchAttr;
 import jadx.core.dex.trycatch.ExcHandlerAttr;
 import jadx.core.dex.trycatch.TryCatchBlockAttr;
+import jadx.core.dex.visitors.typeinference.TypeInferenceBudget;
 
 /**
  * Attribute types enumeration,
@@ -80,6 +81,7 @@
 	public static final AType<AttrList<TryCatchBlockAttr>> TRY_BLOCKS_LIST = new AType<>();
 	public static final AType<CodeFeaturesAttr> METHOD_CODE_FEATURES = new AType<>();
 	public static final AType<MethodThrowsAttr> METHOD_THROWS = new AType<>();
+	public static final AType<TypeInferenceBudget> TYPE_INFERENCE_BUDGET = new AType<>();
 
 	// region
 	public static final AType<DeclareVariablesAttr> DECLARE_VARIABLES = new AType<>();
@@ -19,9 +19,11 @@
 import jadx.api.ICodeCache;
 import jadx.api.ICodeInfo;
 import jadx.api.JavaClass;
+import jadx.api.impl.AnnotatedCodeInfo;
 import jadx.api.impl.SimpleCodeInfo;
 import jadx.api.impl.SimpleCodeWriter;
 import jadx.api.metadata.ICodeAnnotation;
+import jadx.api.metadata.ICodeMetadata;
 import jadx.api.metadata.annotations.NodeDeclareRef;
 import jadx.api.metadata.annotations.VarRef;
 import jadx.api.plugins.input.data.IClassData;
@@ -101,6 +103,11 @@ public class ClassNode extends NotificationAttrNode
 	 * Methods which uses this class (by instructions only, definition is excluded)
 	 */
 	private List<MethodNode> useInMth = Collections.emptyList();
+	/**
+	 * Usage data not yet applied to this class, fields and methods
+	 */
+	private volatile @Nullable IUsageInfoData lazyUsageData;
+	private boolean usageDataLoading;
 
 	// cache maps
 	private Map<MethodInfo, MethodNode> mthInfoMap = Collections.emptyMap();
@@ -148,6 +155,7 @@ private void load(IClassData cls, boolean reloading) {
 	private void restoreUsageData() {
 		IUsageInfoData usageInfoData = root.getArgs().getUsageInfoCache().get(root);
 		if (usageInfoData != null) {
+			lazyUsageData = null;
 			usageInfoData.applyForClass(this);
 		} else {
 			LOG.warn("Can't restore usage data for class: {}", this);
@@ -403,8 +411,7 @@ private ICodeInfo generateClassCode() {
 				LOG.debug("Decompiling class: {}", this);
 			}
 			ICodeInfo codeInfo = root.getProcessClasses().generateCode(this);
-			processDefinitionAnnotations(codeInfo);
-			return codeInfo;
+			return processDefinitionAnnotations(codeInfo);
 		} catch (StackOverflowError | Exception e) {
 			addError("Code generation failed", e);
 			return new SimpleCodeInfo(Utils.getStackTrace(e));
@@ -413,35 +420,49 @@ private ICodeInfo generateClassCode() {
 
 	/**
 	 * Save node definition positions found in code
+	 *
+	 * @return same code info or new one if some annotations removed
 	 */
-	private static void processDefinitionAnnotations(ICodeInfo codeInfo) {
-		Map<Integer, ICodeAnnotation> annotations = codeInfo.getCodeMetadata().getAsMap();
-		if (annotations.isEmpty()) {
-			return;
-		}
-		for (Map.Entry<Integer, ICodeAnnotation> entry : annotations.entrySet()) {
-			ICodeAnnotation ann = entry.getValue();
+	private static ICodeInfo processDefinitionAnnotations(ICodeInfo codeInfo) {
+		ICodeMetadata metadata = codeInfo.getCodeMetadata();
+		metadata.searchDown(0, (pos, ann) -> {
 			if (ann.getAnnType() == AnnType.DECLARATION) {
 				NodeDeclareRef declareRef = (NodeDeclareRef) ann;
-				int pos = entry.getKey();
 				declareRef.setDefPos(pos);
 				declareRef.getNode().setDefPosition(pos);
 			}
-		}
+			return null;
+		});
 		// validate var refs
-		annotations.values().removeIf(v -> {
-			if (v.getAnnType() == ICodeAnnotation.AnnType.VAR_REF) {
-				VarRef varRef = (VarRef) v;
-				if (varRef.getRefPos() == 0) {
-					if (LOG.isDebugEnabled()) {
-						LOG.debug("Var reference '{}' incorrect (ref pos is zero) and was removed from metadata", varRef);
-					}
-					return true;
+		if (metadata.searchDown(0, (pos, ann) -> isInvalidVarRef(ann) ? ann : null) == null) {
+			return codeInfo;
+		}
+		Map<Integer, ICodeAnnotation> annotations = new HashMap<>();
+		metadata.searchDown(0, (pos, ann) -> {
+			if (isInvalidVarRef(ann)) {
+				if (LOG.isDebugEnabled()) {
+					LOG.debug("Var reference '{}' incorrect (ref pos is zero) and was removed from metadata", ann);
 				}
-				return false;
+			} else {
+				annotations.put(pos, ann);
 			}
-			return false;
+			return null;
 		});
+		return new AnnotatedCodeInfo(codeInfo.getCodeStr(), metadata.getLineMapping(), annotations);
+	}
+
+	private static boolean isInvalidVarRef(ICodeAnnotation ann) {
+		return ann.getAnnType() == AnnType.VAR_REF && ((VarRef) ann).getRefPos() == 0;
+	}
+
+	/**
+	 * Replace class code in cache without decompilation (for example, with code patched after rename)
+	 */
+	public synchronized void updateCodeInCache(ICodeInfo codeInfo) {
+		if (isInner()) {
+			throw new JadxRuntimeException("Can't update code for inner class: " + this);
+		}
+		root().getCodeCache().add(getRawName(), processDefinitionAnnotations(codeInfo));
 	}
 
 	@Nullable
@@ -915,15 +936,48 @@ public void reloadAtCodegenStage() {
 		topCls.add(AFlag.RELOAD_AT_CODEGEN_STAGE);
 	}
 
+	/**
+	 * Postpone usage data apply until first access to usage lists of this class or its fields and methods
+	 */
+	public void setLazyUsageData(IUsageInfoData usageInfoData) {
+		this.lazyUsageData = usageInfoData;
+	}
+
+	/**
+	 * Apply usage data if it was set as lazy.
+	 * Lock on usage data object to prevent deadlock with class locks.
+	 */
+	public void loadUsageData() {
+		IUsageInfoData usageInfoData = lazyUsageData;
+		if (usageInfoData == null) {
+			return;
+		}
+		synchronized (usageInfoData) {
+			if (lazyUsageData != null && !usageDataLoading) {
+				// setters called from 'applyForClass' will skip loading
+				usageDataLoading = true;
+				try {
+					usageInfoData.applyForClass(this);
+				} finally {
+					lazyUsageData = null;
+					usageDataLoading = false;
+				}
+			}
+		}
+	}
+
 	public List<ClassNode> getDependencies() {
+		loadUsageData();
 		return dependencies;
 	}
 
 	public void setDependencies(List<ClassNode> dependencies) {
+		loadUsageData();
 		this.dependencies = dependencies;
 	}
 
 	public void removeDependency(ClassNode dep) {
+		loadUsageData();
 		this.dependencies = ListUtils.safeRemoveAndTrim(this.dependencies, dep);
 	}
 
@@ -942,22 +996,27 @@ public void addCodegenDep(ClassNode dep) {
 	}
 
 	public int getTotalDepsCount() {
+		loadUsageData();
 		return dependencies.size() + codegenDeps.size();
 	}
 
 	public List<ClassNode> getUseIn() {
+		loadUsageData();
 		return useIn;
 	}
 
 	public void setUseIn(List<ClassNode> useIn) {
+		loadUsageData();
 		this.useIn = useIn;
 	}
 
 	public List<MethodNode> getUseInMth() {
+		loadUsageData();
 		return useInMth;
 	}
 
 	public void setUseInMth(List<MethodNode> useInMth) {
+		loadUsageData();
 		this.useInMth = useInMth;
 	}
 
@@ -100,14 +100,17 @@ public ClassNode getTopParentClass() {
 	}
 
 	public List<MethodNode> getUseIn() {
+		parentClass.loadUsageData();
 		return useIn;
 	}
 
 	public void setUseIn(List<MethodNode> useIn) {
+		parentClass.loadUsageData();
 		this.useIn = useIn;
 	}
 
 	public synchronized void addUseIn(MethodNode mth) {
+		parentClass.loadUsageData();
 		useIn = ListUtils.safeAdd(useIn, mth);
 	}
 
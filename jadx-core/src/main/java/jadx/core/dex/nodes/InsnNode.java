@@ -1,10 +1,11 @@
 package jadx.core.dex.nodes;
 
-import java.util.ArrayList;
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.RandomAccess;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -28,19 +29,31 @@
 public class InsnNode extends LineAttrNode {
 	protected final InsnType insnType;
 
+	private static final InsnArg[] NO_ARGS = new InsnArg[0];
+
 	private RegisterArg result;
-	private final List<InsnArg> arguments;
+	/**
+	 * Arguments stored in plain array (sized by expected args count) instead of list
+	 * to reduce allocations for instructions count in big methods.
+	 */
+	private InsnArg[] arguments;
+	private int argsCount;
+	/**
+	 * Read-only view of arguments, created on first request
+	 */
+	private @Nullable List<InsnArg> argsView;
 	protected int offset;
 
 	public InsnNode(InsnType type, int argsCount) {
-		this(type, argsCount == 0 ? Collections.emptyList() : new ArrayList<>(argsCount));
+		this.insnType = type;
+		this.arguments = argsCount == 0 ? NO_ARGS : new InsnArg[argsCount];
+		this.offset = -1;
 	}
 
 	public InsnNode(InsnType type, List<InsnArg> args) {
-		this.insnType = type;
-		this.arguments = args;
-		this.offset = -1;
+		this(type, args.size());
 		for (InsnArg arg : args) {
+			arguments[argsCount++] = arg;
 			attachArg(arg);
 		}
 	}
@@ -63,12 +76,18 @@ public void setResult(@Nullable RegisterArg res) {
 	}
 
 	public void addArg(InsnArg arg) {
-		arguments.add(arg);
+		int count = argsCount;
+		if (count == arguments.length) {
+			arguments = Arrays.copyOf(arguments, count == 0 ? 1 : count * 2);
+		}
+		arguments[count] = arg;
+		argsCount = count + 1;
 		attachArg(arg);
 	}
 
 	public void setArg(int n, InsnArg arg) {
-		arguments.set(n, arg);
+		Objects.checkIndex(n, argsCount);
+		arguments[n] = arg;
 		attachArg(arg);
 	}
 
@@ -92,38 +111,43 @@ public RegisterArg getResult() {
 	}
 
 	public Iterable<InsnArg> getArguments() {
-		return arguments;
+		return getArgList();
 	}
 
+	/**
+	 * Read-only view of instruction arguments
+	 */
 	public List<InsnArg> getArgList() {
-		return arguments;
+		List<InsnArg> view = argsView;
+		if (view == null) {
+			view = new ArgsView();
+			argsView = view;
+		}
+		return view;
 	}
 
 	public int getArgsCount() {
-		return arguments.size();
+		return argsCount;
 	}
 
 	public InsnArg getArg(int n) {
-		return arguments.get(n);
+		Objects.checkIndex(n, argsCount);
+		return arguments[n];
 	}
 
 	public boolean containsArg(InsnArg arg) {
-		if (getArgsCount() == 0) {
-			return false;
-		}
-		for (InsnArg a : arguments) {
-			if (a == arg) {
-				return true;
-			}
-		}
-		return false;
+		return getArgIndex(arg) != -1;
 	}
 
 	public boolean containsVar(RegisterArg arg) {
-		if (getArgsCount() == 0) {
-			return false;
+		InsnArg[] args = arguments;
+		for (int i = 0, count = argsCount; i < count; i++) {
+			InsnArg insnArg = args[i];
+			if (insnArg == arg || arg.sameRegAndSVar(insnArg)) {
+				return true;
+			}
 		}
-		return InsnUtils.containsVar(arguments, arg);
+		return false;
 	}
 
 	/**
@@ -132,7 +156,7 @@ public boolean containsVar(RegisterArg arg) {
 	public boolean replaceArg(InsnArg from, InsnArg to) {
 		int count = getArgsCount();
 		for (int i = 0; i < count; i++) {
-			InsnArg arg = arguments.get(i);
+			InsnArg arg = arguments[i];
 			if (arg == from) {
 				InsnRemover.unbindArgUsage(null, arg);
 				setArg(i, to);
@@ -155,16 +179,20 @@ protected boolean removeArg(InsnArg arg) {
 	}
 
 	public InsnArg removeArg(int index) {
-		InsnArg arg = arguments.get(index);
-		arguments.remove(index);
+		Objects.checkIndex(index, argsCount);
+		InsnArg arg = arguments[index];
+		int newCount = argsCount - 1;
+		System.arraycopy(arguments, index + 1, arguments, index, newCount - index);
+		arguments[newCount] = null;
+		argsCount = newCount;
 		InsnRemover.unbindArgUsage(null, arg);
 		return arg;
 	}
 
 	public int getArgIndex(InsnArg arg) {
-		int count = getArgsCount();
-		for (int i = 0; i < count; i++) {
-			if (arg == arguments.get(i)) {
+		InsnArg[] args = arguments;
+		for (int i = 0, count = argsCount; i < count; i++) {
+			if (arg == args[i]) {
 				return i;
 			}
 		}
@@ -372,14 +400,14 @@ public boolean isSame(InsnNode other) {
 		if (insnType != other.insnType) {
 			return false;
 		}
-		int size = arguments.size();
-		if (size != other.arguments.size()) {
+		int size = argsCount;
+		if (size != other.argsCount) {
 			return false;
 		}
 		// check wrapped instructions
 		for (int i = 0; i < size; i++) {
-			InsnArg arg = arguments.get(i);
-			InsnArg otherArg = other.arguments.get(i);
+			InsnArg arg = arguments[i];
+			InsnArg otherArg = other.arguments[i];
 			if (arg.isInsnWrap()) {
 				if (!otherArg.isInsnWrap()) {
 					return false;
@@ -403,7 +431,7 @@ public boolean isDeepEquals(InsnNode other) {
 		}
 		return isSame(other)
 				&& Objects.equals(result, other.result)
-				&& Objects.equals(arguments, other.arguments);
+				&& Arrays.equals(arguments, 0, argsCount, other.arguments, 0, other.argsCount);
 	}
 
 	protected final <T extends InsnNode> T copyCommonParams(T copy) {
@@ -570,17 +598,18 @@ public final boolean equals(Object obj) {
 	 * @return true if args wrapped
 	 */
 	protected boolean appendArgs(StringBuilder sb) {
-		if (arguments.isEmpty()) {
+		if (argsCount == 0) {
 			return false;
 		}
-		String argsStr = Utils.listToString(arguments);
+		List<InsnArg> argsList = getArgList();
+		String argsStr = Utils.listToString(argsList);
 		if (argsStr.length() < 120) {
 			sb.append(argsStr);
 			return false;
 		}
 		// wrap args
 		String separator = "\n  ";
-		sb.append(separator).append(Utils.listToString(arguments, separator));
+		sb.append(separator).append(Utils.listToString(argsList, separator));
 		sb.append('\n');
 		return true;
 	}
@@ -617,4 +646,19 @@ protected String baseString() {
 	public String toString() {
 		return baseString() + attributesString();
 	}
+
+	/**
+	 * Live view over arguments array, reflects later changes in arguments
+	 */
+	private final class ArgsView extends AbstractList<InsnArg> implements RandomAccess {
+		@Override
+		public InsnArg get(int index) {
+			return getArg(index);
+		}
+
+		@Override
+		public int size() {
+			return argsCount;
+		}
+	}
 }
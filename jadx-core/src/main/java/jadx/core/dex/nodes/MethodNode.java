@@ -703,10 +703,12 @@ public boolean isLoaded() {
 	}
 
 	public List<MethodNode> getUseIn() {
+		parentClass.loadUsageData();
 		return useIn;
 	}
 
 	public void setUseIn(List<MethodNode> useIn) {
+		parentClass.loadUsageData();
 		this.useIn = useIn;
 	}
 
@@ -49,6 +49,7 @@
 import jadx.core.dex.nodes.utils.TypeUtils;
 import jadx.core.dex.visitors.DepthTraversal;
 import jadx.core.dex.visitors.IDexTreeVisitor;
+import jadx.core.dex.visitors.prepare.PreDecompileSnapshot;
 import jadx.core.dex.visitors.typeinference.TypeCompare;
 import jadx.core.dex.visitors.typeinference.TypeUpdate;
 import jadx.core.export.GradleInfoStorage;
@@ -94,6 +95,7 @@ public class RootNode {
 	private ProcessClass processClasses;
 
 	private ClspGraph clsp;
+	private @Nullable PreDecompileSnapshot restoredSnapshot;
 	private @Nullable String appPackage;
 	private @Nullable ClassNode appResClass;
 
@@ -368,6 +370,40 @@ public void mergePasses(Map<JadxPassType, List<JadxPass>> customPasses) {
 	}
 
 	public void runPreDecompileStage() {
+		String snapshotKey = PreDecompileSnapshot.isSupported(this) ? PreDecompileSnapshot.buildKey(this) : null;
+		PreDecompileSnapshot snapshot = snapshotKey != null ? loadSnapshot(snapshotKey) : null;
+		restoredSnapshot = snapshot;
+		try {
+			runPreDecompilePasses();
+		} finally {
+			restoredSnapshot = null;
+		}
+		if (snapshotKey != null && snapshot == null) {
+			long start = System.currentTimeMillis();
+			args.getPreDecompileSnapshotCache().set(snapshotKey, PreDecompileSnapshot.build(this));
+			if (LOG.isDebugEnabled()) {
+				LOG.debug("Pre-decompile snapshot saved in {}ms", System.currentTimeMillis() - start);
+			}
+		}
+	}
+
+	private @Nullable PreDecompileSnapshot loadSnapshot(String key) {
+		long start = System.currentTimeMillis();
+		PreDecompileSnapshot snapshot = args.getPreDecompileSnapshotCache().get(key);
+		if (snapshot == null) {
+			return null;
+		}
+		if (!snapshot.check(this)) {
+			LOG.warn("Pre-decompile snapshot doesn't match loaded classes, ignoring");
+			return null;
+		}
+		if (LOG.isDebugEnabled()) {
+			LOG.debug("Pre-decompile snapshot loaded in {}ms", System.currentTimeMillis() - start);
+		}
+		return snapshot;
+	}
+
+	private void runPreDecompilePasses() {
 		boolean debugEnabled = LOG.isDebugEnabled();
 		for (IDexTreeVisitor pass : preDecompilePasses) {
 			Utils.checkThreadInterrupt();
@@ -410,7 +446,8 @@ public void restartVisitors() {
 			cls.clearAttributes();
 			cls.unloadFromCache();
 		}
-		runPreDecompileStage();
+		// aliases from previous run not removed, so snapshot can't be used or saved here
+		runPreDecompilePasses();
 	}
 
 	public List<ClassNode> getClasses() {
@@ -696,6 +733,13 @@ public List<IDexTreeVisitor> getPreDecompilePasses() {
 		return preDecompilePasses;
 	}
 
+	/**
+	 * Snapshot restored from cache, available only while pre-decompile passes running
+	 */
+	public @Nullable PreDecompileSnapshot getRestoredSnapshot() {
+		return restoredSnapshot;
+	}
+
 	public void initPasses() {
 		processClasses.initPasses(this);
 	}
@@ -149,7 +149,7 @@ private static boolean removeFieldUsageFromConstructor(MethodNode mth, FieldNode
 	}
 
 	private static void removeSyntheticMethods(MethodNode mth) {
-		if (mth.isNoCode() || mth.contains(AFlag.DONT_GENERATE)) {
+		if (mth.isNoCode() || mth.contains(AFlag.DONT_GENERATE) || mth.contains(AType.DECOMPILE_MODE_OVERRIDE)) {
 			return;
 		}
 		AccessInfo af = mth.getAccessFlags();
@@ -321,7 +321,7 @@ private static boolean registersAndCastsOnly(InsnArg arg) {
 	 * Remove public empty constructors (static or default)
 	 */
 	private static void removeEmptyMethods(MethodNode mth) {
-		if (!mth.getArgRegs().isEmpty()) {
+		if (!mth.getArgRegs().isEmpty() || mth.contains(AType.DECOMPILE_MODE_OVERRIDE)) {
 			return;
 		}
 		AccessInfo af = mth.getAccessFlags();
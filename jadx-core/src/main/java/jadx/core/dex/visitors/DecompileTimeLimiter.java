@@ -0,0 +1,168 @@
+package jadx.core.dex.visitors;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.jetbrains.annotations.Nullable;
+
+import jadx.api.DecompilationMode;
+import jadx.api.JadxArgs;
+import jadx.core.dex.attributes.AFlag;
+import jadx.core.dex.attributes.AType;
+import jadx.core.dex.attributes.nodes.DecompileModeOverrideAttr;
+import jadx.core.dex.nodes.MethodNode;
+import jadx.core.utils.exceptions.DecompileTimeLimitException;
+
+/**
+ * Track decompilation time of methods in one top level class.
+ * <br>
+ * Time checked after each pass and also polled by long-running passes with {@link #checkTimeLimit()}
+ * or {@link #isTimeLimitReached()}, so stuck pass can be stopped before its end.
+ * Method exceeded limit skipped by remaining passes and marked for generation in fallback mode.
+ */
+public final class DecompileTimeLimiter {
+
+	/**
+	 * Limiter for method currently processed in this thread, set only while pass is running
+	 */
+	private static final ThreadLocal<DecompileTimeLimiter> ACTIVE = new ThreadLocal<>();
+
+	private final long methodLimit;
+	private final long classLimit;
+	private final long classStart;
+	private final Map<MethodNode, Long> methodsTime = new IdentityHashMap<>();
+
+	private long passStart;
+	private long passDeadline;
+	private boolean passTracked;
+	private boolean passInterrupted;
+	private @Nullable DecompileTimeLimiter prevActive;
+
+	/**
+	 * @return null if time limits not set
+	 */
+	public static @Nullable DecompileTimeLimiter build(JadxArgs args) {
+		int methodLimit = args.getMethodDecompileTimeLimit();
+		int classLimit = args.getClassDecompileTimeLimit();
+		if (methodLimit == 0 && classLimit == 0) {
+			return null;
+		}
+		return new DecompileTimeLimiter(methodLimit, classLimit);
+	}
+
+	/**
+	 * Stop current pass by exception if time limit for processed method reached.
+	 * Do nothing if time limits not set or called outside of method pass.
+	 */
+	public static void checkTimeLimit() {
+		if (isTimeLimitReached()) {
+			throw new DecompileTimeLimitException("Decompilation time limit reached");
+		}
+	}
+
+	/**
+	 * Same as {@link #checkTimeLimit()}, but for passes which can stop gracefully
+	 */
+	public static boolean isTimeLimitReached() {
+		DecompileTimeLimiter limiter = ACTIVE.get();
+		if (limiter == null || !limiter.passTracked) {
+			return false;
+		}
+		if (System.nanoTime() - limiter.passDeadline > 0) {
+			limiter.passInterrupted = true;
+			return true;
+		}
+		return false;
+	}
+
+	private DecompileTimeLimiter(int methodLimitMs, int classLimitMs) {
+		this.methodLimit = TimeUnit.MILLISECONDS.toNanos(methodLimitMs);
+		this.classLimit = TimeUnit.MILLISECONDS.toNanos(classLimitMs);
+		this.classStart = System.nanoTime();
+	}
+
+	/**
+	 * @return true if method should not be processed by next passes
+	 */
+	public boolean skipMethod(MethodNode mth) {
+		if (mth.contains(AType.DECOMPILE_MODE_OVERRIDE)) {
+			return true;
+		}
+		if (isInlinedCode(mth)) {
+			return false;
+		}
+		if (classLimit != 0) {
+			long classTime = System.nanoTime() - classStart;
+			if (classTime > classLimit) {
+				markForFallback(mth, "Class decompilation time limit reached: " + formatTime(classTime, classLimit));
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Start time tracking for pass and allow polling in current thread
+	 */
+	public void startPass(MethodNode mth) {
+		passStart = System.nanoTime();
+		passInterrupted = false;
+		passTracked = !isInlinedCode(mth);
+		if (passTracked) {
+			long remaining = Long.MAX_VALUE;
+			if (methodLimit != 0) {
+				remaining = methodLimit - methodsTime.getOrDefault(mth, 0L);
+			}
+			if (classLimit != 0) {
+				remaining = Math.min(remaining, classStart + classLimit - passStart);
+			}
+			passDeadline = passStart + remaining;
+		}
+		// other class can be processed inside pass, restore its limiter after finish
+		prevActive = ACTIVE.get();
+		ACTIVE.set(this);
+	}
+
+	/**
+	 * Finish pass, update method time and mark method for fallback if limit reached
+	 */
+	public void finishPass(MethodNode mth, IDexTreeVisitor pass) {
+		if (prevActive != null) {
+			ACTIVE.set(prevActive);
+			prevActive = null;
+		} else {
+			ACTIVE.remove();
+		}
+		if (!passTracked) {
+			return;
+		}
+		long passTime = System.nanoTime() - passStart;
+		long mthTime = methodsTime.merge(mth, passTime, Long::sum);
+		if (methodLimit != 0 && mthTime > methodLimit) {
+			markForFallback(mth, "Method decompilation time limit reached: " + formatTime(mthTime, methodLimit)
+					+ (passInterrupted ? ", interrupted pass: " : ", last pass: ") + pass.getName());
+		} else if (passInterrupted) {
+			long classTime = System.nanoTime() - classStart;
+			markForFallback(mth, "Class decompilation time limit reached: " + formatTime(classTime, classLimit)
+					+ ", interrupted pass: " + pass.getName());
+		}
+	}
+
+	/**
+	 * Code of lambdas and anonymous class constructors used in other methods,
+	 * so fallback mode not possible, such methods processed without limits.
+	 */
+	private static boolean isInlinedCode(MethodNode mth) {
+		return mth.contains(AFlag.DONT_GENERATE) || mth.contains(AFlag.ANONYMOUS_CONSTRUCTOR);
+	}
+
+	private static void markForFallback(MethodNode mth, String reason) {
+		mth.addAttr(new DecompileModeOverrideAttr(DecompilationMode.FALLBACK));
+		mth.addWarn(reason + ", code generated in fallback mode");
+	}
+
+	private static String formatTime(long time, long limit) {
+		return TimeUnit.NANOSECONDS.toMillis(time) + "ms (limit: " + TimeUnit.NANOSECONDS.toMillis(limit) + "ms)";
+	}
+}
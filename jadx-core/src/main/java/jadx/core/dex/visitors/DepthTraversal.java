@@ -1,8 +1,11 @@
 package jadx.core.dex.visitors;
 
+import org.jetbrains.annotations.Nullable;
+
 import jadx.core.dex.attributes.AType;
 import jadx.core.dex.nodes.ClassNode;
 import jadx.core.dex.nodes.MethodNode;
+import jadx.core.utils.exceptions.DecompileTimeLimitException;
 
 public class DepthTraversal {
 
@@ -28,6 +31,39 @@ public static void visit(IDexTreeVisitor visitor, MethodNode mth) {
 		}
 	}
 
+	public static void visit(IDexTreeVisitor visitor, ClassNode cls, @Nullable DecompileTimeLimiter timeLimiter) {
+		if (timeLimiter == null) {
+			visit(visitor, cls);
+			return;
+		}
+		try {
+			if (visitor.visit(cls)) {
+				cls.getInnerClasses().forEach(inCls -> visit(visitor, inCls, timeLimiter));
+				cls.getMethods().forEach(mth -> visit(visitor, mth, timeLimiter));
+			}
+		} catch (StackOverflowError | Exception e) {
+			cls.addError(e.getClass().getSimpleName() + " in pass: " + visitor.getClass().getSimpleName(), e);
+		}
+	}
+
+	private static void visit(IDexTreeVisitor visitor, MethodNode mth, DecompileTimeLimiter timeLimiter) {
+		try {
+			if (mth.contains(AType.JADX_ERROR) || timeLimiter.skipMethod(mth)) {
+				return;
+			}
+			timeLimiter.startPass(mth);
+			try {
+				visitor.visit(mth);
+			} catch (DecompileTimeLimitException e) {
+				// pass stopped, method will be marked for fallback
+			} finally {
+				timeLimiter.finishPass(mth, visitor);
+			}
+		} catch (StackOverflowError | Exception e) {
+			mth.addError(e.getClass().getSimpleName() + " in pass: " + visitor.getClass().getSimpleName(), e);
+		}
+	}
+
 	private DepthTraversal() {
 	}
 }
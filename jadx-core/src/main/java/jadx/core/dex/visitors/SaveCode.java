@@ -1,19 +1,20 @@
 package jadx.core.dex.visitors;
 
 import java.io.File;
-import java.io.PrintWriter;
-import java.nio.charset.StandardCharsets;
 
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import jadx.api.ICodeInfo;
+import jadx.api.IOutputSink;
 import jadx.api.JadxArgs;
+import jadx.api.impl.DirOutputSink;
+import jadx.core.codegen.json.JsonLinesWriter;
 import jadx.core.dex.attributes.AFlag;
 import jadx.core.dex.nodes.ClassNode;
 import jadx.core.dex.nodes.RootNode;
 import jadx.core.utils.exceptions.JadxRuntimeException;
-import jadx.core.utils.files.FileUtils;
 
 public class SaveCode {
 	private static final Logger LOG = LoggerFactory.getLogger(SaveCode.class);
@@ -22,28 +23,55 @@ private SaveCode() {
 	}
 
 	public static void save(File dir, ClassNode cls, ICodeInfo code) {
-		if (cls.contains(AFlag.DONT_GENERATE)) {
+		save(DirOutputSink.INSTANCE, dir, cls, code);
+	}
+
+	public static void save(IOutputSink sink, File dir, ClassNode cls, ICodeInfo code) {
+		String codeStr = getCodeForSave(cls, code);
+		if (codeStr == null) {
+			return;
+		}
+		JadxArgs args = cls.root().getArgs();
+		String fileName = cls.getClassInfo().getAliasFullPath() + getFileExtension(cls.root());
+		if (!args.getSecurity().isValidEntryName(fileName)) {
 			return;
 		}
+		save(sink, codeStr, new File(dir, fileName));
+	}
+
+	/**
+	 * Add class code as a line into project-wide file, line position defined by class index
+	 */
+	public static void save(JsonLinesWriter linesWriter, int clsIndex, ClassNode cls, ICodeInfo code) {
+		String codeStr = getCodeForSave(cls, code);
+		if (codeStr == null) {
+			return;
+		}
+		try {
+			linesWriter.add(clsIndex, codeStr);
+		} catch (Exception e) {
+			LOG.error("Save file error", e);
+		}
+	}
+
+	private static @Nullable String getCodeForSave(ClassNode cls, ICodeInfo code) {
+		if (cls.contains(AFlag.DONT_GENERATE)) {
+			return null;
+		}
 		if (code == null) {
 			throw new JadxRuntimeException("Code not generated for class " + cls.getFullName());
 		}
 		if (code == ICodeInfo.EMPTY) {
-			return;
+			return null;
 		}
 		String codeStr = code.getCodeStr();
 		if (codeStr.isEmpty()) {
-			return;
+			return null;
 		}
-		JadxArgs args = cls.root().getArgs();
-		if (args.isSkipFilesSave()) {
-			return;
+		if (cls.root().getArgs().isSkipFilesSave()) {
+			return null;
 		}
-		String fileName = cls.getClassInfo().getAliasFullPath() + getFileExtension(cls.root());
-		if (!args.getSecurity().isValidEntryName(fileName)) {
-			return;
-		}
-		save(codeStr, new File(dir, fileName));
+		return codeStr;
 	}
 
 	public static void save(ICodeInfo codeInfo, File file) {
@@ -51,9 +79,12 @@ public static void save(ICodeInfo codeInfo, File file) {
 	}
 
 	public static void save(String code, File file) {
-		File outFile = FileUtils.prepareFile(file);
-		try (PrintWriter out = new PrintWriter(outFile, StandardCharsets.UTF_8)) {
-			out.println(code);
+		save(DirOutputSink.INSTANCE, code, file);
+	}
+
+	public static void save(IOutputSink sink, String code, File file) {
+		try {
+			sink.saveText(file, code);
 		} catch (Exception e) {
 			LOG.error("Save file error", e);
 		}
@@ -68,6 +99,9 @@ public static String getFileExtension(RootNode root) {
 			case JSON:
 				return ".json";
 
+			case NDJSON:
+				return ".ndjson";
+
 			default:
 				throw new JadxRuntimeException("Unknown output format: " + outputFormat);
 		}
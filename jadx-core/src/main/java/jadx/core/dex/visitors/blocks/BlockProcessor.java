@@ -30,6 +30,7 @@
 import jadx.core.dex.trycatch.ExcHandlerAttr;
 import jadx.core.dex.trycatch.TryCatchBlockAttr;
 import jadx.core.dex.visitors.AbstractVisitor;
+import jadx.core.dex.visitors.DecompileTimeLimiter;
 import jadx.core.utils.BlockUtils;
 import jadx.core.utils.Utils;
 import jadx.core.utils.exceptions.JadxRuntimeException;
@@ -69,6 +70,7 @@ private static void processBlocksTree(MethodNode mth) {
 		}
 		int i = 0;
 		while (modifyBlocksTree(mth)) {
+			DecompileTimeLimiter.checkTimeLimit();
 			computeDominators(mth);
 			if (i++ > modLimit) {
 				mth.addWarn("CFG modification limit reached, blocks count: " + blocksCount);
@@ -79,8 +79,7 @@ private static boolean inSameTopClass(ClassNode cls1, ClassNode cls2) {
 	}
 
 	private boolean isSuperType(ClassNode cls, ClassNode superCls) {
-		return root.getClsp().getSuperTypes(cls.getRawName()).stream()
-				.anyMatch(x -> x.equals(superCls.getRawName()));
+		return root.getClsp().isImplements(cls.getRawName(), superCls.getRawName());
 	}
 
 	interface OnBadVisibilityCallback {
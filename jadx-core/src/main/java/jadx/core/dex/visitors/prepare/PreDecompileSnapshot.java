@@ -0,0 +1,363 @@
+package jadx.core.dex.visitors.prepare;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jadx.api.JadxArgs;
+import jadx.api.args.GeneratedRenamesMappingFileMode;
+import jadx.api.data.ICodeData;
+import jadx.api.snapshot.impl.EmptyPreDecompileSnapshotCache;
+import jadx.core.deobf.DeobfAliasProvider;
+import jadx.core.deobf.DeobfPresets;
+import jadx.core.dex.attributes.AType;
+import jadx.core.dex.attributes.AttrNode;
+import jadx.core.dex.attributes.nodes.RenameReasonAttr;
+import jadx.core.dex.info.ClassInfo;
+import jadx.core.dex.nodes.ClassNode;
+import jadx.core.dex.nodes.FieldNode;
+import jadx.core.dex.nodes.MethodNode;
+import jadx.core.dex.nodes.PackageNode;
+import jadx.core.dex.nodes.RootNode;
+import jadx.core.dex.visitors.IDexTreeVisitor;
+import jadx.core.dex.visitors.rename.RenameVisitor;
+import jadx.core.utils.Utils;
+import jadx.core.utils.files.FileUtils;
+
+/**
+ * Results of pre-decompile passes, which can be restored instead of running these passes.
+ * Contains final state of rename passes: aliases for packages, classes, fields and methods,
+ * rename reasons and alias provider indexes.
+ * Classes and members referenced by index in root and class lists, names checked before apply.
+ */
+public class PreDecompileSnapshot {
+	private static final Logger LOG = LoggerFactory.getLogger(PreDecompileSnapshot.class);
+
+	private final Map<String, String> pkgAliases;
+	private final List<ClsData> classes;
+	private final int[] aliasIndexes;
+
+	public PreDecompileSnapshot(Map<String, String> pkgAliases, List<ClsData> classes, int[] aliasIndexes) {
+		this.pkgAliases = pkgAliases;
+		this.classes = classes;
+		this.aliasIndexes = aliasIndexes;
+	}
+
+	/**
+	 * Snapshot can't restore user renames from code data and state of custom alias provider
+	 */
+	public static boolean isSupported(RootNode root) {
+		JadxArgs args = root.getArgs();
+		if (args.getPreDecompileSnapshotCache() instanceof EmptyPreDecompileSnapshotCache) {
+			return false;
+		}
+		if (!(args.getAliasProvider() instanceof DeobfAliasProvider)) {
+			return false;
+		}
+		ICodeData codeData = args.getCodeData();
+		if (codeData != null && !codeData.getRenames().isEmpty()) {
+			return false;
+		}
+		return root.getPreDecompilePasses().stream().anyMatch(p -> p instanceof RenameVisitor);
+	}
+
+	/**
+	 * Hash of inputs, options and passes list, should be built before passes run
+	 */
+	public static @Nullable String buildKey(RootNode root) {
+		try {
+			JadxArgs args = root.getArgs();
+			StringBuilder sb = new StringBuilder();
+			sb.append(FileUtils.buildInputsHash(Utils.collectionMap(args.getInputFiles(), File::toPath)));
+			sb.append(':').append(args.makeCodeArgsHash(root.getDecompiler()));
+			GeneratedRenamesMappingFileMode mappingFileMode = args.getGeneratedRenamesMappingFileMode();
+			sb.append(':').append(mappingFileMode);
+			if (args.isDeobfuscationOn() && mappingFileMode.shouldRead()) {
+				Path mappingFile = DeobfPresets.build(root).getDeobfMapFile();
+				if (Files.isRegularFile(mappingFile)) {
+					sb.append(':').append(Files.size(mappingFile));
+					sb.append(':').append(Files.getLastModifiedTime(mappingFile).toMillis());
+				}
+			}
+			for (IDexTreeVisitor pass : root.getPreDecompilePasses()) {
+				sb.append(':').append(pass.getName());
+			}
+			return FileUtils.md5Sum(sb.toString());
+		} catch (Exception e) {
+			LOG.warn("Failed to build pre-decompile snapshot key", e);
+			return null;
+		}
+	}
+
+	public static PreDecompileSnapshot build(RootNode root) {
+		Map<String, String> pkgAliases = new LinkedHashMap<>();
+		for (PackageNode pkg : root.getPackages()) {
+			String aliasFullName = pkg.getAliasPkgInfo().getFullName();
+			if (!aliasFullName.equals(pkg.getFullName())) {
+				pkgAliases.put(pkg.getFullName(), aliasFullName);
+			}
+		}
+		List<ClsData> classes = new ArrayList<>();
+		List<ClassNode> rootClasses = root.getClasses();
+		int clsCount = rootClasses.size();
+		for (int i = 0; i < clsCount; i++) {
+			ClsData clsData = buildClsData(i, rootClasses.get(i));
+			if (clsData != null) {
+				classes.add(clsData);
+			}
+		}
+		int[] aliasIndexes = ((DeobfAliasProvider) root.getArgs().getAliasProvider()).getIndexes();
+		return new PreDecompileSnapshot(pkgAliases, classes, aliasIndexes);
+	}
+
+	private static @Nullable ClsData buildClsData(int index, ClassNode cls) {
+		ClassInfo clsInfo = cls.getClassInfo();
+		String aliasPkg = null;
+		String aliasShortName = null;
+		boolean nameChanged = !clsInfo.getAliasShortName().equals(clsInfo.getShortName());
+		if (clsInfo.isInner()) {
+			if (nameChanged) {
+				aliasShortName = clsInfo.getAliasShortName();
+			}
+		} else if (nameChanged || clsInfo.hasAliasPkg()) {
+			aliasPkg = clsInfo.getAliasPkg();
+			aliasShortName = clsInfo.getAliasShortName();
+		}
+		List<MemberData> fields = new ArrayList<>();
+		List<FieldNode> clsFields = cls.getFields();
+		for (int i = 0; i < clsFields.size(); i++) {
+			FieldNode fld = clsFields.get(i);
+			String alias = fld.getAlias();
+			addMember(fields, i, fld.getName(), alias.equals(fld.getName()) ? null : alias, getRenameReason(fld));
+		}
+		List<MemberData> methods = new ArrayList<>();
+		List<MethodNode> clsMethods = cls.getMethods();
+		for (int i = 0; i < clsMethods.size(); i++) {
+			MethodNode mth = clsMethods.get(i);
+			String alias = mth.getAlias();
+			addMember(methods, i, mth.getName(), alias.equals(mth.getName()) ? null : alias, getRenameReason(mth));
+		}
+		String renameReason = getRenameReason(cls);
+		if (aliasShortName == null && renameReason == null && fields.isEmpty() && methods.isEmpty()) {
+			return null;
+		}
+		return new ClsData(index, clsInfo.getRawName(), aliasPkg, aliasShortName, renameReason,
+				listOrEmpty(fields), listOrEmpty(methods));
+	}
+
+	private static void addMember(List<MemberData> list, int index, String name,
+			@Nullable String alias, @Nullable String renameReason) {
+		if (alias != null || renameReason != null) {
+			list.add(new MemberData(index, name, alias, renameReason));
+		}
+	}
+
+	private static @Nullable String getRenameReason(AttrNode node) {
+		RenameReasonAttr attr = node.get(AType.RENAME_REASON);
+		return attr == null ? null : attr.getDescription();
+	}
+
+	private static <T> List<T> listOrEmpty(List<T> list) {
+		return list.isEmpty() ? Collections.emptyList() : list;
+	}
+
+	/**
+	 * Check that all referenced nodes exist, should be called before any pass skipped
+	 */
+	public boolean check(RootNode root) {
+		for (String pkgName : pkgAliases.keySet()) {
+			if (root.resolvePackage(pkgName) == null) {
+				return false;
+			}
+		}
+		List<ClassNode> rootClasses = root.getClasses();
+		for (ClsData clsData : classes) {
+			int index = clsData.getIndex();
+			if (index < 0 || index >= rootClasses.size()) {
+				return false;
+			}
+			ClassNode cls = rootClasses.get(index);
+			if (!cls.getClassInfo().getRawName().equals(clsData.getRawName())) {
+				return false;
+			}
+			if (clsData.getAliasPkg() == null && clsData.getAliasShortName() != null && !cls.getClassInfo().isInner()) {
+				return false;
+			}
+			List<FieldNode> clsFields = cls.getFields();
+			for (MemberData fldData : clsData.getFields()) {
+				int fldIndex = fldData.getIndex();
+				if (fldIndex < 0 || fldIndex >= clsFields.size()
+						|| !clsFields.get(fldIndex).getName().equals(fldData.getName())) {
+					return false;
+				}
+			}
+			List<MethodNode> clsMethods = cls.getMethods();
+			for (MemberData mthData : clsData.getMethods()) {
+				int mthIndex = mthData.getIndex();
+				if (mthIndex < 0 || mthIndex >= clsMethods.size()
+						|| !clsMethods.get(mthIndex).getName().equals(mthData.getName())) {
+					return false;
+				}
+			}
+		}
+		return aliasIndexes.length == 4;
+	}
+
+	public void apply(RootNode root) {
+		for (Map.Entry<String, String> entry : pkgAliases.entrySet()) {
+			PackageNode pkg = root.resolvePackage(entry.getKey());
+			if (pkg != null) {
+				pkg.setFullAlias(entry.getValue(), false);
+			}
+		}
+		List<ClassNode> rootClasses = root.getClasses();
+		for (ClsData clsData : classes) {
+			ClassNode cls = rootClasses.get(clsData.getIndex());
+			String aliasShortName = clsData.getAliasShortName();
+			if (aliasShortName != null) {
+				ClassInfo clsInfo = cls.getClassInfo();
+				if (clsInfo.isInner()) {
+					clsInfo.changeShortName(aliasShortName);
+				} else {
+					clsInfo.changePkgAndName(clsData.getAliasPkg(), aliasShortName);
+				}
+			}
+			if (clsData.getRenameReason() != null) {
+				cls.addAttr(new RenameReasonAttr(clsData.getRenameReason()));
+			}
+			List<FieldNode> clsFields = cls.getFields();
+			for (MemberData fldData : clsData.getFields()) {
+				FieldNode fld = clsFields.get(fldData.getIndex());
+				if (fldData.getAlias() != null) {
+					fld.getFieldInfo().setAlias(fldData.getAlias());
+				}
+				if (fldData.getRenameReason() != null) {
+					fld.addAttr(new RenameReasonAttr(fldData.getRenameReason()));
+				}
+			}
+			List<MethodNode> clsMethods = cls.getMethods();
+			for (MemberData mthData : clsData.getMethods()) {
+				MethodNode mth = clsMethods.get(mthData.getIndex());
+				if (mthData.getAlias() != null) {
+					mth.getMethodInfo().setAlias(mthData.getAlias());
+				}
+				if (mthData.getRenameReason() != null) {
+					mth.addAttr(new RenameReasonAttr(mthData.getRenameReason()));
+				}
+			}
+		}
+		root.getArgs().getAliasProvider().initIndexes(aliasIndexes[0], aliasIndexes[1], aliasIndexes[2], aliasIndexes[3]);
+	}
+
+	/**
+	 * Packages full names with full aliases in packages order
+	 */
+	public Map<String, String> getPkgAliases() {
+		return pkgAliases;
+	}
+
+	public List<ClsData> getClasses() {
+		return classes;
+	}
+
+	public int[] getAliasIndexes() {
+		return aliasIndexes;
+	}
+
+	public static final class ClsData {
+		private final int index;
+		private final String rawName;
+		private final @Nullable String aliasPkg;
+		private final @Nullable String aliasShortName;
+		private final @Nullable String renameReason;
+		private final List<MemberData> fields;
+		private final List<MemberData> methods;
+
+		public ClsData(int index, String rawName, @Nullable String aliasPkg, @Nullable String aliasShortName,
+				@Nullable String renameReason, List<MemberData> fields, List<MemberData> methods) {
+			this.index = index;
+			this.rawName = rawName;
+			this.aliasPkg = aliasPkg;
+			this.aliasShortName = aliasShortName;
+			this.renameReason = renameReason;
+			this.fields = fields;
+			this.methods = methods;
+		}
+
+		/**
+		 * Index in {@link RootNode#getClasses()} list
+		 */
+		public int getIndex() {
+			return index;
+		}
+
+		public String getRawName() {
+			return rawName;
+		}
+
+		/**
+		 * Alias package, always null for inner classes
+		 */
+		public @Nullable String getAliasPkg() {
+			return aliasPkg;
+		}
+
+		public @Nullable String getAliasShortName() {
+			return aliasShortName;
+		}
+
+		public @Nullable String getRenameReason() {
+			return renameReason;
+		}
+
+		public List<MemberData> getFields() {
+			return fields;
+		}
+
+		public List<MemberData> getMethods() {
+			return methods;
+		}
+	}
+
+	public static final class MemberData {
+		private final int index;
+		private final String name;
+		private final @Nullable String alias;
+		private final @Nullable String renameReason;
+
+		public MemberData(int index, String name, @Nullable String alias, @Nullable String renameReason) {
+			this.index = index;
+			this.name = name;
+			this.alias = alias;
+			this.renameReason = renameReason;
+		}
+
+		/**
+		 * Index in class fields or methods list
+		 */
+		public int getIndex() {
+			return index;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public @Nullable String getAlias() {
+			return alias;
+		}
+
+		public @Nullable String getRenameReason() {
+			return renameReason;
+		}
+	}
+}
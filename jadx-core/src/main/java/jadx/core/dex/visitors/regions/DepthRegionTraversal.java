@@ -5,6 +5,7 @@
 import jadx.core.dex.nodes.IRegion;
 import jadx.core.dex.nodes.MethodNode;
 import jadx.core.dex.trycatch.ExceptionHandler;
+import jadx.core.dex.visitors.DecompileTimeLimiter;
 import jadx.core.utils.exceptions.JadxOverflowException;
 import jadx.core.utils.exceptions.JadxRuntimeException;
 
@@ -29,6 +30,7 @@ public static void traverseIterative(MethodNode mth, IRegionIterativeVisitor vis
 		int limit = ITERATIVE_LIMIT_MULTIPLIER * mth.getBasicBlocks().size();
 		do {
 			repeat = traverseIterativeStepInternal(mth, visitor, mth.getRegion());
+			DecompileTimeLimiter.checkTimeLimit();
 			if (k++ > limit) {
 				throw new JadxRuntimeException("Iterative traversal limit reached: "
 						+ "limit: " + limit + ", visitor: " + visitor.getClass().getName()
@@ -51,6 +53,7 @@ public static void traverseIncludingExcHandlers(MethodNode mth, IRegionIterative
 					}
 				}
 			}
+			DecompileTimeLimiter.checkTimeLimit();
 			if (k++ > limit) {
 				throw new JadxRuntimeException("Iterative traversal limit reached: "
 						+ "limit: " + limit + ", visitor: " + visitor.getClass().getName()
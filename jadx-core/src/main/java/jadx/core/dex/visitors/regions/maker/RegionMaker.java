@@ -17,6 +17,7 @@
 import jadx.core.dex.nodes.InsnNode;
 import jadx.core.dex.nodes.MethodNode;
 import jadx.core.dex.regions.Region;
+import jadx.core.dex.visitors.DecompileTimeLimiter;
 import jadx.core.utils.BlockUtils;
 import jadx.core.utils.blocks.BlockSet;
 import jadx.core.utils.exceptions.JadxOverflowException;
@@ -65,6 +66,7 @@ Region makeRegion(BlockNode startBlock) {
 		while (next != null) {
 			next = traverse(region, next);
 			regionsCount++;
+			DecompileTimeLimiter.checkTimeLimit();
 			if (regionsCount > regionsLimit) {
 				throw new JadxOverflowException("Regions count limit reached");
 			}
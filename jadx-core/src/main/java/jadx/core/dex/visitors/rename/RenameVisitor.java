@@ -25,6 +25,7 @@
 import jadx.core.dex.nodes.PackageNode;
 import jadx.core.dex.nodes.RootNode;
 import jadx.core.dex.visitors.AbstractVisitor;
+import jadx.core.dex.visitors.prepare.PreDecompileSnapshot;
 import jadx.core.utils.StringUtils;
 
 public class RenameVisitor extends AbstractVisitor {
@@ -36,10 +37,26 @@ public void init(RootNode root) {
 		if (inputFiles.isEmpty()) {
 			return;
 		}
-		process(root);
+		PreDecompileSnapshot snapshot = root.getRestoredSnapshot();
+		if (snapshot != null) {
+			restoreFromSnapshot(root, snapshot);
+		} else {
+			process(root);
+		}
 		root.registerCodeDataUpdateListener(codeData -> process(root));
 	}
 
+	/**
+	 * Apply final aliases from all rename passes of previous load
+	 * (deobfuscation and source file rename passes skipped if snapshot restored)
+	 */
+	private static void restoreFromSnapshot(RootNode root, PreDecompileSnapshot snapshot) {
+		snapshot.apply(root);
+		if (!root.getArgs().getRenameFlags().isEmpty()) {
+			root.getCacheStorage().setRootPkgs(collectRootPkgs(root));
+		}
+	}
+
 	private void process(RootNode root) {
 		UserRenames.apply(root);
 		checkNames(root);
@@ -38,6 +38,10 @@ public void init(RootNode root) throws JadxException {
 		if (repeatLimit <= 1) {
 			return;
 		}
+		if (root.getRestoredSnapshot() != null) {
+			// aliases will be restored in RenameVisitor
+			return;
+		}
 
 		List<ClassNode> classes = root.getClasses();
 		Map<String, Integer> aliasUseCount = new HashMap<>();
@@ -16,7 +16,11 @@ public final class FinishTypeInference extends AbstractVisitor {
 
 	@Override
 	public void visit(MethodNode mth) {
-		if (mth.isNoCode() || mth.getSVars().isEmpty()) {
+		if (mth.isNoCode()) {
+			return;
+		}
+		TypeInferenceBudget.finish(mth);
+		if (mth.getSVars().isEmpty()) {
 			return;
 		}
 		mth.getSVars().forEach(var -> {
@@ -86,8 +86,12 @@ public void visit(MethodNode mth) {
 		if (mth.isNoCode() || checkTypes(mth)) {
 			return;
 		}
+		TypeInferenceBudget budget = TypeInferenceBudget.get(mth);
 		try {
 			for (Function<MethodNode, Boolean> resolver : resolvers) {
+				if (budget.checkTimeLimit()) {
+					break;
+				}
 				if (resolver.apply(mth) && checkTypes(mth)) {
 					break;
 				}
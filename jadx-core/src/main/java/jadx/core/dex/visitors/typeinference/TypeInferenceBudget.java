@@ -0,0 +1,122 @@
+package jadx.core.dex.visitors.typeinference;
+
+import org.jetbrains.annotations.Nullable;
+
+import jadx.api.JadxArgs;
+import jadx.api.plugins.input.data.attributes.IJadxAttribute;
+import jadx.core.dex.attributes.AType;
+import jadx.core.dex.nodes.MethodNode;
+import jadx.core.dex.visitors.DecompileTimeLimiter;
+
+/**
+ * Time and iterations budget for type inference in one method.
+ * Shared by {@link TypeInferenceVisitor}, {@link FixTypesVisitor} and {@link TypeSearch},
+ * checked and reported in {@link FinishTypeInference}.
+ */
+public final class TypeInferenceBudget implements IJadxAttribute {
+
+	private final long startTime;
+	private final long timeLimit;
+	private final int searchIterationsLimit;
+
+	private int searchIterations;
+	private @Nullable String exceededReason;
+
+	public static TypeInferenceBudget start(MethodNode mth) {
+		TypeInferenceBudget budget = new TypeInferenceBudget(mth.root().getArgs());
+		mth.addAttr(budget);
+		return budget;
+	}
+
+	/**
+	 * Get budget for method, start new if not yet started
+	 */
+	public static TypeInferenceBudget get(MethodNode mth) {
+		TypeInferenceBudget budget = mth.get(AType.TYPE_INFERENCE_BUDGET);
+		if (budget == null) {
+			return start(mth);
+		}
+		return budget;
+	}
+
+	/**
+	 * Remove budget from method and report if it was exceeded
+	 */
+	public static void finish(MethodNode mth) {
+		TypeInferenceBudget budget = mth.get(AType.TYPE_INFERENCE_BUDGET);
+		if (budget == null) {
+			return;
+		}
+		mth.remove(AType.TYPE_INFERENCE_BUDGET);
+		String reason = budget.exceededReason;
+		if (reason != null) {
+			mth.addWarn("Type inference budget exceeded: " + reason);
+		}
+	}
+
+	private TypeInferenceBudget(JadxArgs args) {
+		this.startTime = System.currentTimeMillis();
+		this.timeLimit = args.getTypeInferenceTimeLimit();
+		this.searchIterationsLimit = args.getTypeSearchIterationsLimit();
+	}
+
+	/**
+	 * @return true if time limit reached and type inference should be stopped
+	 */
+	public boolean checkTimeLimit() {
+		if (exceededReason != null) {
+			return true;
+		}
+		if (DecompileTimeLimiter.isTimeLimitReached()) {
+			exceededReason = "decompilation time limit reached";
+			return true;
+		}
+		if (timeLimit > 0) {
+			long time = getElapsedTime();
+			if (time > timeLimit) {
+				exceededReason = "time limit reached: " + time + "ms (limit: " + timeLimit + "ms)";
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Count one search iteration, also check time limit every 1024 iterations
+	 *
+	 * @return true if limit reached and search should be stopped
+	 */
+	public boolean addSearchIteration() {
+		int n = ++searchIterations;
+		if (n > searchIterationsLimit) {
+			if (exceededReason == null) {
+				exceededReason = "search iterations limit reached: " + searchIterationsLimit;
+			}
+			return true;
+		}
+		return (n & 0x3FF) == 0 && checkTimeLimit();
+	}
+
+	public boolean isExceeded() {
+		return exceededReason != null;
+	}
+
+	public long getElapsedTime() {
+		return System.currentTimeMillis() - startTime;
+	}
+
+	public int getSearchIterations() {
+		return searchIterations;
+	}
+
+	@Override
+	public AType<TypeInferenceBudget> getAttrType() {
+		return AType.TYPE_INFERENCE_BUDGET;
+	}
+
+	@Override
+	public String toString() {
+		return "TYPE_INFERENCE_BUDGET: time=" + getElapsedTime() + "ms, search iterations=" + searchIterations
+				+ (exceededReason != null ? ", exceeded: " + exceededReason : "");
+	}
+}
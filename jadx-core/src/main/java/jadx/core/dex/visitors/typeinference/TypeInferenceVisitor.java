@@ -69,6 +69,7 @@ public void visit(MethodNode mth) {
 		if (Consts.DEBUG_TYPE_INFERENCE) {
 			LOG.info("Start type inference in method: {}", mth);
 		}
+		TypeInferenceBudget.start(mth);
 		try {
 			assignImmutableTypes(mth);
 			initTypeBounds(mth);
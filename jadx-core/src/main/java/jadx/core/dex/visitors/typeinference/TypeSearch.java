@@ -3,8 +3,11 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -29,23 +32,26 @@
  * Stages description:
  * - find all possible candidate types within bounds
  * - build dynamic constraint list for every variable
- * - run search by checking all candidates
+ * - run backtracking search over candidates, constraints checked as soon as all related variables are set
+ * <p>
+ * Search iterations and time are limited by method {@link TypeInferenceBudget}.
  */
 public class TypeSearch {
 	private static final Logger LOG = LoggerFactory.getLogger(TypeSearch.class);
 
 	private static final int VARS_PROCESS_LIMIT = 5_000;
 	private static final int CANDIDATES_COUNT_LIMIT = 10;
-	private static final int SEARCH_ITERATION_LIMIT = 1_000_000;
 
 	private final MethodNode mth;
 	private final TypeSearchState state;
 	private final TypeCompare typeCompare;
 	private final TypeUpdate typeUpdate;
+	private final TypeInferenceBudget budget;
 
 	public TypeSearch(MethodNode mth) {
 		this.mth = mth;
 		this.state = new TypeSearchState(mth);
+		this.budget = TypeInferenceBudget.get(mth);
 		this.typeUpdate = mth.root().getTypeUpdate();
 		this.typeCompare = typeUpdate.getTypeCompare();
 	}
@@ -126,39 +132,38 @@ private boolean search(List<TypeSearchVarInfo> vars) {
 		for (TypeSearchVarInfo var : vars) {
 			var.reset();
 		}
-		// check all types combinations
-		int n = 0;
-		int i = 0;
-		while (!fullCheck(vars)) {
-			TypeSearchVarInfo first = vars.get(i);
-			if (first.nextType()) {
-				int k = i + 1;
-				if (k >= len) {
-					return false;
+		// Check types combinations in depth-first order.
+		// Variables assigned from the last one, so first found solution is the same as
+		// in full enumeration of all combinations where first variable changed most often.
+		// Constraint checked at search level there all its variables became assigned,
+		// so wrong partial combinations rejected without iterating over remaining variables.
+		List<List<ITypeConstraint>> levelConstraints = buildLevelConstraints(vars);
+		int level = 0;
+		while (true) {
+			if (budget.addSearchIteration()) {
+				if (Consts.DEBUG_TYPE_INFERENCE) {
+					LOG.debug(" > search budget exceeded: {}", budget);
 				}
-				TypeSearchVarInfo next = vars.get(k);
-				while (true) {
-					if (next.nextType()) {
-						k++;
-						if (k >= len) {
-							return false;
-						}
-						next = vars.get(k);
-					} else {
-						break;
-					}
+				return false;
+			}
+			if (checkConstraints(levelConstraints.get(level))) {
+				if (level == len - 1) {
+					break;
 				}
+				level++;
+				vars.get(len - 1 - level).reset();
+				continue;
 			}
-			n++;
-			if (n > SEARCH_ITERATION_LIMIT) {
-				if (Consts.DEBUG_TYPE_INFERENCE) {
-					LOG.debug(" > iterations limit reached: {}", SEARCH_ITERATION_LIMIT);
+			// switch to next candidate, go back if all candidates checked
+			while (vars.get(len - 1 - level).nextType()) {
+				level--;
+				if (level < 0) {
+					return false;
 				}
-				return false;
 			}
 		}
 		if (Consts.DEBUG_TYPE_INFERENCE) {
-			LOG.debug(" > done after {} iterations", n);
+			LOG.debug(" > done after {} iterations", budget.getSearchIterations());
 		}
 		// mark all vars as resolved
 		for (TypeSearchVarInfo var : vars) {
@@ -167,6 +172,48 @@ private boolean search(List<TypeSearchVarInfo> vars) {
 		return true;
 	}
 
+	/**
+	 * Group constraints by search level (var at level {@code i} is {@code vars[len - 1 - i]}),
+	 * constraint placed at max level of its variables.
+	 */
+	private List<List<ITypeConstraint>> buildLevelConstraints(List<TypeSearchVarInfo> vars) {
+		int len = vars.size();
+		Map<SSAVar, Integer> levelsMap = new HashMap<>(len);
+		for (int i = 0; i < len; i++) {
+			levelsMap.put(vars.get(i).getVar(), len - 1 - i);
+		}
+		List<List<ITypeConstraint>> levelConstraints = new ArrayList<>(len);
+		for (int i = 0; i < len; i++) {
+			levelConstraints.add(new ArrayList<>());
+		}
+		Set<ITypeConstraint> added = Collections.newSetFromMap(new IdentityHashMap<>());
+		for (int i = 0; i < len; i++) {
+			TypeSearchVarInfo var = vars.get(i);
+			for (ITypeConstraint constraint : var.getConstraints()) {
+				if (added.add(constraint)) {
+					int level = len - 1 - i;
+					for (SSAVar relatedVar : constraint.getRelatedVars()) {
+						Integer relatedLevel = levelsMap.get(relatedVar);
+						if (relatedLevel != null && relatedLevel > level) {
+							level = relatedLevel;
+						}
+					}
+					levelConstraints.get(level).add(constraint);
+				}
+			}
+		}
+		return levelConstraints;
+	}
+
+	private boolean checkConstraints(List<ITypeConstraint> constraints) {
+		for (ITypeConstraint constraint : constraints) {
+			if (!constraint.check(state)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	private boolean resolveIndependentVariables(TypeSearchVarInfo varInfo) {
 		boolean allRelatedVarsResolved = varInfo.getConstraints().stream()
 				.flatMap(c -> c.getRelatedVars().stream())
@@ -0,0 +1,13 @@
+package jadx.core.utils.exceptions;
+
+/**
+ * Thrown from long-running passes to stop method processing after decompilation time limit reached
+ */
+public class DecompileTimeLimitException extends JadxOverflowException {
+
+	private static final long serialVersionUID = -4937412830548217331L;
+
+	public DecompileTimeLimitException(String message) {
+		super(message);
+	}
+}
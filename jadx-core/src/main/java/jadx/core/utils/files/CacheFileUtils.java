@@ -0,0 +1,191 @@
+package jadx.core.utils.files;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Common operations for file based caches:
+ * <ul>
+ * <li>write entry to temp file (or directory) and move it in place, so partial entries never visible</li>
+ * <li>track entry usage by modification time and remove least recently used entries
+ * if cache directory exceeds size limit</li>
+ * </ul>
+ */
+public final class CacheFileUtils {
+	private static final Logger LOG = LoggerFactory.getLogger(CacheFileUtils.class);
+
+	private static final String TMP_SUFFIX = ".tmp";
+
+	private CacheFileUtils() {
+		// utility class
+	}
+
+	public interface DataWriter {
+		void write(DataOutputStream out) throws IOException;
+	}
+
+	public interface DirWriter {
+		void write(Path dir) throws IOException;
+	}
+
+	/**
+	 * Write data into temp file in same directory and replace target file with atomic move
+	 */
+	public static void writeFileAtomic(Path file, DataWriter writer) throws IOException {
+		Path dir = file.toAbsolutePath().getParent();
+		Files.createDirectories(dir);
+		Path tmpFile = Files.createTempFile(dir, file.getFileName().toString(), TMP_SUFFIX);
+		try {
+			try (OutputStream fileOutput = Files.newOutputStream(tmpFile);
+					DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fileOutput))) {
+				writer.write(out);
+			}
+			Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			deleteTmp(tmpFile);
+		}
+	}
+
+	/**
+	 * Fill temp directory and move it in place. Existing directory not replaced.
+	 *
+	 * @return false if target directory already exists (can be created concurrently)
+	 */
+	public static boolean writeDirAtomic(Path dir, DirWriter writer) throws IOException {
+		if (Files.isDirectory(dir)) {
+			return false;
+		}
+		Path parentDir = dir.toAbsolutePath().getParent();
+		Files.createDirectories(parentDir);
+		Path tmpDir = Files.createTempDirectory(parentDir, dir.getFileName() + TMP_SUFFIX);
+		try {
+			writer.write(tmpDir);
+			Files.move(tmpDir, dir, StandardCopyOption.ATOMIC_MOVE);
+			return true;
+		} catch (FileAlreadyExistsException e) {
+			return false;
+		} catch (IOException e) {
+			if (Files.isDirectory(dir)) {
+				return false;
+			}
+			throw e;
+		} finally {
+			if (Files.exists(tmpDir)) {
+				FileUtils.deleteDirIfExists(tmpDir);
+			}
+		}
+	}
+
+	/**
+	 * Update entry modification time, used as last access time by {@link #trimToSize(Path, int, long)}
+	 */
+	public static void markUsed(Path entry) {
+		try {
+			Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis()));
+		} catch (Exception e) {
+			LOG.debug("Failed to update cache entry time: {}", entry, e);
+		}
+	}
+
+	/**
+	 * Remove least recently used entries until cache directory size will fit into limit.
+	 *
+	 * @param entriesDepth depth of entries (file or directory) in cache directory,
+	 *                     use 1 for entries placed directly in cache dir
+	 */
+	public static void trimToSize(Path cacheDir, int entriesDepth, long maxSize) {
+		if (!Files.isDirectory(cacheDir)) {
+			return;
+		}
+		try {
+			List<CacheEntry> entries = collectEntries(cacheDir, entriesDepth);
+			long totalSize = 0;
+			for (CacheEntry entry : entries) {
+				totalSize += entry.size;
+			}
+			if (totalSize <= maxSize) {
+				return;
+			}
+			entries.sort(Comparator.comparingLong(e -> e.lastUsed));
+			long startSize = totalSize;
+			int removed = 0;
+			for (CacheEntry entry : entries) {
+				if (totalSize <= maxSize) {
+					break;
+				}
+				if (Files.isDirectory(entry.path)) {
+					FileUtils.deleteDirIfExists(entry.path);
+				} else {
+					FileUtils.deleteFileIfExists(entry.path);
+				}
+				totalSize -= entry.size;
+				removed++;
+			}
+			if (LOG.isDebugEnabled()) {
+				LOG.debug("Cache dir trimmed: {}, removed entries: {}, size: {} -> {}", cacheDir, removed, startSize, totalSize);
+			}
+		} catch (Exception e) {
+			LOG.warn("Failed to trim cache dir: {}", cacheDir, e);
+		}
+	}
+
+	private static List<CacheEntry> collectEntries(Path cacheDir, int entriesDepth) throws IOException {
+		List<Path> paths;
+		try (Stream<Path> stream = Files.walk(cacheDir, entriesDepth)) {
+			paths = stream
+					.filter(p -> !p.equals(cacheDir)) // relative path for root dir is empty, but has one name
+					.filter(p -> cacheDir.relativize(p).getNameCount() == entriesDepth)
+					.filter(p -> !p.getFileName().toString().contains(TMP_SUFFIX))
+					.collect(Collectors.toList());
+		}
+		List<CacheEntry> entries = new ArrayList<>(paths.size());
+		for (Path path : paths) {
+			entries.add(new CacheEntry(path, calcSize(path), Files.getLastModifiedTime(path).toMillis()));
+		}
+		return entries;
+	}
+
+	private static long calcSize(Path path) throws IOException {
+		if (!Files.isDirectory(path)) {
+			return Files.size(path);
+		}
+		try (Stream<Path> stream = Files.walk(path)) {
+			return stream.filter(Files::isRegularFile).mapToLong(p -> p.toFile().length()).sum();
+		}
+	}
+
+	private static void deleteTmp(Path tmpFile) {
+		try {
+			FileUtils.deleteFileIfExists(tmpFile);
+		} catch (Exception e) {
+			LOG.warn("Failed to delete temp file: {}", tmpFile, e);
+		}
+	}
+
+	private static final class CacheEntry {
+		private final Path path;
+		private final long size;
+		private final long lastUsed;
+
+		private CacheEntry(Path path, long size, long lastUsed) {
+			this.path = path;
+			this.size = size;
+			this.lastUsed = lastUsed;
+		}
+	}
+}
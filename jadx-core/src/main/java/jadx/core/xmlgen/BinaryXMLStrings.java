@@ -2,12 +2,18 @@
 
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.charset.Charset;
 import java.util.Arrays;
-import java.util.HashMap;
-import java.util.Map;
 
+/**
+ * String pool from binary resources.
+ * Offsets table and string data read in place from pool buffer,
+ * strings decoded on first request and stored in array by index.
+ */
 public class BinaryXMLStrings {
 	public static final String INVALID_STRING_PLACEHOLDER = "⟨STRING_DECODE_ERROR⟩";
+	private static final String[] EMPTY_CACHE = new String[0];
+
 	private final int stringCount;
 
 	private final long stringsStart;
@@ -17,7 +23,7 @@ public class BinaryXMLStrings {
 	private final boolean isUtf8;
 
 	// This cache include strings that have been overridden by the deobfuscator.
-	private final Map<Integer, String> cache = new HashMap<>();
+	private String[] cache;
 
 	public BinaryXMLStrings() {
 		stringCount = 0;
@@ -25,26 +31,44 @@ public BinaryXMLStrings() {
 		buffer = ByteBuffer.allocate(0);
 		buffer.order(ByteOrder.LITTLE_ENDIAN);
 		isUtf8 = false;
+		cache = EMPTY_CACHE;
 	}
 
 	public BinaryXMLStrings(int stringCount, long stringsStart, byte[] buffer, boolean isUtf8) {
+		this(stringCount, stringsStart, ByteBuffer.wrap(buffer), isUtf8);
+	}
+
+	/**
+	 * @param buffer pool data starting from offsets table, used without copy
+	 */
+	public BinaryXMLStrings(int stringCount, long stringsStart, ByteBuffer buffer, boolean isUtf8) {
 		this.stringCount = stringCount;
 		this.stringsStart = stringsStart;
-		this.buffer = ByteBuffer.wrap(buffer);
-		this.buffer.order(ByteOrder.LITTLE_ENDIAN);
+		this.buffer = buffer.slice().order(ByteOrder.LITTLE_ENDIAN);
 		this.isUtf8 = isUtf8;
+		// string count not trusted, array limited by offsets table size
+		this.cache = new String[Math.max(0, Math.min(stringCount, this.buffer.limit() / 4))];
 	}
 
 	public String get(int id) {
-		String cached = cache.get(id);
-		if (cached != null) {
-			return cached;
+		String[] arr = cache;
+		if (id >= 0 && id < arr.length) {
+			String cached = arr[id];
+			if (cached != null) {
+				return cached;
+			}
+		}
+		String extracted = extract(id);
+		if (id >= 0 && id < arr.length) {
+			arr[id] = extracted;
 		}
+		return extracted;
+	}
 
-		if (id * 4 >= buffer.limit() - 3) {
+	private String extract(int id) {
+		if (id < 0 || (long) id * 4 >= buffer.limit() - 3) {
 			return INVALID_STRING_PLACEHOLDER;
 		}
-
 		int off = buffer.getInt(id * 4);
 		if (off < 0) {
 			// read unsigned offset value is larger than Integer.MAX_VALUE
@@ -52,68 +76,93 @@ public String get(int id) {
 			return INVALID_STRING_PLACEHOLDER;
 		}
 		long offset = stringsStart + off;
-		String extracted;
+		if (offset > Integer.MAX_VALUE) {
+			return INVALID_STRING_PLACEHOLDER;
+		}
 		if (isUtf8) {
-			extracted = extractString8(this.buffer.array(), (int) offset);
-		} else {
-			// don't trust specified string length, read until \0
-			// stringsOffset can be same for different indexes
-			extracted = extractString16(this.buffer.array(), (int) offset);
+			return extractString8(buffer, (int) offset);
 		}
-		cache.put(id, extracted);
-		return extracted;
+		// don't trust specified string length, read until \0
+		// stringsOffset can be same for different indexes
+		return extractString16(buffer, (int) offset);
 	}
 
 	public void put(int id, String content) {
-		cache.put(id, content);
+		if (id < 0) {
+			return;
+		}
+		if (id >= cache.length) {
+			cache = Arrays.copyOf(cache, id + 1);
+		}
+		cache[id] = content;
 	}
 
 	public int size() {
 		return this.stringCount;
 	}
 
-	private static String extractString8(byte[] strArray, int offset) {
-		if (offset >= strArray.length) {
+	private static String extractString8(ByteBuffer buf, int offset) {
+		int limit = buf.limit();
+		if (offset >= limit) {
+			return INVALID_STRING_PLACEHOLDER;
+		}
+		int start = offset + skipStrLen8(buf, offset);
+		if (start >= limit) {
 			return INVALID_STRING_PLACEHOLDER;
 		}
-		int start = offset + skipStrLen8(strArray, offset);
-		int len = strArray[start++];
+		int len = buf.get(start++);
 		if (len == 0) {
 			return "";
 		}
 		if ((len & 0x80) != 0) {
-			len = (len & 0x7F) << 8 | strArray[start++] & 0xFF;
+			if (start >= limit) {
+				return INVALID_STRING_PLACEHOLDER;
+			}
+			len = (len & 0x7F) << 8 | buf.get(start++) & 0xFF;
 		}
-		byte[] arr = Arrays.copyOfRange(strArray, start, start + len);
-		return new String(arr, ParserStream.STRING_CHARSET_UTF8);
+		// length can point after pool end, missing bytes filled with zeros
+		return decode(buf, start, len, ParserStream.STRING_CHARSET_UTF8);
 	}
 
-	private static String extractString16(byte[] strArray, int offset) {
-		if (offset + 2 >= strArray.length) {
+	private static String extractString16(ByteBuffer buf, int offset) {
+		int len = buf.limit();
+		if (offset + 2 >= len) {
+			return INVALID_STRING_PLACEHOLDER;
+		}
+		int start = offset + skipStrLen16(buf, offset);
+		if (start > len) {
 			return INVALID_STRING_PLACEHOLDER;
 		}
-
-		int len = strArray.length;
-		int start = offset + skipStrLen16(strArray, offset);
 		int end = start;
 		while (true) {
 			if (end + 1 >= len) {
 				break;
 			}
-			if (strArray[end] == 0 && strArray[end + 1] == 0) {
+			if (buf.get(end) == 0 && buf.get(end + 1) == 0) {
 				break;
 			}
 			end += 2;
 		}
-		byte[] arr = Arrays.copyOfRange(strArray, start, end);
-		return new String(arr, ParserStream.STRING_CHARSET_UTF16);
+		return decode(buf, start, end - start, ParserStream.STRING_CHARSET_UTF16);
+	}
+
+	private static String decode(ByteBuffer buf, int start, int len, Charset charset) {
+		int available = Math.min(len, buf.limit() - start);
+		if (available == len && buf.hasArray()) {
+			return new String(buf.array(), buf.arrayOffset() + start, len, charset);
+		}
+		byte[] arr = new byte[len];
+		ByteBuffer dup = buf.duplicate();
+		dup.position(start);
+		dup.get(arr, 0, available);
+		return new String(arr, charset);
 	}
 
-	private static int skipStrLen8(byte[] strArray, int offset) {
-		return (strArray[offset] & 0x80) == 0 ? 1 : 2;
+	private static int skipStrLen8(ByteBuffer buf, int offset) {
+		return (buf.get(offset) & 0x80) == 0 ? 1 : 2;
 	}
 
-	private static int skipStrLen16(byte[] strArray, int offset) {
-		return (strArray[offset + 1] & 0x80) == 0 ? 2 : 4;
+	private static int skipStrLen16(ByteBuffer buf, int offset) {
+		return (buf.get(offset + 1) & 0x80) == 0 ? 2 : 4;
 	}
 }
@@ -1,6 +1,7 @@
 package jadx.core.xmlgen;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -36,7 +37,7 @@ protected BinaryXMLStrings parseStringPoolNoSize(long start, long chunkEnd) thro
 
 		// Correct the offset of actual strings, as the header is already read.
 		stringsStart = stringsStart - (is.getPos() - start);
-		byte[] buffer = is.readInt8Array((int) (chunkEnd - is.getPos()));
+		ByteBuffer buffer = is.readBuffer((int) (chunkEnd - is.getPos()));
 		is.checkPos(chunkEnd, "Expected strings pool end");
 
 		return new BinaryXMLStrings(
@@ -1,14 +1,22 @@
 package jadx.core.xmlgen;
 
-import java.io.BufferedInputStream;
 import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 
 import org.jetbrains.annotations.NotNull;
 
+import jadx.core.utils.files.FileUtils;
+
+/**
+ * Little-endian reader for binary resources.
+ * Data accessed by absolute position in buffer (can be memory mapped),
+ * reads after data end return -1 bytes same as input stream.
+ */
 public class ParserStream extends InputStream {
 
 	protected static final Charset STRING_CHARSET_UTF16 = StandardCharsets.UTF_16LE;
@@ -17,37 +25,52 @@ public class ParserStream extends InputStream {
 	private static final int[] EMPTY_INT_ARRAY = new int[0];
 	private static final byte[] EMPTY_BYTE_ARRAY = new byte[0];
 
-	private final InputStream input;
-	private long readPos = 0;
-	private long markPos = 0;
+	private final ByteBuffer buf;
+	private final int limit;
+	private int pos = 0;
+	private int markPos = 0;
+
+	public ParserStream(@NotNull InputStream inputStream) throws IOException {
+		this(ByteBuffer.wrap(FileUtils.streamToByteArray(inputStream)));
+	}
 
-	public ParserStream(@NotNull InputStream inputStream) {
-		this.input = inputStream.markSupported() ? inputStream : new BufferedInputStream(inputStream);
+	/**
+	 * Read data from current buffer position, buffer itself not changed
+	 */
+	public ParserStream(@NotNull ByteBuffer buffer) {
+		this.buf = buffer.slice().order(ByteOrder.LITTLE_ENDIAN);
+		this.limit = buf.limit();
 	}
 
 	public long getPos() {
-		return readPos;
+		return pos;
 	}
 
 	public int readInt8() throws IOException {
-		readPos++;
-		return input.read();
+		return byteAt(pos++);
 	}
 
 	public int readInt16() throws IOException {
-		readPos += 2;
-		int b1 = input.read();
-		int b2 = input.read();
+		int p = pos;
+		pos = p + 2;
+		if (p + 2 <= limit) {
+			return buf.getShort(p) & 0xFFFF;
+		}
+		int b1 = byteAt(p);
+		int b2 = byteAt(p + 1);
 		return (b2 & 0xFF) << 8 | b1 & 0xFF;
 	}
 
 	public int readInt32() throws IOException {
-		readPos += 4;
-		InputStream in = input;
-		int b1 = in.read();
-		int b2 = in.read();
-		int b3 = in.read();
-		int b4 = in.read();
+		int p = pos;
+		pos = p + 4;
+		if (p + 4 <= limit) {
+			return buf.getInt(p);
+		}
+		int b1 = byteAt(p);
+		int b2 = byteAt(p + 1);
+		int b3 = byteAt(p + 2);
+		int b4 = byteAt(p + 3);
 		return b4 << 24 | (b3 & 0xFF) << 16 | (b2 & 0xFF) << 8 | b1 & 0xFF;
 	}
 
@@ -75,31 +98,38 @@ public byte[] readInt8Array(int count) throws IOException {
 		if (count == 0) {
 			return EMPTY_BYTE_ARRAY;
 		}
-		readPos += count;
-		byte[] arr = new byte[count];
-		int pos = input.read(arr, 0, count);
-		while (pos < count) {
-			int read = input.read(arr, pos, count - pos);
-			if (read == -1) {
-				throw new IOException("No data, can't read " + count + " bytes");
-			}
-			pos += read;
+		if (count > limit - pos) {
+			throw new IOException("No data, can't read " + count + " bytes");
 		}
+		byte[] arr = new byte[count];
+		copyBytes(arr, 0, count);
 		return arr;
 	}
 
+	/**
+	 * Return view of next bytes without copy
+	 */
+	public ByteBuffer readBuffer(int count) throws IOException {
+		if (count < 0 || count > limit - pos) {
+			throw new IOException("No data, can't read " + count + " bytes");
+		}
+		ByteBuffer dup = buf.duplicate();
+		dup.position(pos);
+		dup.limit(pos + count);
+		pos += count;
+		return dup.slice().order(ByteOrder.LITTLE_ENDIAN);
+	}
+
 	@Override
 	public long skip(long count) throws IOException {
-		readPos += count;
-		long pos = input.skip(count);
-		while (pos < count) {
-			long skipped = input.skip(count - pos);
-			if (skipped == 0) {
-				throw new IOException("No data, can't skip " + count + " bytes");
-			}
-			pos += skipped;
+		if (count <= 0) {
+			return 0;
 		}
-		return pos;
+		if (count > limit - pos) {
+			throw new IOException("No data, can't skip " + count + " bytes");
+		}
+		pos += (int) count;
+		return count;
 	}
 
 	public void checkInt8(int expected, String error) throws IOException {
@@ -142,19 +172,19 @@ public void skipToPos(long expectedOffset, String error) throws IOException {
 		checkPos(expectedOffset, error);
 	}
 
+	@Override
+	public boolean markSupported() {
+		return true;
+	}
+
 	@Override
 	public void mark(int len) {
-		if (!input.markSupported()) {
-			throw new RuntimeException("Mark not supported for input stream " + input.getClass());
-		}
-		input.mark(len);
-		markPos = readPos;
+		markPos = pos;
 	}
 
 	@Override
-	public void reset() throws IOException {
-		input.reset();
-		readPos = markPos;
+	public void reset() {
+		pos = markPos;
 	}
 
 	public void readFully(byte[] b) throws IOException {
@@ -162,32 +192,62 @@ public void readFully(byte[] b) throws IOException {
 	}
 
 	public void readFully(byte[] b, int off, int len) throws IOException {
-		readPos += len;
 		if (len < 0) {
 			throw new IndexOutOfBoundsException();
 		}
-		int n = 0;
-		while (n < len) {
-			int count = input.read(b, off + n, len - n);
-			if (count < 0) {
-				throw new EOFException();
-			}
-			n += count;
+		if (len > limit - pos) {
+			throw new EOFException();
 		}
+		copyBytes(b, off, len);
 	}
 
 	@Override
 	public int read() throws IOException {
-		return input.read();
+		if (pos >= limit) {
+			return -1;
+		}
+		return buf.get(pos++) & 0xFF;
 	}
 
 	@Override
 	public int read(@NotNull byte[] b, int off, int len) throws IOException {
-		return input.read(b, off, len);
+		if (len == 0) {
+			return 0;
+		}
+		int available = available();
+		if (available == 0) {
+			return -1;
+		}
+		int count = Math.min(len, available);
+		copyBytes(b, off, count);
+		return count;
+	}
+
+	@Override
+	public int available() {
+		return Math.max(0, limit - pos);
+	}
+
+	private int byteAt(int p) {
+		if (p >= limit) {
+			return -1;
+		}
+		return buf.get(p) & 0xFF;
+	}
+
+	private void copyBytes(byte[] dst, int off, int len) {
+		if (buf.hasArray()) {
+			System.arraycopy(buf.array(), buf.arrayOffset() + pos, dst, off, len);
+		} else {
+			ByteBuffer dup = buf.duplicate();
+			dup.position(pos);
+			dup.get(dst, off, len);
+		}
+		pos += len;
 	}
 
 	@Override
 	public String toString() {
-		return "pos: 0x" + Long.toHexString(readPos);
+		return "pos: 0x" + Long.toHexString(pos);
 	}
 }
@@ -4,8 +4,10 @@
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import jadx.api.ICodeInfo;
 import jadx.api.ResourceFile;
@@ -37,6 +39,13 @@ public static ResContainer resourceTable(String name, List<ResContainer> subFile
 		return new ResContainer(name, subFiles, rootContent, DataType.RES_TABLE);
 	}
 
+	/**
+	 * Root content (table dump) will be built only on first request
+	 */
+	public static ResContainer resourceTable(String name, List<ResContainer> subFiles, Supplier<ICodeInfo> rootContent) {
+		return new ResContainer(name, subFiles, new LazyContent(rootContent), DataType.RES_TABLE);
+	}
+
 	private ResContainer(String name, List<ResContainer> subFiles, Object data, DataType dataType) {
 		this.name = Objects.requireNonNull(name);
 		this.subFiles = Objects.requireNonNull(subFiles);
@@ -61,6 +70,9 @@ public DataType getDataType() {
 	}
 
 	public ICodeInfo getText() {
+		if (data instanceof LazyContent) {
+			return ((LazyContent) data).get();
+		}
 		return (ICodeInfo) data;
 	}
 
@@ -94,6 +106,24 @@ public int hashCode() {
 		return name.hashCode();
 	}
 
+	private static final class LazyContent {
+		private @Nullable Supplier<ICodeInfo> supplier;
+		private @Nullable ICodeInfo content;
+
+		private LazyContent(Supplier<ICodeInfo> supplier) {
+			this.supplier = supplier;
+		}
+
+		@SuppressWarnings("DataFlowIssue")
+		public synchronized ICodeInfo get() {
+			if (content == null) {
+				content = supplier.get();
+				supplier = null;
+			}
+			return content;
+		}
+	}
+
 	@Override
 	public String toString() {
 		return "Res{" + name + ", type=" + dataType + ", subFiles=" + subFiles + '}';
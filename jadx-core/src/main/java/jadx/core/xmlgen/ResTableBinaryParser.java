@@ -1,9 +1,8 @@
 package jadx.core.xmlgen;
 
-import java.io.BufferedInputStream;
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -12,7 +11,6 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import jadx.api.ICodeInfo;
 import jadx.api.args.ResourceNameSource;
 import jadx.core.dex.attributes.AFlag;
 import jadx.core.dex.nodes.FieldNode;
@@ -85,8 +83,19 @@ public void setBaseFileName(String fileName) {
 
 	@Override
 	public void decode(InputStream inputStream) throws IOException {
+		decode(new ParserStream(inputStream));
+	}
+
+	/**
+	 * Decode table directly from buffer (can be memory mapped file)
+	 */
+	public void decode(ByteBuffer buffer) throws IOException {
+		decode(new ParserStream(buffer));
+	}
+
+	private void decode(ParserStream stream) throws IOException {
 		long start = System.currentTimeMillis();
-		is = new ParserStream(new BufferedInputStream(inputStream, 32768));
+		is = stream;
 		resStorage = new ResourceStorage(root.getArgs().getSecurity());
 		decodeTableChunk();
 		resStorage.finish();
@@ -101,9 +110,10 @@ public ResContainer decodeFiles() {
 		ValuesParser vp = new ValuesParser(strings, resStorage.getResourcesNames());
 		ResXmlGen resGen = new ResXmlGen(resStorage, vp, root.initManifestAttributes());
 
-		ICodeInfo content = XmlGenUtils.makeXmlDump(root.makeCodeWriter(), resStorage);
 		List<ResContainer> xmlFiles = resGen.makeResourcesXml(root.getArgs());
-		return ResContainer.resourceTable(baseFileName, xmlFiles, content);
+		ResourceStorage storage = resStorage;
+		return ResContainer.resourceTable(baseFileName, xmlFiles,
+				() -> XmlGenUtils.makeXmlDump(root.makeCodeWriter(), storage));
 	}
 
 	void decodeTableChunk() throws IOException {
@@ -517,7 +527,7 @@ private EntryConfig parseConfig() throws IOException {
 		// Android zero fill this structure and only read the data present
 		var configData = new byte[Math.max(52, size - 4)];
 		is.readFully(configData, 0, size - 4);
-		var configIs = new ParserStream(new ByteArrayInputStream(configData));
+		var configIs = new ParserStream(ByteBuffer.wrap(configData));
 
 		short mcc = (short) configIs.readInt16();
 		short mnc = (short) configIs.readInt16();
@@ -3,17 +3,22 @@
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
-import jadx.api.ICodeInfo;
 import jadx.api.ICodeWriter;
 import jadx.api.JadxArgs;
 import jadx.api.impl.SimpleCodeWriter;
 import jadx.core.utils.StringUtils;
+import jadx.core.utils.Utils;
+import jadx.core.utils.exceptions.JadxRuntimeException;
 import jadx.core.xmlgen.entry.ProtoValue;
 import jadx.core.xmlgen.entry.RawNamedValue;
 import jadx.core.xmlgen.entry.ResourceEntry;
@@ -52,36 +57,65 @@ public ResXmlGen(ResourceStorage resStorage, ValuesParser vp, ManifestAttributes
 	}
 
 	public List<ResContainer> makeResourcesXml(JadxArgs args) {
-		Map<String, ICodeWriter> contMap = new HashMap<>();
+		Map<String, List<ResourceEntry>> filesMap = new LinkedHashMap<>();
 		for (ResourceEntry ri : resStorage.getResources()) {
 			if (SKIP_RES_TYPES.contains(ri.getTypeName())) {
 				continue;
 			}
-			String fn = getFileName(ri);
-			ICodeWriter cw = contMap.get(fn);
-			if (cw == null) {
-				cw = new SimpleCodeWriter(args);
-				cw.add("<?xml version=\"1.0\" encoding=\"utf-8\"?>");
-				cw.startLine("<resources>");
-				cw.incIndent();
-				contMap.put(fn, cw);
-			}
-			addValue(cw, ri);
+			filesMap.computeIfAbsent(getFileName(ri), fn -> new ArrayList<>()).add(ri);
 		}
-
-		List<ResContainer> files = new ArrayList<>(contMap.size());
-		for (Map.Entry<String, ICodeWriter> entry : contMap.entrySet()) {
-			String fileName = entry.getKey();
-			ICodeWriter content = entry.getValue();
-			content.decIndent();
-			content.startLine("</resources>");
-			ICodeInfo codeInfo = content.finish();
-			files.add(ResContainer.textResource(fileName, codeInfo));
+		List<ResContainer> files;
+		int threads = Math.min(args.getThreadsCount(), filesMap.size());
+		if (threads <= 1) {
+			files = new ArrayList<>(filesMap.size());
+			for (Map.Entry<String, List<ResourceEntry>> entry : filesMap.entrySet()) {
+				files.add(makeValuesFile(args, entry.getKey(), entry.getValue()));
+			}
+		} else {
+			files = makeValuesFilesParallel(args, filesMap, threads);
 		}
 		Collections.sort(files);
 		return files;
 	}
 
+	/**
+	 * Files content depends only on own entries, so files can be generated independently
+	 */
+	private List<ResContainer> makeValuesFilesParallel(JadxArgs args, Map<String, List<ResourceEntry>> filesMap, int threads) {
+		ExecutorService executor = Executors.newFixedThreadPool(threads, Utils.simpleThreadFactory("res-values"));
+		try {
+			List<Future<ResContainer>> futures = new ArrayList<>(filesMap.size());
+			for (Map.Entry<String, List<ResourceEntry>> entry : filesMap.entrySet()) {
+				futures.add(executor.submit(() -> makeValuesFile(args, entry.getKey(), entry.getValue())));
+			}
+			List<ResContainer> files = new ArrayList<>(futures.size());
+			for (Future<ResContainer> future : futures) {
+				files.add(future.get());
+			}
+			return files;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new JadxRuntimeException("Resource values generation interrupted", e);
+		} catch (ExecutionException e) {
+			throw new JadxRuntimeException("Resource values generation failed", e.getCause());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private ResContainer makeValuesFile(JadxArgs args, String fileName, List<ResourceEntry> entries) {
+		ICodeWriter cw = new SimpleCodeWriter(args);
+		cw.add("<?xml version=\"1.0\" encoding=\"utf-8\"?>");
+		cw.startLine("<resources>");
+		cw.incIndent();
+		for (ResourceEntry ri : entries) {
+			addValue(cw, ri);
+		}
+		cw.decIndent();
+		cw.startLine("</resources>");
+		return ResContainer.textResource(fileName, cw.finish());
+	}
+
 	private void addValue(ICodeWriter cw, ResourceEntry ri) {
 		if (ri.getProtoValue() != null) {
 			ProtoValue protoValue = ri.getProtoValue();
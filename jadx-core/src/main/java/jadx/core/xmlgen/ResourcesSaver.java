@@ -1,21 +1,19 @@
 package jadx.core.xmlgen;
 
 import java.io.File;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.StandardCopyOption;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import jadx.api.IOutputSink;
 import jadx.api.JadxDecompiler;
 import jadx.api.ResourceFile;
 import jadx.api.ResourcesLoader;
+import jadx.api.impl.DirOutputSink;
 import jadx.api.security.IJadxSecurity;
 import jadx.core.dex.visitors.SaveCode;
 import jadx.core.utils.exceptions.JadxException;
 import jadx.core.utils.exceptions.JadxRuntimeException;
-import jadx.core.utils.files.FileUtils;
 
 public class ResourcesSaver implements Runnable {
 	private static final Logger LOG = LoggerFactory.getLogger(ResourcesSaver.class);
@@ -23,11 +21,17 @@ public class ResourcesSaver implements Runnable {
 	private final ResourceFile resourceFile;
 	private final File outDir;
 	private final IJadxSecurity security;
+	private final IOutputSink sink;
 
 	public ResourcesSaver(JadxDecompiler decompiler, File outDir, ResourceFile resourceFile) {
+		this(decompiler, outDir, resourceFile, DirOutputSink.INSTANCE);
+	}
+
+	public ResourcesSaver(JadxDecompiler decompiler, File outDir, ResourceFile resourceFile, IOutputSink sink) {
 		this.resourceFile = resourceFile;
 		this.outDir = outDir;
 		this.security = decompiler.getArgs().getSecurity();
+		this.sink = sink;
 	}
 
 	@Override
@@ -66,14 +70,12 @@ private void saveToFile(ResContainer rc, File outFile) {
 		switch (rc.getDataType()) {
 			case TEXT:
 			case RES_TABLE:
-				SaveCode.save(rc.getText(), outFile);
+				SaveCode.save(sink, rc.getText().getCodeStr(), outFile);
 				return;
 
 			case DECODED_DATA:
-				byte[] data = rc.getDecodedData();
-				FileUtils.makeDirsForFile(outFile);
 				try {
-					Files.write(outFile.toPath(), data);
+					sink.saveBytes(outFile, rc.getDecodedData());
 				} catch (Exception e) {
 					LOG.warn("Resource '{}' not saved, got exception", rc.getName(), e);
 				}
@@ -81,7 +83,6 @@ private void saveToFile(ResContainer rc, File outFile) {
 
 			case RES_LINK:
 				ResourceFile resFile = rc.getResLink();
-				FileUtils.makeDirsForFile(outFile);
 				try {
 					saveResourceFile(resFile, outFile);
 				} catch (Exception e) {
@@ -97,11 +98,9 @@ private void saveToFile(ResContainer rc, File outFile) {
 
 	private void saveResourceFile(ResourceFile resFile, File outFile) throws JadxException {
 		ResourcesLoader.decodeStream(resFile, (size, is) -> {
-			Path target = outFile.toPath();
 			try {
-				Files.copy(is, target, StandardCopyOption.REPLACE_EXISTING);
+				sink.saveStream(outFile, is);
 			} catch (Exception e) {
-				Files.deleteIfExists(target); // delete partially written file
 				throw new JadxRuntimeException("Resource file save error", e);
 			}
 			return null;
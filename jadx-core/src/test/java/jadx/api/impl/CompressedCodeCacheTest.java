@@ -0,0 +1,39 @@
+package jadx.api.impl;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import jadx.api.ICodeInfo;
+import jadx.api.metadata.annotations.InsnCodeOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompressedCodeCacheTest {
+
+	@Test
+	void testRoundTrip() {
+		InMemoryCodeCache backCache = new InMemoryCodeCache();
+		CompressedCodeCache cache = new CompressedCodeCache(backCache, 1);
+		String code = "class A {\n    void a() {\n        // ü中\n    }\n}\n".repeat(20);
+		cache.add("A", new AnnotatedCodeInfo(code, Map.of(2, 5), Map.of(10, new InsnCodeOffset(3))));
+		cache.add("B", new SimpleCodeInfo("class B {}"));
+
+		assertThat(backCache.get("A")).isInstanceOf(CompressedCodeInfo.class);
+		assertThat(cache.getCompressionRatio()).isLessThan(0.5);
+
+		// 'A' evicted from hot set by 'B'
+		ICodeInfo codeInfo = cache.get("A");
+		assertThat(codeInfo).isNotInstanceOf(CompressedCodeInfo.class);
+		assertThat(codeInfo.getCodeStr()).isEqualTo(code);
+		assertThat(codeInfo.hasMetadata()).isTrue();
+		assertThat(codeInfo.getCodeMetadata().getLineMapping()).containsEntry(2, 5);
+		assertThat(codeInfo.getCodeMetadata().getAt(10)).isInstanceOf(InsnCodeOffset.class);
+		assertThat(cache.getCode("B")).isEqualTo("class B {}");
+
+		assertThat(cache.get("C")).isSameAs(ICodeInfo.EMPTY);
+		assertThat(cache.getCode("C")).isNull();
+		cache.remove("A");
+		assertThat(cache.contains("A")).isFalse();
+	}
+}
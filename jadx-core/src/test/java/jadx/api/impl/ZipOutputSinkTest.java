@@ -0,0 +1,136 @@
+package jadx.api.impl;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jadx.api.IOutputSink;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ZipOutputSinkTest {
+
+	@TempDir
+	Path testDir;
+
+	@Test
+	public void testSameAsDir() throws Exception {
+		Path dirRoot = testDir.resolve("dir");
+		Path zipRoot = testDir.resolve("zip");
+		ZipOutputSink zipSink = new ZipOutputSink(ZipOutputSink.getArchiveFile(zipRoot.toFile()), zipRoot.toFile());
+		saveAll(DirOutputSink.INSTANCE, dirRoot, 1);
+		saveAll(zipSink, zipRoot, 1);
+		zipSink.close();
+
+		List<String> dirFiles = listFiles(dirRoot);
+		List<String> zipEntries = new ArrayList<>();
+		try (ZipInputStream in = new ZipInputStream(Files.newInputStream(zipSink.getArchiveFile()))) {
+			while (true) {
+				ZipEntry entry = in.getNextEntry();
+				if (entry == null) {
+					break;
+				}
+				String name = entry.getName();
+				zipEntries.add(name);
+				assertThat(entry.getTimeLocal()).isEqualTo(LocalDateTime.of(1980, 1, 1, 0, 0));
+				byte[] expected = Files.readAllBytes(dirRoot.resolve(name));
+				assertThat(in.readAllBytes()).as("content of entry: %s", name).isEqualTo(expected);
+			}
+		}
+		// entries sorted by name, no duplicates
+		assertThat(zipEntries).isEqualTo(dirFiles);
+		// temp data file removed
+		try (Stream<Path> stream = Files.list(testDir)) {
+			assertThat(stream.map(p -> p.getFileName().toString()))
+					.containsExactlyInAnyOrder("dir", "zip.zip");
+		}
+	}
+
+	@Test
+	public void testReproducible() throws Exception {
+		Path firstRoot = testDir.resolve("first");
+		Path secondRoot = testDir.resolve("second");
+		ZipOutputSink firstSink = new ZipOutputSink(ZipOutputSink.getArchiveFile(firstRoot.toFile()), firstRoot.toFile());
+		ZipOutputSink secondSink = new ZipOutputSink(ZipOutputSink.getArchiveFile(secondRoot.toFile()), secondRoot.toFile());
+		saveAll(firstSink, firstRoot, 1);
+		saveAll(secondSink, secondRoot, 2);
+		firstSink.close();
+		secondSink.close();
+
+		assertThat(Files.readAllBytes(secondSink.getArchiveFile()))
+				.isEqualTo(Files.readAllBytes(firstSink.getArchiveFile()));
+	}
+
+	/**
+	 * Save entries from several threads in random order, then overwrite some of them
+	 */
+	private static void saveAll(IOutputSink sink, Path root, long seed) throws Exception {
+		List<Integer> ids = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			ids.add(i);
+		}
+		Collections.shuffle(ids, new Random(seed));
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int id : ids) {
+				futures.add(executor.submit(() -> {
+					saveEntry(sink, root, id);
+					return null;
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+		sink.saveText(entryFile(root, 3), "overwritten text");
+		sink.saveBytes(entryFile(root, 4), new byte[] { 1, 2, 3 });
+		sink.saveStream(entryFile(root, 5), new ByteArrayInputStream(new byte[] { 4, 5 }));
+		Path tmpFile = Files.createTempFile(root.getParent(), "source", ".tmp");
+		Files.write(tmpFile, "moved file".getBytes(StandardCharsets.UTF_8));
+		sink.saveFile(entryFile(root, 6), tmpFile);
+	}
+
+	private static void saveEntry(IOutputSink sink, Path root, int id) throws IOException {
+		File file = entryFile(root, id);
+		String text = "class Cls" + id + " {}";
+		if (id % 2 == 0) {
+			sink.saveText(file, text);
+		} else {
+			sink.saveBytes(file, text.getBytes(StandardCharsets.UTF_8));
+		}
+	}
+
+	private static File entryFile(Path root, int id) {
+		return root.resolve("pkg" + id % 7).resolve("Cls" + id + ".java").toFile();
+	}
+
+	private static List<String> listFiles(Path root) throws IOException {
+		try (Stream<Path> stream = Files.walk(root)) {
+			return stream.filter(Files::isRegularFile)
+					.map(p -> root.relativize(p).toString().replace(File.separatorChar, '/'))
+					.sorted()
+					.collect(Collectors.toList());
+		}
+	}
+}
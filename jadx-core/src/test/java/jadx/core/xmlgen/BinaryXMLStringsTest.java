@@ -0,0 +1,222 @@
+package jadx.core.xmlgen;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import static jadx.core.xmlgen.BinaryXMLStrings.INVALID_STRING_PLACEHOLDER;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BinaryXMLStringsTest {
+
+	private static final int HEADER_SIZE = 0x1C;
+	private static final String LONG_STR = repeat('x', 200);
+
+	@Test
+	public void testUtf8() {
+		BinaryXMLStrings strings = buildStrings(true, utf8("abc"), utf8(""), utf8(LONG_STR), utf8("привет"));
+		assertThat(strings.size()).isEqualTo(4);
+		assertThat(strings.get(0)).isEqualTo("abc");
+		assertThat(strings.get(1)).isEqualTo("");
+		assertThat(strings.get(2)).isEqualTo(LONG_STR);
+		assertThat(strings.get(3)).isEqualTo("привет");
+		assertThat(strings.get(4)).isEqualTo(INVALID_STRING_PLACEHOLDER);
+		assertThat(strings.get(-1)).isEqualTo(INVALID_STRING_PLACEHOLDER);
+	}
+
+	@Test
+	public void testUtf16() {
+		// long form of length: two 16-bit values with high bit set in first
+		byte[] longLen = concat(new byte[] { 0, (byte) 0x80, 3, 0 }, "abc\0".getBytes(StandardCharsets.UTF_16LE));
+		BinaryXMLStrings strings = buildStrings(false, utf16("abc"), utf16(""), longLen, utf16("привет"));
+		assertThat(strings.get(0)).isEqualTo("abc");
+		assertThat(strings.get(1)).isEqualTo("");
+		assertThat(strings.get(2)).isEqualTo("abc");
+		assertThat(strings.get(3)).isEqualTo("привет");
+		assertThat(strings.get(4)).isEqualTo(INVALID_STRING_PLACEHOLDER);
+	}
+
+	@Test
+	public void testUtf8LengthAfterPoolEnd() {
+		// length is 10, but only 3 bytes available, missing bytes filled with zeros
+		BinaryXMLStrings strings = buildStrings(true, utf8("abc"), new byte[] { 10, 10, 'a', 'b', 'c' });
+		assertThat(strings.get(0)).isEqualTo("abc");
+		assertThat(strings.get(1)).isEqualTo("abc\0\0\0\0\0\0\0");
+
+		// two-byte length without second byte
+		strings = buildStrings(true, utf8("abc"), new byte[] { 1, (byte) 0x81 });
+		assertThat(strings.get(1)).isEqualTo(INVALID_STRING_PLACEHOLDER);
+	}
+
+	@Test
+	public void testUtf16NoTerminator() {
+		// string data read until pool end
+		byte[] noTerminator = concat(new byte[] { 5, 0 }, "ab".getBytes(StandardCharsets.UTF_16LE));
+		BinaryXMLStrings strings = buildStrings(false, utf16("abc"), noTerminator);
+		assertThat(strings.get(0)).isEqualTo("abc");
+		assertThat(strings.get(1)).isEqualTo("ab");
+	}
+
+	@Test
+	public void testInvalidOffsets() {
+		byte[] data = utf8("abc");
+		int[] offsets = new int[] { 0, -1, data.length, 0x7FFF_FFF0, 1000 };
+		BinaryXMLStrings strings = new BinaryXMLStrings(offsets.length, offsets.length * 4, poolData(offsets, data), true);
+		assertThat(strings.get(0)).isEqualTo("abc");
+		for (int i = 1; i < offsets.length; i++) {
+			assertThat(strings.get(i)).as("string %d", i).isEqualTo(INVALID_STRING_PLACEHOLDER);
+		}
+
+		// strings count is larger than offsets table
+		strings = new BinaryXMLStrings(1000, 4, poolData(new int[] { 0 }, data), true);
+		assertThat(strings.get(0)).isEqualTo("abc");
+		assertThat(strings.get(1)).isEqualTo(INVALID_STRING_PLACEHOLDER);
+		assertThat(strings.get(999)).isEqualTo(INVALID_STRING_PLACEHOLDER);
+	}
+
+	@Test
+	public void testPut() {
+		BinaryXMLStrings strings = buildStrings(true, utf8("abc"), utf8("def"));
+		strings.put(1, "renamed");
+		strings.put(5, "added");
+		strings.put(-1, "ignored");
+		assertThat(strings.get(0)).isEqualTo("abc");
+		assertThat(strings.get(1)).isEqualTo("renamed");
+		assertThat(strings.get(5)).isEqualTo("added");
+		assertThat(strings.get(4)).isEqualTo(INVALID_STRING_PLACEHOLDER);
+		assertThat(strings.get(-1)).isEqualTo(INVALID_STRING_PLACEHOLDER);
+		assertThat(strings.size()).isEqualTo(2);
+
+		BinaryXMLStrings empty = new BinaryXMLStrings();
+		empty.put(2, "str");
+		assertThat(empty.get(2)).isEqualTo("str");
+		assertThat(empty.get(0)).isEqualTo(INVALID_STRING_PLACEHOLDER);
+	}
+
+	@Test
+	public void testParsePoolChunks() throws IOException {
+		// two pools in one buffer, strings data read without copy and only inside own chunk
+		byte[] first = poolChunk(false, utf16("first"), concat(new byte[] { 3, 0 }, "end".getBytes(StandardCharsets.UTF_16LE)));
+		byte[] second = poolChunk(true, utf8("second"), utf8("other"));
+		byte[] data = concat(first, second);
+
+		CommonBinaryParser parser = new CommonBinaryParser();
+		parser.is = new ParserStream(ByteBuffer.wrap(data));
+		BinaryXMLStrings firstStrings = parser.parseStringPool();
+		assertThat(parser.is.getPos()).isEqualTo(first.length);
+		BinaryXMLStrings secondStrings = parser.parseStringPool();
+		assertThat(parser.is.getPos()).isEqualTo(data.length);
+
+		assertThat(firstStrings.get(0)).isEqualTo("first");
+		assertThat(firstStrings.get(1)).isEqualTo("end");
+		assertThat(secondStrings.get(0)).isEqualTo("second");
+
+		// not yet decoded string uses changed data
+		int otherPos = indexOf(data, "other".getBytes(StandardCharsets.UTF_8));
+		data[otherPos] = 'O';
+		assertThat(secondStrings.get(1)).isEqualTo("Other");
+		// decoded strings are cached
+		data[otherPos + 1] = 'T';
+		assertThat(secondStrings.get(1)).isEqualTo("Other");
+	}
+
+	private static BinaryXMLStrings buildStrings(boolean utf8, byte[]... strings) {
+		int[] offsets = new int[strings.length];
+		int off = 0;
+		for (int i = 0; i < strings.length; i++) {
+			offsets[i] = off;
+			off += strings[i].length;
+		}
+		return new BinaryXMLStrings(strings.length, strings.length * 4, poolData(offsets, concat(strings)), utf8);
+	}
+
+	/**
+	 * Pool data without header: offsets table and strings
+	 */
+	private static byte[] poolData(int[] offsets, byte[] strings) {
+		ByteBuffer buf = ByteBuffer.allocate(offsets.length * 4 + strings.length).order(ByteOrder.LITTLE_ENDIAN);
+		for (int offset : offsets) {
+			buf.putInt(offset);
+		}
+		buf.put(strings);
+		return buf.array();
+	}
+
+	private static byte[] poolChunk(boolean utf8, byte[]... strings) {
+		int[] offsets = new int[strings.length];
+		int off = 0;
+		for (int i = 0; i < strings.length; i++) {
+			offsets[i] = off;
+			off += strings[i].length;
+		}
+		byte[] poolData = poolData(offsets, concat(strings));
+		ByteBuffer buf = ByteBuffer.allocate(HEADER_SIZE + poolData.length).order(ByteOrder.LITTLE_ENDIAN);
+		buf.putShort((short) ParserConstants.RES_STRING_POOL_TYPE);
+		buf.putShort((short) HEADER_SIZE);
+		buf.putInt(HEADER_SIZE + poolData.length);
+		buf.putInt(strings.length);
+		buf.putInt(0); // styles count
+		buf.putInt(utf8 ? ParserConstants.UTF8_FLAG : 0);
+		buf.putInt(HEADER_SIZE + strings.length * 4); // strings start
+		buf.putInt(0); // styles start
+		buf.put(poolData);
+		return buf.array();
+	}
+
+	private static byte[] utf8(String str) {
+		byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		writeLen8(out, str.length());
+		writeLen8(out, bytes.length);
+		out.write(bytes, 0, bytes.length);
+		out.write(0);
+		return out.toByteArray();
+	}
+
+	private static void writeLen8(ByteArrayOutputStream out, int len) {
+		if (len > 0x7F) {
+			out.write(len >> 8 | 0x80);
+		}
+		out.write(len & 0xFF);
+	}
+
+	private static byte[] utf16(String str) {
+		byte[] bytes = (str + '\0').getBytes(StandardCharsets.UTF_16LE);
+		return concat(new byte[] { (byte) str.length(), (byte) (str.length() >> 8) }, bytes);
+	}
+
+	private static byte[] concat(byte[]... arrays) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		for (byte[] arr : arrays) {
+			out.write(arr, 0, arr.length);
+		}
+		return out.toByteArray();
+	}
+
+	private static int indexOf(byte[] data, byte[] part) {
+		for (int i = 0; i <= data.length - part.length; i++) {
+			boolean found = true;
+			for (int j = 0; j < part.length; j++) {
+				if (data[i + j] != part[j]) {
+					found = false;
+					break;
+				}
+			}
+			if (found) {
+				return i;
+			}
+		}
+		throw new IllegalArgumentException("Part not found");
+	}
+
+	private static String repeat(char c, int count) {
+		char[] arr = new char[count];
+		Arrays.fill(arr, c);
+		return new String(arr);
+	}
+}
@@ -0,0 +1,163 @@
+package jadx.core.xmlgen;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ParserStreamTest {
+
+	private static final byte[] DATA = new byte[] { 0x01, 0x02, (byte) 0x83, 0x04, 0x05, (byte) 0xF6 };
+
+	@Test
+	public void testReadInts() throws IOException {
+		ParserStream stream = new ParserStream(ByteBuffer.wrap(DATA));
+		assertThat(stream.readInt8()).isEqualTo(0x01);
+		assertThat(stream.readInt16()).isEqualTo(0x8302);
+		assertThat(stream.readInt8()).isEqualTo(0x04);
+		assertThat(stream.readInt16()).isEqualTo(0xF605);
+		assertThat(stream.getPos()).isEqualTo(6);
+
+		stream = new ParserStream(ByteBuffer.wrap(DATA));
+		assertThat(stream.readInt32()).isEqualTo(0x04830201);
+		stream = new ParserStream(ByteBuffer.wrap(DATA, 2, 4));
+		assertThat(stream.readUInt32()).isEqualTo(0xF6050483L);
+	}
+
+	@Test
+	public void testReadPastEnd() throws IOException {
+		// missing bytes read as -1, same as input stream
+		ParserStream stream = new ParserStream(ByteBuffer.wrap(new byte[] { 0x01, 0x02, 0x03 }));
+		assertThat(stream.readInt16()).isEqualTo(0x0201);
+		assertThat(stream.readInt16()).isEqualTo(0xFF03);
+		assertThat(stream.getPos()).isEqualTo(4);
+		assertThat(stream.readInt8()).isEqualTo(-1);
+		assertThat(stream.readInt16()).isEqualTo(0xFFFF);
+		assertThat(stream.readInt32()).isEqualTo(-1);
+		assertThat(stream.getPos()).isEqualTo(11);
+		assertThat(stream.available()).isEqualTo(0);
+		assertThat(stream.read()).isEqualTo(-1);
+		assertThat(stream.read(new byte[2], 0, 2)).isEqualTo(-1);
+
+		stream = new ParserStream(ByteBuffer.wrap(new byte[] { 0x01, 0x02, 0x03 }));
+		assertThat(stream.readInt32()).isEqualTo(0xFF030201);
+	}
+
+	@Test
+	public void testSameAsInputStream() throws IOException {
+		for (int start = 0; start <= DATA.length; start++) {
+			ParserStream stream = new ParserStream(ByteBuffer.wrap(DATA));
+			stream.skip(start);
+			InputStream in = new ByteArrayInputStream(DATA, start, DATA.length - start);
+			assertThat(stream.readInt32()).as("int32 at %d", start).isEqualTo(readInt32(in));
+
+			stream = new ParserStream(ByteBuffer.wrap(DATA));
+			stream.skip(start);
+			in = new ByteArrayInputStream(DATA, start, DATA.length - start);
+			assertThat(stream.readInt16()).as("int16 at %d", start).isEqualTo(readInt16(in));
+		}
+	}
+
+	@Test
+	public void testDirectBuffer() throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocateDirect(DATA.length + 1);
+		buffer.put((byte) 0x7F).put(DATA).flip();
+		buffer.position(1);
+		ParserStream stream = new ParserStream(buffer);
+		assertThat(stream.readInt32()).isEqualTo(0x04830201);
+		byte[] arr = stream.readInt8Array(2);
+		assertThat(arr).containsExactly(0x05, 0xF6);
+		assertThat(stream.readInt16()).isEqualTo(0xFFFF);
+		// source buffer position not changed
+		assertThat(buffer.position()).isEqualTo(1);
+	}
+
+	@Test
+	public void testSkip() throws IOException {
+		ParserStream stream = new ParserStream(ByteBuffer.wrap(DATA));
+		assertThat(stream.skip(0)).isEqualTo(0);
+		assertThat(stream.skip(-1)).isEqualTo(0);
+		assertThat(stream.skip(2)).isEqualTo(2);
+		assertThat(stream.readInt8()).isEqualTo(0x83);
+		stream.skipToPos(5, "skip");
+		assertThat(stream.readInt8()).isEqualTo(0xF6);
+
+		assertThatThrownBy(() -> stream.skip(1)).isInstanceOf(IOException.class);
+		assertThatThrownBy(() -> stream.skipToPos(4, "back")).isInstanceOf(IOException.class);
+		assertThat(stream.getPos()).isEqualTo(6);
+	}
+
+	@Test
+	public void testReadArrayFail() throws IOException {
+		ParserStream stream = new ParserStream(ByteBuffer.wrap(DATA));
+		stream.skip(4);
+		assertThatThrownBy(() -> stream.readInt8Array(3)).isInstanceOf(IOException.class);
+		assertThat(stream.getPos()).isEqualTo(4);
+		assertThat(stream.readInt8Array(0)).isEmpty();
+		assertThat(stream.readInt8Array(2)).containsExactly(0x05, 0xF6);
+
+		// position after data end
+		stream.readInt16();
+		assertThatThrownBy(() -> stream.readInt8Array(1)).isInstanceOf(IOException.class);
+		assertThatThrownBy(() -> stream.skip(1)).isInstanceOf(IOException.class);
+		assertThatThrownBy(() -> stream.readBuffer(1)).isInstanceOf(IOException.class);
+		assertThat(stream.read()).isEqualTo(-1);
+	}
+
+	@Test
+	public void testMarkReset() throws IOException {
+		ParserStream stream = new ParserStream(ByteBuffer.wrap(DATA));
+		assertThat(stream.markSupported()).isTrue();
+		stream.readInt8();
+		stream.mark(0);
+		int value = stream.readInt32();
+		assertThat(stream.getPos()).isEqualTo(5);
+		stream.reset();
+		assertThat(stream.getPos()).isEqualTo(1);
+		assertThat(stream.readInt32()).isEqualTo(value);
+
+		// reset also works after data end
+		stream.mark(0);
+		stream.readInt32();
+		stream.reset();
+		assertThat(stream.readInt8()).isEqualTo(0xF6);
+	}
+
+	@Test
+	public void testReadBuffer() throws IOException {
+		byte[] data = DATA.clone();
+		ParserStream stream = new ParserStream(ByteBuffer.wrap(data));
+		stream.skip(1);
+		ByteBuffer view = stream.readBuffer(4);
+		assertThat(stream.getPos()).isEqualTo(5);
+		assertThat(view.order()).isEqualTo(ByteOrder.LITTLE_ENDIAN);
+		assertThat(view.remaining()).isEqualTo(4);
+		assertThat(view.getInt(0)).isEqualTo(0x05048302);
+
+		// view shares data with stream
+		data[1] = 0x7F;
+		assertThat(view.get(0)).isEqualTo((byte) 0x7F);
+		assertThatThrownBy(() -> stream.readBuffer(-1)).isInstanceOf(IOException.class);
+		assertThatThrownBy(() -> stream.readBuffer(2)).isInstanceOf(IOException.class);
+	}
+
+	private static int readInt16(InputStream in) throws IOException {
+		int b1 = in.read();
+		int b2 = in.read();
+		return (b2 & 0xFF) << 8 | b1 & 0xFF;
+	}
+
+	private static int readInt32(InputStream in) throws IOException {
+		int b1 = in.read();
+		int b2 = in.read();
+		int b3 = in.read();
+		int b4 = in.read();
+		return b4 << 24 | (b3 & 0xFF) << 16 | (b2 & 0xFF) << 8 | b1 & 0xFF;
+	}
+}
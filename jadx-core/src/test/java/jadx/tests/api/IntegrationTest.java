@@ -114,6 +114,7 @@ public abstract class IntegrationTest extends TestUtils {
 	protected Map<Integer, String> resMap = Collections.emptyMap();
 
 	private boolean allowWarnInCode;
+	private boolean allowInconsistentCode;
 	private boolean printLineNumbers;
 	private boolean printOffsets;
 	private boolean printDisassemble;
@@ -310,7 +311,9 @@ public void runChecks(ClassNode cls) {
 	}
 
 	protected void runChecks(List<ClassNode> clsList) {
-		clsList.forEach(cls -> checkCode(cls, allowWarnInCode));
+		if (!allowInconsistentCode) {
+			clsList.forEach(cls -> checkCode(cls, allowWarnInCode));
+		}
 		compileClassNode(clsList);
 		clsList.forEach(this::runAutoCheck);
 	}
@@ -661,6 +664,13 @@ protected void allowWarnInCode() {
 		allowWarnInCode = true;
 	}
 
+	/**
+	 * Skip code consistency checks, use only if some methods expected to be marked as inconsistent
+	 */
+	protected void allowInconsistentCode() {
+		allowInconsistentCode = true;
+	}
+
 	protected void printLineNumbers() {
 		printLineNumbers = true;
 	}
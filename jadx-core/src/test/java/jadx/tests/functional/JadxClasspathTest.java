@@ -6,6 +6,8 @@
 import org.junit.jupiter.api.Test;
 
 import jadx.api.JadxArgs;
+import jadx.core.clsp.ClsSetData;
+import jadx.core.clsp.ClspClass;
 import jadx.core.clsp.ClspGraph;
 import jadx.core.dex.instructions.args.ArgType;
 import jadx.core.dex.nodes.RootNode;
@@ -20,6 +22,8 @@ public class JadxClasspathTest {
 
 	private static final String JAVA_LANG_EXCEPTION = "java.lang.Exception";
 	private static final String JAVA_LANG_THROWABLE = "java.lang.Throwable";
+	private static final String JAVA_LANG_OBJECT = "java.lang.Object";
+	private static final String JAVA_IO_SERIALIZABLE = "java.io.Serializable";
 
 	private RootNode root;
 	private ClspGraph clsp;
@@ -45,4 +49,42 @@ public void test() {
 
 		assertThat(isCastNeeded(root, OBJECT, STRING)).isTrue();
 	}
+
+	@Test
+	public void testSuperTypes() {
+		assertThat(clsp.isImplements(JAVA_LANG_EXCEPTION, JAVA_LANG_EXCEPTION)).isFalse();
+		assertThat(clsp.isImplements(JAVA_LANG_EXCEPTION, JAVA_IO_SERIALIZABLE)).isTrue();
+		assertThat(clsp.isImplements(JAVA_IO_SERIALIZABLE, JAVA_LANG_EXCEPTION)).isFalse();
+		assertThat(clsp.isImplements("unknown.Cls", JAVA_LANG_OBJECT)).isFalse();
+
+		assertThat(clsp.getSuperTypes(JAVA_LANG_EXCEPTION))
+				.containsExactlyInAnyOrder(JAVA_LANG_THROWABLE, JAVA_LANG_OBJECT, JAVA_IO_SERIALIZABLE);
+		assertThat(clsp.getSuperTypes(JAVA_LANG_OBJECT)).isEmpty();
+		assertThat(clsp.getSuperTypes(JAVA_LANG_EXCEPTION))
+				.isSameAs(clsp.getSuperTypes(JAVA_LANG_EXCEPTION))
+				.contains(JAVA_IO_SERIALIZABLE)
+				.doesNotContain(JAVA_LANG_EXCEPTION, "unknown.Cls");
+
+		assertThat(clsp.getImplementations(JAVA_LANG_THROWABLE))
+				.contains(JAVA_LANG_EXCEPTION)
+				.doesNotContain(JAVA_LANG_THROWABLE, JAVA_LANG_OBJECT)
+				.isSorted();
+	}
+
+	@Test
+	public void testLazyClsSetLoad() throws Exception {
+		assertThat(ClsSetData.getBundled()).isSameAs(ClsSetData.getBundled());
+
+		ClspClass strCls = clsp.getClsDetails(STRING);
+		assertThat(strCls).isNotNull();
+		assertThat(strCls.getParents()).contains(OBJECT);
+		assertThat(strCls.getMethodsMap()).containsKey("length()I");
+
+		RootNode otherRoot = new RootNode(new JadxArgs());
+		otherRoot.loadClasses(Collections.emptyList());
+		otherRoot.initClassPath();
+		ClspClass otherStrCls = otherRoot.getClsp().getClsDetails(STRING);
+		assertThat(otherStrCls).isNotSameAs(strCls);
+		assertThat(otherStrCls.getMethodsMap().keySet()).isEqualTo(strCls.getMethodsMap().keySet());
+	}
 }
@@ -0,0 +1,122 @@
+package jadx.tests.integration.deobf;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+import jadx.api.JadxInternalAccess;
+import jadx.core.dex.nodes.ClassNode;
+import jadx.core.dex.nodes.FieldNode;
+import jadx.core.dex.nodes.MethodNode;
+import jadx.core.dex.nodes.PackageNode;
+import jadx.core.dex.nodes.RootNode;
+import jadx.tests.api.SmaliTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestParallelDeobfuscation extends SmaliTest {
+	// @formatter:off
+	/*
+		-----------------------------------------------------------
+		package a;
+
+		public class A {
+			private int a;
+
+			public int a() { return a; }
+
+			public int a(int i) { return a + i; }
+
+			public static class B extends A {
+				private int a;
+
+				@Override
+				public int a() { return a; }
+			}
+		}
+		-----------------------------------------------------------
+		package b;
+
+		public class A implements c.I {
+			private static int a;
+
+			@Override
+			public int a() { return a; }
+		}
+		-----------------------------------------------------------
+		package b;
+
+		public class C extends a.A {
+			private A b = new A();
+
+			@Override
+			public int a() { return b.a(); }
+
+			public static class A implements c.I {
+				@Override
+				public int a() { return 1; }
+			}
+		}
+		-----------------------------------------------------------
+		package c;
+
+		public interface I {
+			int a();
+		}
+		-----------------------------------------------------------
+		package c.d;
+
+		public class A {
+			public a.A a;
+			public b.A b;
+
+			public static int a(c.I i) { return i.a(); }
+
+			public int a() { return a.a() + a(b); }
+		}
+		-----------------------------------------------------------
+	*/
+	// @formatter:on
+
+	@Test
+	public void test() {
+		enableDeobfuscation();
+		args.setDeobfuscationMinLength(100); // rename everything
+		args.setThreadsCount(4);
+
+		args.setDeobfuscationParallel(false);
+		Map<String, String> expected = loadAndCollectAliases();
+		jadxDecompiler.close();
+
+		args.setDeobfuscationParallel(true);
+		Map<String, String> aliases = loadAndCollectAliases();
+
+		assertThat(expected).containsKeys("cls a.A$B", "cls b.C$A", "pkg c.d", "mth c.d.A.a(Lc/I;)I");
+		assertThat(expected.get("cls b.A")).isNotEqualTo("b.A");
+		assertThat(expected.get("fld b.A.a:I")).isNotEqualTo("a");
+		assertThat(aliases).isEqualTo(expected);
+	}
+
+	/**
+	 * Map raw names of all packages, classes, fields and methods to aliases
+	 */
+	private Map<String, String> loadAndCollectAliases() {
+		loadFromSmaliFiles();
+		RootNode root = JadxInternalAccess.getRoot(jadxDecompiler);
+		Map<String, String> aliases = new TreeMap<>();
+		for (PackageNode pkg : root.getPackages()) {
+			aliases.put("pkg " + pkg.getPkgInfo().getFullName(), pkg.getAliasPkgInfo().getFullName());
+		}
+		for (ClassNode cls : root.getClasses()) {
+			aliases.put("cls " + cls.getRawName(), cls.getClassInfo().getAliasFullName());
+			for (FieldNode fld : cls.getFields()) {
+				aliases.put("fld " + fld.getFieldInfo().getRawFullId(), fld.getAlias());
+			}
+			for (MethodNode mth : cls.getMethods()) {
+				aliases.put("mth " + mth.getMethodInfo().getRawFullId(), mth.getAlias());
+			}
+		}
+		return aliases;
+	}
+}
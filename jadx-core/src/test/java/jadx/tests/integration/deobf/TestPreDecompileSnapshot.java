@@ -0,0 +1,65 @@
+package jadx.tests.integration.deobf;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import org.junit.jupiter.api.Test;
+
+import jadx.api.JadxDecompiler;
+import jadx.api.JadxInternalAccess;
+import jadx.api.snapshot.impl.DiskPreDecompileSnapshotCache;
+import jadx.core.dex.nodes.ClassNode;
+import jadx.tests.api.IntegrationTest;
+
+import static jadx.tests.api.utils.assertj.JadxAssertions.assertThat;
+
+public class TestPreDecompileSnapshot extends IntegrationTest {
+
+	public static class TestCls {
+
+		public static class Inner {
+			private int count;
+
+			public int inc() {
+				return ++count;
+			}
+		}
+
+		private final Inner inner = new Inner();
+
+		public int test() {
+			return inner.inc();
+		}
+	}
+
+	@Test
+	public void test() throws Exception {
+		enableDeobfuscation();
+		args.setDeobfuscationMinLength(100); // rename everything
+		Path cacheDir = args.getFilesGetter().getCacheDir();
+		args.setPreDecompileSnapshotCache(new DiskPreDecompileSnapshotCache(cacheDir));
+
+		ClassNode cls = getClassNode(TestCls.class);
+		assertThat(cls)
+				.code()
+				.containsOne("private final Inner f0inner")
+				.containsOne("private int f1count;")
+				.containsOne("public int m1inc()")
+				.containsOne("return this.f0inner.m1inc();");
+		String code = cls.getCode().getCodeStr();
+
+		Path snapshotFile = cacheDir.resolve("snapshot");
+		assertThat(snapshotFile).exists();
+		FileTime snapshotTime = Files.getLastModifiedTime(snapshotFile);
+
+		// second load should restore aliases from snapshot without saving it again
+		try (JadxDecompiler decompiler = loadFiles(args.getInputFiles())) {
+			ClassNode restoredCls = JadxInternalAccess.getRoot(decompiler).resolveClass(TestCls.class.getName());
+			assertThat(restoredCls).isNotNull();
+			restoredCls.decompile();
+			assertThat(restoredCls.getCode().getCodeStr()).isEqualTo(code);
+			assertThat(Files.getLastModifiedTime(snapshotFile)).isEqualTo(snapshotTime);
+		}
+	}
+}
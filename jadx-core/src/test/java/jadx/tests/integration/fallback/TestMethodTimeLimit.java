@@ -0,0 +1,126 @@
+package jadx.tests.integration.fallback;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.junit.jupiter.api.Test;
+
+import jadx.api.DecompilationMode;
+import jadx.api.plugins.JadxPlugin;
+import jadx.api.plugins.JadxPluginContext;
+import jadx.api.plugins.JadxPluginInfo;
+import jadx.api.plugins.loader.JadxBasePluginLoader;
+import jadx.api.plugins.pass.JadxPassInfo;
+import jadx.api.plugins.pass.impl.SimpleJadxPassInfo;
+import jadx.api.plugins.pass.types.JadxDecompilePass;
+import jadx.core.dex.attributes.AFlag;
+import jadx.core.dex.attributes.AType;
+import jadx.core.dex.attributes.nodes.DecompileModeOverrideAttr;
+import jadx.core.dex.nodes.ClassNode;
+import jadx.core.dex.nodes.MethodNode;
+import jadx.core.dex.nodes.RootNode;
+import jadx.core.dex.visitors.DecompileTimeLimiter;
+import jadx.tests.api.IntegrationTest;
+
+import static jadx.tests.api.utils.assertj.JadxAssertions.assertThat;
+
+public class TestMethodTimeLimit extends IntegrationTest {
+
+	public static class TestCls {
+
+		public int slow(int a) {
+			int r = 0;
+			for (int i = 0; i < a; i++) {
+				r += i;
+			}
+			return r;
+		}
+
+		public int fast(int a) {
+			return a * 2;
+		}
+	}
+
+	@Test
+	public void test() {
+		useDexInput();
+		disableCompilation();
+		allowInconsistentCode();
+		args.setMethodDecompileTimeLimit(200);
+		args.setPluginLoader(new JadxBasePluginLoader() {
+			@Override
+			public List<JadxPlugin> load() {
+				List<JadxPlugin> plugins = super.load();
+				plugins.add(new SlowPassPlugin());
+				return plugins;
+			}
+		});
+
+		ClassNode cls = getClassNode(TestCls.class);
+		assertThat(cls)
+				.code()
+				.containsOne("Method decompilation time limit reached: ")
+				.containsOne("(limit: 200ms), interrupted pass: SlowPass, code generated in fallback mode")
+				.containsOne(" = this;")
+				.containsOne("return a * 2;");
+
+		MethodNode slowMth = cls.searchMethodByShortName("slow");
+		DecompileModeOverrideAttr modeOverride = slowMth.get(AType.DECOMPILE_MODE_OVERRIDE);
+		assertThat(modeOverride).isNotNull();
+		assertThat(modeOverride.getMode()).isEqualTo(DecompilationMode.FALLBACK);
+
+		// other methods not affected
+		MethodNode fastMth = cls.searchMethodByShortName("fast");
+		assertThat(fastMth.contains(AType.DECOMPILE_MODE_OVERRIDE)).isFalse();
+		assertThat(fastMth.contains(AFlag.INCONSISTENT_CODE)).isFalse();
+	}
+
+	private static final class SlowPassPlugin implements JadxPlugin {
+		@Override
+		public JadxPluginInfo getPluginInfo() {
+			return new JadxPluginInfo("test-slow-pass", "SlowPass", "Wait for time limit in 'slow' method");
+		}
+
+		@Override
+		public void init(JadxPluginContext context) {
+			context.addPass(new SlowPass());
+		}
+	}
+
+	/**
+	 * Process 'slow' method until stopped by time limit
+	 */
+	private static final class SlowPass implements JadxDecompilePass {
+		private static final long MAX_WAIT = TimeUnit.SECONDS.toNanos(10);
+
+		@Override
+		public JadxPassInfo getInfo() {
+			return new SimpleJadxPassInfo("SlowPass");
+		}
+
+		@Override
+		public void init(RootNode root) {
+		}
+
+		@Override
+		public boolean visit(ClassNode cls) {
+			return true;
+		}
+
+		@Override
+		public void visit(MethodNode mth) {
+			if (!mth.getName().equals("slow")) {
+				return;
+			}
+			long start = System.nanoTime();
+			while (!DecompileTimeLimiter.isTimeLimitReached()) {
+				if (System.nanoTime() - start > MAX_WAIT) {
+					// limit not applied, stop to fail on checks
+					return;
+				}
+				LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+			}
+		}
+	}
+}
@@ -1,13 +1,21 @@
 package jadx.tests.integration.others;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import jadx.api.JavaClass;
+import jadx.core.codegen.json.JsonLinesWriter;
 import jadx.tests.api.IntegrationTest;
 import jadx.tests.api.utils.assertj.JadxAssertions;
 
 import static jadx.api.JadxArgs.OutputFormatEnum.JSON;
+import static jadx.api.JadxArgs.OutputFormatEnum.NDJSON;
+import static org.assertj.core.api.Assertions.assertThat;
 
 public class TestJsonOutput extends IntegrationTest {
 
@@ -32,6 +40,24 @@ public void run() {
 		}
 	}
 
+	public static class TestClsFirst {
+		public int first() {
+			return 1;
+		}
+	}
+
+	public static class TestClsSecond {
+		public String second() {
+			return "2";
+		}
+	}
+
+	public static class TestClsThird {
+		public long third() {
+			return 3L;
+		}
+	}
+
 	@Test
 	public void test() {
 		disableCompilation();
@@ -54,4 +80,28 @@ public void testFallback() {
 				.contains("\"offset\": \"0x")
 				.containsOne("public static class Inner implements java.lang.Runnable");
 	}
+
+	@Test
+	public void testJsonLines() throws IOException {
+		disableCompilation();
+		args.setOutputFormat(NDJSON);
+		args.setThreadsCount(4);
+
+		JadxAssertions.assertThat(getClassNode(TestCls.class))
+				.code()
+				.doesNotContain("\n")
+				.contains("\"offset\":\"0x")
+				.containsOne("public static class Inner implements Runnable");
+
+		// lines saved in classes list order regardless of decompilation threads timing
+		jadxDecompiler.saveSources();
+		Path linesFile = args.getOutDirSrc().toPath().resolve(JsonLinesWriter.FILE_NAME);
+		List<String> lines = Files.readAllLines(linesFile, StandardCharsets.UTF_8);
+		List<JavaClass> classes = jadxDecompiler.getClasses();
+		assertThat(classes).hasSizeGreaterThan(1);
+		assertThat(lines).hasSameSizeAs(classes);
+		for (int i = 0; i < classes.size(); i++) {
+			assertThat(lines.get(i)).contains("\"name\":\"" + classes.get(i).getClassNode().getClassInfo().getFullName() + '"');
+		}
+	}
 }
@@ -0,0 +1,68 @@
+package jadx.tests.integration.types;
+
+import org.junit.jupiter.api.Test;
+
+import jadx.core.dex.attributes.AFlag;
+import jadx.core.dex.nodes.ClassNode;
+import jadx.tests.api.IntegrationTest;
+
+import static jadx.tests.api.utils.assertj.JadxAssertions.assertThat;
+
+public class TestTypeInferenceBudget extends IntegrationTest {
+
+	public static class TestCls {
+		public static int[] test(byte[] bArr) {
+			int[] iArr = new int[bArr.length];
+			for (int i = 0; i < bArr.length; i++) {
+				iArr[i] = bArr[i];
+			}
+			return iArr;
+		}
+
+		public static int[] test2(byte[] bArr) {
+			int[] iArr = new int[bArr.length];
+			for (int i = 0; i < bArr.length; i++) {
+				int i2 = bArr[i];
+				if (i2 < 0) {
+					i2 = (int) ((long) i2 & 0xFFFF_FFFFL);
+				}
+				iArr[i] = i2;
+			}
+			return iArr;
+		}
+	}
+
+	@Test
+	public void test() {
+		useJavaInput();
+		noDebugInfo();
+		allowWarnInCode();
+		allowInconsistentCode();
+		disableCompilation();
+		args.setTypeSearchIterationsLimit(1);
+
+		ClassNode cls = getClassNode(TestCls.class);
+		assertThat(cls)
+				.code()
+				.containsOne("Type inference budget exceeded: search iterations limit reached: 1")
+				.containsOne("Type inference failed for: ")
+				.containsOne("iArr[i] = bArr[i];")
+				.containsOne("iArr[i] = b;");
+
+		// only method with type search is affected and marked as inconsistent
+		assertThat(cls.searchMethodByShortName("test").contains(AFlag.INCONSISTENT_CODE)).isFalse();
+		assertThat(cls.searchMethodByShortName("test2").contains(AFlag.INCONSISTENT_CODE)).isTrue();
+	}
+
+	@Test
+	public void testNoLimit() {
+		useJavaInput();
+		noDebugInfo();
+		allowWarnInCode();
+		disableCompilation();
+
+		assertThat(getClassNode(TestCls.class))
+				.code()
+				.doesNotContain("Type inference budget exceeded");
+	}
+}
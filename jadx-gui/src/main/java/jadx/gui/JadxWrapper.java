@@ -19,8 +19,10 @@
 import jadx.api.JavaNode;
 import jadx.api.JavaPackage;
 import jadx.api.ResourceFile;
+import jadx.api.impl.CompressedCodeCache;
 import jadx.api.impl.InMemoryCodeCache;
 import jadx.api.metadata.ICodeNodeRef;
+import jadx.api.snapshot.impl.DiskPreDecompileSnapshotCache;
 import jadx.api.usage.impl.EmptyUsageInfoCache;
 import jadx.api.usage.impl.InMemoryUsageInfoCache;
 import jadx.cli.JadxAppCommon;
@@ -33,6 +35,7 @@
 import jadx.gui.cache.code.CodeStringCache;
 import jadx.gui.cache.code.disk.BufferCodeCache;
 import jadx.gui.cache.code.disk.DiskCodeCache;
+import jadx.gui.cache.usage.UsageCacheMode;
 import jadx.gui.cache.usage.UsageInfoCache;
 import jadx.gui.plugins.context.CommonGuiPluginsContext;
 import jadx.gui.settings.JadxProject;
@@ -73,6 +76,7 @@ public void open() {
 				decompiler = new JadxDecompiler(jadxArgs);
 				guiPluginsContext = initGuiPluginsContext(decompiler, mainWindow);
 				initUsageCache(jadxArgs);
+				initPreDecompileSnapshotCache(jadxArgs);
 				decompiler.setEventsImpl(mainWindow.events());
 
 				decompiler.load();
@@ -119,6 +123,9 @@ private void initCodeCache() {
 			case MEMORY:
 				getArgs().setCodeCache(new InMemoryCodeCache());
 				break;
+			case MEMORY_COMPRESSED:
+				getArgs().setCodeCache(new CompressedCodeCache());
+				break;
 			case DISK_WITH_CACHE:
 				getArgs().setCodeCache(new CodeStringCache(buildBufferedDiskCache()));
 				break;
@@ -147,6 +154,13 @@ private void initUsageCache(JadxArgs jadxArgs) {
 		}
 	}
 
+	private void initPreDecompileSnapshotCache(JadxArgs jadxArgs) {
+		// saved near usage data, both used only on project load
+		if (getSettings().getUsageCacheMode() == UsageCacheMode.DISK) {
+			jadxArgs.setPreDecompileSnapshotCache(new DiskPreDecompileSnapshotCache(getProject().getCacheDir()));
+		}
+	}
+
 	public static CommonGuiPluginsContext initGuiPluginsContext(JadxDecompiler decompiler, MainWindow mainWindow) {
 		CommonGuiPluginsContext guiPluginsContext = new CommonGuiPluginsContext(mainWindow);
 		decompiler.getPluginManager().registerAddPluginListener(pluginContext -> {
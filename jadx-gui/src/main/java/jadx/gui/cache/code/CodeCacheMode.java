@@ -6,6 +6,7 @@
 // TODO: use localized strings
 public enum CodeCacheMode {
 	MEMORY("Everything in memory: fast search, slow reopen, high memory usage"),
+	MEMORY_COMPRESSED("Compressed code in memory: medium search, slow reopen, medium memory usage"),
 	DISK_WITH_CACHE("Code saved on disk with in memory cache: medium search, fast reopen, medium memory usage"),
 	DISK("Everything on disk: slow search, fast reopen, low memory usage");
 
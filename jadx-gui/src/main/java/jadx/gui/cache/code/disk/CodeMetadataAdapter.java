@@ -45,7 +45,7 @@ public void write(Path metadataFile, ICodeMetadata metadata) {
 				DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fileOutput))) {
 			out.write(JADX_METADATA_HEADER);
 			writeLines(out, metadata.getLineMapping());
-			writeAnnotations(out, metadata.getAsMap());
+			writeAnnotations(out, metadata);
 		} catch (Exception e) {
 			throw new RuntimeException("Failed to write metadata file", e);
 		}
@@ -88,11 +88,24 @@ private Map<Integer, Integer> readLines(DataInput in) throws IOException {
 		return lines;
 	}
 
-	private void writeAnnotations(DataOutputStream out, Map<Integer, ICodeAnnotation> annotations) throws IOException {
-		out.writeInt(annotations.size());
-		for (Map.Entry<Integer, ICodeAnnotation> entry : annotations.entrySet()) {
-			DataAdapterHelper.writeUVInt(out, entry.getKey());
-			codeAnnotationAdapter.write(out, entry.getValue());
+	private void writeAnnotations(DataOutputStream out, ICodeMetadata metadata) throws IOException {
+		int[] count = new int[1];
+		metadata.searchDown(0, (pos, ann) -> {
+			count[0]++;
+			return null;
+		});
+		out.writeInt(count[0]);
+		IOException error = metadata.searchDown(0, (pos, ann) -> {
+			try {
+				DataAdapterHelper.writeUVInt(out, pos);
+				codeAnnotationAdapter.write(out, ann);
+				return null;
+			} catch (IOException e) {
+				return e;
+			}
+		});
+		if (error != null) {
+			throw error;
 		}
 	}
 
@@ -0,0 +1,189 @@
+package jadx.gui.cache.usage;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Usage data file mapped into memory. Only header and offset tables are read on load,
+ * data for class decoded on request.
+ * <br>
+ * Data layout after file header:
+ * <ul>
+ * <li>classes count, classes without data count, methods count, data section size (int)</li>
+ * <li>offsets tables (int) for class names, method refs and class data</li>
+ * <li>data section, all offsets are relative to its start</li>
+ * </ul>
+ * Class names with data are sorted, so class searched by binary search.
+ */
+final class MappedUsageFile {
+	/**
+	 * Size of counts and data size placed before offsets tables
+	 */
+	static final int COUNTS_SIZE = 16;
+
+	private final ByteBuffer buf;
+	private final int clsCount;
+	private final int mthCount;
+	private final int clsNamesTable;
+	private final int mthTable;
+	private final int clsDataTable;
+	private final int dataStart;
+
+	/**
+	 * @param buf buffer positioned after file header, file size should be checked
+	 *            with {@link #calcFileSize(ByteBuffer, int)} before file mapping
+	 */
+	MappedUsageFile(ByteBuffer buf) {
+		int start = buf.position();
+		if (calcFileSize(buf, start) != buf.limit()) {
+			throw new IllegalStateException("Usage data file truncated");
+		}
+		this.buf = buf;
+		this.clsCount = buf.getInt(start);
+		int clsWithoutDataCount = buf.getInt(start + 4);
+		this.mthCount = buf.getInt(start + 8);
+		this.clsNamesTable = start + COUNTS_SIZE;
+		this.mthTable = clsNamesTable + (clsCount + clsWithoutDataCount) * 4;
+		this.clsDataTable = mthTable + mthCount * 4;
+		this.dataStart = clsDataTable + clsCount * 4;
+	}
+
+	/**
+	 * Calculate expected file size using counts and data size at {@code start} position.
+	 *
+	 * @return {@link Long#MAX_VALUE} for broken counts
+	 */
+	static long calcFileSize(ByteBuffer buf, int start) {
+		long clsCount = buf.getInt(start);
+		long clsWithoutDataCount = buf.getInt(start + 4);
+		long mthCount = buf.getInt(start + 8);
+		long dataSize = buf.getInt(start + 12);
+		if (clsCount < 0 || clsWithoutDataCount < 0 || mthCount < 0 || dataSize < 0) {
+			return Long.MAX_VALUE;
+		}
+		return start + COUNTS_SIZE + (clsCount * 2 + clsWithoutDataCount + mthCount) * 4 + dataSize;
+	}
+
+	public int getClassesCount() {
+		return clsCount;
+	}
+
+	public @Nullable ClsUsageData readClassData(String clsRawName) {
+		int clsId = searchClass(clsRawName);
+		if (clsId < 0) {
+			return null;
+		}
+		ByteBuffer in = dataAt(buf.getInt(clsDataTable + clsId * 4));
+		ClsUsageData cls = new ClsUsageData(clsRawName);
+		cls.setClsDeps(readClsList(in));
+		cls.setClsUsage(readClsList(in));
+		cls.setClsUseInMth(readMthList(in));
+
+		int mCount = readUVInt(in);
+		for (int m = 0; m < mCount; m++) {
+			MthRef mthRef = getMethod(readUVInt(in));
+			MthUsageData mthUsageData = new MthUsageData(mthRef);
+			mthUsageData.setUsage(readMthList(in));
+			cls.getMthUsage().put(mthRef.getShortId(), mthUsageData);
+		}
+		int fCount = readUVInt(in);
+		for (int f = 0; f < fCount; f++) {
+			String fldShortId = readString(in);
+			FldUsageData fldUsageData = new FldUsageData(new FldRef(clsRawName, fldShortId));
+			fldUsageData.setUsage(readMthList(in));
+			cls.getFldUsage().put(fldShortId, fldUsageData);
+		}
+		return cls;
+	}
+
+	private int searchClass(String clsRawName) {
+		int low = 0;
+		int high = clsCount - 1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			int cmp = getClassName(mid).compareTo(clsRawName);
+			if (cmp < 0) {
+				low = mid + 1;
+			} else if (cmp > 0) {
+				high = mid - 1;
+			} else {
+				return mid;
+			}
+		}
+		return -1;
+	}
+
+	private String getClassName(int clsId) {
+		return readString(dataAt(buf.getInt(clsNamesTable + clsId * 4)));
+	}
+
+	private MthRef getMethod(int mthId) {
+		if (mthId >= mthCount) {
+			throw new IllegalStateException("Unknown method id: " + mthId);
+		}
+		ByteBuffer in = dataAt(buf.getInt(mthTable + mthId * 4));
+		int clsId = readUVInt(in);
+		String shortId = readString(in);
+		return new MthRef(getClassName(clsId), shortId);
+	}
+
+	private List<String> readClsList(ByteBuffer in) {
+		int count = readUVInt(in);
+		if (count == 0) {
+			return Collections.emptyList();
+		}
+		List<String> list = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			list.add(getClassName(readUVInt(in)));
+		}
+		return list;
+	}
+
+	private List<MthRef> readMthList(ByteBuffer in) {
+		int count = readUVInt(in);
+		if (count == 0) {
+			return Collections.emptyList();
+		}
+		List<MthRef> list = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			list.add(getMethod(readUVInt(in)));
+		}
+		return list;
+	}
+
+	/**
+	 * Use buffer copy with own position, so reads can be done from several threads
+	 */
+	private ByteBuffer dataAt(int offset) {
+		ByteBuffer in = buf.duplicate();
+		in.position(dataStart + offset);
+		return in;
+	}
+
+	static String readString(ByteBuffer in) {
+		byte[] bytes = new byte[readUVInt(in)];
+		in.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Read unsigned variable length integer (ULEB128 encoding)
+	 */
+	static int readUVInt(ByteBuffer in) {
+		int result = 0;
+		int shift = 0;
+		while (true) {
+			byte v = in.get();
+			result |= (v & (byte) 0x7f) << shift;
+			shift += 7;
+			if ((v & 0x80) != 0x80) {
+				return result;
+			}
+		}
+	}
+}
@@ -19,34 +19,35 @@ class UsageData implements IUsageInfoData {
 	private static final Logger LOG = LoggerFactory.getLogger(UsageData.class);
 
 	private final RootNode root;
-	private final RawUsageData rawUsageData;
+	private final MappedUsageFile usageFile;
 
-	public UsageData(RootNode root, RawUsageData rawUsageData) {
+	public UsageData(RootNode root, MappedUsageFile usageFile) {
 		this.root = root;
-		this.rawUsageData = rawUsageData;
+		this.usageFile = usageFile;
 	}
 
+	/**
+	 * Data for class decoded from file only on first access to its usage lists
+	 */
 	@Override
 	public void apply() {
-		Map<String, ClsUsageData> clsMap = rawUsageData.getClsMap();
 		for (ClassNode cls : root.getClasses()) {
-			String clsRawName = cls.getRawName();
-			ClsUsageData clsUsageData = clsMap.get(clsRawName);
-			if (clsUsageData != null) {
-				applyForClass(clsUsageData, cls);
-			}
+			cls.setLazyUsageData(this);
 		}
 	}
 
 	@Override
 	public void applyForClass(ClassNode cls) {
-		String clsRawName = cls.getRawName();
-		ClsUsageData clsUsageData = rawUsageData.getClsMap().get(clsRawName);
-		if (clsUsageData == null) {
-			LOG.debug("No usage data for class: {}", clsRawName);
+		ClsUsageData clsUsageData;
+		try {
+			clsUsageData = usageFile.readClassData(cls.getRawName());
+		} catch (Exception e) {
+			LOG.error("Failed to read usage data for class: {}", cls, e);
 			return;
 		}
-		applyForClass(clsUsageData, cls);
+		if (clsUsageData != null) {
+			applyForClass(clsUsageData, cls);
+		}
 	}
 
 	private void applyForClass(ClsUsageData clsUsageData, ClassNode cls) {
@@ -1,16 +1,16 @@
 package jadx.gui.cache.usage;
 
-import java.io.BufferedInputStream;
-import java.io.BufferedOutputStream;
-import java.io.DataInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.DataOutputStream;
 import java.io.File;
 import java.io.IOException;
-import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -24,130 +24,139 @@
 import jadx.api.usage.IUsageInfoData;
 import jadx.core.utils.Utils;
 import jadx.core.utils.exceptions.JadxRuntimeException;
+import jadx.core.utils.files.CacheFileUtils;
 import jadx.core.utils.files.FileUtils;
 import jadx.gui.cache.code.disk.adapters.DataAdapterHelper;
 
-import static java.nio.file.StandardOpenOption.CREATE;
-import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
-import static java.nio.file.StandardOpenOption.WRITE;
+import static java.nio.file.StandardOpenOption.READ;
 
 public class UsageFileAdapter extends DataAdapterHelper {
 	private static final Logger LOG = LoggerFactory.getLogger(UsageFileAdapter.class);
 
-	private static final int USAGE_DATA_VERSION = 1;
+	private static final int USAGE_DATA_VERSION = 2;
 	private static final byte[] JADX_USAGE_HEADER = "jadx.usage".getBytes(StandardCharsets.US_ASCII);
 
-	public static synchronized @Nullable RawUsageData load(Path usageFile, List<File> inputs) {
+	/**
+	 * Max size of file start with header, inputs hash and counts, checked before file mapping
+	 */
+	private static final int HEAD_READ_LIMIT = 1024;
+
+	public static synchronized @Nullable MappedUsageFile load(Path usageFile, List<File> inputs) {
 		if (!Files.isRegularFile(usageFile)) {
 			return null;
 		}
 		long start = System.currentTimeMillis();
-		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(usageFile)))) {
-			in.skipBytes(JADX_USAGE_HEADER.length);
-			int dataVersion = in.readInt();
-			if (dataVersion != USAGE_DATA_VERSION) {
+		MappedUsageFile data;
+		try {
+			data = checkAndMap(usageFile, inputs);
+		} catch (Exception e) {
+			LOG.error("Failed to load usage data file", e);
+			data = null;
+		}
+		if (data == null) {
+			// file not mapped, so it can be safely deleted
+			deleteFile(usageFile);
+			return null;
+		}
+		if (LOG.isDebugEnabled()) {
+			LOG.debug("Loaded usage data index from disk cache, classes count: {}, time: {}ms, file: {}",
+					data.getClassesCount(), System.currentTimeMillis() - start, usageFile);
+		}
+		return data;
+	}
+
+	/**
+	 * Check header, inputs hash and file size using plain read and map file only if all checks passed.
+	 *
+	 * @return null if file not valid
+	 */
+	private static @Nullable MappedUsageFile checkAndMap(Path usageFile, List<File> inputs) throws IOException {
+		try (FileChannel channel = FileChannel.open(usageFile, READ)) {
+			long fileSize = channel.size();
+			if (fileSize > Integer.MAX_VALUE) {
+				LOG.warn("Usage data file too big: {}", usageFile);
+				return null;
+			}
+			ByteBuffer head = ByteBuffer.allocate((int) Math.min(fileSize, HEAD_READ_LIMIT));
+			while (head.hasRemaining()) {
+				if (channel.read(head) < 0) {
+					break;
+				}
+			}
+			head.flip();
+			if (head.remaining() < JADX_USAGE_HEADER.length + 4) {
+				LOG.debug("Usage data file truncated");
+				return null;
+			}
+			byte[] header = new byte[JADX_USAGE_HEADER.length];
+			head.get(header);
+			int dataVersion = head.getInt();
+			if (!Arrays.equals(header, JADX_USAGE_HEADER) || dataVersion != USAGE_DATA_VERSION) {
 				LOG.debug("Found old usage data format");
-				FileUtils.deleteFileIfExists(usageFile);
 				return null;
 			}
 			String inputsHash = buildInputsHash(inputs);
-			String fileInputsHash = in.readUTF();
+			String fileInputsHash = readHeadString(head);
 			if (!inputsHash.equals(fileInputsHash)) {
 				LOG.debug("Found usage data with different inputs hash");
-				FileUtils.deleteFileIfExists(usageFile);
 				return null;
 			}
-			RawUsageData data = readData(in);
-			if (LOG.isDebugEnabled()) {
-				LOG.debug("Loaded usage data from disk cache, classes count: {}, time: {}ms, file: {}",
-						data.getClsMap().size(), System.currentTimeMillis() - start, usageFile);
-			}
-			return data;
-		} catch (Exception e) {
-			try {
-				FileUtils.deleteFileIfExists(usageFile);
-			} catch (IOException ex) {
-				// ignore
+			int tablesStart = head.position();
+			if (head.remaining() < MappedUsageFile.COUNTS_SIZE
+					|| MappedUsageFile.calcFileSize(head, tablesStart) != fileSize) {
+				LOG.debug("Usage data file truncated");
+				return null;
 			}
-			LOG.error("Failed to load usage data file", e);
+			// mapping stays valid after channel close
+			ByteBuffer buf = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+			buf.position(tablesStart);
+			return new MappedUsageFile(buf);
+		}
+	}
+
+	/**
+	 * Read string with length check, so broken file will not cause big allocation
+	 */
+	private static @Nullable String readHeadString(ByteBuffer in) {
+		if (!in.hasRemaining()) {
+			return null;
+		}
+		int len = MappedUsageFile.readUVInt(in);
+		if (len < 0 || len > in.remaining()) {
 			return null;
 		}
+		byte[] bytes = new byte[len];
+		in.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
 	}
 
+	/**
+	 * Data written into temp file and moved in place, so already mapped file stays untouched
+	 */
 	public static synchronized void save(IUsageInfoData data, Path usageFile, List<File> inputs) {
 		long start = System.currentTimeMillis();
-		FileUtils.makeDirsForFile(usageFile);
 		String inputsHash = buildInputsHash(inputs);
 		RawUsageData usageData = new RawUsageData();
 		data.visitUsageData(new CollectUsageData(usageData));
-		try (OutputStream fileOutput = Files.newOutputStream(usageFile, WRITE, CREATE, TRUNCATE_EXISTING);
-				DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fileOutput))) {
-			out.write(JADX_USAGE_HEADER);
-			out.writeInt(USAGE_DATA_VERSION);
-			out.writeUTF(inputsHash);
-			writeData(out, usageData);
+		try {
+			CacheFileUtils.writeFileAtomic(usageFile, out -> {
+				out.write(JADX_USAGE_HEADER);
+				out.writeInt(USAGE_DATA_VERSION);
+				writeString(out, inputsHash);
+				writeData(out, usageData);
+			});
 		} catch (Exception e) {
 			LOG.error("Failed to save usage data file", e);
-			try {
-				FileUtils.deleteFileIfExists(usageFile);
-			} catch (IOException ex) {
-				LOG.error("Failed to delete usage data file: {}", usageFile, ex);
-			}
+			return;
 		}
 		if (LOG.isDebugEnabled()) {
 			LOG.debug("Usage data saved, time: {}ms, file: {}", System.currentTimeMillis() - start, usageFile);
 		}
 	}
 
-	private static RawUsageData readData(DataInputStream in) throws IOException {
-		RawUsageData data = new RawUsageData();
-		int clsCount = readUVInt(in);
-		int clsWithoutDataCount = readUVInt(in);
-
-		String[] clsNames = new String[clsCount + clsWithoutDataCount];
-		ClsUsageData[] classes = new ClsUsageData[clsCount];
-		int c = 0;
-		for (int i = 0; i < clsCount; i++) {
-			String clsRawName = in.readUTF();
-			classes[i] = data.getClassData(clsRawName);
-			clsNames[c++] = clsRawName;
-		}
-		for (int i = 0; i < clsWithoutDataCount; i++) {
-			clsNames[c++] = in.readUTF();
-		}
-		int mthCount = readUVInt(in);
-		MthRef[] methods = new MthRef[mthCount];
-		for (int i = 0; i < mthCount; i++) {
-			int clsId = readUVInt(in);
-			String mthShortId = in.readUTF();
-			ClsUsageData cls = classes[clsId];
-			MthRef mthRef = new MthRef(cls.getRawName(), mthShortId);
-			cls.getMthUsage().put(mthShortId, new MthUsageData(mthRef));
-			methods[i] = mthRef;
-		}
-		for (int i = 0; i < clsCount; i++) {
-			ClsUsageData cls = data.getClassData(clsNames[i]);
-			cls.setClsDeps(readClsList(in, clsNames));
-			cls.setClsUsage(readClsList(in, clsNames));
-			cls.setClsUseInMth(readMthList(in, methods));
-
-			int mCount = readUVInt(in);
-			for (int m = 0; m < mCount; m++) {
-				MthRef mthRef = methods[readUVInt(in)];
-				cls.getMthUsage().get(mthRef.getShortId())
-						.setUsage(readMthList(in, methods));
-			}
-			int fCount = readUVInt(in);
-			for (int f = 0; f < fCount; f++) {
-				String fldShortId = in.readUTF();
-				cls.getFldUsage().computeIfAbsent(fldShortId,
-						fldId -> new FldUsageData(new FldRef(cls.getRawName(), fldId)))
-						.setUsage(readMthList(in, methods));
-			}
-		}
-		return data;
-	}
-
+	/**
+	 * Write data in format supported by {@link MappedUsageFile}
+	 */
 	private static void writeData(DataOutputStream out, RawUsageData usageData) throws IOException {
 		Map<String, Integer> clsMap = new HashMap<>();
 		Map<MthRef, Integer> mthMap = new HashMap<>();
@@ -155,59 +164,77 @@ private static void writeData(DataOutputStream out, RawUsageData usageData) thro
 		List<String> classes = new ArrayList<>(clsDataMap.keySet());
 		Collections.sort(classes);
 		List<String> classesWithoutData = usageData.getClassesWithoutData();
+		List<MthRef> methods = clsDataMap.values().stream()
+				.flatMap(c -> c.getMthUsage().values().stream())
+				.map(MthUsageData::getMthRef)
+				.collect(Collectors.toList());
 
-		writeUVInt(out, classes.size());
-		writeUVInt(out, classesWithoutData.size());
+		// data section written first to collect offsets
+		ByteArrayOutputStream dataBytes = new ByteArrayOutputStream();
+		DataOutputStream data = new DataOutputStream(dataBytes);
+		int[] clsNameOffsets = new int[classes.size() + classesWithoutData.size()];
 		int i = 0;
 		for (String cls : classes) {
-			out.writeUTF(cls);
+			clsNameOffsets[i] = data.size();
+			writeString(data, cls);
 			clsMap.put(cls, i++);
 		}
 		for (String cls : classesWithoutData) {
-			out.writeUTF(cls);
+			clsNameOffsets[i] = data.size();
+			writeString(data, cls);
 			clsMap.put(cls, i++);
 		}
-		List<MthRef> methods = clsDataMap.values().stream()
-				.flatMap(c -> c.getMthUsage().values().stream())
-				.map(MthUsageData::getMthRef)
-				.collect(Collectors.toList());
-		writeUVInt(out, methods.size());
+		int[] mthOffsets = new int[methods.size()];
 		int j = 0;
 		for (MthRef mth : methods) {
-			writeUVInt(out, clsMap.get(mth.getCls()));
-			out.writeUTF(mth.getShortId());
+			mthOffsets[j] = data.size();
+			writeUVInt(data, clsMap.get(mth.getCls()));
+			writeString(data, mth.getShortId());
 			mthMap.put(mth, j++);
 		}
+		int[] clsDataOffsets = new int[classes.size()];
+		int k = 0;
 		for (String cls : classes) {
+			clsDataOffsets[k++] = data.size();
 			ClsUsageData clsData = clsDataMap.get(cls);
-			writeClsList(out, clsMap, clsData.getClsDeps());
-			writeClsList(out, clsMap, clsData.getClsUsage());
-			writeMthList(out, mthMap, clsData.getClsUseInMth());
+			writeClsList(data, clsMap, clsData.getClsDeps());
+			writeClsList(data, clsMap, clsData.getClsUsage());
+			writeMthList(data, mthMap, clsData.getClsUseInMth());
 
-			writeUVInt(out, clsData.getMthUsage().size());
+			writeUVInt(data, clsData.getMthUsage().size());
 			for (MthUsageData mthData : clsData.getMthUsage().values()) {
-				writeUVInt(out, mthMap.get(mthData.getMthRef()));
-				writeMthList(out, mthMap, mthData.getUsage());
+				writeUVInt(data, mthMap.get(mthData.getMthRef()));
+				writeMthList(data, mthMap, mthData.getUsage());
 			}
 
-			writeUVInt(out, clsData.getFldUsage().size());
+			writeUVInt(data, clsData.getFldUsage().size());
 			for (FldUsageData fldData : clsData.getFldUsage().values()) {
-				out.writeUTF(fldData.getFldRef().getShortId());
-				writeMthList(out, mthMap, fldData.getUsage());
+				writeString(data, fldData.getFldRef().getShortId());
+				writeMthList(data, mthMap, fldData.getUsage());
 			}
 		}
+		data.flush();
+
+		out.writeInt(classes.size());
+		out.writeInt(classesWithoutData.size());
+		out.writeInt(methods.size());
+		out.writeInt(dataBytes.size());
+		writeOffsets(out, clsNameOffsets);
+		writeOffsets(out, mthOffsets);
+		writeOffsets(out, clsDataOffsets);
+		dataBytes.writeTo(out);
 	}
 
-	private static List<String> readClsList(DataInputStream in, String[] classes) throws IOException {
-		int count = readUVInt(in);
-		if (count == 0) {
-			return Collections.emptyList();
+	private static void writeOffsets(DataOutputStream out, int[] offsets) throws IOException {
+		for (int offset : offsets) {
+			out.writeInt(offset);
 		}
-		List<String> list = new ArrayList<>(count);
-		for (int i = 0; i < count; i++) {
-			list.add(classes[readUVInt(in)]);
-		}
-		return list;
+	}
+
+	private static void writeString(DataOutputStream out, String str) throws IOException {
+		byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+		writeUVInt(out, bytes.length);
+		out.write(bytes);
 	}
 
 	private static void writeClsList(DataOutputStream out, Map<String, Integer> clsMap, List<String> clsList) throws IOException {
@@ -225,18 +252,6 @@ private static void writeClsList(DataOutputStream out, Map<String, Integer> clsM
 		}
 	}
 
-	private static List<MthRef> readMthList(DataInputStream in, MthRef[] methods) throws IOException {
-		int count = readUVInt(in);
-		if (count == 0) {
-			return Collections.emptyList();
-		}
-		List<MthRef> list = new ArrayList<>(count);
-		for (int i = 0; i < count; i++) {
-			list.add(methods[readUVInt(in)]);
-		}
-		return list;
-	}
-
 	private static void writeMthList(DataOutputStream out, Map<MthRef, Integer> mthMap, List<MthRef> mthList) throws IOException {
 		if (Utils.isEmpty(mthList)) {
 			writeUVInt(out, 0);
@@ -248,6 +263,14 @@ private static void writeMthList(DataOutputStream out, Map<MthRef, Integer> mthM
 		}
 	}
 
+	private static void deleteFile(Path usageFile) {
+		try {
+			FileUtils.deleteFileIfExists(usageFile);
+		} catch (IOException e) {
+			LOG.error("Failed to delete usage data file: {}", usageFile, e);
+		}
+	}
+
 	private static String buildInputsHash(List<File> inputs) {
 		List<Path> paths = inputs.stream()
 				.filter(f -> !f.getName().endsWith(".jadx.kts"))
@@ -18,7 +18,7 @@ public class UsageInfoCache implements IUsageInfoCache {
 	private final Path usageFile;
 	private final List<File> inputs;
 	private final InMemoryUsageInfoCache memCache = new InMemoryUsageInfoCache();
-	private @Nullable RawUsageData rawUsageData;
+	private @Nullable MappedUsageFile mappedUsageFile;
 
 	public UsageInfoCache(Path cacheDir, List<File> inputFiles) {
 		usageFile = cacheDir.resolve("usage");
@@ -32,11 +32,11 @@ public UsageInfoCache(Path cacheDir, List<File> inputFiles) {
 			return memData;
 		}
 		synchronized (LOAD_DATA_SYNC) {
-			if (rawUsageData == null) {
-				rawUsageData = UsageFileAdapter.load(usageFile, inputs);
+			if (mappedUsageFile == null) {
+				mappedUsageFile = UsageFileAdapter.load(usageFile, inputs);
 			}
-			if (rawUsageData != null) {
-				UsageData data = new UsageData(root, rawUsageData);
+			if (mappedUsageFile != null) {
+				UsageData data = new UsageData(root, mappedUsageFile);
 				memCache.set(root, data);
 				return data;
 			}
@@ -47,12 +47,18 @@ public UsageInfoCache(Path cacheDir, List<File> inputFiles) {
 	@Override
 	public void set(RootNode root, IUsageInfoData data) {
 		memCache.set(root, data);
+		synchronized (LOAD_DATA_SYNC) {
+			// mapped data outdated after save, new file will be mapped on next load
+			mappedUsageFile = null;
+		}
 		UsageFileAdapter.save(data, usageFile, inputs);
 	}
 
 	@Override
 	public void close() {
-		rawUsageData = null;
+		synchronized (LOAD_DATA_SYNC) {
+			mappedUsageFile = null;
+		}
 		memCache.close();
 	}
 }
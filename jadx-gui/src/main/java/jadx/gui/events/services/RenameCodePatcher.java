@@ -0,0 +1,272 @@
+package jadx.gui.events.services;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jetbrains.annotations.Nullable;
+
+import jadx.api.ICodeInfo;
+import jadx.api.JavaField;
+import jadx.api.JavaMethod;
+import jadx.api.impl.AnnotatedCodeInfo;
+import jadx.api.metadata.ICodeAnnotation;
+import jadx.api.metadata.ICodeMetadata;
+import jadx.api.metadata.ICodeNodeRef;
+import jadx.api.metadata.annotations.NodeDeclareRef;
+import jadx.api.metadata.annotations.VarRef;
+import jadx.core.dex.nodes.FieldNode;
+import jadx.core.dex.nodes.MethodNode;
+import jadx.gui.treemodel.JField;
+import jadx.gui.treemodel.JMethod;
+import jadx.gui.treemodel.JRenameNode;
+
+/**
+ * Apply method or field rename to already generated code without decompilation:
+ * replace names at positions found in code metadata and shift other annotations.
+ * <br>
+ * Patch rejected (and class should be decompiled again) if code can change not only in renamed places:
+ * 'renamed from' comment added or removed, or name found in code without annotation.
+ */
+final class RenameCodePatcher {
+
+	private final List<RenamedNode> nodes;
+	private final Map<ICodeNodeRef, RenamedNode> nodesMap = new HashMap<>();
+
+	/**
+	 * Collect renamed nodes and save current names, must be called before rename applied.
+	 *
+	 * @return null if rename not supported
+	 */
+	static @Nullable RenameCodePatcher prepare(JRenameNode renameNode) {
+		if (renameNode instanceof JMethod) {
+			return forMethod(((JMethod) renameNode).getJavaMethod());
+		}
+		if (renameNode instanceof JField) {
+			return forField(((JField) renameNode).getJavaField());
+		}
+		return null;
+	}
+
+	static @Nullable RenameCodePatcher forMethod(JavaMethod javaMethod) {
+		List<RenamedNode> nodes = new ArrayList<>();
+		if (!addMethod(nodes, javaMethod)) {
+			return null;
+		}
+		for (JavaMethod relatedMth : javaMethod.getOverrideRelatedMethods()) {
+			if (!addMethod(nodes, relatedMth)) {
+				return null;
+			}
+		}
+		return new RenameCodePatcher(nodes);
+	}
+
+	static @Nullable RenameCodePatcher forField(JavaField javaField) {
+		FieldNode fld = javaField.getFieldNode();
+		if (fld.getParentClass().isEnum()) {
+			return null;
+		}
+		List<RenamedNode> nodes = new ArrayList<>();
+		nodes.add(new RenamedNode(fld, fld.getAlias(), fld.getFieldInfo().hasAlias()));
+		return new RenameCodePatcher(nodes);
+	}
+
+	private static boolean addMethod(List<RenamedNode> nodes, JavaMethod javaMethod) {
+		MethodNode mth = javaMethod.getMethodNode();
+		if (mth.isConstructor() || mth.getMethodInfo().isClassInit() || mth.getParentClass().isEnum()) {
+			return false;
+		}
+		nodes.add(new RenamedNode(mth, mth.getAlias(), mth.getMethodInfo().hasAlias()));
+		return true;
+	}
+
+	private RenameCodePatcher(List<RenamedNode> nodes) {
+		this.nodes = nodes;
+	}
+
+	/**
+	 * Load new names, must be called after rename applied.
+	 *
+	 * @return false if patching not possible
+	 */
+	boolean init() {
+		for (RenamedNode node : nodes) {
+			if (!node.loadNewName()) {
+				return false;
+			}
+			nodesMap.put(node.getRef(), node);
+		}
+		return true;
+	}
+
+	/**
+	 * @return patched code or null if patch not possible
+	 */
+	@Nullable
+	ICodeInfo patch(ICodeInfo codeInfo) {
+		if (!codeInfo.hasMetadata()) {
+			return null;
+		}
+		String code = codeInfo.getCodeStr();
+		ICodeMetadata metadata = codeInfo.getCodeMetadata();
+		// positions collected in ascending order
+		List<Integer> positions = new ArrayList<>();
+		List<RenamedNode> replaces = new ArrayList<>();
+		Boolean nameMismatch = metadata.searchDown(0, (pos, ann) -> {
+			ICodeNodeRef nodeRef = getNodeRef(ann);
+			if (nodeRef != null) {
+				RenamedNode renamedNode = nodesMap.get(nodeRef);
+				if (renamedNode != null) {
+					if (!isNameAt(code, pos, renamedNode.getOldName())) {
+						return Boolean.TRUE;
+					}
+					positions.add(pos);
+					replaces.add(renamedNode);
+				}
+			}
+			return null;
+		});
+		if (nameMismatch != null || positions.isEmpty() || !checkAllNamesAnnotated(code, metadata)) {
+			return null;
+		}
+		int count = positions.size();
+		int[] replacePos = new int[count];
+		int[] shifts = new int[count];
+		StringBuilder sb = new StringBuilder(code.length() + 16 * count);
+		int last = 0;
+		int shift = 0;
+		for (int i = 0; i < count; i++) {
+			int pos = positions.get(i);
+			RenamedNode node = replaces.get(i);
+			sb.append(code, last, pos).append(node.getNewName());
+			last = pos + node.getOldName().length();
+			shift += node.getNewName().length() - node.getOldName().length();
+			replacePos[i] = pos;
+			shifts[i] = shift;
+		}
+		sb.append(code, last, code.length());
+
+		Map<Integer, ICodeAnnotation> newAnnotations = new HashMap<>();
+		metadata.searchDown(0, (pos, ann) -> {
+			ICodeAnnotation newAnn;
+			switch (ann.getAnnType()) {
+				case DECLARATION:
+					// new object, def pos will be updated on code save
+					newAnn = new NodeDeclareRef(((NodeDeclareRef) ann).getNode());
+					break;
+				case VAR_REF:
+					newAnn = VarRef.fromPos(shiftPos(((VarRef) ann).getRefPos(), replacePos, shifts));
+					break;
+				default:
+					newAnn = ann;
+					break;
+			}
+			newAnnotations.put(shiftPos(pos, replacePos, shifts), newAnn);
+			return null;
+		});
+		// names can't contain new lines, so lines mapping not changed
+		return new AnnotatedCodeInfo(sb.toString(), metadata.getLineMapping(), newAnnotations);
+	}
+
+	/**
+	 * Check that all occurrences of old names in code are annotated (by renamed or other node).
+	 * Otherwise, new name can be required in some not annotated places (like method reference).
+	 */
+	private boolean checkAllNamesAnnotated(String code, ICodeMetadata metadata) {
+		Set<String> oldNames = new HashSet<>();
+		for (RenamedNode node : nodes) {
+			oldNames.add(node.getOldName());
+		}
+		for (String name : oldNames) {
+			int pos = code.indexOf(name);
+			while (pos != -1) {
+				if (isNameAt(code, pos, name) && getNodeRef(metadata.getAt(pos)) == null) {
+					return false;
+				}
+				pos = code.indexOf(name, pos + name.length());
+			}
+		}
+		return true;
+	}
+
+	private static int shiftPos(int pos, int[] replacePos, int[] shifts) {
+		// count replaces before position
+		int idx = Arrays.binarySearch(replacePos, pos);
+		int before = idx >= 0 ? idx : -idx - 1;
+		if (before == 0) {
+			return pos;
+		}
+		return pos + shifts[before - 1];
+	}
+
+	private static boolean isNameAt(String code, int pos, String name) {
+		if (!code.startsWith(name, pos)) {
+			return false;
+		}
+		if (pos > 0 && Character.isJavaIdentifierPart(code.charAt(pos - 1))) {
+			return false;
+		}
+		int end = pos + name.length();
+		return end >= code.length() || !Character.isJavaIdentifierPart(code.charAt(end));
+	}
+
+	private static @Nullable ICodeNodeRef getNodeRef(@Nullable ICodeAnnotation ann) {
+		if (ann == null) {
+			return null;
+		}
+		switch (ann.getAnnType()) {
+			case CLASS:
+			case FIELD:
+			case METHOD:
+				return (ICodeNodeRef) ann;
+			case DECLARATION:
+				return ((NodeDeclareRef) ann).getNode();
+			default:
+				return null;
+		}
+	}
+
+	private static final class RenamedNode {
+		private final ICodeNodeRef ref;
+		private final String oldName;
+		private final boolean oldHasAlias;
+		private String newName;
+
+		RenamedNode(ICodeNodeRef ref, String oldName, boolean oldHasAlias) {
+			this.ref = ref;
+			this.oldName = oldName;
+			this.oldHasAlias = oldHasAlias;
+		}
+
+		boolean loadNewName() {
+			boolean hasAlias;
+			if (ref instanceof MethodNode) {
+				MethodNode mth = (MethodNode) ref;
+				newName = mth.getAlias();
+				hasAlias = mth.getMethodInfo().hasAlias();
+			} else {
+				FieldNode fld = (FieldNode) ref;
+				newName = fld.getAlias();
+				hasAlias = fld.getFieldInfo().hasAlias();
+			}
+			// 'renamed from' comment added or removed
+			return hasAlias == oldHasAlias;
+		}
+
+		ICodeNodeRef getRef() {
+			return ref;
+		}
+
+		String getOldName() {
+			return oldName;
+		}
+
+		String getNewName() {
+			return newName;
+		}
+	}
+}
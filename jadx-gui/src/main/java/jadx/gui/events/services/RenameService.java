@@ -10,10 +10,13 @@
 import java.util.stream.Collectors;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import jadx.api.ICodeInfo;
 import jadx.api.JadxDecompiler;
+import jadx.api.JavaClass;
 import jadx.api.JavaNode;
 import jadx.api.data.ICodeRename;
 import jadx.api.data.impl.JadxCodeData;
@@ -61,8 +64,9 @@ private void process(NodeRenamedByUser event) {
 		try {
 			LOG.debug("Applying rename event: {}", event);
 			JRenameNode node = getRenameNode(event);
+			RenameCodePatcher codePatcher = RenameCodePatcher.prepare(node);
 			updateCodeRenames(set -> processRename(node, event, set));
-			refreshState(node);
+			refreshState(node, codePatcher);
 		} catch (Exception e) {
 			LOG.error("Rename failed", e);
 			UiUtils.errorMessage(mainWindow, "Rename failed:\n" + Utils.getStackTrace(e));
@@ -109,7 +113,7 @@ private void updateCodeRenames(Consumer<Set<ICodeRename>> updater) {
 		project.setCodeData(codeData);
 	}
 
-	private void refreshState(JRenameNode node) {
+	private void refreshState(JRenameNode node, @Nullable RenameCodePatcher codePatcher) {
 		List<JavaNode> toUpdate = new ArrayList<>();
 		node.addUpdateNodes(toUpdate);
 
@@ -125,21 +129,65 @@ private void refreshState(JRenameNode node) {
 		if (updatedTopClasses.isEmpty()) {
 			return;
 		}
+		List<JClass> allUpdatedClasses = new ArrayList<>(updatedTopClasses);
 		mainWindow.getBackgroundExecutor().execute("Refreshing",
 				() -> {
 					mainWindow.getWrapper().reloadCodeData();
-					UiUtils.uiRunAndWait(() -> refreshTabs(mainWindow.getTabbedPane(), updatedTopClasses));
+					Set<JClass> patchedClasses = patchClasses(codePatcher, updatedTopClasses);
+					UiUtils.uiRunAndWait(() -> refreshTabs(mainWindow.getTabbedPane(), updatedTopClasses, patchedClasses));
 					refreshClasses(updatedTopClasses);
+					refreshPatchedClasses(patchedClasses);
 				},
 				(status) -> {
 					if (status == TaskStatus.CANCEL_BY_MEMORY) {
 						mainWindow.showHeapUsageBar();
 						UiUtils.errorMessage(mainWindow, NLS.str("message.memoryLow"));
 					}
-					node.reload(mainWindow);
+					node.reload(mainWindow, allUpdatedClasses);
 				});
 	}
 
+	/**
+	 * Try to apply rename to already generated code, patched classes removed from updated set
+	 *
+	 * @return patched classes
+	 */
+	private Set<JClass> patchClasses(@Nullable RenameCodePatcher codePatcher, Set<JClass> updatedTopClasses) {
+		if (codePatcher == null || !codePatcher.init()) {
+			return Collections.emptySet();
+		}
+		Set<JClass> patchedClasses = new HashSet<>();
+		for (JClass cls : updatedTopClasses) {
+			try {
+				JavaClass javaClass = cls.getCls();
+				ICodeInfo codeInfo = javaClass.getCodeFromCache();
+				if (codeInfo != null) {
+					ICodeInfo patchedCode = codePatcher.patch(codeInfo);
+					if (patchedCode != null) {
+						javaClass.updateCode(patchedCode);
+						patchedClasses.add(cls);
+					}
+				}
+			} catch (Exception e) {
+				LOG.warn("Failed to patch code for class: {}", cls.getFullName(), e);
+			}
+		}
+		LOG.debug("Classes updated without decompilation: {}", patchedClasses.size());
+		updatedTopClasses.removeAll(patchedClasses);
+		return patchedClasses;
+	}
+
+	private void refreshPatchedClasses(Set<JClass> patchedClasses) {
+		CacheObject cache = mainWindow.getCacheObject();
+		for (JClass cls : patchedClasses) {
+			try {
+				cls.refreshFromCache(cache);
+			} catch (Exception e) {
+				LOG.error("Failed to refresh class: {}", cls.getFullName(), e);
+			}
+		}
+	}
+
 	private void refreshClasses(Set<JClass> updatedTopClasses) {
 		CacheObject cache = mainWindow.getCacheObject();
 		if (updatedTopClasses.size() < 10) {
@@ -165,14 +213,19 @@ private void refreshClasses(Set<JClass> updatedTopClasses) {
 		}
 	}
 
-	private void refreshTabs(TabbedPane tabbedPane, Set<JClass> updatedClasses) {
+	private void refreshTabs(TabbedPane tabbedPane, Set<JClass> updatedClasses, Set<JClass> patchedClasses) {
 		for (ContentPanel tab : tabbedPane.getTabs()) {
 			JClass rootClass = tab.getNode().getRootClass();
 			if (updatedClasses.remove(rootClass)) {
-				ClassCodeContentPanel contentPanel = (ClassCodeContentPanel) tab;
-				CodeArea codeArea = (CodeArea) contentPanel.getJavaCodePanel().getCodeArea();
-				codeArea.refreshClass();
+				getCodeArea(tab).refreshClass();
+			} else if (patchedClasses.remove(rootClass)) {
+				getCodeArea(tab).refreshClassFromCache();
 			}
 		}
 	}
+
+	private static CodeArea getCodeArea(ContentPanel tab) {
+		ClassCodeContentPanel contentPanel = (ClassCodeContentPanel) tab;
+		return (CodeArea) contentPanel.getJavaCodePanel().getCodeArea();
+	}
 }
@@ -15,6 +15,7 @@
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -30,6 +31,9 @@
 /**
  * Run tasks in the background with progress bar indication.
  * Use instance created in {@link MainWindow}.
+ * <br>
+ * Tasks executed one by one in submit order, except interactive tasks (see {@link #executeInteractive(IBackgroundTask)}):
+ * these tasks executed before queued tasks and in parallel with tasks which can yield (like full decompilation).
  */
 public class BackgroundExecutor {
 	private static final Logger LOG = LoggerFactory.getLogger(BackgroundExecutor.class);
@@ -38,6 +42,9 @@ public class BackgroundExecutor {
 	private final ProgressUpdater progressUpdater;
 
 	private ThreadPoolExecutor taskQueueExecutor;
+	private ThreadPoolExecutor interactiveExecutor;
+	private InteractiveTasksGate interactiveGate;
+	private volatile boolean yieldingTaskRunning;
 	private final Map<Long, InternalTask> taskRunning = new ConcurrentHashMap<>();
 	private final AtomicLong idSupplier = new AtomicLong(0);
 
@@ -49,22 +56,72 @@ public BackgroundExecutor(JadxSettings settings, ProgressPanel progressPane) {
 
 	public synchronized void execute(IBackgroundTask task) {
 		InternalTask internalTask = buildTask(task);
-		taskQueueExecutor.execute(() -> runTask(internalTask));
+		InteractiveTasksGate gate = interactiveGate;
+		taskQueueExecutor.execute(() -> runQueueTask(internalTask, gate));
 	}
 
 	public synchronized Future<TaskStatus> executeWithFuture(IBackgroundTask task) {
 		InternalTask internalTask = buildTask(task);
+		InteractiveTasksGate gate = interactiveGate;
 		return taskQueueExecutor.submit(() -> {
-			runTask(internalTask);
+			runQueueTask(internalTask, gate);
 			return internalTask.getStatus();
 		});
 	}
 
+	/**
+	 * Execute task requested by user action (open tab, jump to declaration, usage search).
+	 * Task will run before already queued tasks and without waiting for completion of tasks which can yield.
+	 * Interactive tasks executed one by one in submit order.
+	 */
+	public synchronized void executeInteractive(IBackgroundTask task) {
+		long submitTime = System.currentTimeMillis();
+		InternalTask internalTask = buildTask(new TaskWithExtraOnFinish(task,
+				status -> LOG.debug("Interactive task '{}' complete in {} ms, status: {}",
+						task.getTitle(), System.currentTimeMillis() - submitTime, status)));
+		InteractiveTasksGate gate = interactiveGate;
+		gate.interactiveSubmitted();
+		interactiveExecutor.execute(() -> {
+			try {
+				gate.interactiveStart();
+				if (UiUtils.JADX_GUI_DEBUG) {
+					LOG.debug("Interactive task '{}' started after {} ms wait",
+							task.getTitle(), System.currentTimeMillis() - submitTime);
+				}
+				runTask(internalTask, null);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				removeTask(internalTask);
+			} finally {
+				gate.interactiveFinished();
+			}
+		});
+	}
+
+	public void executeInteractive(String title, Runnable backgroundRunnable, Consumer<TaskStatus> onFinishUiRunnable) {
+		executeInteractive(new SimpleTask(title, Collections.singletonList(backgroundRunnable), onFinishUiRunnable));
+	}
+
+	/**
+	 * Pause jobs of task which can yield (see {@link IBackgroundTask#canYieldToInteractive()})
+	 * or jobs running outside of this executor while interactive tasks pending.
+	 * Call between processing of independent items.
+	 */
+	public void yieldToInteractive(Cancelable task) {
+		try {
+			interactiveGate.yieldToInteractive(task);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
 	public synchronized void cancelAll() {
 		try {
 			taskRunning.values().forEach(this::cancelTask);
 			taskQueueExecutor.shutdownNow();
-			boolean complete = taskQueueExecutor.awaitTermination(3, TimeUnit.SECONDS);
+			interactiveExecutor.shutdownNow();
+			boolean complete = taskQueueExecutor.awaitTermination(3, TimeUnit.SECONDS)
+					&& interactiveExecutor.awaitTermination(1, TimeUnit.SECONDS);
 			if (complete) {
 				LOG.debug("Background task executor canceled successfully");
 			} else {
@@ -84,6 +141,7 @@ public synchronized void waitForComplete() {
 		try {
 			// add empty task and wait its completion
 			taskQueueExecutor.submit(UiUtils.EMPTY_RUNNABLE).get();
+			interactiveExecutor.submit(UiUtils.EMPTY_RUNNABLE).get();
 		} catch (Exception e) {
 			throw new JadxRuntimeException("Failed to wait tasks completion", e);
 		}
@@ -111,6 +169,8 @@ public void startLoading(Runnable backgroundRunnable) {
 
 	private synchronized void reset() {
 		taskQueueExecutor = (ThreadPoolExecutor) Executors.newFixedThreadPool(1, Utils.simpleThreadFactory("bg"));
+		interactiveExecutor = (ThreadPoolExecutor) Executors.newFixedThreadPool(1, Utils.simpleThreadFactory("bg-interactive"));
+		interactiveGate = new InteractiveTasksGate();
 		taskRunning.clear();
 		idSupplier.set(0);
 	}
@@ -122,7 +182,27 @@ private InternalTask buildTask(IBackgroundTask task) {
 		return internalTask;
 	}
 
-	private void runTask(InternalTask internalTask) {
+	private void runQueueTask(InternalTask internalTask, InteractiveTasksGate gate) {
+		try {
+			gate.blockInteractive();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			removeTask(internalTask);
+			return;
+		}
+		try {
+			runTask(internalTask, gate);
+		} finally {
+			gate.unblockInteractive();
+		}
+	}
+
+	/**
+	 * @param gate not null for queue task, used to allow interactive tasks while yielding task jobs running
+	 */
+	private void runTask(InternalTask internalTask, @Nullable InteractiveTasksGate gate) {
+		// don't replace progress of yielding task by short interactive tasks
+		boolean showProgress = gate != null || !yieldingTaskRunning;
 		try {
 			IBackgroundTask task = internalTask.getBgTask();
 			ITaskExecutor taskExecutor = task.scheduleTasks();
@@ -137,18 +217,32 @@ private void runTask(InternalTask internalTask) {
 			long startTime = System.currentTimeMillis();
 			Supplier<TaskStatus> cancelCheck = buildCancelCheck(internalTask, startTime);
 			internalTask.taskStart(startTime, cancelCheck);
-			progressUpdater.addTask(internalTask);
+			if (showProgress) {
+				progressUpdater.addTask(internalTask);
+			}
 			taskExecutor.execute();
-			taskExecutor.awaitTermination();
+			if (gate != null && task.canYieldToInteractive()) {
+				yieldingTaskRunning = true;
+				gate.unblockInteractive();
+				try {
+					taskExecutor.awaitTermination();
+				} finally {
+					yieldingTaskRunning = false;
+				}
+				// finish task exclusively
+				gate.blockInteractive();
+			} else {
+				taskExecutor.awaitTermination();
+			}
 		} catch (Exception e) {
 			LOG.error("Task failed", e);
 			internalTask.setStatus(TaskStatus.ERROR);
 		} finally {
-			taskComplete(internalTask);
+			taskComplete(internalTask, showProgress);
 		}
 	}
 
-	private void taskComplete(InternalTask internalTask) {
+	private void taskComplete(InternalTask internalTask, boolean showProgress) {
 		try {
 			IBackgroundTask task = internalTask.getBgTask();
 			internalTask.setJobsComplete(internalTask.getTaskExecutor().getProgress());
@@ -169,7 +263,9 @@ private void taskComplete(InternalTask internalTask) {
 			internalTask.setStatus(TaskStatus.ERROR);
 		} finally {
 			internalTask.taskComplete();
-			progressUpdater.taskComplete(internalTask);
+			if (showProgress) {
+				progressUpdater.taskComplete(internalTask);
+			}
 			removeTask(internalTask);
 		}
 	}
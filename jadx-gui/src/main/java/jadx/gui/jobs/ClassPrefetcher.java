@@ -0,0 +1,178 @@
+package jadx.gui.jobs;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.stream.Collectors;
+
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jadx.api.ICodeCache;
+import jadx.api.ICodeInfo;
+import jadx.api.metadata.ICodeAnnotation;
+import jadx.commons.app.JadxCommonEnv;
+import jadx.core.dex.attributes.AFlag;
+import jadx.core.dex.nodes.ClassNode;
+import jadx.core.dex.nodes.FieldNode;
+import jadx.core.dex.nodes.MethodNode;
+import jadx.core.utils.Utils;
+import jadx.gui.treemodel.JClass;
+import jadx.gui.ui.MainWindow;
+import jadx.gui.utils.UiUtils;
+
+/**
+ * Decompile classes referenced from opened class in advance, so navigation to them will be faster.
+ * <br>
+ * Classes ordered by references count in code metadata, then added class dependencies.
+ * Prefetch runs in own single low priority thread, so it doesn't delay tasks in background queue.
+ * It also yields to interactive tasks, canceled on next class open and stopped on low memory.
+ */
+public class ClassPrefetcher {
+	private static final Logger LOG = LoggerFactory.getLogger(ClassPrefetcher.class);
+
+	private static final int PREFETCH_LIMIT = JadxCommonEnv.getInt("JADX_GUI_PREFETCH_LIMIT", 20);
+
+	private final MainWindow mainWindow;
+	private final ExecutorService executor;
+	private @Nullable PrefetchTask currentTask;
+
+	public ClassPrefetcher(MainWindow mainWindow) {
+		this.mainWindow = mainWindow;
+		ThreadFactory threadFactory = Utils.simpleThreadFactory("prefetch");
+		this.executor = Executors.newSingleThreadExecutor(r -> {
+			Thread thread = threadFactory.newThread(r);
+			thread.setPriority(Thread.MIN_PRIORITY);
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	public synchronized void prefetchReferencedClasses(JClass cls) {
+		if (PREFETCH_LIMIT <= 0 || mainWindow.getCacheObject().isFullDecompilationFinished()) {
+			return;
+		}
+		cancel();
+		PrefetchTask task = new PrefetchTask(cls.getRootClass().getCls().getClassNode());
+		task.future = executor.submit(task);
+		currentTask = task;
+	}
+
+	/**
+	 * Cancel current prefetch: not started task removed from queue,
+	 * running task stopped after already started class decompilation.
+	 */
+	public synchronized void cancel() {
+		PrefetchTask task = currentTask;
+		if (task != null) {
+			task.cancel();
+			currentTask = null;
+		}
+	}
+
+	private static List<ClassNode> collectClasses(ClassNode topCls, ICodeInfo codeInfo, int limit) {
+		Map<ClassNode, Integer> refsCount = new LinkedHashMap<>();
+		if (codeInfo.hasMetadata()) {
+			codeInfo.getCodeMetadata().searchDown(0, (pos, ann) -> {
+				ClassNode refCls = getRefClass(ann);
+				if (refCls != null) {
+					refsCount.merge(refCls.getTopParentClass(), 1, Integer::sum);
+				}
+				return null;
+			});
+		}
+		for (ClassNode dep : topCls.getDependencies()) {
+			refsCount.putIfAbsent(dep.getTopParentClass(), 0);
+		}
+		refsCount.remove(topCls);
+		return refsCount.entrySet().stream()
+				.filter(e -> !e.getKey().contains(AFlag.DONT_GENERATE))
+				.sorted(Map.Entry.<ClassNode, Integer>comparingByValue().reversed())
+				.limit(limit)
+				.map(Map.Entry::getKey)
+				.collect(Collectors.toList());
+	}
+
+	private static @Nullable ClassNode getRefClass(ICodeAnnotation ann) {
+		switch (ann.getAnnType()) {
+			case CLASS:
+				return (ClassNode) ann;
+			case METHOD:
+				return ((MethodNode) ann).getParentClass();
+			case FIELD:
+				return ((FieldNode) ann).getParentClass();
+			default:
+				return null;
+		}
+	}
+
+	private final class PrefetchTask implements Runnable, Cancelable {
+		private final ClassNode cls;
+		private volatile boolean canceled;
+		private @Nullable Future<?> future;
+
+		PrefetchTask(ClassNode cls) {
+			this.cls = cls;
+		}
+
+		@Override
+		public void run() {
+			try {
+				prefetch();
+			} catch (Throwable e) {
+				LOG.warn("Classes prefetch failed for class: {}", cls, e);
+			}
+		}
+
+		private void prefetch() {
+			ICodeInfo codeInfo = cls.getCodeFromCache();
+			if (codeInfo == null) {
+				return;
+			}
+			ICodeCache codeCache = mainWindow.getWrapper().getArgs().getCodeCache();
+			BackgroundExecutor bgExecutor = mainWindow.getBackgroundExecutor();
+			int count = 0;
+			for (ClassNode refCls : collectClasses(cls, codeInfo, PREFETCH_LIMIT)) {
+				bgExecutor.yieldToInteractive(this);
+				if (isCanceled()) {
+					break;
+				}
+				if (!UiUtils.isFreeMemoryAvailable()) {
+					LOG.debug("Classes prefetch stopped due to low memory: {}", UiUtils.memoryInfo());
+					break;
+				}
+				if (!codeCache.contains(refCls.getRawName())) {
+					try {
+						refCls.decompile();
+						count++;
+					} catch (Throwable e) {
+						LOG.warn("Failed to prefetch class: {}", refCls, e);
+					}
+				}
+			}
+			if (UiUtils.JADX_GUI_DEBUG) {
+				LOG.debug("Prefetch for class {} complete, decompiled: {}", cls, count);
+			}
+		}
+
+		@Override
+		public boolean isCanceled() {
+			return canceled || Thread.currentThread().isInterrupted();
+		}
+
+		@Override
+		public void cancel() {
+			canceled = true;
+			Future<?> f = future;
+			if (f != null) {
+				// don't interrupt running decompilation, only remove from queue
+				f.cancel(false);
+			}
+		}
+	}
+}
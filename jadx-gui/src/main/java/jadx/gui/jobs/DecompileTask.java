@@ -80,6 +80,7 @@ private List<Runnable> getJobs(List<List<JavaClass>> batches) {
 					if (isCanceled()) {
 						return;
 					}
+					mainWindow.getBackgroundExecutor().yieldToInteractive(this);
 					try {
 						if (!codeCache.contains(cls.getRawName())) {
 							cls.decompile();
@@ -150,6 +151,11 @@ public boolean canBeCanceled() {
 		return true;
 	}
 
+	@Override
+	public boolean canYieldToInteractive() {
+		return true;
+	}
+
 	@Override
 	public int timeLimit() {
 		return calcDecompileTimeLimit(expectedCompleteCount);
@@ -56,6 +56,15 @@ default boolean checkMemoryUsage() {
 		return null;
 	}
 
+	/**
+	 * Long-running task which allow interactive tasks to run in parallel with its jobs.
+	 * Jobs should call {@link BackgroundExecutor#yieldToInteractive(IBackgroundTask)} to pause.
+	 * {@link #onDone(ITaskInfo)} and {@link #onFinish(ITaskInfo)} still executed exclusively.
+	 */
+	default boolean canYieldToInteractive() {
+		return false;
+	}
+
 	/**
 	 * Silent task: don't show progress
 	 */
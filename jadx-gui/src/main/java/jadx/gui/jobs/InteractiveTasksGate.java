@@ -0,0 +1,51 @@
+package jadx.gui.jobs;
+
+/**
+ * Coordinate interactive tasks (like code loading for opened tab) with tasks from main background queue:
+ * - interactive tasks wait only for currently running queue task (or don't wait if task can yield)
+ * - queue tasks not started while interactive tasks pending, so interactive tasks executed first
+ * - jobs of yielding task pause at class boundaries while interactive tasks pending
+ */
+final class InteractiveTasksGate {
+	private static final long YIELD_CHECK_INTERVAL_MS = 100;
+
+	private int interactiveCount;
+	private boolean blockingTaskRunning;
+
+	synchronized void interactiveSubmitted() {
+		interactiveCount++;
+	}
+
+	synchronized void interactiveStart() throws InterruptedException {
+		while (blockingTaskRunning) {
+			wait();
+		}
+	}
+
+	synchronized void interactiveFinished() {
+		interactiveCount--;
+		notifyAll();
+	}
+
+	/**
+	 * Wait completion of pending interactive tasks and block new ones until {@link #unblockInteractive()} call.
+	 * Used to run queue task (or its non-yielding part) exclusively.
+	 */
+	synchronized void blockInteractive() throws InterruptedException {
+		while (interactiveCount > 0) {
+			wait();
+		}
+		blockingTaskRunning = true;
+	}
+
+	synchronized void unblockInteractive() {
+		blockingTaskRunning = false;
+		notifyAll();
+	}
+
+	synchronized void yieldToInteractive(Cancelable task) throws InterruptedException {
+		while (interactiveCount > 0 && !task.isCanceled()) {
+			wait(YIELD_CHECK_INTERVAL_MS);
+		}
+	}
+}
@@ -79,6 +79,16 @@ public boolean checkMemoryUsage() {
 		return task.checkMemoryUsage();
 	}
 
+	@Override
+	public boolean canYieldToInteractive() {
+		return task.canYieldToInteractive();
+	}
+
+	@Override
+	public boolean isSilent() {
+		return task.isSilent();
+	}
+
 	@Override
 	public int getCancelTimeoutMS() {
 		return task.getCancelTimeoutMS();
@@ -13,4 +13,11 @@ public interface ISearchProvider extends ITaskProgress {
 	 */
 	@Nullable
 	JNode next(Cancelable cancelable);
+
+	/**
+	 * Provider name for statistics
+	 */
+	default String getName() {
+		return getClass().getSimpleName().replace("SearchProvider", "");
+	}
 }
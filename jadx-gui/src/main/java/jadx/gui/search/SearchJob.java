@@ -10,6 +10,8 @@ public class SearchJob implements Runnable {
 
 	private final SearchTask searchTask;
 	private final ISearchProvider provider;
+	private volatile long startTime;
+	private volatile long endTime;
 
 	public SearchJob(SearchTask task, ISearchProvider provider) {
 		this.searchTask = task;
@@ -18,6 +20,17 @@ public SearchJob(SearchTask task, ISearchProvider provider) {
 
 	@Override
 	public void run() {
+		if (startTime == 0) {
+			startTime = System.currentTimeMillis();
+		}
+		try {
+			search();
+		} finally {
+			endTime = System.currentTimeMillis();
+		}
+	}
+
+	private void search() {
 		while (true) {
 			try {
 				JNode result = provider.next(searchTask);
@@ -37,4 +50,12 @@ public void run() {
 	public ISearchProvider getProvider() {
 		return provider;
 	}
+
+	public long getStartTime() {
+		return startTime;
+	}
+
+	public long getEndTime() {
+		return endTime;
+	}
 }
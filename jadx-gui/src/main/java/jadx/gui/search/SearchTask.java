@@ -1,18 +1,25 @@
 package jadx.gui.search;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import jadx.api.JavaClass;
 import jadx.api.utils.tasks.ITaskExecutor;
 import jadx.core.utils.tasks.TaskExecutor;
 import jadx.gui.jobs.BackgroundExecutor;
@@ -28,20 +35,32 @@
 public class SearchTask extends CancelableBackgroundTask {
 	private static final Logger LOG = LoggerFactory.getLogger(SearchTask.class);
 
+	/**
+	 * Don't split small classes lists, search in names is fast
+	 */
+	private static final int MIN_SHARD_SIZE = 500;
+
 	private final BackgroundExecutor backgroundExecutor;
-	private final Consumer<JNode> resultsListener;
+	private final int threadsCount;
+	private final Consumer<List<JNode>> resultsListener;
 	private final BiConsumer<ITaskInfo, Boolean> onFinish;
 	private final List<SearchJob> jobs = new ArrayList<>();
 	private final TaskProgress taskProgress = new TaskProgress();
+	private final Queue<JNode> results = new ConcurrentLinkedQueue<>();
 
 	private final AtomicInteger resultsCount = new AtomicInteger(0);
 	private int resultsLimit;
+	private volatile boolean limitReached;
 	private Future<TaskStatus> future;
 
 	private Consumer<ITaskProgress> progressListener;
 
-	public SearchTask(MainWindow mainWindow, Consumer<JNode> results, BiConsumer<ITaskInfo, Boolean> onFinish) {
+	/**
+	 * @param results receive new results in batches, called on UI thread
+	 */
+	public SearchTask(MainWindow mainWindow, Consumer<List<JNode>> results, BiConsumer<ITaskInfo, Boolean> onFinish) {
 		this.backgroundExecutor = mainWindow.getBackgroundExecutor();
+		this.threadsCount = mainWindow.getSettings().getThreadsCount();
 		this.resultsListener = results;
 		this.onFinish = onFinish;
 	}
@@ -50,6 +69,22 @@ public void addProviderJob(ISearchProvider provider) {
 		jobs.add(new SearchJob(this, provider));
 	}
 
+	/**
+	 * Split classes list into shards searched in parallel.
+	 * Shards count limited by threads count and minimal shard size.
+	 */
+	public void addShardedProviderJobs(List<JavaClass> classes, Function<List<JavaClass>, ISearchProvider> providerFactory) {
+		int size = classes.size();
+		int shardSize = Math.max(MIN_SHARD_SIZE, (size + threadsCount - 1) / Math.max(threadsCount, 1));
+		if (size <= shardSize) {
+			addProviderJob(providerFactory.apply(classes));
+			return;
+		}
+		for (int start = 0; start < size; start += shardSize) {
+			addProviderJob(providerFactory.apply(classes.subList(start, Math.min(start + shardSize, size))));
+		}
+	}
+
 	public void setResultsLimit(int limit) {
 		this.resultsLimit = limit;
 	}
@@ -60,23 +95,76 @@ public synchronized void fetchResults() {
 		}
 		resetCancel();
 		resultsCount.set(0);
+		limitReached = false;
 		taskProgress.updateTotal(jobs.stream().mapToInt(s -> s.getProvider().total()).sum());
 		future = backgroundExecutor.executeWithFuture(this);
 	}
 
-	public synchronized boolean addResult(JNode resultNode) {
-		if (isCanceled()) {
+	/**
+	 * Add result from search job thread, results passed to listener in batches on progress updates.
+	 * <br>
+	 * Results found by other jobs after limit reached are still accepted (limit can be exceeded
+	 * by less than jobs count), because provider progress already moved past them
+	 * and such results will be lost on search resume.
+	 *
+	 * @return true if search should be stopped
+	 */
+	public boolean addResult(JNode resultNode) {
+		if (isCanceled() && !limitReached) {
 			// ignore new results after cancel
 			return true;
 		}
-		this.resultsListener.accept(resultNode);
+		results.add(resultNode);
 		if (resultsLimit != 0 && resultsCount.incrementAndGet() >= resultsLimit) {
+			limitReached = true;
 			cancel();
 			return true;
 		}
 		return false;
 	}
 
+	private void flushResults() {
+		List<JNode> batch = new ArrayList<>();
+		while (true) {
+			JNode node = results.poll();
+			if (node == null) {
+				break;
+			}
+			batch.add(node);
+		}
+		if (!batch.isEmpty()) {
+			resultsListener.accept(batch);
+		}
+	}
+
+	/**
+	 * Search speed for providers of each type (shards summed)
+	 */
+	public String getProvidersStats() {
+		Map<String, List<SearchJob>> jobsByName = jobs.stream()
+				.collect(Collectors.groupingBy(j -> j.getProvider().getName(), LinkedHashMap::new, Collectors.toList()));
+		long now = System.currentTimeMillis();
+		StringBuilder sb = new StringBuilder();
+		for (Map.Entry<String, List<SearchJob>> entry : jobsByName.entrySet()) {
+			List<SearchJob> providerJobs = entry.getValue();
+			long start = providerJobs.stream().mapToLong(SearchJob::getStartTime).filter(t -> t != 0).min().orElse(0);
+			if (start == 0) {
+				continue;
+			}
+			long end = providerJobs.stream().mapToLong(j -> j.getEndTime() == 0 ? now : j.getEndTime()).max().orElse(now);
+			int processed = providerJobs.stream().mapToInt(j -> j.getProvider().progress()).sum();
+			long time = Math.max(end - start, 1);
+			if (sb.length() != 0) {
+				sb.append(", ");
+			}
+			sb.append(NLS.str("search_dialog.provider_speed", entry.getKey(), processed * 1000L / time));
+			if (providerJobs.size() > 1) {
+				sb.append(' ').append(NLS.str("search_dialog.provider_shards", providerJobs.size()));
+			}
+		}
+		return sb.toString();
+	}
+
 	public synchronized void waitTask() {
 		if (future == null) {
 			return;
@@ -105,6 +193,10 @@ public ITaskExecutor scheduleTasks() {
 
 	@Override
 	public void onFinish(ITaskInfo task) {
+		flushResults();
+		if (LOG.isDebugEnabled()) {
+			LOG.debug("Search providers speed: {}", getProvidersStats());
+		}
 		boolean complete = !isCanceled()
 				&& task.getStatus() == TaskStatus.COMPLETE
 				&& task.getJobsComplete() == task.getJobsCount();
@@ -128,7 +220,13 @@ public void setProgressListener(Consumer<ITaskProgress> progressListener) {
 
 	@Override
 	public @Nullable Consumer<ITaskProgress> getProgressListener() {
-		return this.progressListener;
+		Consumer<ITaskProgress> listener = this.progressListener;
+		return progress -> {
+			flushResults();
+			if (listener != null) {
+				listener.accept(progress);
+			}
+		};
 	}
 
 	@Override
@@ -2,6 +2,7 @@
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.jetbrains.annotations.Nullable;
 
@@ -50,6 +51,11 @@ public void prepare() {
 		}
 	}
 
+	@Override
+	public String getName() {
+		return list.stream().map(ISearchProvider::getName).collect(Collectors.joining("+"));
+	}
+
 	@Override
 	public int progress() {
 		return list.stream().mapToInt(ISearchProvider::progress).sum();
@@ -50,7 +50,20 @@ public List<String> save() {
 		if (tree.getRowCount() == 0 || mainWindow.getWrapper().getCurrentDecompiler().isEmpty()) {
 			return Collections.emptyList();
 		}
-		List<TreePath> expandedPaths = collectExpandedPaths(tree);
+		return savePaths(collectExpandedPaths(tree, tree.getPathForRow(0)));
+	}
+
+	/**
+	 * Save expanded paths only for node subtree
+	 */
+	public List<String> save(TreePath subtreePath) {
+		return savePaths(collectExpandedPaths(tree, subtreePath));
+	}
+
+	private List<String> savePaths(List<TreePath> expandedPaths) {
+		if (expandedPaths.isEmpty()) {
+			return Collections.emptyList();
+		}
 		List<String> list = new ArrayList<>();
 		for (TreePath expandedPath : expandedPaths) {
 			list.add(savePath(expandedPath));
@@ -174,8 +187,7 @@ private String savePath(TreePath path) {
 		return new TreePath(pathNodes);
 	}
 
-	private static List<TreePath> collectExpandedPaths(JTree tree) {
-		TreePath root = tree.getPathForRow(0);
+	private static List<TreePath> collectExpandedPaths(JTree tree, TreePath root) {
 		Enumeration<TreePath> expandedDescendants = tree.getExpandedDescendants(root);
 		if (expandedDescendants == null) {
 			return Collections.emptyList();
@@ -105,6 +105,17 @@ public synchronized ICodeInfo reload(CacheObject cache) {
 		return codeInfo;
 	}
 
+	/**
+	 * Update nodes after code in cache was replaced without decompilation
+	 */
+	public synchronized ICodeInfo refreshFromCache(CacheObject cache) {
+		cache.getNodeCache().removeWholeClass(cls);
+		ICodeInfo codeInfo = cls.getCodeInfo();
+		loaded = true;
+		update();
+		return codeInfo;
+	}
+
 	public synchronized void unload(CacheObject cache) {
 		cache.getNodeCache().removeWholeClass(cls);
 		cls.unload();
@@ -0,0 +1,97 @@
+package jadx.gui.treemodel;
+
+import java.util.List;
+
+import javax.swing.Icon;
+
+import org.jetbrains.annotations.Nullable;
+
+import jadx.gui.jobs.IBackgroundTask;
+import jadx.gui.jobs.SimpleTask;
+import jadx.gui.utils.Icons;
+import jadx.gui.utils.NLS;
+import jadx.gui.utils.UiUtils;
+
+/**
+ * Part of classes list in package with too many classes.
+ * Class nodes added only on page expand.
+ */
+public class JClassesPage extends JLoadableNode {
+	private static final long serialVersionUID = -1839512285427095227L;
+
+	private final transient List<JClass> classes;
+	private final int index;
+	private boolean loaded;
+
+	public JClassesPage(List<JClass> classes, int index) {
+		this.classes = classes;
+		this.index = index;
+	}
+
+	public void update() {
+		removeAllChildren();
+		if (loaded) {
+			addClasses();
+		} else {
+			add(new TextNode(NLS.str("tree.loading")));
+		}
+	}
+
+	@Override
+	public synchronized void loadNode() {
+		if (!loaded) {
+			loaded = true;
+			removeAllChildren();
+			addClasses();
+		}
+	}
+
+	private void addClasses() {
+		for (JClass cls : classes) {
+			cls.update();
+			add(cls);
+		}
+	}
+
+	@Override
+	public @Nullable IBackgroundTask getLoadTask() {
+		if (loaded) {
+			return null;
+		}
+		// nodes should be changed only in UI thread
+		return new SimpleTask(NLS.str("progress.load"), UiUtils.EMPTY_RUNNABLE, this::loadNode);
+	}
+
+	public boolean contains(JClass cls) {
+		return classes.contains(cls);
+	}
+
+	public List<JClass> getClasses() {
+		return classes;
+	}
+
+	@Override
+	public Icon getIcon() {
+		return Icons.FOLDER;
+	}
+
+	@Override
+	public JClass getJParent() {
+		return null;
+	}
+
+	@Override
+	public String getID() {
+		return "page:" + index;
+	}
+
+	@Override
+	public String makeString() {
+		return "[" + classes.get(0).getName() + " … " + classes.get(classes.size() - 1).getName() + "]";
+	}
+
+	@Override
+	public String makeLongString() {
+		return makeString() + " (" + classes.size() + ")";
+	}
+}
@@ -1,5 +1,6 @@
 package jadx.gui.treemodel;
 
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
@@ -149,6 +150,12 @@ public void reload(MainWindow mainWindow) {
 		mainWindow.reloadTreePreservingState();
 	}
 
+	@Override
+	public void reload(MainWindow mainWindow, Collection<JClass> updatedClasses) {
+		// packages and classes not changed, update only class nodes
+		mainWindow.reloadTreeClasses(updatedClasses);
+	}
+
 	@Override
 	public String makeString() {
 		return UiUtils.typeFormat(makeBaseString(), getReturnType());
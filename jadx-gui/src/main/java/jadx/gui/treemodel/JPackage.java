@@ -7,8 +7,11 @@
 import javax.swing.Icon;
 import javax.swing.JPopupMenu;
 
+import org.jetbrains.annotations.Nullable;
+
 import jadx.api.JavaNode;
 import jadx.api.JavaPackage;
+import jadx.commons.app.JadxCommonEnv;
 import jadx.gui.ui.MainWindow;
 import jadx.gui.ui.popupmenu.JPackagePopupMenu;
 import jadx.gui.utils.Icons;
@@ -22,10 +25,16 @@ public class JPackage extends JNode {
 
 	public static final String PACKAGE_DEFAULT_HTML_STR = wrapHtml(fadeHtml(escapeHtml("<empty>")));
 
+	/**
+	 * Show classes in pages if package contains more classes than this limit
+	 */
+	private static final int CLASSES_PAGE_SIZE = JadxCommonEnv.getInt("JADX_GUI_TREE_PAGE_SIZE", 1000);
+
 	private final JavaPackage pkg;
 	private final boolean enabled;
 	private final List<JClass> classes;
 	private final List<JPackage> subPackages;
+	private @Nullable List<JClassesPage> pages;
 
 	/**
 	 * Package created by full package alias, don't have a raw package reference.
@@ -57,11 +66,51 @@ public void update() {
 				pkg.update();
 				add(pkg);
 			}
-			for (JClass cls : classes) {
-				cls.update();
-				add(cls);
+			if (classes.size() > CLASSES_PAGE_SIZE) {
+				for (JClassesPage page : getPages()) {
+					page.update();
+					add(page);
+				}
+			} else {
+				for (JClass cls : classes) {
+					cls.update();
+					add(cls);
+				}
+			}
+		}
+	}
+
+	private List<JClassesPage> getPages() {
+		List<JClassesPage> pagesList = pages;
+		if (pagesList == null) {
+			int count = classes.size();
+			pagesList = new ArrayList<>(count / CLASSES_PAGE_SIZE + 1);
+			for (int start = 0, i = 0; start < count; start += CLASSES_PAGE_SIZE, i++) {
+				List<JClass> pageClasses = classes.subList(start, Math.min(start + CLASSES_PAGE_SIZE, count));
+				pagesList.add(new JClassesPage(pageClasses, i));
+			}
+			pages = pagesList;
+		}
+		return pagesList;
+	}
+
+	/**
+	 * Find page with class and add class nodes to it
+	 *
+	 * @return false if class not in this package or package not paged
+	 */
+	public boolean loadPageWithClass(JClass cls) {
+		List<JClassesPage> pagesList = pages;
+		if (pagesList == null) {
+			return false;
+		}
+		for (JClassesPage page : pagesList) {
+			if (page.contains(cls)) {
+				page.loadNode();
+				return true;
 			}
 		}
+		return false;
 	}
 
 	@Override
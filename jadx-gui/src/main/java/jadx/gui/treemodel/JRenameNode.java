@@ -1,5 +1,6 @@
 package jadx.gui.treemodel;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
@@ -34,4 +35,13 @@ default JRenameNode replace() {
 	void addUpdateNodes(List<JavaNode> toUpdate);
 
 	void reload(MainWindow mainWindow);
+
+	/**
+	 * Update UI after rename, by default reload whole tree.
+	 *
+	 * @param updatedClasses top classes reloaded after rename
+	 */
+	default void reload(MainWindow mainWindow, Collection<JClass> updatedClasses) {
+		reload(mainWindow);
+	}
 }
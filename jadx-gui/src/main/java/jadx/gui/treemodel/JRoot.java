@@ -91,6 +91,19 @@ private JResource getResourceByName(JResource rf, String name) {
 	}
 
 	public @Nullable JNode searchNode(JNode node) {
+		JNode treeNode = searchLoadedNode(node);
+		if (treeNode != null) {
+			return treeNode;
+		}
+		// class can be in not yet loaded page
+		JClass topCls = node.getRootClass();
+		if (topCls != null && loadClassPage(topCls)) {
+			return searchLoadedNode(node);
+		}
+		return null;
+	}
+
+	private @Nullable JNode searchLoadedNode(JNode node) {
 		Enumeration<?> en = this.breadthFirstEnumeration();
 		while (en.hasMoreElements()) {
 			Object obj = en.nextElement();
@@ -101,6 +114,17 @@ private JResource getResourceByName(JResource rf, String name) {
 		return null;
 	}
 
+	private boolean loadClassPage(JClass topCls) {
+		Enumeration<?> en = this.breadthFirstEnumeration();
+		while (en.hasMoreElements()) {
+			Object obj = en.nextElement();
+			if (obj instanceof JPackage && ((JPackage) obj).loadPageWithClass(topCls)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	public JNode followStaticPath(String... path) {
 		List<String> list = Arrays.asList(path);
 		JNode node = getNodeByClsPath(this, 0, list);
@@ -5,6 +5,9 @@
 import javax.swing.Icon;
 import javax.swing.ImageIcon;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import jadx.gui.JadxWrapper;
 import jadx.gui.utils.NLS;
 import jadx.gui.utils.UiUtils;
@@ -12,6 +15,7 @@
 
 public class JSources extends JNode {
 	private static final long serialVersionUID = 8962924556824862801L;
+	private static final Logger LOG = LoggerFactory.getLogger(JSources.class);
 
 	private static final ImageIcon ROOT_ICON = UiUtils.openSvgIcon("nodes/packageClasses");
 
@@ -25,6 +29,7 @@ public JSources(JRoot jRoot, JadxWrapper wrapper) {
 	}
 
 	public final void update() {
+		long start = System.currentTimeMillis();
 		removeAllChildren();
 		PackageHelper packageHelper = wrapper.getCache().getPackageHelper();
 		List<JPackage> roots = packageHelper.getRoots(flatPackages);
@@ -32,6 +37,9 @@ public final void update() {
 			rootPkg.update();
 			add(rootPkg);
 		}
+		if (LOG.isDebugEnabled()) {
+			LOG.debug("Sources tree nodes updated in {} ms", System.currentTimeMillis() - start);
+		}
 	}
 
 	@Override
@@ -26,6 +26,7 @@
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.List;
@@ -106,6 +107,7 @@
 import jadx.gui.events.services.RenameService;
 import jadx.gui.events.types.JadxGuiEventsImpl;
 import jadx.gui.jobs.BackgroundExecutor;
+import jadx.gui.jobs.ClassPrefetcher;
 import jadx.gui.jobs.DecompileTask;
 import jadx.gui.jobs.ExportTask;
 import jadx.gui.jobs.IBackgroundTask;
@@ -126,6 +128,7 @@
 import jadx.gui.settings.ui.JadxSettingsWindow;
 import jadx.gui.tree.TreeExpansionService;
 import jadx.gui.treemodel.ApkSignatureNode;
+import jadx.gui.treemodel.JClass;
 import jadx.gui.treemodel.JLoadableNode;
 import jadx.gui.treemodel.JNode;
 import jadx.gui.treemodel.JPackage;
@@ -196,6 +199,7 @@ public class MainWindow extends JFrame {
 	private final transient CacheObject cacheObject;
 	private final transient CacheManager cacheManager;
 	private final transient BackgroundExecutor backgroundExecutor;
+	private final transient ClassPrefetcher classPrefetcher;
 	private final transient JadxGuiEventsImpl events = new JadxGuiEventsImpl();
 	private final transient TreeExpansionService treeExpansionService;
 
@@ -272,6 +276,7 @@ public MainWindow(JadxSettings settings) {
 		initUI();
 		this.editorSyncManager = new EditorSyncManager(this, tabbedPane);
 		this.backgroundExecutor = new BackgroundExecutor(settings, progressPane);
+		this.classPrefetcher = new ClassPrefetcher(this);
 		this.treeExpansionService = new TreeExpansionService(this, tree);
 		initMenuAndToolbar();
 		UiUtils.setWindowIcons(this);
@@ -809,6 +814,7 @@ public void resetCodeCache() {
 
 	public void cancelBackgroundJobs() {
 		backgroundExecutor.cancelAll();
+		classPrefetcher.cancel();
 	}
 
 	public void exportProject() {
@@ -844,10 +850,14 @@ private void clearTree() {
 	}
 
 	public void reloadTree() {
+		long start = System.currentTimeMillis();
 		treeReloading = true;
 		treeUpdateListener.forEach(listener -> listener.accept(treeRoot));
 		treeModel.reload();
 		treeReloading = false;
+		if (LOG.isDebugEnabled()) {
+			LOG.debug("Tree reloaded in {} ms", System.currentTimeMillis() - start);
+		}
 	}
 
 	public void rebuildPackagesTree() {
@@ -862,6 +872,30 @@ public void reloadTreePreservingState() {
 		treeExpansionService.load(treePath);
 	}
 
+	/**
+	 * Update nodes of provided classes without whole tree reload.
+	 * Use only if classes names and packages not changed.
+	 */
+	public void reloadTreeClasses(Collection<JClass> classes) {
+		long start = System.currentTimeMillis();
+		List<String> expanded = new ArrayList<>();
+		for (JClass cls : classes) {
+			if (cls.getParent() == null) {
+				// not added into tree (excluded or in not loaded page)
+				continue;
+			}
+			TreePath clsPath = new TreePath(cls.getPath());
+			expanded.addAll(treeExpansionService.save(clsPath));
+			treeModel.nodeStructureChanged(cls);
+		}
+		if (!expanded.isEmpty()) {
+			treeExpansionService.load(expanded);
+		}
+		if (LOG.isDebugEnabled()) {
+			LOG.debug("Tree nodes for {} classes reloaded in {} ms", classes.size(), System.currentTimeMillis() - start);
+		}
+	}
+
 	private void toggleFlattenPackage() {
 		setFlattenPackage(!isFlattenPackage);
 	}
@@ -1450,7 +1484,7 @@ public void treeWillExpand(TreeExpansionEvent event) {
 					JLoadableNode treeNode = (JLoadableNode) node;
 					IBackgroundTask loadTask = treeNode.getLoadTask();
 					if (loadTask != null) {
-						backgroundExecutor.execute(new TaskWithExtraOnFinish(loadTask,
+						backgroundExecutor.executeInteractive(new TaskWithExtraOnFinish(loadTask,
 								status -> {
 									if (!treeReloading) {
 										treeModel.nodeStructureChanged(treeNode);
@@ -1717,6 +1751,10 @@ public BackgroundExecutor getBackgroundExecutor() {
 		return backgroundExecutor;
 	}
 
+	public ClassPrefetcher getClassPrefetcher() {
+		return classPrefetcher;
+	}
+
 	public JRoot getTreeRoot() {
 		return treeRoot;
 	}
@@ -356,7 +356,7 @@ public void load() {
 			return;
 		}
 		IBackgroundTask loadTask = getLoadTask();
-		contentPanel.getMainWindow().getBackgroundExecutor().execute(loadTask);
+		contentPanel.getMainWindow().getBackgroundExecutor().executeInteractive(loadTask);
 	}
 
 	/**
@@ -5,6 +5,7 @@
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.util.Objects;
+import java.util.function.Function;
 
 import javax.swing.JPopupMenu;
 import javax.swing.event.PopupMenuEvent;
@@ -132,6 +133,7 @@ public IBackgroundTask getLoadTask() {
 					setText(getCodeInfo().getCodeStr());
 					setCaretPosition(0);
 					setLoaded();
+					prefetchReferencedClasses();
 				});
 			}
 		}
@@ -141,9 +143,16 @@ public IBackgroundTask getLoadTask() {
 					setText(code);
 					setCaretPosition(0);
 					setLoaded();
+					prefetchReferencedClasses();
 				});
 	}
 
+	private void prefetchReferencedClasses() {
+		if (node instanceof JClass) {
+			getMainWindow().getClassPrefetcher().prefetchReferencedClasses((JClass) node);
+		}
+	}
+
 	@Override
 	public void refresh() {
 		cachedCodeInfo = null;
@@ -362,13 +371,24 @@ public JavaNode getEnclosingJavaNode(int offset) {
 	}
 
 	public void refreshClass() {
+		refreshClass(cls -> cls.reload(getMainWindow().getCacheObject()));
+	}
+
+	/**
+	 * Refresh using class code already updated in cache
+	 */
+	public void refreshClassFromCache() {
+		refreshClass(cls -> cls.refreshFromCache(getMainWindow().getCacheObject()));
+	}
+
+	private void refreshClass(Function<JClass, ICodeInfo> codeLoader) {
 		if (node instanceof JClass) {
 			JClass cls = node.getRootClass();
 			try {
 				CaretPositionFix caretFix = new CaretPositionFix(this);
 				caretFix.save();
 
-				cachedCodeInfo = cls.reload(getMainWindow().getCacheObject());
+				cachedCodeInfo = codeLoader.apply(cls);
 
 				ClassCodeContentPanel codeContentPanel = (ClassCodeContentPanel) this.contentPanel;
 				codeContentPanel.getTabbedPane().refresh(cls);
@@ -12,7 +12,6 @@
 import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
@@ -610,7 +609,7 @@ private SearchTask prepareSearch(String text) {
 			return null;
 		}
 
-		SearchTask newSearchTask = new SearchTask(mainWindow, this::addSearchResult, this::searchFinished);
+		SearchTask newSearchTask = new SearchTask(mainWindow, this::addSearchResults, this::searchFinished);
 		if (!buildSearch(newSearchTask, text, searchSettings)) {
 			UiUtils.highlightAsErrorField(searchField, true);
 			return null;
@@ -657,20 +656,22 @@ private boolean buildSearch(SearchTask newSearchTask, String text, SearchSetting
 			return true;
 		}
 		if (!searchClasses.isEmpty()) {
-			// using ordered execution for fast tasks
-			MergedSearchProvider merged = new MergedSearchProvider();
-			if (options.contains(CLASS)) {
-				merged.add(new ClassSearchProvider(mainWindow, searchSettings, searchClasses));
-			}
-			if (options.contains(METHOD)) {
-				merged.add(new MethodSearchProvider(mainWindow, searchSettings, searchClasses));
-			}
-			if (options.contains(FIELD)) {
-				merged.add(new FieldSearchProvider(mainWindow, searchSettings, searchClasses));
-			}
-			if (!merged.isEmpty()) {
-				merged.prepare();
-				newSearchTask.addProviderJob(merged);
+			if (options.contains(CLASS) || options.contains(METHOD) || options.contains(FIELD)) {
+				// using ordered execution for fast tasks in each shard
+				newSearchTask.addShardedProviderJobs(searchClasses, shard -> {
+					MergedSearchProvider merged = new MergedSearchProvider();
+					if (options.contains(CLASS)) {
+						merged.add(new ClassSearchProvider(mainWindow, searchSettings, shard));
+					}
+					if (options.contains(METHOD)) {
+						merged.add(new MethodSearchProvider(mainWindow, searchSettings, shard));
+					}
+					if (options.contains(FIELD)) {
+						merged.add(new FieldSearchProvider(mainWindow, searchSettings, shard));
+					}
+					merged.prepare();
+					return merged;
+				});
 			}
 
 			if (options.contains(CODE)) {
@@ -761,11 +762,9 @@ private void prepareForSearch() {
 		progressStartCommon();
 	}
 
-	private void addSearchResult(JNode node) {
-		Objects.requireNonNull(node);
+	private void addSearchResults(List<JNode> nodes) {
 		synchronized (pendingResults) {
-			UiUtils.notUiThreadGuard();
-			pendingResults.add(node);
+			pendingResults.addAll(nodes);
 		}
 	}
 
@@ -810,9 +809,23 @@ private void searchFinished(ITaskInfo status, Boolean complete) {
 		progressFinishedCommon();
 		updateTable();
 		updateProgressLabel(complete);
+		showProvidersStats();
 		sortBtn.setEnabled(resultsModel.getRowCount() != 0);
 	}
 
+	private void showProvidersStats() {
+		SearchTask task = searchTask;
+		if (task == null) {
+			return;
+		}
+		String stats = task.getProvidersStats();
+		progressInfoLabel.setToolTipText(stats);
+		if (progressInfoLabel.getText().isEmpty()) {
+			// don't replace warnings from providers
+			progressInfoLabel.setText(stats);
+		}
+	}
+
 	private void unloadTempData() {
 		mainWindow.getWrapper().unloadClasses();
 		System.gc();
@@ -67,7 +67,7 @@ private UsageDialog(MainWindow mainWindow, JNode node) {
 	protected void openInit() {
 		progressStartCommon();
 		prepareUsageData();
-		mainWindow.getBackgroundExecutor().execute(NLS.str("progress.load"),
+		mainWindow.getBackgroundExecutor().executeInteractive(NLS.str("progress.load"),
 				this::collectUsageData,
 				(status) -> {
 					if (status == TaskStatus.CANCEL_BY_MEMORY) {
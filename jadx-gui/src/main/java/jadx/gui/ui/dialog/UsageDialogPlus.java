@@ -353,7 +353,7 @@ private void loadNodeUsages(JNode node, DefaultMutableTreeNode treeNode) {
 		localProgressPanel.setVisible(true);
 		progressInfoLabel.setText(NLS.str("search_dialog.tip_searching"));
 
-		mainWindow.getBackgroundExecutor().execute(NLS.str("progress.load"),
+		mainWindow.getBackgroundExecutor().executeInteractive(NLS.str("progress.load"),
 				() -> collectUsageData(node, treeNode),
 				(status) -> {
 					if (status == TaskStatus.CANCEL_BY_MEMORY) {
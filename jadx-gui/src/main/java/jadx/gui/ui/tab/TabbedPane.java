@@ -426,7 +426,7 @@ public void onTabSelect(TabBlueprint blueprint) {
 	@Override
 	public void onTabCodeJump(TabBlueprint blueprint, @Nullable JumpPosition prevPos, JumpPosition position) {
 		// queue task to wait completion of loading tasks
-		mainWindow.getBackgroundExecutor().execute(new SilentTask(() -> showCode(position)));
+		mainWindow.getBackgroundExecutor().executeInteractive(new SilentTask(() -> showCode(position)));
 	}
 
 	@Override
@@ -150,7 +150,7 @@ private void loadCodeWithUIAction(JClass cls, Runnable action) {
 			UiUtils.uiRun(action);
 			return;
 		}
-		mainWindow.getBackgroundExecutor().execute(new TaskWithExtraOnFinish(loadTask, action));
+		mainWindow.getBackgroundExecutor().executeInteractive(new TaskWithExtraOnFinish(loadTask, action));
 	}
 
 	/**
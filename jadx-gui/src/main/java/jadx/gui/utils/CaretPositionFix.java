@@ -1,7 +1,5 @@
 package jadx.gui.utils;
 
-import java.util.Map;
-
 import javax.swing.text.BadLocationException;
 
 import org.fife.ui.rsyntaxtextarea.Token;
@@ -112,16 +110,14 @@ private int getNewPos() throws BadLocationException {
 		if (javaNodePos != -1 && codeInfo.hasMetadata()) {
 			JClass cls = codeArea.getJClass();
 			if (cls != null) {
-				ICodeMetadata codeMetadata = codeInfo.getCodeMetadata();
-				for (Map.Entry<Integer, ICodeAnnotation> entry : codeMetadata.getAsMap().entrySet()) {
-					int annPos = entry.getKey();
-					if (annPos >= javaNodePos) {
-						ICodeAnnotation ann = entry.getValue();
-						if (ann instanceof InsnCodeOffset
-								&& ((InsnCodeOffset) ann).getOffset() == codeRawOffset) {
-							return annPos;
-						}
+				Integer insnPos = codeInfo.getCodeMetadata().searchDown(javaNodePos, (annPos, ann) -> {
+					if (ann instanceof InsnCodeOffset && ((InsnCodeOffset) ann).getOffset() == codeRawOffset) {
+						return annPos;
 					}
+					return null;
+				});
+				if (insnPos != null) {
+					return insnPos;
 				}
 			}
 		}
@@ -0,0 +1,163 @@
+package jadx.gui.cache.usage;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jadx.api.usage.IUsageInfoData;
+import jadx.core.dex.nodes.ClassNode;
+import jadx.core.dex.nodes.RootNode;
+import jadx.core.utils.Utils;
+import jadx.tests.api.IntegrationTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UsageFileAdapterTest extends IntegrationTest {
+
+	@TempDir
+	public Path tempDir;
+
+	private Path usageFile;
+	private List<File> inputs;
+	private IUsageInfoData collectedData;
+
+	public static class TestCls {
+		private int count;
+
+		public void inc() {
+			count++;
+			new Helper().help();
+		}
+
+		public int get() {
+			inc();
+			return count;
+		}
+
+		public static class Helper {
+			public void help() {
+			}
+		}
+	}
+
+	@BeforeEach
+	public void prepare() throws IOException {
+		Path inputFile = tempDir.resolve("input.jar");
+		Files.write(inputFile, new byte[] { 1 });
+		inputs = Collections.singletonList(inputFile.toFile());
+		usageFile = tempDir.resolve("cache").resolve("usage");
+	}
+
+	@Test
+	public void test() {
+		ClassNode cls = decompileWithUsageCache();
+		assertThat(usageFile).isRegularFile();
+
+		MappedUsageFile mappedFile = UsageFileAdapter.load(usageFile, inputs);
+		assertThat(mappedFile).isNotNull();
+		checkClass(mappedFile, cls);
+		for (ClassNode innerCls : cls.getInnerClasses()) {
+			checkClass(mappedFile, innerCls);
+		}
+		assertThat(mappedFile.readClassData("unknown.Cls")).isNull();
+
+		// help() used in inc()
+		ClassNode helperCls = cls.getInnerClasses().get(0);
+		ClsUsageData helperData = mappedFile.readClassData(helperCls.getRawName());
+		assertThat(helperData).isNotNull();
+		MthUsageData helpUsage = helperData.getMthUsage().get("help()V");
+		assertThat(helpUsage).isNotNull();
+		assertThat(mthRefs(helpUsage.getUsage())).containsExactly(cls.getRawName() + ".inc()V");
+	}
+
+	@Test
+	public void testSaveWhileMapped() {
+		ClassNode cls = decompileWithUsageCache();
+		MappedUsageFile mappedFile = UsageFileAdapter.load(usageFile, inputs);
+		assertThat(mappedFile).isNotNull();
+
+		// file replaced on save, already mapped data stays readable
+		UsageFileAdapter.save(collectedData, usageFile, inputs);
+		checkClass(mappedFile, cls);
+		MappedUsageFile newMappedFile = UsageFileAdapter.load(usageFile, inputs);
+		assertThat(newMappedFile).isNotNull();
+		checkClass(newMappedFile, cls);
+	}
+
+	@Test
+	public void testRejectTruncated() throws IOException {
+		decompileWithUsageCache();
+		byte[] bytes = Files.readAllBytes(usageFile);
+		for (int len : new int[] { 5, 20, bytes.length / 2 }) {
+			Files.write(usageFile, Arrays.copyOf(bytes, len));
+			assertThat(UsageFileAdapter.load(usageFile, inputs)).as("file length: %d", len).isNull();
+			assertThat(usageFile).doesNotExist();
+		}
+	}
+
+	@Test
+	public void testRejectDifferentInputs() throws IOException {
+		decompileWithUsageCache();
+		File inputFile = inputs.get(0);
+		Files.setLastModifiedTime(inputFile.toPath(), FileTime.fromMillis(inputFile.lastModified() - 10_000));
+		assertThat(UsageFileAdapter.load(usageFile, inputs)).isNull();
+		assertThat(usageFile).doesNotExist();
+	}
+
+	private ClassNode decompileWithUsageCache() {
+		disableCompilation();
+		getArgs().setUsageInfoCache(new UsageInfoCache(usageFile.getParent(), inputs) {
+			@Override
+			public void set(RootNode root, IUsageInfoData data) {
+				collectedData = data;
+				super.set(root, data);
+			}
+		});
+		return getClassNode(TestCls.class);
+	}
+
+	/**
+	 * Compare class data read from mapped file with data collected before save
+	 */
+	private void checkClass(MappedUsageFile mappedFile, ClassNode cls) {
+		RawUsageData rawData = new RawUsageData();
+		collectedData.visitUsageData(new CollectUsageData(rawData));
+		ClsUsageData expected = rawData.getClsMap().get(cls.getRawName());
+		assertThat(expected).as("collected data for class: %s", cls).isNotNull();
+
+		ClsUsageData clsData = mappedFile.readClassData(cls.getRawName());
+		assertThat(clsData).as("data for class: %s", cls).isNotNull();
+		assertThat(clsData.getClsDeps()).isEqualTo(orEmpty(expected.getClsDeps()));
+		assertThat(clsData.getClsUsage()).isEqualTo(orEmpty(expected.getClsUsage()));
+		assertThat(mthRefs(clsData.getClsUseInMth())).isEqualTo(mthRefs(expected.getClsUseInMth()));
+		assertThat(clsData.getMthUsage()).hasSameSizeAs(expected.getMthUsage());
+		expected.getMthUsage().forEach((mthShortId, mthData) -> {
+			MthUsageData readMthData = clsData.getMthUsage().get(mthShortId);
+			assertThat(readMthData).as("usage of method: %s", mthShortId).isNotNull();
+			assertThat(mthRefs(readMthData.getUsage())).isEqualTo(mthRefs(mthData.getUsage()));
+		});
+		assertThat(clsData.getFldUsage()).hasSameSizeAs(expected.getFldUsage());
+		expected.getFldUsage().forEach((fldShortId, fldData) -> {
+			FldUsageData readFldData = clsData.getFldUsage().get(fldShortId);
+			assertThat(readFldData).as("usage of field: %s", fldShortId).isNotNull();
+			assertThat(mthRefs(readFldData.getUsage())).isEqualTo(mthRefs(fldData.getUsage()));
+		});
+	}
+
+	private static <T> List<T> orEmpty(List<T> list) {
+		return list == null ? Collections.emptyList() : list;
+	}
+
+	private static List<String> mthRefs(List<MthRef> list) {
+		return Utils.collectionMap(list, m -> m.getCls() + '.' + m.getShortId());
+	}
+}
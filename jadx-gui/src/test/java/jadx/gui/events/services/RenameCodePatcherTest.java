@@ -0,0 +1,199 @@
+package jadx.gui.events.services;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jadx.api.ICodeInfo;
+import jadx.api.JadxInternalAccess;
+import jadx.api.JavaField;
+import jadx.api.JavaMethod;
+import jadx.api.data.ICodeRename;
+import jadx.api.data.IJavaNodeRef.RefType;
+import jadx.api.data.impl.JadxCodeRename;
+import jadx.api.data.impl.JadxNodeRef;
+import jadx.api.metadata.ICodeAnnotation;
+import jadx.api.metadata.annotations.NodeDeclareRef;
+import jadx.api.metadata.annotations.VarRef;
+import jadx.core.dex.nodes.ClassNode;
+import jadx.core.dex.nodes.RootNode;
+import jadx.tests.api.IntegrationTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RenameCodePatcherTest extends IntegrationTest {
+
+	public static class TestCls {
+		private int value;
+
+		public TestCls(int value) {
+			this.value = value;
+		}
+
+		public int get() {
+			return value;
+		}
+
+		public int get(int add) {
+			return get() + value + add;
+		}
+
+		public void set(int v) {
+			this.value = v;
+		}
+	}
+
+	public static class TestCaller {
+		public int call(TestCls cls) {
+			return cls.get() + cls.get(2);
+		}
+	}
+
+	public static class TestLiteral {
+		public String call(TestCls cls) {
+			return "fetch" + cls.get(3);
+		}
+	}
+
+	public enum TestEnum {
+		ONE, TWO;
+
+		private int code;
+
+		public int code() {
+			return code;
+		}
+	}
+
+	private static final String CLS_NAME = TestCls.class.getName();
+
+	private ClassNode cls;
+
+	@BeforeEach
+	public void load() {
+		disableCompilation();
+		// already renamed nodes, so next rename will not add or remove 'renamed from' comment
+		addFldRename(CLS_NAME, "value:I", "first");
+		addMthRename(CLS_NAME, "get()I", "fetch");
+		addMthRename(CLS_NAME, "get(I)I", "fetch");
+		cls = getClassNode(TestCls.class);
+	}
+
+	@Test
+	public void testField() {
+		RenameCodePatcher patcher = RenameCodePatcher.forField(getField(cls, "value:I"));
+		assertThat(patcher).isNotNull();
+		checkPatch(patcher, new JadxNodeRef(RefType.FIELD, CLS_NAME, "value:I"), "second", cls);
+	}
+
+	@Test
+	public void testOverloadedMethod() {
+		RenameCodePatcher patcher = RenameCodePatcher.forMethod(getMethod(cls, "get(I)I"));
+		assertThat(patcher).isNotNull();
+		ClassNode callerCls = getOtherClass(TestCaller.class);
+		checkPatch(patcher, new JadxNodeRef(RefType.METHOD, CLS_NAME, "get(I)I"), "fetchWith", cls, callerCls);
+		assertThat(cls.getCode().getCodeStr())
+				.contains("public int fetch() {")
+				.contains("public int fetchWith(int i) {");
+		assertThat(callerCls.getCode().getCodeStr()).contains(".fetch() + ").contains(".fetchWith(2)");
+	}
+
+	@Test
+	public void testRejectEnum() {
+		ClassNode enumCls = getOtherClass(TestEnum.class);
+		assertThat(RenameCodePatcher.forField(getField(enumCls, "code:I"))).isNull();
+		assertThat(RenameCodePatcher.forMethod(getMethod(enumCls, "code()I"))).isNull();
+	}
+
+	@Test
+	public void testRejectConstructor() {
+		assertThat(RenameCodePatcher.forMethod(getMethod(cls, "<init>(I)V"))).isNull();
+	}
+
+	@Test
+	public void testRejectAliasComment() {
+		// method without alias, 'renamed from' comment will be added
+		RenameCodePatcher patcher = RenameCodePatcher.forMethod(getMethod(cls, "set(I)V"));
+		assertThat(patcher).isNotNull();
+		applyRename(new JadxNodeRef(RefType.METHOD, CLS_NAME, "set(I)V"), "put");
+		assertThat(patcher.init()).isFalse();
+	}
+
+	@Test
+	public void testRejectNotAnnotated() {
+		RenameCodePatcher patcher = RenameCodePatcher.forMethod(getMethod(cls, "get(I)I"));
+		assertThat(patcher).isNotNull();
+		ClassNode literalCls = getOtherClass(TestLiteral.class);
+		ICodeInfo code = literalCls.getCode();
+		applyRename(new JadxNodeRef(RefType.METHOD, CLS_NAME, "get(I)I"), "fetchWith");
+		assertThat(patcher.init()).isTrue();
+		// old name also used in string literal
+		assertThat(patcher.patch(code)).isNull();
+	}
+
+	/**
+	 * Apply rename and check that patched code and metadata are same as after full decompilation
+	 */
+	private void checkPatch(RenameCodePatcher patcher, JadxNodeRef nodeRef, String newName, ClassNode... classes) {
+		ICodeInfo[] codes = new ICodeInfo[classes.length];
+		for (int i = 0; i < classes.length; i++) {
+			codes[i] = classes[i].getCode();
+		}
+		applyRename(nodeRef, newName);
+		assertThat(patcher.init()).isTrue();
+		for (int i = 0; i < classes.length; i++) {
+			ICodeInfo patchedCode = patcher.patch(codes[i]);
+			assertThat(patchedCode).as("patched code for class: %s", classes[i]).isNotNull();
+			ICodeInfo freshCode = classes[i].reloadCode();
+			assertThat(patchedCode.getCodeStr()).isEqualTo(freshCode.getCodeStr());
+			assertThat(patchedCode.getCodeMetadata().getLineMapping()).isEqualTo(freshCode.getCodeMetadata().getLineMapping());
+			assertThat(annotationsStr(patchedCode)).isEqualTo(annotationsStr(freshCode));
+		}
+	}
+
+	private void applyRename(JadxNodeRef nodeRef, String newName) {
+		List<ICodeRename> renames = getCodeData().getRenames();
+		ICodeRename rename = new JadxCodeRename(nodeRef, newName);
+		renames.remove(rename);
+		renames.add(rename);
+		jadxDecompiler.reloadCodeData();
+	}
+
+	/**
+	 * Annotations with positions, declarations compared by node, because patched code contains new objects
+	 */
+	private static Map<Integer, String> annotationsStr(ICodeInfo codeInfo) {
+		Map<Integer, String> map = new TreeMap<>();
+		codeInfo.getCodeMetadata().getAsMap().forEach((pos, ann) -> map.put(pos, annotationStr(ann)));
+		return map;
+	}
+
+	private static String annotationStr(ICodeAnnotation ann) {
+		switch (ann.getAnnType()) {
+			case DECLARATION:
+				return "declaration: " + ((NodeDeclareRef) ann).getNode();
+			case VAR_REF:
+				return "var ref: " + ((VarRef) ann).getRefPos();
+			default:
+				return ann.getAnnType() + ": " + ann;
+		}
+	}
+
+	private ClassNode getOtherClass(Class<?> clazz) {
+		RootNode root = JadxInternalAccess.getRoot(jadxDecompiler);
+		ClassNode otherCls = root.resolveClass(clazz.getName());
+		assertThat(otherCls).as("class not found: %s", clazz.getName()).isNotNull();
+		return otherCls;
+	}
+
+	private JavaMethod getMethod(ClassNode clsNode, String shortId) {
+		return toJavaMethod(clsNode.searchMethodByShortId(shortId));
+	}
+
+	private JavaField getField(ClassNode clsNode, String shortId) {
+		return JadxInternalAccess.convertFieldNode(jadxDecompiler, clsNode.searchFieldByShortId(shortId));
+	}
+}
@@ -4,6 +4,7 @@
 
 dependencies {
 	compileOnly(project(":jadx-core"))
+	testImplementation(project(":jadx-core"))
 
 	implementation("com.android.tools.build:aapt2-proto:8.13.2-14304508")
 	implementation("com.google.protobuf:protobuf-java") {
@@ -2,18 +2,22 @@
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.List;
 
 import com.android.aapt.Resources.ConfigValue;
 import com.android.aapt.Resources.Entry;
 import com.android.aapt.Resources.Package;
+import com.android.aapt.Resources.PackageId;
 import com.android.aapt.Resources.ResourceTable;
 import com.android.aapt.Resources.Type;
+import com.android.aapt.Resources.TypeId;
 import com.android.aapt.Resources.Value;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.ExtensionRegistryLite;
+import com.google.protobuf.WireFormat;
 
-import jadx.api.ICodeInfo;
 import jadx.core.dex.nodes.RootNode;
-import jadx.core.utils.files.FileUtils;
 import jadx.core.xmlgen.BinaryXMLStrings;
 import jadx.core.xmlgen.IResTableParser;
 import jadx.core.xmlgen.ResContainer;
@@ -25,6 +29,16 @@
 import jadx.core.xmlgen.entry.ValuesParser;
 
 public class ResTableProtoParser extends CommonProtoParser implements IResTableParser {
+	private static final ExtensionRegistryLite EMPTY_REGISTRY = ExtensionRegistryLite.getEmptyRegistry();
+
+	private static final int TABLE_PACKAGE_TAG = messageTag(ResourceTable.PACKAGE_FIELD_NUMBER);
+	private static final int PACKAGE_ID_TAG = messageTag(Package.PACKAGE_ID_FIELD_NUMBER);
+	private static final int PACKAGE_NAME_TAG = messageTag(Package.PACKAGE_NAME_FIELD_NUMBER);
+	private static final int PACKAGE_TYPE_TAG = messageTag(Package.TYPE_FIELD_NUMBER);
+	private static final int TYPE_ID_TAG = messageTag(Type.TYPE_ID_FIELD_NUMBER);
+	private static final int TYPE_NAME_TAG = messageTag(Type.NAME_FIELD_NUMBER);
+	private static final int TYPE_ENTRY_TAG = messageTag(Type.ENTRY_FIELD_NUMBER);
+
 	private final RootNode root;
 	private ResourceStorage resStorage;
 	private String baseFileName = "";
@@ -38,12 +52,29 @@ public void setBaseFileName(String fileName) {
 		this.baseFileName = fileName;
 	}
 
+	/**
+	 * Read resource table directly from stream, entries added into storage one by one,
+	 * so whole table not loaded into memory.
+	 * <br>
+	 * Package and type headers expected before nested types and entries (default field order),
+	 * otherwise nested messages kept until message end.
+	 */
 	@Override
 	public void decode(InputStream inputStream) throws IOException {
 		resStorage = new ResourceStorage(root.getArgs().getSecurity());
-		ResourceTable table = ResourceTable.parseFrom(FileUtils.streamToByteArray(inputStream));
-		for (Package p : table.getPackageList()) {
-			parse(p);
+		CodedInputStream input = CodedInputStream.newInstance(inputStream);
+		while (true) {
+			int tag = input.readTag();
+			if (tag == 0) {
+				break;
+			}
+			if (tag == TABLE_PACKAGE_TAG) {
+				int oldLimit = input.pushLimit(input.readRawVarint32());
+				parsePackage(input);
+				input.popLimit(oldLimit);
+			} else if (!input.skipField(tag)) {
+				break;
+			}
 		}
 		resStorage.finish();
 	}
@@ -52,36 +83,104 @@ public void decode(InputStream inputStream) throws IOException {
 	public synchronized ResContainer decodeFiles() {
 		ValuesParser vp = new ValuesParser(new BinaryXMLStrings(), resStorage.getResourcesNames());
 		ResXmlGen resGen = new ResXmlGen(resStorage, vp, root.initManifestAttributes());
-		ICodeInfo content = XmlGenUtils.makeXmlDump(root.makeCodeWriter(), resStorage);
 		List<ResContainer> xmlFiles = resGen.makeResourcesXml(root.getArgs());
-		return ResContainer.resourceTable(baseFileName, xmlFiles, content);
+		ResourceStorage storage = resStorage;
+		return ResContainer.resourceTable(baseFileName, xmlFiles,
+				() -> XmlGenUtils.makeXmlDump(root.makeCodeWriter(), storage));
 	}
 
-	private void parse(Package p) {
-		String packageName = p.getPackageName();
-		resStorage.setAppPackage(packageName);
-		List<Type> types = p.getTypeList();
-
-		for (Type type : types) {
-			String typeName = type.getName();
+	private void parsePackage(CodedInputStream input) throws IOException {
+		int pkgId = 0;
+		String pkgName = "";
+		boolean hasId = false;
+		boolean hasName = false;
+		List<Type> delayedTypes = new ArrayList<>();
+		while (true) {
+			int tag = input.readTag();
+			if (tag == 0) {
+				break;
+			}
+			if (tag == PACKAGE_ID_TAG) {
+				pkgId = input.readMessage(PackageId.parser(), EMPTY_REGISTRY).getId();
+				hasId = true;
+			} else if (tag == PACKAGE_NAME_TAG) {
+				pkgName = input.readStringRequireUtf8();
+				hasName = true;
+			} else if (tag == PACKAGE_TYPE_TAG) {
+				if (hasId && hasName && delayedTypes.isEmpty()) {
+					resStorage.setAppPackage(pkgName);
+					int oldLimit = input.pushLimit(input.readRawVarint32());
+					parseType(input, pkgId, pkgName);
+					input.popLimit(oldLimit);
+				} else {
+					delayedTypes.add(input.readMessage(Type.parser(), EMPTY_REGISTRY));
+				}
+			} else if (!input.skipField(tag)) {
+				break;
+			}
+		}
+		resStorage.setAppPackage(pkgName);
+		for (Type type : delayedTypes) {
+			int typeId = type.getTypeId().getId();
 			for (Entry entry : type.getEntryList()) {
-				int id = p.getPackageId().getId() << 24 | type.getTypeId().getId() << 16 | entry.getEntryId().getId();
-				String entryName = entry.getName();
-				for (ConfigValue configValue : entry.getConfigValueList()) {
-					String config = parse(configValue.getConfig());
-					ResourceEntry resEntry = new ResourceEntry(id, packageName, typeName, entryName, config);
-					resStorage.add(resEntry);
-
-					ProtoValue protoValue;
-					if (configValue.getValue().getValueCase() == Value.ValueCase.ITEM) {
-						protoValue = new ProtoValue(parse(configValue.getValue().getItem()));
-					} else {
-						protoValue = parse(configValue.getValue().getCompoundValue());
-					}
-					resEntry.setProtoValue(protoValue);
+				addEntry(pkgId, pkgName, typeId, type.getName(), entry);
+			}
+		}
+	}
+
+	private void parseType(CodedInputStream input, int pkgId, String pkgName) throws IOException {
+		int typeId = 0;
+		String typeName = "";
+		boolean hasId = false;
+		boolean hasName = false;
+		List<Entry> delayedEntries = new ArrayList<>();
+		while (true) {
+			int tag = input.readTag();
+			if (tag == 0) {
+				break;
+			}
+			if (tag == TYPE_ID_TAG) {
+				typeId = input.readMessage(TypeId.parser(), EMPTY_REGISTRY).getId();
+				hasId = true;
+			} else if (tag == TYPE_NAME_TAG) {
+				typeName = input.readStringRequireUtf8();
+				hasName = true;
+			} else if (tag == TYPE_ENTRY_TAG) {
+				Entry entry = input.readMessage(Entry.parser(), EMPTY_REGISTRY);
+				if (hasId && hasName && delayedEntries.isEmpty()) {
+					addEntry(pkgId, pkgName, typeId, typeName, entry);
+				} else {
+					delayedEntries.add(entry);
 				}
+			} else if (!input.skipField(tag)) {
+				break;
 			}
 		}
+		for (Entry entry : delayedEntries) {
+			addEntry(pkgId, pkgName, typeId, typeName, entry);
+		}
+	}
+
+	private void addEntry(int pkgId, String packageName, int typeId, String typeName, Entry entry) {
+		int id = pkgId << 24 | typeId << 16 | entry.getEntryId().getId();
+		String entryName = entry.getName();
+		for (ConfigValue configValue : entry.getConfigValueList()) {
+			String config = parse(configValue.getConfig());
+			ResourceEntry resEntry = new ResourceEntry(id, packageName, typeName, entryName, config);
+			resStorage.add(resEntry);
+
+			ProtoValue protoValue;
+			if (configValue.getValue().getValueCase() == Value.ValueCase.ITEM) {
+				protoValue = new ProtoValue(parse(configValue.getValue().getItem()));
+			} else {
+				protoValue = parse(configValue.getValue().getCompoundValue());
+			}
+			resEntry.setProtoValue(protoValue);
+		}
+	}
+
+	private static int messageTag(int fieldNumber) {
+		return fieldNumber << 3 | WireFormat.WIRETYPE_LENGTH_DELIMITED;
 	}
 
 	@Override
@@ -20,7 +20,6 @@
 import jadx.core.utils.android.AndroidResourcesMap;
 import jadx.core.xmlgen.XMLChar;
 import jadx.core.xmlgen.XmlDeobf;
-import jadx.core.xmlgen.XmlGenUtils;
 
 public class ResXmlProtoParser extends CommonProtoParser {
 	private Map<String, String> nsMap;
@@ -216,6 +215,7 @@ private static String generateTagAttrName() {
 	}
 
 	private XmlNode decodeProto(InputStream inputStream) throws IOException {
-		return XmlNode.parseFrom(XmlGenUtils.readData(inputStream));
+		// parse from stream without intermediate data copy
+		return XmlNode.parseFrom(inputStream);
 	}
 }
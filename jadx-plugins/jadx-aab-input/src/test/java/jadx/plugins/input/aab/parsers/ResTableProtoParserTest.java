@@ -0,0 +1,244 @@
+package jadx.plugins.input.aab.parsers;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.android.aapt.ConfigurationOuterClass.Configuration;
+import com.android.aapt.Resources;
+import com.android.aapt.Resources.Array;
+import com.android.aapt.Resources.CompoundValue;
+import com.android.aapt.Resources.ConfigValue;
+import com.android.aapt.Resources.Entry;
+import com.android.aapt.Resources.EntryId;
+import com.android.aapt.Resources.Item;
+import com.android.aapt.Resources.Package;
+import com.android.aapt.Resources.PackageId;
+import com.android.aapt.Resources.Primitive;
+import com.android.aapt.Resources.Reference;
+import com.android.aapt.Resources.ResourceTable;
+import com.android.aapt.Resources.Style;
+import com.android.aapt.Resources.Type;
+import com.android.aapt.Resources.TypeId;
+import com.android.aapt.Resources.Value;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
+
+import jadx.api.JadxArgs;
+import jadx.core.dex.nodes.RootNode;
+import jadx.core.xmlgen.ResourceStorage;
+import jadx.core.xmlgen.entry.ProtoValue;
+import jadx.core.xmlgen.entry.ResourceEntry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResTableProtoParserTest {
+
+	@Test
+	public void testDefaultOrder() throws IOException {
+		ResourceTable table = ResourceTable.newBuilder()
+				.addPackage(Package.newBuilder()
+						.setPackageId(PackageId.newBuilder().setId(0x01))
+						.setPackageName("android")
+						.addType(stringType()))
+				.addPackage(Package.newBuilder()
+						.setPackageId(PackageId.newBuilder().setId(0x7f))
+						.setPackageName("com.example")
+						.addType(stringType())
+						.addType(styleType())
+						.addType(arrayType()))
+				.build();
+		check(table.toByteArray());
+	}
+
+	@Test
+	public void testHeadersAfterContent() throws IOException {
+		// type before package id and name
+		ByteString delayedPkg = writeMessage(out -> {
+			out.writeMessage(Package.TYPE_FIELD_NUMBER, stringType());
+			out.writeMessage(Package.PACKAGE_ID_FIELD_NUMBER, PackageId.newBuilder().setId(0x7e).build());
+			out.writeString(Package.PACKAGE_NAME_FIELD_NUMBER, "com.example.lib");
+			out.writeMessage(Package.TYPE_FIELD_NUMBER, arrayType());
+		});
+		// entries before type id and name
+		ByteString delayedType = writeMessage(out -> {
+			Type type = styleType();
+			for (Entry entry : type.getEntryList()) {
+				out.writeMessage(Type.ENTRY_FIELD_NUMBER, entry);
+			}
+			out.writeString(Type.NAME_FIELD_NUMBER, type.getName());
+			out.writeMessage(Type.TYPE_ID_FIELD_NUMBER, type.getTypeId());
+		});
+		ByteString mixedPkg = writeMessage(out -> {
+			out.writeMessage(Package.PACKAGE_ID_FIELD_NUMBER, PackageId.newBuilder().setId(0x7f).build());
+			out.writeString(Package.PACKAGE_NAME_FIELD_NUMBER, "com.example");
+			out.writeMessage(Package.TYPE_FIELD_NUMBER, stringType());
+			out.writeBytes(Package.TYPE_FIELD_NUMBER, delayedType);
+			out.writeMessage(Package.TYPE_FIELD_NUMBER, arrayType());
+		});
+		ByteString tableBytes = writeMessage(out -> {
+			out.writeBytes(ResourceTable.PACKAGE_FIELD_NUMBER, delayedPkg);
+			out.writeBytes(ResourceTable.PACKAGE_FIELD_NUMBER, mixedPkg);
+		});
+		check(tableBytes.toByteArray());
+	}
+
+	/**
+	 * Compare streaming parser results with entries collected from fully parsed table
+	 */
+	private static void check(byte[] tableBytes) throws IOException {
+		ResTableProtoParser parser = new ResTableProtoParser(new RootNode(new JadxArgs()));
+		parser.decode(new ByteArrayInputStream(tableBytes));
+		ResourceStorage resStorage = parser.getResStorage();
+
+		ResourceTable table = ResourceTable.parseFrom(tableBytes);
+		List<Package> packages = table.getPackageList();
+		assertThat(packages).isNotEmpty();
+		assertThat(resStorage.getAppPackage()).isEqualTo(packages.get(packages.size() - 1).getPackageName());
+
+		List<String> expected = collectEntries(table);
+		List<String> entries = new ArrayList<>();
+		for (ResourceEntry entry : resStorage.getResources()) {
+			entries.add(entryStr(entry));
+		}
+		assertThat(entries).isNotEmpty();
+		assertThat(entries).isEqualTo(expected);
+	}
+
+	private static List<String> collectEntries(ResourceTable table) {
+		CommonProtoParser protoParser = new CommonProtoParser();
+		List<ResourceEntry> list = new ArrayList<>();
+		for (Package p : table.getPackageList()) {
+			for (Type type : p.getTypeList()) {
+				for (Entry entry : type.getEntryList()) {
+					int id = p.getPackageId().getId() << 24 | type.getTypeId().getId() << 16 | entry.getEntryId().getId();
+					for (ConfigValue configValue : entry.getConfigValueList()) {
+						String config = protoParser.parse(configValue.getConfig());
+						ResourceEntry resEntry = new ResourceEntry(id, p.getPackageName(), type.getName(), entry.getName(), config);
+						if (configValue.getValue().getValueCase() == Value.ValueCase.ITEM) {
+							resEntry.setProtoValue(new ProtoValue(protoParser.parse(configValue.getValue().getItem())));
+						} else {
+							resEntry.setProtoValue(protoParser.parse(configValue.getValue().getCompoundValue()));
+						}
+						list.add(resEntry);
+					}
+				}
+			}
+		}
+		list.sort(Comparator.comparingInt(ResourceEntry::getId));
+		List<String> result = new ArrayList<>(list.size());
+		for (ResourceEntry entry : list) {
+			result.add(entryStr(entry));
+		}
+		return result;
+	}
+
+	private static String entryStr(ResourceEntry entry) {
+		return entry.getPkgName() + entry + " -> " + valueStr(entry.getProtoValue());
+	}
+
+	private static String valueStr(ProtoValue value) {
+		StringBuilder sb = new StringBuilder();
+		sb.append(value.getName()).append(':').append(value.getValue())
+				.append(" type=").append(value.getType())
+				.append(" parent=").append(value.getParent());
+		List<ProtoValue> namedValues = value.getNamedValues();
+		if (namedValues != null) {
+			sb.append(" [");
+			for (ProtoValue namedValue : namedValues) {
+				sb.append(valueStr(namedValue)).append(", ");
+			}
+			sb.append(']');
+		}
+		return sb.toString();
+	}
+
+	private static Type stringType() {
+		return Type.newBuilder()
+				.setTypeId(TypeId.newBuilder().setId(1))
+				.setName("string")
+				.addEntry(entry(0, "app_name",
+						configValue("", strItem("Example")),
+						configValue("de", strItem("Beispiel"))))
+				.addEntry(entry(1, "count",
+						configValue("", Item.newBuilder().setPrim(Primitive.newBuilder().setIntDecimalValue(42)))))
+				.build();
+	}
+
+	private static Type styleType() {
+		Style style = Style.newBuilder()
+				.setParent(Reference.newBuilder().setName("style/Base"))
+				.addEntry(Style.Entry.newBuilder()
+						.setKey(Reference.newBuilder().setName("attr/color"))
+						.setItem(Item.newBuilder().setRef(Reference.newBuilder().setName("color/red"))))
+				.build();
+		return Type.newBuilder()
+				.setTypeId(TypeId.newBuilder().setId(2))
+				.setName("style")
+				.addEntry(entry(0, "Theme", configValue("", CompoundValue.newBuilder().setStyle(style))))
+				.addEntry(entry(1, "Theme.Dark",
+						configValue("", CompoundValue.newBuilder().setStyle(style.toBuilder().setParent(
+								Reference.newBuilder().setName("style/Theme"))))))
+				.build();
+	}
+
+	private static Type arrayType() {
+		Array array = Array.newBuilder()
+				.addElement(Array.Element.newBuilder().setItem(strItem("one")))
+				.addElement(Array.Element.newBuilder().setItem(strItem("two")))
+				.build();
+		return Type.newBuilder()
+				.setTypeId(TypeId.newBuilder().setId(3))
+				.setName("array")
+				.addEntry(entry(0, "numbers",
+						configValue("", CompoundValue.newBuilder().setArray(array)),
+						configValue("fr", CompoundValue.newBuilder().setArray(array.toBuilder()
+								.setElement(0, Array.Element.newBuilder().setItem(strItem("un")))))))
+				.build();
+	}
+
+	private static Entry entry(int id, String name, ConfigValue... configValues) {
+		Entry.Builder builder = Entry.newBuilder()
+				.setEntryId(EntryId.newBuilder().setId(id))
+				.setName(name);
+		for (ConfigValue configValue : configValues) {
+			builder.addConfigValue(configValue);
+		}
+		return builder.build();
+	}
+
+	private static ConfigValue configValue(String locale, Item.Builder item) {
+		return ConfigValue.newBuilder()
+				.setConfig(Configuration.newBuilder().setLocale(locale))
+				.setValue(Value.newBuilder().setItem(item))
+				.build();
+	}
+
+	private static ConfigValue configValue(String locale, CompoundValue.Builder compoundValue) {
+		return ConfigValue.newBuilder()
+				.setConfig(Configuration.newBuilder().setLocale(locale))
+				.setValue(Value.newBuilder().setCompoundValue(compoundValue))
+				.build();
+	}
+
+	private static Item.Builder strItem(String str) {
+		return Item.newBuilder().setStr(Resources.String.newBuilder().setValue(str));
+	}
+
+	private static ByteString writeMessage(MessageWriter writer) throws IOException {
+		ByteString.Output output = ByteString.newOutput();
+		CodedOutputStream out = CodedOutputStream.newInstance(output);
+		writer.write(out);
+		out.flush();
+		return output.toByteString();
+	}
+
+	@FunctionalInterface
+	private interface MessageWriter {
+		void write(CodedOutputStream out) throws IOException;
+	}
+}
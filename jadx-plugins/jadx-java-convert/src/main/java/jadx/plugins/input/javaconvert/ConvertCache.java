@@ -0,0 +1,97 @@
+package jadx.plugins.input.javaconvert;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jadx.core.utils.files.CacheFileUtils;
+import jadx.core.utils.files.FileUtils;
+
+/**
+ * Store converted dex files in plugin cache directory.
+ * Key is a hash of jar content and convert options, so unchanged jars will not be converted again.
+ * <br>
+ * Each entry is a directory with dex files named by index,
+ * written to temp directory first and moved in place to not expose partial results.
+ * Least recently used entries removed on cache open if cache size exceeds limit.
+ */
+public class ConvertCache {
+	private static final Logger LOG = LoggerFactory.getLogger(ConvertCache.class);
+
+	private static final int CACHE_VERSION = 1;
+	private static final String DEX_FILE_FORMAT = "%04d.dex";
+	private static final long MAX_CACHE_SIZE = 512 * 1024 * 1024L;
+
+	private final Path cacheDir;
+	private final String optionsKey;
+
+	public ConvertCache(Path cacheDir, JavaConvertOptions options) {
+		this.cacheDir = cacheDir;
+		this.optionsKey = CACHE_VERSION + ":" + options.getMode() + ":" + options.isD8Desugar();
+		CacheFileUtils.trimToSize(cacheDir, 1, MAX_CACHE_SIZE);
+	}
+
+	public String buildKey(Path jar) throws IOException {
+		try (InputStream in = Files.newInputStream(jar)) {
+			MessageDigest md = MessageDigest.getInstance("SHA-256");
+			byte[] buf = new byte[64 * 1024];
+			while (true) {
+				int len = in.read(buf);
+				if (len == -1) {
+					break;
+				}
+				md.update(buf, 0, len);
+			}
+			md.update(optionsKey.getBytes(StandardCharsets.UTF_8));
+			return FileUtils.bytesToHex(md.digest());
+		} catch (IOException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new IOException("Failed to build hash for file: " + jar, e);
+		}
+	}
+
+	public @Nullable List<byte[]> get(String key) {
+		Path entryDir = cacheDir.resolve(key);
+		if (!Files.isDirectory(entryDir)) {
+			return null;
+		}
+		try (Stream<Path> stream = Files.list(entryDir)) {
+			List<Path> dexFiles = stream.sorted().collect(Collectors.toList());
+			List<byte[]> result = new ArrayList<>(dexFiles.size());
+			for (Path dexFile : dexFiles) {
+				result.add(Files.readAllBytes(dexFile));
+			}
+			CacheFileUtils.markUsed(entryDir);
+			return result;
+		} catch (Exception e) {
+			LOG.warn("Failed to read converted files from cache: {}", entryDir, e);
+			return null;
+		}
+	}
+
+	public void put(String key, List<byte[]> dexFiles) {
+		Path entryDir = cacheDir.resolve(key);
+		try {
+			CacheFileUtils.writeDirAtomic(entryDir, dir -> {
+				int i = 0;
+				for (byte[] dexFile : dexFiles) {
+					Files.write(dir.resolve(String.format(DEX_FILE_FORMAT, i++)), dexFile);
+				}
+			});
+		} catch (Exception e) {
+			LOG.warn("Failed to save converted files to cache: {}", entryDir, e);
+		}
+	}
+}
@@ -13,30 +13,32 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import jadx.plugins.input.dex.utils.IDexData;
+
 public class ConvertResult implements Closeable {
 	private static final Logger LOG = LoggerFactory.getLogger(ConvertResult.class);
 
-	private final List<Path> converted = new ArrayList<>();
+	private final List<IDexData> converted = new ArrayList<>();
 	private final List<Path> tmpPaths = new ArrayList<>();
 
-	public List<Path> getConverted() {
+	public synchronized List<IDexData> getConverted() {
 		return converted;
 	}
 
-	public void addConvertedFiles(List<Path> paths) {
-		converted.addAll(paths);
+	public synchronized void addConverted(List<IDexData> dexData) {
+		converted.addAll(dexData);
 	}
 
-	public void addTempPath(Path path) {
+	public synchronized void addTempPath(Path path) {
 		tmpPaths.add(path);
 	}
 
-	public boolean isEmpty() {
+	public synchronized boolean isEmpty() {
 		return converted.isEmpty();
 	}
 
 	@Override
-	public void close() {
+	public synchronized void close() {
 		for (Path tmpPath : tmpPaths) {
 			try {
 				delete(tmpPath);
@@ -47,7 +49,7 @@ public void close() {
 	}
 
 	@SuppressWarnings("ResultOfMethodCallIgnored")
-	private static void delete(Path path) throws IOException {
+	static void delete(Path path) throws IOException {
 		if (Files.isRegularFile(path)) {
 			Files.delete(path);
 			return;
@@ -1,31 +1,61 @@
 package jadx.plugins.input.javaconvert;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.android.tools.r8.ByteDataView;
 import com.android.tools.r8.CompilationFailedException;
 import com.android.tools.r8.CompilationMode;
 import com.android.tools.r8.D8;
 import com.android.tools.r8.D8Command;
+import com.android.tools.r8.DexIndexedConsumer;
 import com.android.tools.r8.Diagnostic;
 import com.android.tools.r8.DiagnosticsHandler;
-import com.android.tools.r8.OutputMode;
 
 public class D8Converter {
 	private static final Logger LOG = LoggerFactory.getLogger(D8Converter.class);
 
-	public static void run(Path path, Path tempDirectory, JavaConvertOptions options) throws CompilationFailedException {
+	/**
+	 * Convert jar to dex in memory
+	 *
+	 * @return dex files content ordered by file index
+	 */
+	public static List<byte[]> run(Path path, JavaConvertOptions options) throws CompilationFailedException {
+		DexCollector dexCollector = new DexCollector();
 		D8Command d8Command = D8Command.builder(new LogHandler())
 				.addProgramFiles(path)
-				.setOutput(tempDirectory, OutputMode.DexIndexed)
+				.setProgramConsumer(dexCollector)
 				.setMode(CompilationMode.DEBUG)
 				.setMinApiLevel(30)
 				.setIntermediate(true)
 				.setDisableDesugaring(!options.isD8Desugar())
 				.build();
 		D8.run(d8Command);
+		return dexCollector.getResult();
+	}
+
+	private static class DexCollector extends DexIndexedConsumer.ForwardingConsumer {
+		private final Map<Integer, byte[]> dexFiles = new TreeMap<>();
+
+		public DexCollector() {
+			super(null);
+		}
+
+		@Override
+		public synchronized void accept(int fileIndex, ByteDataView data, Set<String> descriptors, DiagnosticsHandler handler) {
+			dexFiles.put(fileIndex, data.copyByteData());
+		}
+
+		public synchronized List<byte[]> getResult() {
+			return new ArrayList<>(dexFiles.values());
+		}
 	}
 
 	private static class LogHandler implements DiagnosticsHandler {
@@ -7,19 +7,30 @@
 import java.nio.file.Path;
 import java.nio.file.PathMatcher;
 import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.jar.JarEntry;
 import java.util.jar.JarOutputStream;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import jadx.api.plugins.JadxPluginContext;
+import jadx.api.plugins.data.IJadxFiles;
 import jadx.api.plugins.utils.CommonFileUtils;
 import jadx.api.security.IJadxSecurity;
+import jadx.plugins.input.dex.utils.IDexData;
+import jadx.plugins.input.dex.utils.SimpleDexData;
 import jadx.zip.ZipReader;
 
 public class JavaConvertLoader {
@@ -28,35 +39,73 @@ public class JavaConvertLoader {
 	private final JavaConvertOptions options;
 	private final ZipReader zipReader;
 	private final IJadxSecurity security;
+	private final IJadxFiles files;
+	private final int threads;
+
+	private @Nullable ConvertCache cache;
 
 	public JavaConvertLoader(JavaConvertOptions options, JadxPluginContext context) {
+		this(options, context.getZipReader(), context.getArgs().getSecurity(),
+				context.files(), context.getArgs().getThreadsCount());
+	}
+
+	JavaConvertLoader(JavaConvertOptions options, ZipReader zipReader, IJadxSecurity security, IJadxFiles files, int threads) {
 		this.options = options;
-		this.zipReader = context.getZipReader();
-		this.security = context.getArgs().getSecurity();
+		this.zipReader = zipReader;
+		this.security = security;
+		this.files = files;
+		this.threads = threads;
 	}
 
+	/**
+	 * Convert inputs in parallel (one task per jar), result order is the same as inputs order.
+	 */
 	public ConvertResult process(List<Path> input) {
 		ConvertResult result = new ConvertResult();
-		processJars(input, result);
-		processAars(input, result);
-		processClassFiles(input, result);
+		cache = options.isUseCache() ? new ConvertCache(files.getPluginCacheDir(), options) : null;
+		long start = System.currentTimeMillis();
+		ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, threads));
+		try {
+			List<Future<List<IDexData>>> tasks = new ArrayList<>();
+			processJars(input, result, executor, tasks);
+			processAars(input, result, executor, tasks);
+			processClassFiles(input, result, executor, tasks);
+			for (Future<List<IDexData>> task : tasks) {
+				try {
+					result.addConverted(task.get());
+				} catch (ExecutionException e) {
+					LOG.error("Convert task failed", e.getCause());
+				}
+			}
+		} catch (InterruptedException e) {
+			LOG.error("Java convert interrupted", e);
+			Thread.currentThread().interrupt();
+		} finally {
+			executor.shutdownNow();
+		}
+		if (LOG.isDebugEnabled() && !result.isEmpty()) {
+			LOG.debug("Java convert done in {}ms, dex files: {}", System.currentTimeMillis() - start, result.getConverted().size());
+		}
 		return result;
 	}
 
-	private void processJars(List<Path> input, ConvertResult result) {
+	private void processJars(List<Path> input, ConvertResult result,
+			ExecutorService executor, List<Future<List<IDexData>>> tasks) {
 		PathMatcher jarMatcher = FileSystems.getDefault().getPathMatcher("glob:**.jar");
 		input.stream()
 				.filter(jarMatcher::matches)
-				.forEach(path -> {
+				.forEach(path -> tasks.add(executor.submit(() -> {
 					try {
-						convertJar(result, path);
+						return convertJarWithCache(result, path, path.toAbsolutePath().toString());
 					} catch (Exception e) {
 						LOG.error("Failed to convert file: {}", path.toAbsolutePath(), e);
+						return Collections.emptyList();
 					}
-				});
+				})));
 	}
 
-	private void processClassFiles(List<Path> input, ConvertResult result) {
+	private void processClassFiles(List<Path> input, ConvertResult result,
+			ExecutorService executor, List<Future<List<IDexData>>> tasks) {
 		PathMatcher jarMatcher = FileSystems.getDefault().getPathMatcher("glob:**.class");
 		List<Path> clsFiles = input.stream()
 				.filter(jarMatcher::matches)
@@ -64,31 +113,36 @@ private void processClassFiles(List<Path> input, ConvertResult result) {
 		if (clsFiles.isEmpty()) {
 			return;
 		}
-		try {
-			LOG.debug("Converting class files ...");
-			Path jarFile = Files.createTempFile("jadx-", ".jar");
-			try (JarOutputStream jo = new JarOutputStream(Files.newOutputStream(jarFile))) {
-				for (Path file : clsFiles) {
-					String clsName = AsmUtils.getNameFromClassFile(file);
-					if (clsName == null) {
-						throw new IOException("Can't read class name from file: " + file);
-					}
-					if (!security.isValidEntryName(clsName)) {
-						LOG.warn("Skip class with invalid name: {}", clsName);
-						continue;
+		tasks.add(executor.submit(() -> {
+			try {
+				LOG.debug("Converting class files ...");
+				Path jarFile = Files.createTempFile("jadx-", ".jar");
+				try (JarOutputStream jo = new JarOutputStream(Files.newOutputStream(jarFile))) {
+					for (Path file : clsFiles) {
+						String clsName = AsmUtils.getNameFromClassFile(file);
+						if (clsName == null) {
+							throw new IOException("Can't read class name from file: " + file);
+						}
+						if (!security.isValidEntryName(clsName)) {
+							LOG.warn("Skip class with invalid name: {}", clsName);
+							continue;
+						}
+						addFileToJar(jo, file, clsName + ".class");
 					}
-					addFileToJar(jo, file, clsName + ".class");
 				}
+				result.addTempPath(jarFile);
+				LOG.debug("Packed {} class files into jar: {}", clsFiles.size(), jarFile);
+				// class files usually are build output and changed often, so not cached
+				return toDexData(jarFile.toString(), convertJar(result, jarFile));
+			} catch (Exception e) {
+				LOG.error("Error process class files", e);
+				return Collections.emptyList();
 			}
-			result.addTempPath(jarFile);
-			LOG.debug("Packed {} class files into jar: {}", clsFiles.size(), jarFile);
-			convertJar(result, jarFile);
-		} catch (Exception e) {
-			LOG.error("Error process class files", e);
-		}
+		}));
 	}
 
-	private void processAars(List<Path> input, ConvertResult result) {
+	private void processAars(List<Path> input, ConvertResult result,
+			ExecutorService executor, List<Future<List<IDexData>>> tasks) {
 		PathMatcher aarMatcher = FileSystems.getDefault().getPathMatcher("glob:**.aar");
 		input.stream()
 				.filter(aarMatcher::matches)
@@ -98,8 +152,15 @@ private void processAars(List<Path> input, ConvertResult result) {
 						if (entryName.endsWith(".jar")) {
 							Path tempJar = CommonFileUtils.saveToTempFile(in, ".jar");
 							result.addTempPath(tempJar);
-							LOG.debug("Loading jar: {} ...", entryName);
-							convertJar(result, tempJar);
+							tasks.add(executor.submit(() -> {
+								try {
+									LOG.debug("Loading jar: {} ...", entryName);
+									return convertJarWithCache(result, tempJar, path.toAbsolutePath() + ":" + entryName);
+								} catch (Exception e) {
+									LOG.error("Failed to process zip entry: {}", entry, e);
+									return Collections.emptyList();
+								}
+							}));
 						}
 					} catch (Exception e) {
 						LOG.error("Failed to process zip entry: {}", entry, e);
@@ -107,14 +168,36 @@ private void processAars(List<Path> input, ConvertResult result) {
 				}));
 	}
 
-	private void convertJar(ConvertResult result, Path path) throws Exception {
-		if (repackAndConvertJar(result, path)) {
-			return;
+	/**
+	 * @param label used as file name for converted dex files
+	 */
+	private List<IDexData> convertJarWithCache(ConvertResult result, Path path, String label) throws Exception {
+		ConvertCache convertCache = cache;
+		if (convertCache == null) {
+			return toDexData(label, convertJar(result, path));
+		}
+		String key = convertCache.buildKey(path);
+		List<byte[]> dexFiles = convertCache.get(key);
+		if (dexFiles != null) {
+			LOG.debug("Loaded {} converted dex from cache for {}", dexFiles.size(), label);
+		} else {
+			dexFiles = convertJar(result, path);
+			if (!dexFiles.isEmpty()) {
+				convertCache.put(key, dexFiles);
+			}
+		}
+		return toDexData(label, dexFiles);
+	}
+
+	private List<byte[]> convertJar(ConvertResult result, Path path) throws Exception {
+		List<byte[]> dexFiles = new ArrayList<>();
+		if (!repackAndConvertJar(result, path, dexFiles)) {
+			convertSimpleJar(path, dexFiles);
 		}
-		convertSimpleJar(result, path);
+		return dexFiles;
 	}
 
-	private boolean repackAndConvertJar(ConvertResult result, Path path) throws Exception {
+	private boolean repackAndConvertJar(ConvertResult result, Path path, List<byte[]> dexFiles) throws Exception {
 		// check if jar needs a full repackaging
 		Boolean repackNeeded = zipReader.visitEntries(path.toFile(), zipEntry -> {
 			String entryName = zipEntry.getName();
@@ -163,33 +246,30 @@ private boolean repackAndConvertJar(ConvertResult result, Path path) throws Exce
 					} else if (entryName.endsWith(".jar")) {
 						Path tempJar = CommonFileUtils.saveToTempFile(in, ".jar");
 						result.addTempPath(tempJar);
-						convertJar(result, tempJar);
+						dexFiles.addAll(convertJar(result, tempJar));
 					}
 				} catch (Exception e) {
 					LOG.error("Failed to process jar entry: {} in {}", entry, path, e);
 				}
 			});
 		}
-		convertSimpleJar(result, jarFile);
+		convertSimpleJar(jarFile, dexFiles);
 		return true;
 	}
 
-	private void convertSimpleJar(ConvertResult result, Path path) throws Exception {
-		Path tempDirectory = Files.createTempDirectory("jadx-");
-		result.addTempPath(tempDirectory);
+	private void convertSimpleJar(Path path, List<byte[]> dexFiles) throws IOException {
 		LOG.debug("Converting to dex ...");
-		convert(path, tempDirectory);
-		List<Path> dexFiles = collectFilesInDir(tempDirectory);
-		LOG.debug("Converted {} to {} dex", path.toAbsolutePath(), dexFiles.size());
-		result.addConvertedFiles(dexFiles);
+		List<byte[]> converted = convert(path);
+		LOG.debug("Converted {} to {} dex", path.toAbsolutePath(), converted.size());
+		dexFiles.addAll(converted);
 	}
 
-	private void convert(Path path, Path tempDirectory) {
+	private List<byte[]> convert(Path path) throws IOException {
 		JavaConvertOptions.Mode mode = options.getMode();
 		switch (mode) {
 			case DX:
 				try {
-					DxConverter.run(path, tempDirectory);
+					return convertWithDx(path);
 				} catch (Throwable e) {
 					LOG.error("DX convert failed, path: {}", path, e);
 				}
@@ -197,7 +277,7 @@ private void convert(Path path, Path tempDirectory) {
 
 			case D8:
 				try {
-					D8Converter.run(path, tempDirectory, options);
+					return D8Converter.run(path, options);
 				} catch (Throwable e) {
 					LOG.error("D8 convert failed, path: {}", path, e);
 				}
@@ -205,17 +285,50 @@ private void convert(Path path, Path tempDirectory) {
 
 			case BOTH:
 				try {
-					DxConverter.run(path, tempDirectory);
+					return convertWithDx(path);
 				} catch (Throwable e) {
 					LOG.warn("DX convert failed, trying D8, path: {}", path);
 					try {
-						D8Converter.run(path, tempDirectory, options);
+						return D8Converter.run(path, options);
 					} catch (Throwable ex) {
 						LOG.error("D8 convert failed: {}", ex.getMessage());
 					}
 				}
 				break;
 		}
+		return Collections.emptyList();
+	}
+
+	/**
+	 * DX can write output only to directory, load dex files into memory and remove directory right away
+	 */
+	private static List<byte[]> convertWithDx(Path path) throws IOException {
+		Path tempDirectory = Files.createTempDirectory("jadx-");
+		try {
+			DxConverter.run(path, tempDirectory);
+			List<Path> dexFiles = collectFilesInDir(tempDirectory);
+			// order: classes.dex, classes2.dex, ..., classes10.dex
+			dexFiles.sort(Comparator.comparing((Path p) -> p.getFileName().toString().length())
+					.thenComparing(Path::getFileName));
+			List<byte[]> result = new ArrayList<>(dexFiles.size());
+			for (Path dexFile : dexFiles) {
+				result.add(Files.readAllBytes(dexFile));
+			}
+			return result;
+		} finally {
+			ConvertResult.delete(tempDirectory);
+		}
+	}
+
+	private static List<IDexData> toDexData(String label, List<byte[]> dexFiles) {
+		List<IDexData> list = new ArrayList<>(dexFiles.size());
+		int i = 1;
+		for (byte[] dexFile : dexFiles) {
+			String dexName = i == 1 ? "classes.dex" : "classes" + i + ".dex";
+			list.add(new SimpleDexData(label + ':' + dexName, dexFile));
+			i++;
+		}
+		return list;
 	}
 
 	private static List<Path> collectFilesInDir(Path tempDirectory) throws IOException {
@@ -12,6 +12,7 @@ public enum Mode {
 
 	private Mode mode;
 	private boolean d8Desugar;
+	private boolean useCache;
 
 	@Override
 	public void registerOptions() {
@@ -24,6 +25,9 @@ public void registerOptions() {
 				.description("use desugar in d8")
 				.defaultValue(false)
 				.setter(v -> d8Desugar = v);
+
+		cacheOption(PLUGIN_ID, "save converted files in cache directory and reuse them for unchanged inputs")
+				.setter(v -> useCache = v);
 	}
 
 	public Mode getMode() {
@@ -33,4 +37,8 @@ public Mode getMode() {
 	public boolean isD8Desugar() {
 		return d8Desugar;
 	}
+
+	public boolean isUseCache() {
+		return useCache;
+	}
 }
@@ -0,0 +1,142 @@
+package jadx.plugins.input.javaconvert;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Opcodes;
+
+import jadx.api.plugins.data.IJadxFiles;
+import jadx.api.security.JadxSecurityFlag;
+import jadx.api.security.impl.JadxSecurity;
+import jadx.plugins.input.dex.utils.IDexData;
+import jadx.zip.ZipReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JavaConvertLoaderTest {
+
+	@TempDir
+	Path tempDir;
+
+	private Path cacheDir;
+	private JavaConvertOptions options;
+	private JavaConvertLoader loader;
+
+	@BeforeEach
+	public void init() {
+		cacheDir = tempDir.resolve("cache");
+		options = new JavaConvertOptions();
+		Map<String, String> optionsMap = new HashMap<>();
+		optionsMap.put(JavaConvertPlugin.PLUGIN_ID + ".mode", JavaConvertOptions.Mode.DX.name());
+		options.setOptions(optionsMap);
+		assertThat(options.isUseCache()).isTrue();
+		loader = new JavaConvertLoader(options, new ZipReader(), new JadxSecurity(JadxSecurityFlag.all()), new TestFiles(), 2);
+	}
+
+	@Test
+	public void testInputOrder() throws IOException {
+		Path jarA = makeJar("a.jar", "a/A");
+		Path jarB = makeJar("b.jar", "b/B");
+
+		assertThat(convert(jarB, jarA)).containsExactly(dexName(jarB), dexName(jarA));
+		assertThat(convert(jarA, jarB)).containsExactly(dexName(jarA), dexName(jarB));
+	}
+
+	@Test
+	public void testCache() throws IOException {
+		Path jarA = makeJar("a.jar", "a/A");
+		Path jarB = makeJar("b.jar", "b/B");
+		convert(jarA, jarB);
+
+		ConvertCache cache = new ConvertCache(cacheDir, options);
+		String keyA = cache.buildKey(jarA);
+		String keyB = cache.buildKey(jarB);
+		assertThat(keyA).isNotEqualTo(keyB);
+		Path cachedDex = cacheDir.resolve(keyA).resolve("0000.dex");
+		assertThat(cachedDex).isRegularFile();
+		assertThat(cacheDir.resolve(keyB)).isDirectory();
+
+		// replace cached dex to check that second run use it instead of conversion
+		byte[] marker = new byte[] { 1, 2, 3 };
+		Files.write(cachedDex, marker);
+		List<IDexData> dexList = process(jarA, jarB);
+		assertThat(dexList).hasSize(2);
+		assertThat(dexList.get(0).getContent()).isEqualTo(marker);
+		assertThat(dexList.get(1).getContent()).isNotEqualTo(marker);
+
+		// changed jar converted again and saved with new key
+		makeJar("a.jar", "a/A", "a/C");
+		String newKeyA = cache.buildKey(jarA);
+		assertThat(newKeyA).isNotEqualTo(keyA);
+		List<IDexData> newDexList = process(jarA);
+		assertThat(newDexList).hasSize(1);
+		assertThat(newDexList.get(0).getContent()).isNotEqualTo(marker);
+		assertThat(cacheDir.resolve(newKeyA)).isDirectory();
+	}
+
+	private List<String> convert(Path... jars) {
+		List<String> names = new ArrayList<>();
+		for (IDexData dexData : process(jars)) {
+			names.add(dexData.getFileName());
+		}
+		return names;
+	}
+
+	private List<IDexData> process(Path... jars) {
+		try (ConvertResult result = loader.process(Arrays.asList(jars))) {
+			return new ArrayList<>(result.getConverted());
+		}
+	}
+
+	private static String dexName(Path jar) {
+		return jar.toAbsolutePath() + ":classes.dex";
+	}
+
+	private Path makeJar(String fileName, String... classes) throws IOException {
+		Path jar = tempDir.resolve(fileName);
+		try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+			for (String cls : classes) {
+				out.putNextEntry(new JarEntry(cls + ".class"));
+				out.write(makeClass(cls));
+				out.closeEntry();
+			}
+		}
+		return jar;
+	}
+
+	private static byte[] makeClass(String name) {
+		ClassWriter cw = new ClassWriter(0);
+		cw.visit(Opcodes.V1_8, Opcodes.ACC_PUBLIC, name, null, "java/lang/Object", null);
+		cw.visitEnd();
+		return cw.toByteArray();
+	}
+
+	private final class TestFiles implements IJadxFiles {
+		@Override
+		public Path getPluginCacheDir() {
+			return cacheDir;
+		}
+
+		@Override
+		public Path getPluginConfigDir() {
+			return tempDir.resolve("config");
+		}
+
+		@Override
+		public Path getPluginTempDir() {
+			return tempDir.resolve("temp");
+		}
+	}
+}
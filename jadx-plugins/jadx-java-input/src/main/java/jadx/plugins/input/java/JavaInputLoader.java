@@ -11,6 +11,10 @@
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import org.jetbrains.annotations.Nullable;
@@ -31,14 +35,25 @@ public class JavaInputLoader {
 	private static final byte[] JAVA_CLASS_FILE_MAGIC = { (byte) 0xCA, (byte) 0xFE, (byte) 0xBA, (byte) 0xBE };
 	private static final byte[] ZIP_FILE_MAGIC = { 0x50, 0x4B, 0x03, 0x04 };
 
+	/**
+	 * Minimal count of class entries in zip to decompress them in parallel
+	 */
+	private static final int PARALLEL_LOAD_THRESHOLD = 64;
+
 	private final ZipReader zipReader;
 	private final Path tempPath;
+	private final int threads;
 
-	private int classUniqId = 1;
+	private final AtomicInteger classUniqId = new AtomicInteger(1);
 
-	public JavaInputLoader(ZipReader zipReader, Path tempPath) {
+	public JavaInputLoader(ZipReader zipReader, Path tempPath, int threads) {
 		this.zipReader = zipReader;
 		this.tempPath = tempPath;
+		this.threads = threads;
+	}
+
+	public JavaInputLoader(ZipReader zipReader, Path tempPath) {
+		this(zipReader, tempPath, 1);
 	}
 
 	/**
@@ -126,18 +141,26 @@ private static String concatSource(@Nullable String parentFileName, String name)
 	private List<JavaClassReader> collectFromZip(File file, String name) {
 		List<JavaClassReader> result = new ArrayList<>();
 		try (ZipContent zip = zipReader.open(file)) {
+			List<IZipEntry> entries = new ArrayList<>();
 			for (IZipEntry entry : zip.getEntries()) {
 				if (entry.isDirectory()) {
 					continue;
 				}
-				String entryName = entry.getName();
-				if (entryName.startsWith("META-INF/versions/")) {
+				if (entry.getName().startsWith("META-INF/versions/")) {
 					// skip classes for different java versions
 					continue;
 				}
+				entries.add(entry);
+			}
+			byte[][] preloaded = preloadClassEntries(entries);
+			for (int i = 0; i < entries.size(); i++) {
+				IZipEntry entry = entries.get(i);
+				String entryName = entry.getName();
 				try {
 					List<JavaClassReader> readers;
-					if (entry.preferBytes()) {
+					if (preloaded[i] != null) {
+						readers = loadReaderFromZipEntry(preloaded[i], entryName, name);
+					} else if (entry.preferBytes()) {
 						readers = loadReaderFromZipEntry(entry.getBytes(), entryName, name);
 					} else {
 						readers = loadReader(entry.getInputStream(), entryName, null, name);
@@ -153,6 +176,49 @@ private List<JavaClassReader> collectFromZip(File file, String name) {
 		return result;
 	}
 
+	/**
+	 * Decompress class entries in parallel.
+	 * Readers still created in entries order, so class ids don't depend on threads scheduling.
+	 *
+	 * @return entries content, null for not loaded entries (they will be loaded sequentially)
+	 */
+	private byte[][] preloadClassEntries(List<IZipEntry> entries) {
+		int count = entries.size();
+		byte[][] contents = new byte[count][];
+		List<Integer> classEntries = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			IZipEntry entry = entries.get(i);
+			if (entry.preferBytes() && entry.getName().endsWith(".class")) {
+				classEntries.add(i);
+			}
+		}
+		if (threads <= 1 || classEntries.size() < PARALLEL_LOAD_THRESHOLD) {
+			return contents;
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			for (int i : classEntries) {
+				executor.execute(() -> {
+					try {
+						contents[i] = entries.get(i).getBytes();
+					} catch (Exception e) {
+						// ignore, entry will be loaded again and error reported
+					}
+				});
+			}
+			executor.shutdown();
+			if (!executor.awaitTermination(1, TimeUnit.HOURS)) {
+				LOG.warn("Zip entries loading not finished in time");
+			}
+		} catch (InterruptedException e) {
+			LOG.warn("Zip entries loading interrupted");
+			Thread.currentThread().interrupt();
+		} finally {
+			executor.shutdownNow();
+		}
+		return contents;
+	}
+
 	public static boolean isStartWithBytes(byte[] fileMagic, byte[] expectedBytes) {
 		int len = expectedBytes.length;
 		if (fileMagic.length < len) {
@@ -167,6 +233,6 @@ public static boolean isStartWithBytes(byte[] fileMagic, byte[] expectedBytes) {
 	}
 
 	private int getNextUniqId() {
-		return classUniqId++;
+		return classUniqId.getAndIncrement();
 	}
 }
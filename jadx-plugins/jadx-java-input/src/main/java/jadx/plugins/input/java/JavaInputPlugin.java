@@ -26,12 +26,13 @@ public JadxPluginInfo getPluginInfo() {
 	@Override
 	public void init(JadxPluginContext context) {
 		context.addCodeInput(inputFiles -> {
-			JavaInputLoader loader = new JavaInputLoader(context.getZipReader(), context.files().getPluginTempDir());
+			int threads = context.getArgs().getThreadsCount();
+			JavaInputLoader loader = new JavaInputLoader(context.getZipReader(), context.files().getPluginTempDir(), threads);
 			List<JavaClassReader> readers = loader.collectFiles(inputFiles);
 			if (readers.isEmpty()) {
 				return EmptyCodeLoader.INSTANCE;
 			}
-			return new JavaLoadResult(readers, null);
+			return new JavaLoadResult(readers, null, threads);
 		});
 	}
 
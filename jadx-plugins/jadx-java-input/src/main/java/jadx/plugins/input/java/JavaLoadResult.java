@@ -2,7 +2,12 @@
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Consumer;
 
 import org.jetbrains.annotations.Nullable;
@@ -15,27 +20,71 @@
 public class JavaLoadResult implements ICodeLoader {
 	private static final Logger LOG = LoggerFactory.getLogger(JavaLoadResult.class);
 
+	/**
+	 * Minimal classes count to parse them in parallel
+	 */
+	private static final int PARALLEL_LOAD_THRESHOLD = 64;
+
 	private final List<JavaClassReader> readers;
 	@Nullable
 	private final Closeable closeable;
+	private final int threads;
 
 	public JavaLoadResult(List<JavaClassReader> readers) {
 		this(readers, null);
 	}
 
 	public JavaLoadResult(List<JavaClassReader> readers, @Nullable Closeable closeable) {
+		this(readers, closeable, 1);
+	}
+
+	public JavaLoadResult(List<JavaClassReader> readers, @Nullable Closeable closeable, int threads) {
 		this.readers = readers;
 		this.closeable = closeable;
+		this.threads = threads;
 	}
 
 	@Override
 	public void visitClasses(Consumer<IClassData> consumer) {
-		for (JavaClassReader reader : readers) {
-			try {
-				consumer.accept(reader.loadClassData());
-			} catch (Exception e) {
-				LOG.error("Failed to load class data for file: {}", reader.getFileName(), e);
+		if (threads <= 1 || readers.size() < PARALLEL_LOAD_THRESHOLD) {
+			for (JavaClassReader reader : readers) {
+				try {
+					consumer.accept(reader.loadClassData());
+				} catch (Exception e) {
+					LOG.error("Failed to load class data for file: {}", reader.getFileName(), e);
+				}
+			}
+			return;
+		}
+		// class data creation (class file structure parsing and constant pool indexing) done in parallel,
+		// but classes passed to consumer in original order
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<IClassData>> futures = new ArrayList<>(readers.size());
+			for (JavaClassReader reader : readers) {
+				futures.add(executor.submit(reader::loadClassData));
+			}
+			int count = readers.size();
+			for (int i = 0; i < count; i++) {
+				JavaClassReader reader = readers.get(i);
+				IClassData classData;
+				try {
+					classData = futures.get(i).get();
+				} catch (ExecutionException e) {
+					LOG.error("Failed to load class data for file: {}", reader.getFileName(), e.getCause());
+					continue;
+				}
+				try {
+					consumer.accept(classData);
+				} catch (Exception e) {
+					LOG.error("Failed to load class data for file: {}", reader.getFileName(), e);
+				}
 			}
+		} catch (InterruptedException e) {
+			LOG.warn("Classes loading interrupted");
+			Thread.currentThread().interrupt();
+		} finally {
+			executor.shutdownNow();
 		}
 	}
 
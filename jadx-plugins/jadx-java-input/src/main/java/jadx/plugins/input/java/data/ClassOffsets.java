@@ -73,6 +73,10 @@ public int getOffsetOfConstEntry(int num) {
 		return constPoolOffsets[num];
 	}
 
+	public int getConstPoolSize() {
+		return constPoolOffsets.length;
+	}
+
 	public int getAccessFlagsOffset() {
 		return constPoolEnd;
 	}
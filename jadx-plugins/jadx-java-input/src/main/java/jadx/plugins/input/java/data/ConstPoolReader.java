@@ -1,5 +1,6 @@
 package jadx.plugins.input.java.data;
 
+import java.lang.ref.SoftReference;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -30,6 +31,12 @@ public class ConstPoolReader {
 	private final DataReader data;
 	private final ClassOffsets offsets;
 
+	/**
+	 * Decoded strings for UTF8 entries and class types for CLASS entries, indexed by constant number.
+	 * Filled on first access to entry, soft reference used because class data kept for all loaded classes.
+	 */
+	private SoftReference<String[]> stringsCacheRef = new SoftReference<>(null);
+
 	public ConstPoolReader(JavaClassReader clsReader, JavaClassData javaClassData, DataReader data, ClassOffsets offsets) {
 		this.clsReader = clsReader;
 		this.clsData = javaClassData;
@@ -39,9 +46,15 @@ public ConstPoolReader(JavaClassReader clsReader, JavaClassData javaClassData, D
 
 	@Nullable
 	public String getClass(int idx) {
-		jumpToData(idx);
-		int nameIdx = data.readU2();
-		return fixType(getUtf8(nameIdx));
+		String[] cache = getStringsCache();
+		String clsType = cache[idx];
+		if (clsType == null) {
+			jumpToData(idx);
+			int nameIdx = data.readU2();
+			clsType = fixType(getUtf8(nameIdx));
+			cache[idx] = clsType;
+		}
+		return clsType;
 	}
 
 	public IFieldRef getFieldRef(int idx) {
@@ -159,8 +172,23 @@ public String getUtf8(int idx) {
 		if (idx == 0) {
 			return null;
 		}
-		jumpToData(idx);
-		return readString();
+		String[] cache = getStringsCache();
+		String str = cache[idx];
+		if (str == null) {
+			jumpToData(idx);
+			str = readString();
+			cache[idx] = str;
+		}
+		return str;
+	}
+
+	private String[] getStringsCache() {
+		String[] cache = stringsCacheRef.get();
+		if (cache == null) {
+			cache = new String[offsets.getConstPoolSize()];
+			stringsCacheRef = new SoftReference<>(cache);
+		}
+		return cache;
 	}
 
 	public ConstantType jumpToConst(int idx) {
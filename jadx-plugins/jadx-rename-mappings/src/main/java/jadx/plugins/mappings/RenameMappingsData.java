@@ -1,5 +1,7 @@
 package jadx.plugins.mappings;
 
+import java.util.function.Supplier;
+
 import org.jetbrains.annotations.Nullable;
 
 import net.fabricmc.mappingio.tree.MappingTreeView;
@@ -7,6 +9,7 @@
 import jadx.api.plugins.input.data.attributes.IJadxAttrType;
 import jadx.api.plugins.input.data.attributes.IJadxAttribute;
 import jadx.core.dex.nodes.RootNode;
+import jadx.plugins.mappings.index.MappingsIndex;
 
 public class RenameMappingsData implements IJadxAttribute {
 
@@ -21,13 +24,38 @@ public class RenameMappingsData implements IJadxAttribute {
 		return data == null ? null : data.getMappings();
 	}
 
-	private final MappingTreeView mappings;
+	private final MappingsIndex index;
+	private final Supplier<MappingTreeView> mappingsLoader;
+	private @Nullable MappingTreeView mappings;
 
-	public RenameMappingsData(MappingTreeView mappings) {
+	public RenameMappingsData(MappingsIndex index, MappingTreeView mappings) {
+		this(index, () -> mappings);
 		this.mappings = mappings;
 	}
 
-	public MappingTreeView getMappings() {
+	/**
+	 * Mappings tree not needed for apply, so it can be loaded later (on export)
+	 */
+	public RenameMappingsData(MappingsIndex index, Supplier<MappingTreeView> mappingsLoader) {
+		this.index = index;
+		this.mappingsLoader = mappingsLoader;
+	}
+
+	public MappingsIndex getIndex() {
+		return index;
+	}
+
+	/**
+	 * @return false if mappings file not parsed yet (index loaded from cache)
+	 */
+	public synchronized boolean isMappingsLoaded() {
+		return mappings != null;
+	}
+
+	public synchronized MappingTreeView getMappings() {
+		if (mappings == null) {
+			mappings = mappingsLoader.get();
+		}
 		return mappings;
 	}
 
@@ -16,8 +16,10 @@ public class RenameMappingsOptions extends BasePluginOptionsBuilder {
 
 	public static final String INVERT_OPT = PLUGIN_ID + ".invert";
 	public static final String FORMAT_OPT = PLUGIN_ID + ".format";
+	public static final String CACHE_OPT = PLUGIN_ID + ".cache";
 
 	private boolean invert = false;
+	private boolean useCache = true;
 
 	/**
 	 * null value - used for 'auto' option
@@ -40,6 +42,9 @@ public void registerOptions() {
 				.defaultValue(false)
 				.flags(OptionFlag.PER_PROJECT)
 				.setter(v -> invert = v);
+
+		cacheOption(PLUGIN_ID, "save parsed mappings in cache directory and reuse them for unchanged mappings file")
+				.setter(v -> useCache = v);
 	}
 
 	private static MappingFormat parseMappingFormat(String name) {
@@ -58,6 +63,10 @@ public boolean isInvert() {
 		return invert;
 	}
 
+	public boolean isUseCache() {
+		return useCache;
+	}
+
 	public String getOptionsHashString() {
 		return format + ":" + invert;
 	}
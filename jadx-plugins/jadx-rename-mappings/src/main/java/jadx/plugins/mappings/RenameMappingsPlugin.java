@@ -9,6 +9,7 @@
 import jadx.api.plugins.JadxPluginContext;
 import jadx.api.plugins.JadxPluginInfo;
 import jadx.core.utils.files.FileUtils;
+import jadx.plugins.mappings.index.MappingsIndexCache;
 import jadx.plugins.mappings.load.ApplyMappingsPass;
 import jadx.plugins.mappings.load.CodeMappingsPass;
 import jadx.plugins.mappings.load.LoadMappingsPass;
@@ -34,7 +35,8 @@ public void init(JadxPluginContext context) {
 		if (mappingsPath == null || !Files.isReadable(mappingsPath)) {
 			return;
 		}
-		context.addPass(new LoadMappingsPass(options));
+		MappingsIndexCache cache = options.isUseCache() ? new MappingsIndexCache(context.files().getPluginCacheDir()) : null;
+		context.addPass(new LoadMappingsPass(options, cache));
 		context.addPass(new ApplyMappingsPass());
 		context.addPass(new CodeMappingsPass());
 
@@ -0,0 +1,184 @@
+package jadx.plugins.mappings.index;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jetbrains.annotations.Nullable;
+
+import net.fabricmc.mappingio.tree.MappingTreeView;
+import net.fabricmc.mappingio.tree.MappingTreeView.ClassMappingView;
+import net.fabricmc.mappingio.tree.MappingTreeView.FieldMappingView;
+import net.fabricmc.mappingio.tree.MappingTreeView.MethodArgMappingView;
+import net.fabricmc.mappingio.tree.MappingTreeView.MethodMappingView;
+
+import jadx.core.dex.info.FieldInfo;
+import jadx.core.dex.info.MethodInfo;
+
+/**
+ * Mappings indexed by raw class name and member short id (same as in jadx nodes),
+ * so nodes resolved by one hash lookup without building descriptors.
+ * Members without descriptor in mappings matched by name only.
+ */
+public class MappingsIndex {
+
+	private final Map<String, ClassMapping> classes;
+
+	public MappingsIndex(Map<String, ClassMapping> classes) {
+		this.classes = classes;
+	}
+
+	public static MappingsIndex build(MappingTreeView mappingTree) {
+		Map<String, ClassMapping> classes = new HashMap<>();
+		for (ClassMappingView cls : mappingTree.getClasses()) {
+			Map<String, MemberMapping> fields = new HashMap<>();
+			for (FieldMappingView fld : cls.getFields()) {
+				String desc = fld.getSrcDesc();
+				String key = desc == null ? fld.getSrcName() : fld.getSrcName() + ':' + desc;
+				fields.put(key, new MemberMapping(fld.getDstName(0), fld.getComment(), Collections.emptyList()));
+			}
+			Map<String, MemberMapping> methods = new HashMap<>();
+			for (MethodMappingView mth : cls.getMethods()) {
+				String desc = mth.getSrcDesc();
+				String key = desc == null ? mth.getSrcName() : mth.getSrcName() + desc;
+				methods.put(key, new MemberMapping(mth.getDstName(0), mth.getComment(), buildArgs(mth)));
+			}
+			String rawName = cls.getSrcName().replace('/', '.');
+			classes.put(rawName, new ClassMapping(cls.getDstName(0), cls.getComment(), fields, methods));
+		}
+		return new MappingsIndex(classes);
+	}
+
+	private static List<ArgMapping> buildArgs(MethodMappingView mth) {
+		if (mth.getArgs().isEmpty()) {
+			return Collections.emptyList();
+		}
+		List<ArgMapping> args = new ArrayList<>(mth.getArgs().size());
+		for (MethodArgMappingView arg : mth.getArgs()) {
+			args.add(new ArgMapping(arg.getLvIndex(), arg.getDstName(0)));
+		}
+		return args;
+	}
+
+	/**
+	 * @param rawClsName class raw name with '.' as package separator
+	 */
+	public @Nullable ClassMapping getClass(String rawClsName) {
+		return classes.get(rawClsName);
+	}
+
+	public Map<String, ClassMapping> getClasses() {
+		return classes;
+	}
+
+	public int getMembersCount() {
+		int count = 0;
+		for (ClassMapping cls : classes.values()) {
+			count += cls.getFields().size() + cls.getMethods().size();
+		}
+		return count;
+	}
+
+	public static final class ClassMapping {
+		private final @Nullable String dstName;
+		private final @Nullable String comment;
+		private final Map<String, MemberMapping> fields;
+		private final Map<String, MemberMapping> methods;
+
+		public ClassMapping(@Nullable String dstName, @Nullable String comment,
+				Map<String, MemberMapping> fields, Map<String, MemberMapping> methods) {
+			this.dstName = dstName;
+			this.comment = comment;
+			this.fields = fields;
+			this.methods = methods;
+		}
+
+		public @Nullable MemberMapping getField(FieldInfo fieldInfo) {
+			return getMember(fields, fieldInfo.getShortId(), fieldInfo.getName());
+		}
+
+		public @Nullable MemberMapping getMethod(MethodInfo methodInfo) {
+			return getMember(methods, methodInfo.getShortId(), methodInfo.getName());
+		}
+
+		private static @Nullable MemberMapping getMember(Map<String, MemberMapping> map, String shortId, String name) {
+			if (map.isEmpty()) {
+				return null;
+			}
+			MemberMapping member = map.get(shortId);
+			if (member != null) {
+				return member;
+			}
+			return map.get(name);
+		}
+
+		public @Nullable String getDstName() {
+			return dstName;
+		}
+
+		public @Nullable String getComment() {
+			return comment;
+		}
+
+		/**
+		 * Fields by short id ('name:desc') or name if descriptor not set
+		 */
+		public Map<String, MemberMapping> getFields() {
+			return fields;
+		}
+
+		/**
+		 * Methods by short id ('name(args)ret') or name if descriptor not set
+		 */
+		public Map<String, MemberMapping> getMethods() {
+			return methods;
+		}
+	}
+
+	public static final class MemberMapping {
+		private final @Nullable String dstName;
+		private final @Nullable String comment;
+		private final List<ArgMapping> args;
+
+		public MemberMapping(@Nullable String dstName, @Nullable String comment, List<ArgMapping> args) {
+			this.dstName = dstName;
+			this.comment = comment;
+			this.args = args;
+		}
+
+		public @Nullable String getDstName() {
+			return dstName;
+		}
+
+		public @Nullable String getComment() {
+			return comment;
+		}
+
+		/**
+		 * Method args mappings, always empty for fields
+		 */
+		public List<ArgMapping> getArgs() {
+			return args;
+		}
+	}
+
+	public static final class ArgMapping {
+		private final int lvIndex;
+		private final @Nullable String dstName;
+
+		public ArgMapping(int lvIndex, @Nullable String dstName) {
+			this.lvIndex = lvIndex;
+			this.dstName = dstName;
+		}
+
+		public int getLvIndex() {
+			return lvIndex;
+		}
+
+		public @Nullable String getDstName() {
+			return dstName;
+		}
+	}
+}
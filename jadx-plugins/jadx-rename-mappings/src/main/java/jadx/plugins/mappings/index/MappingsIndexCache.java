@@ -0,0 +1,219 @@
+package jadx.plugins.mappings.index;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jadx.core.utils.exceptions.JadxRuntimeException;
+import jadx.core.utils.files.CacheFileUtils;
+import jadx.core.utils.files.FileUtils;
+import jadx.plugins.mappings.index.MappingsIndex.ArgMapping;
+import jadx.plugins.mappings.index.MappingsIndex.ClassMapping;
+import jadx.plugins.mappings.index.MappingsIndex.MemberMapping;
+
+/**
+ * Store mappings index in plugin cache directory as binary file.
+ * Key is a hash of mappings file path, size, modification time and plugin options,
+ * for mappings directory size and modification time of every file inside are used,
+ * so mappings parsed again only after change.
+ * Least recently used entries removed on cache open if cache size exceeds limit.
+ */
+public class MappingsIndexCache {
+	private static final Logger LOG = LoggerFactory.getLogger(MappingsIndexCache.class);
+
+	private static final int CACHE_VERSION = 1;
+	private static final byte[] HEADER = "jadx.mappings.index".getBytes(StandardCharsets.US_ASCII);
+	private static final long MAX_CACHE_SIZE = 128 * 1024 * 1024L;
+
+	private final Path cacheDir;
+
+	public MappingsIndexCache(Path cacheDir) {
+		this.cacheDir = cacheDir;
+		CacheFileUtils.trimToSize(cacheDir, 1, MAX_CACHE_SIZE);
+	}
+
+	public @Nullable String buildKey(Path mappingsPath, String optionsHash) {
+		try {
+			Path path = mappingsPath.toAbsolutePath().normalize();
+			StringBuilder sb = new StringBuilder();
+			sb.append(CACHE_VERSION).append(':').append(path);
+			if (Files.isDirectory(path)) {
+				// mappings directory (Enigma), directory attributes not changed on file edit
+				List<Path> files;
+				try (Stream<Path> stream = Files.walk(path)) {
+					files = stream.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+				}
+				for (Path file : files) {
+					sb.append(':').append(path.relativize(file));
+					appendFileAttrs(sb, file);
+				}
+			} else {
+				appendFileAttrs(sb, path);
+			}
+			sb.append(':').append(optionsHash);
+			return FileUtils.md5Sum(sb.toString());
+		} catch (Exception e) {
+			LOG.warn("Failed to build cache key for mappings file: {}", mappingsPath, e);
+			return null;
+		}
+	}
+
+	private static void appendFileAttrs(StringBuilder sb, Path file) throws IOException {
+		sb.append(':').append(Files.size(file));
+		sb.append(':').append(Files.getLastModifiedTime(file).toMillis());
+	}
+
+	public @Nullable MappingsIndex get(String key) {
+		Path indexFile = getEntryPath(key);
+		if (!Files.isRegularFile(indexFile)) {
+			return null;
+		}
+		try {
+			ByteBuffer buf = ByteBuffer.wrap(Files.readAllBytes(indexFile));
+			byte[] header = new byte[HEADER.length];
+			buf.get(header);
+			if (!Arrays.equals(header, HEADER) || buf.getInt() != CACHE_VERSION) {
+				LOG.debug("Found mappings index with unknown format: {}", indexFile);
+				return null;
+			}
+			MappingsIndex index = readIndex(buf);
+			CacheFileUtils.markUsed(indexFile);
+			return index;
+		} catch (Exception e) {
+			LOG.warn("Failed to read mappings index from cache: {}", indexFile, e);
+			return null;
+		}
+	}
+
+	public void put(String key, MappingsIndex index) {
+		Path indexFile = getEntryPath(key);
+		try {
+			CacheFileUtils.writeFileAtomic(indexFile, out -> {
+				out.write(HEADER);
+				out.writeInt(CACHE_VERSION);
+				writeIndex(out, index);
+			});
+		} catch (Exception e) {
+			LOG.warn("Failed to save mappings index to cache: {}", indexFile, e);
+		}
+	}
+
+	private Path getEntryPath(String key) {
+		return cacheDir.resolve(key + ".idx");
+	}
+
+	private static void writeIndex(DataOutputStream out, MappingsIndex index) throws IOException {
+		Map<String, ClassMapping> classes = index.getClasses();
+		out.writeInt(classes.size());
+		for (Map.Entry<String, ClassMapping> entry : classes.entrySet()) {
+			ClassMapping cls = entry.getValue();
+			writeString(out, entry.getKey());
+			writeString(out, cls.getDstName());
+			writeString(out, cls.getComment());
+			writeMembers(out, cls.getFields());
+			writeMembers(out, cls.getMethods());
+		}
+	}
+
+	private static void writeMembers(DataOutputStream out, Map<String, MemberMapping> members) throws IOException {
+		out.writeInt(members.size());
+		for (Map.Entry<String, MemberMapping> entry : members.entrySet()) {
+			MemberMapping member = entry.getValue();
+			writeString(out, entry.getKey());
+			writeString(out, member.getDstName());
+			writeString(out, member.getComment());
+			List<ArgMapping> args = member.getArgs();
+			out.writeInt(args.size());
+			for (ArgMapping arg : args) {
+				out.writeInt(arg.getLvIndex());
+				writeString(out, arg.getDstName());
+			}
+		}
+	}
+
+	private static MappingsIndex readIndex(ByteBuffer in) {
+		int count = readCount(in);
+		Map<String, ClassMapping> classes = new HashMap<>(count);
+		for (int i = 0; i < count; i++) {
+			String rawName = readString(in);
+			String dstName = readString(in);
+			String comment = readString(in);
+			Map<String, MemberMapping> fields = readMembers(in);
+			Map<String, MemberMapping> methods = readMembers(in);
+			classes.put(rawName, new ClassMapping(dstName, comment, fields, methods));
+		}
+		return new MappingsIndex(classes);
+	}
+
+	private static Map<String, MemberMapping> readMembers(ByteBuffer in) {
+		int count = readCount(in);
+		Map<String, MemberMapping> members = new HashMap<>(count);
+		for (int i = 0; i < count; i++) {
+			String key = readString(in);
+			String dstName = readString(in);
+			String comment = readString(in);
+			int argsCount = readCount(in);
+			List<ArgMapping> args;
+			if (argsCount == 0) {
+				args = Collections.emptyList();
+			} else {
+				args = new ArrayList<>(argsCount);
+				for (int j = 0; j < argsCount; j++) {
+					int lvIndex = in.getInt();
+					args.add(new ArgMapping(lvIndex, readString(in)));
+				}
+			}
+			members.put(key, new MemberMapping(dstName, comment, args));
+		}
+		return members;
+	}
+
+	/**
+	 * Check count before allocation, every element takes at least one byte
+	 */
+	private static int readCount(ByteBuffer in) {
+		int count = in.getInt();
+		if (count < 0 || count > in.remaining()) {
+			throw new JadxRuntimeException("Invalid elements count: " + count);
+		}
+		return count;
+	}
+
+	/**
+	 * Length prefixed UTF-8 string, -1 length used for null
+	 */
+	private static void writeString(DataOutputStream out, @Nullable String str) throws IOException {
+		if (str == null) {
+			out.writeInt(-1);
+			return;
+		}
+		byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static @Nullable String readString(ByteBuffer in) {
+		int len = in.getInt();
+		if (len == -1) {
+			return null;
+		}
+		String str = new String(in.array(), in.position(), len, StandardCharsets.UTF_8);
+		in.position(in.position() + len);
+		return str;
+	}
+}
@@ -1,23 +1,22 @@
 package jadx.plugins.mappings.load;
 
-import net.fabricmc.mappingio.tree.MappingTreeView;
-import net.fabricmc.mappingio.tree.MappingTreeView.ClassMappingView;
-import net.fabricmc.mappingio.tree.MappingTreeView.FieldMappingView;
-import net.fabricmc.mappingio.tree.MappingTreeView.MethodMappingView;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import jadx.api.plugins.pass.JadxPassInfo;
 import jadx.api.plugins.pass.impl.OrderedJadxPassInfo;
 import jadx.api.plugins.pass.types.JadxPreparePass;
-import jadx.core.codegen.TypeGen;
-import jadx.core.dex.info.FieldInfo;
-import jadx.core.dex.info.MethodInfo;
 import jadx.core.dex.nodes.ClassNode;
 import jadx.core.dex.nodes.FieldNode;
 import jadx.core.dex.nodes.MethodNode;
 import jadx.core.dex.nodes.RootNode;
 import jadx.plugins.mappings.RenameMappingsData;
+import jadx.plugins.mappings.index.MappingsIndex;
+import jadx.plugins.mappings.index.MappingsIndex.ClassMapping;
+import jadx.plugins.mappings.index.MappingsIndex.MemberMapping;
 
 public class ApplyMappingsPass implements JadxPreparePass {
+	private static final Logger LOG = LoggerFactory.getLogger(ApplyMappingsPass.class);
 
 	@Override
 	public JadxPassInfo getInfo() {
@@ -34,50 +33,60 @@ public void init(RootNode root) {
 		if (data == null) {
 			return;
 		}
-		MappingTreeView mappingTree = data.getMappings();
-		process(root, mappingTree);
-		root.registerCodeDataUpdateListener(codeData -> process(root, mappingTree));
+		MappingsIndex index = data.getIndex();
+		process(root, index);
+		root.registerCodeDataUpdateListener(codeData -> process(root, index));
 	}
 
-	private void process(RootNode root, MappingTreeView mappingTree) {
+	/**
+	 * Walk all classes once and resolve mappings by hash lookups in index
+	 */
+	private void process(RootNode root, MappingsIndex index) {
+		if (index.getClasses().isEmpty()) {
+			return;
+		}
+		long start = System.currentTimeMillis();
+		int count = 0;
 		for (ClassNode cls : root.getClasses()) {
-			String clsRawName = cls.getClassInfo().getRawName().replace('.', '/');
-			ClassMappingView mapping = mappingTree.getClass(clsRawName);
+			ClassMapping mapping = index.getClass(cls.getClassInfo().getRawName());
 			if (mapping != null) {
 				processClass(cls, mapping);
+				count++;
 			}
 		}
+		if (LOG.isDebugEnabled()) {
+			LOG.debug("Mappings applied to {} classes, time: {}ms", count, System.currentTimeMillis() - start);
+		}
 	}
 
-	private static void processClass(ClassNode cls, ClassMappingView classMapping) {
-		String alias = classMapping.getDstName(0);
+	private static void processClass(ClassNode cls, ClassMapping classMapping) {
+		String alias = classMapping.getDstName();
 		if (alias != null) {
 			cls.rename(alias.replace('/', '.'));
 		}
 		if (classMapping.getComment() != null) {
 			cls.addCodeComment(classMapping.getComment());
 		}
-		for (FieldNode field : cls.getFields()) {
-			FieldInfo fieldInfo = field.getFieldInfo();
-			String signature = TypeGen.signature(fieldInfo.getType());
-			FieldMappingView fieldMapping = classMapping.getField(fieldInfo.getName(), signature);
-			if (fieldMapping != null) {
-				processField(field, fieldMapping);
+		if (!classMapping.getFields().isEmpty()) {
+			for (FieldNode field : cls.getFields()) {
+				MemberMapping fieldMapping = classMapping.getField(field.getFieldInfo());
+				if (fieldMapping != null) {
+					processField(field, fieldMapping);
+				}
 			}
 		}
-		for (MethodNode method : cls.getMethods()) {
-			MethodInfo methodInfo = method.getMethodInfo();
-			String methodName = methodInfo.getName();
-			String methodDesc = methodInfo.getShortId().substring(methodName.length());
-			MethodMappingView methodMapping = classMapping.getMethod(methodName, methodDesc);
-			if (methodMapping != null) {
-				processMethod(method, methodMapping);
+		if (!classMapping.getMethods().isEmpty()) {
+			for (MethodNode method : cls.getMethods()) {
+				MemberMapping methodMapping = classMapping.getMethod(method.getMethodInfo());
+				if (methodMapping != null) {
+					processMethod(method, methodMapping);
+				}
 			}
 		}
 	}
 
-	private static void processField(FieldNode field, FieldMappingView fieldMapping) {
-		String alias = fieldMapping.getDstName(0);
+	private static void processField(FieldNode field, MemberMapping fieldMapping) {
+		String alias = fieldMapping.getDstName();
 		if (alias != null) {
 			field.rename(alias);
 		}
@@ -87,8 +96,8 @@ private static void processField(FieldNode field, FieldMappingView fieldMapping)
 		}
 	}
 
-	private static void processMethod(MethodNode method, MethodMappingView methodMapping) {
-		String alias = methodMapping.getDstName(0);
+	private static void processMethod(MethodNode method, MemberMapping methodMapping) {
+		String alias = methodMapping.getDstName();
 		if (alias != null) {
 			method.rename(alias);
 		}
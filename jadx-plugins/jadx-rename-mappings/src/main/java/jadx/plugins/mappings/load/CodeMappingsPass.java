@@ -1,13 +1,6 @@
 package jadx.plugins.mappings.load;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-
-import net.fabricmc.mappingio.tree.MappingTreeView;
-import net.fabricmc.mappingio.tree.MappingTreeView.ClassMappingView;
-import net.fabricmc.mappingio.tree.MappingTreeView.MethodArgMappingView;
-import net.fabricmc.mappingio.tree.MappingTreeView.MethodMappingView;
 
 import jadx.api.plugins.pass.JadxPassInfo;
 import jadx.api.plugins.pass.impl.OrderedJadxPassInfo;
@@ -17,10 +10,14 @@
 import jadx.core.dex.nodes.MethodNode;
 import jadx.core.dex.nodes.RootNode;
 import jadx.plugins.mappings.RenameMappingsData;
+import jadx.plugins.mappings.index.MappingsIndex;
+import jadx.plugins.mappings.index.MappingsIndex.ArgMapping;
+import jadx.plugins.mappings.index.MappingsIndex.ClassMapping;
+import jadx.plugins.mappings.index.MappingsIndex.MemberMapping;
 import jadx.plugins.mappings.utils.DalvikToJavaBytecodeUtils;
 
 public class CodeMappingsPass implements JadxDecompilePass {
-	private Map<String, ClassMappingView> clsRenamesMap;
+	private MappingsIndex index;
 
 	@Override
 	public JadxPassInfo getInfo() {
@@ -36,14 +33,12 @@ public void init(RootNode root) {
 		if (data == null) {
 			return;
 		}
-		MappingTreeView mappingTree = data.getMappings();
-		updateMappingsMap(mappingTree);
-		root.registerCodeDataUpdateListener(codeData -> updateMappingsMap(mappingTree));
+		index = data.getIndex();
 	}
 
 	@Override
 	public boolean visit(ClassNode cls) {
-		ClassMappingView classMapping = getMapping(cls);
+		ClassMapping classMapping = getMapping(cls);
 		if (classMapping != null) {
 			applyRenames(cls, classMapping);
 		}
@@ -55,25 +50,23 @@ public boolean visit(ClassNode cls) {
 	public void visit(MethodNode mth) {
 	}
 
-	private static void applyRenames(ClassNode cls, ClassMappingView classMapping) {
+	private static void applyRenames(ClassNode cls, ClassMapping classMapping) {
 		for (MethodNode mth : cls.getMethods()) {
-			String methodName = mth.getMethodInfo().getName();
-			String methodDesc = mth.getMethodInfo().getShortId().substring(methodName.length());
 			List<SSAVar> ssaVars = mth.getSVars();
 			if (ssaVars.isEmpty()) {
 				continue;
 			}
-			MethodMappingView methodMapping = classMapping.getMethod(methodName, methodDesc);
+			MemberMapping methodMapping = classMapping.getMethod(mth.getMethodInfo());
 			if (methodMapping == null) {
 				continue;
 			}
 			// Method args
-			for (MethodArgMappingView argMapping : methodMapping.getArgs()) {
-				Integer mappingLvIndex = argMapping.getLvIndex();
+			for (ArgMapping argMapping : methodMapping.getArgs()) {
+				int mappingLvIndex = argMapping.getLvIndex();
 				for (SSAVar ssaVar : ssaVars) {
 					Integer actualLvIndex = DalvikToJavaBytecodeUtils.getMethodArgLvIndex(ssaVar, mth);
-					if (actualLvIndex.equals(mappingLvIndex)) {
-						ssaVar.getCodeVar().setName(argMapping.getDstName(0));
+					if (actualLvIndex != null && actualLvIndex == mappingLvIndex) {
+						ssaVar.getCodeVar().setName(argMapping.getDstName());
 						break;
 					}
 				}
@@ -82,23 +75,10 @@ private static void applyRenames(ClassNode cls, ClassMappingView classMapping) {
 		}
 	}
 
-	private ClassMappingView getMapping(ClassNode cls) {
-		if (clsRenamesMap == null || clsRenamesMap.isEmpty()) {
+	private ClassMapping getMapping(ClassNode cls) {
+		if (index == null || index.getClasses().isEmpty()) {
 			return null;
 		}
-		String classPath = cls.getClassInfo().makeRawFullName().replace('.', '/');
-		return clsRenamesMap.get(classPath);
-	}
-
-	private void updateMappingsMap(MappingTreeView mappings) {
-		clsRenamesMap = new HashMap<>();
-		for (ClassMappingView cls : mappings.getClasses()) {
-			for (MethodMappingView mth : cls.getMethods()) {
-				if (!mth.getArgs().isEmpty() || !mth.getVars().isEmpty()) {
-					clsRenamesMap.put(cls.getSrcName(), cls);
-					break;
-				}
-			}
-		}
+		return index.getClass(cls.getClassInfo().makeRawFullName());
 	}
 }
@@ -3,6 +3,10 @@
 import java.nio.file.Path;
 import java.util.Collections;
 
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import net.fabricmc.mappingio.MappingReader;
 import net.fabricmc.mappingio.MappingUtil;
 import net.fabricmc.mappingio.adapter.MappingSourceNsSwitch;
@@ -10,7 +14,6 @@
 import net.fabricmc.mappingio.tree.MemoryMappingTree;
 import net.fabricmc.mappingio.tree.VisitableMappingTree;
 
-import jadx.api.JadxArgs;
 import jadx.api.plugins.pass.JadxPassInfo;
 import jadx.api.plugins.pass.impl.SimpleJadxPassInfo;
 import jadx.api.plugins.pass.types.JadxPreparePass;
@@ -18,13 +21,18 @@
 import jadx.core.utils.exceptions.JadxRuntimeException;
 import jadx.plugins.mappings.RenameMappingsData;
 import jadx.plugins.mappings.RenameMappingsOptions;
+import jadx.plugins.mappings.index.MappingsIndex;
+import jadx.plugins.mappings.index.MappingsIndexCache;
 
 public class LoadMappingsPass implements JadxPreparePass {
+	private static final Logger LOG = LoggerFactory.getLogger(LoadMappingsPass.class);
 
 	private final RenameMappingsOptions options;
+	private final @Nullable MappingsIndexCache cache;
 
-	public LoadMappingsPass(RenameMappingsOptions options) {
+	public LoadMappingsPass(RenameMappingsOptions options, @Nullable MappingsIndexCache cache) {
 		this.options = options;
+		this.cache = cache;
 	}
 
 	@Override
@@ -34,13 +42,40 @@ public JadxPassInfo getInfo() {
 
 	@Override
 	public void init(RootNode root) {
-		MappingTreeView mappings = loadMapping(root.getArgs());
-		root.getAttributes().add(new RenameMappingsData(mappings));
+		Path mappingsPath = root.getArgs().getUserRenamesMappingsPath();
+		long start = System.currentTimeMillis();
+		String cacheKey = null;
+		MappingsIndex cachedIndex = null;
+		if (cache != null) {
+			cacheKey = cache.buildKey(mappingsPath, options.getOptionsHashString());
+			if (cacheKey != null) {
+				cachedIndex = cache.get(cacheKey);
+			}
+		}
+		if (cachedIndex != null) {
+			// mappings tree used only for export, load it on request
+			root.getAttributes().add(new RenameMappingsData(cachedIndex, () -> loadMapping(mappingsPath)));
+			logLoadTime("Mappings index loaded from cache", cachedIndex, start);
+			return;
+		}
+		MappingTreeView mappings = loadMapping(mappingsPath);
+		MappingsIndex index = MappingsIndex.build(mappings);
+		root.getAttributes().add(new RenameMappingsData(index, mappings));
+		logLoadTime("Mappings loaded", index, start);
+		if (cache != null && cacheKey != null) {
+			cache.put(cacheKey, index);
+		}
+	}
+
+	private static void logLoadTime(String msg, MappingsIndex index, long start) {
+		if (LOG.isInfoEnabled()) {
+			LOG.info("{}: {} classes, {} members, time: {}ms",
+					msg, index.getClasses().size(), index.getMembersCount(), System.currentTimeMillis() - start);
+		}
 	}
 
-	private MappingTreeView loadMapping(JadxArgs args) {
+	private MappingTreeView loadMapping(Path mappingsPath) {
 		try {
-			Path mappingsPath = args.getUserRenamesMappingsPath();
 			VisitableMappingTree mappingTree = new MemoryMappingTree();
 			MappingReader.read(mappingsPath, options.getFormat(), mappingTree);
 			if (mappingTree.getSrcNamespace() == null) {
@@ -0,0 +1,102 @@
+package jadx.plugins.mappings;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import jadx.api.JadxDecompiler;
+import jadx.api.JavaClass;
+import jadx.plugins.mappings.index.MappingsIndex;
+import jadx.plugins.mappings.index.MappingsIndex.ClassMapping;
+import jadx.plugins.mappings.index.MappingsIndexCache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TestMappingsIndexCache extends BaseRenameMappingsTest {
+
+	@Test
+	public void test() throws IOException {
+		testResDir = "inner-cls-rename";
+		RenameMappingsData data = loadAndCheck();
+		// first load: mappings file parsed and index saved
+		assertThat(data.isMappingsLoaded()).isTrue();
+		List<Path> indexFiles = collectIndexFiles();
+		assertThat(indexFiles).hasSize(1);
+		byte[] indexContent = Files.readAllBytes(indexFiles.get(0));
+
+		// second load: index restored from cache without mappings file parsing
+		setUp();
+		RenameMappingsData cachedData = loadAndCheck();
+		assertThat(cachedData.isMappingsLoaded()).isFalse();
+		assertThat(collectIndexFiles()).isEqualTo(indexFiles);
+		assertThat(Files.readAllBytes(indexFiles.get(0))).isEqualTo(indexContent);
+		checkSameIndex(cachedData.getIndex(), data.getIndex());
+
+		// mappings tree still available for export
+		assertThat(cachedData.getMappings()).isNotNull();
+		assertThat(cachedData.isMappingsLoaded()).isTrue();
+	}
+
+	@Test
+	public void testDirKey() throws IOException {
+		Path mappingsDir = testDir.resolve("mappings");
+		Path clsFile = mappingsDir.resolve("pkg").resolve("A.mapping");
+		Files.createDirectories(clsFile.getParent());
+		Files.write(clsFile, "CLASS a A".getBytes(StandardCharsets.UTF_8));
+		FileTime dirTime = Files.getLastModifiedTime(mappingsDir);
+		MappingsIndexCache cache = new MappingsIndexCache(testDir.resolve("cache"));
+		String key = cache.buildKey(mappingsDir, "");
+		assertThat(key).isNotNull();
+		assertThat(cache.buildKey(mappingsDir, "")).isEqualTo(key);
+
+		// edit file inside directory, directory attributes stay the same
+		Files.write(clsFile, "CLASS a B".getBytes(StandardCharsets.UTF_8));
+		Files.setLastModifiedTime(clsFile, FileTime.fromMillis(System.currentTimeMillis() + 10_000));
+		Files.setLastModifiedTime(mappingsDir, dirTime);
+		assertThat(cache.buildKey(mappingsDir, "")).isNotEqualTo(key);
+	}
+
+	private RenameMappingsData loadAndCheck() {
+		jadxArgs.getInputFiles().add(loadResourceFile("base.smali"));
+		jadxArgs.getInputFiles().add(loadResourceFile("inner.smali"));
+		jadxArgs.setUserRenamesMappingsPath(loadResourceFile("enigma.mapping").toPath());
+		try (JadxDecompiler jadx = new JadxDecompiler(jadxArgs)) {
+			jadx.load();
+			List<JavaClass> classes = jadx.getClasses();
+			assertThat(classes).hasSize(1);
+			JavaClass baseCls = classes.get(0);
+			assertThat(baseCls.getInnerClasses()).hasSize(1);
+			assertThat(baseCls.getInnerClasses().get(0).getName()).isEqualTo("RenamedInner");
+
+			RenameMappingsData data = RenameMappingsData.getData(jadx.getRoot());
+			assertThat(data).isNotNull();
+			return data;
+		}
+	}
+
+	private static void checkSameIndex(MappingsIndex index, MappingsIndex expected) {
+		assertThat(index.getClasses().keySet()).isEqualTo(expected.getClasses().keySet());
+		assertThat(index.getMembersCount()).isEqualTo(expected.getMembersCount());
+		expected.getClasses().forEach((rawName, cls) -> {
+			ClassMapping loadedCls = index.getClasses().get(rawName);
+			assertThat(loadedCls.getDstName()).isEqualTo(cls.getDstName());
+			assertThat(loadedCls.getFields().keySet()).isEqualTo(cls.getFields().keySet());
+			assertThat(loadedCls.getMethods().keySet()).isEqualTo(cls.getMethods().keySet());
+		});
+	}
+
+	private List<Path> collectIndexFiles() throws IOException {
+		try (Stream<Path> stream = Files.walk(testDir)) {
+			return stream.filter(p -> p.getFileName().toString().endsWith(".idx"))
+					.sorted()
+					.collect(Collectors.toList());
+		}
+	}
+}
@@ -0,0 +1,81 @@
+package jadx.plugins.input.smali;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jadx.core.utils.exceptions.JadxRuntimeException;
+import jadx.core.utils.files.CacheFileUtils;
+import jadx.core.utils.files.FileUtils;
+
+/**
+ * Store assembled dex for every smali file in plugin cache directory.
+ * Key is a hash of smali file content and assemble options,
+ * so only new or changed files will be assembled again.
+ * Least recently used entries removed on cache open if cache size exceeds limit.
+ */
+public class SmaliCache {
+	private static final Logger LOG = LoggerFactory.getLogger(SmaliCache.class);
+
+	private static final int CACHE_VERSION = 1;
+	private static final long MAX_CACHE_SIZE = 256 * 1024 * 1024L;
+
+	private final Path cacheDir;
+	private final byte[] optionsKey;
+
+	public SmaliCache(Path cacheDir, SmaliInputOptions options) {
+		this.cacheDir = cacheDir;
+		this.optionsKey = (CACHE_VERSION + ":" + options.getApiLevel()).getBytes(StandardCharsets.UTF_8);
+		CacheFileUtils.trimToSize(cacheDir, 2, MAX_CACHE_SIZE);
+	}
+
+	public String buildKey(byte[] smaliContent) {
+		try {
+			MessageDigest md = MessageDigest.getInstance("SHA-256");
+			md.update(smaliContent);
+			md.update(optionsKey);
+			return FileUtils.bytesToHex(md.digest());
+		} catch (Exception e) {
+			throw new JadxRuntimeException("Failed to build hash for smali file", e);
+		}
+	}
+
+	public @Nullable byte[] get(String key) {
+		Path dexFile = getEntryPath(key);
+		if (!Files.isRegularFile(dexFile)) {
+			return null;
+		}
+		try {
+			byte[] content = Files.readAllBytes(dexFile);
+			CacheFileUtils.markUsed(dexFile);
+			return content;
+		} catch (Exception e) {
+			LOG.warn("Failed to read assembled dex from cache: {}", dexFile, e);
+			return null;
+		}
+	}
+
+	public void put(String key, byte[] dexContent) {
+		Path dexFile = getEntryPath(key);
+		if (Files.isRegularFile(dexFile)) {
+			return;
+		}
+		try {
+			CacheFileUtils.writeFileAtomic(dexFile, out -> out.write(dexContent));
+		} catch (Exception e) {
+			LOG.warn("Failed to save assembled dex to cache: {}", dexFile, e);
+		}
+	}
+
+	/**
+	 * Split entries into sub-directories by first key chars to avoid huge directories
+	 */
+	private Path getEntryPath(String key) {
+		return cacheDir.resolve(key.substring(0, 2)).resolve(key + ".dex");
+	}
+}
@@ -1,6 +1,8 @@
 package jadx.plugins.input.smali;
 
+import java.io.IOException;
 import java.nio.file.FileSystems;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.PathMatcher;
 import java.util.ArrayList;
@@ -10,8 +12,10 @@
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -23,7 +27,17 @@
 public class SmaliConvert {
 	private static final Logger LOG = LoggerFactory.getLogger(SmaliConvert.class);
 
+	private final @Nullable SmaliCache cache;
 	private final List<IDexData> dexData = new ArrayList<>();
+	private final AtomicInteger cachedCount = new AtomicInteger();
+
+	public SmaliConvert() {
+		this(null);
+	}
+
+	public SmaliConvert(@Nullable SmaliCache cache) {
+		this.cache = cache;
+	}
 
 	public boolean execute(List<Path> input, SmaliInputOptions options) {
 		List<Path> smaliFiles = filterSmaliFiles(input);
@@ -68,20 +82,38 @@ private void compile(List<Path> inputFiles, SmaliInputOptions options) {
 			}
 		}
 		if (LOG.isDebugEnabled()) {
-			LOG.debug("Smali compile done in: {}ms", System.currentTimeMillis() - start);
+			LOG.debug("Smali compile done in: {}ms, loaded from cache: {}",
+					System.currentTimeMillis() - start, cachedCount.get());
 		}
 	}
 
 	private void assemble(List<IDexData> results, Path inputFile, SmaliOptions smaliOptions) {
 		Path path = inputFile.toAbsolutePath();
 		try {
-			byte[] dexContent = SmaliUtils.assemble(path.toFile(), smaliOptions);
+			byte[] content = Files.readAllBytes(path);
+			byte[] dexContent = assembleWithCache(content, path, smaliOptions);
 			results.add(new SimpleDexData(path.toString(), dexContent));
 		} catch (Exception e) {
 			LOG.error("Failed to assemble smali file: {}", path, e);
 		}
 	}
 
+	private byte[] assembleWithCache(byte[] content, Path path, SmaliOptions smaliOptions) throws IOException {
+		SmaliCache smaliCache = cache;
+		if (smaliCache == null) {
+			return SmaliUtils.assemble(content, path.toFile(), smaliOptions);
+		}
+		String key = smaliCache.buildKey(content);
+		byte[] cachedDex = smaliCache.get(key);
+		if (cachedDex != null) {
+			cachedCount.incrementAndGet();
+			return cachedDex;
+		}
+		byte[] dexContent = SmaliUtils.assemble(content, path.toFile(), smaliOptions);
+		smaliCache.put(key, dexContent);
+		return dexContent;
+	}
+
 	private List<Path> filterSmaliFiles(List<Path> input) {
 		PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:**.smali");
 		return input.stream()
@@ -92,4 +124,11 @@ private List<Path> filterSmaliFiles(List<Path> input) {
 	public List<IDexData> getDexData() {
 		return dexData;
 	}
+
+	/**
+	 * Count of dex files loaded from cache instead of assembling
+	 */
+	public int getCachedCount() {
+		return cachedCount.get();
+	}
 }
@@ -5,6 +5,7 @@
 public class SmaliInputOptions extends BasePluginOptionsBuilder {
 
 	private int apiLevel;
+	private boolean useCache;
 	private int threads; // use jadx global threads count option
 
 	@Override
@@ -13,12 +14,19 @@ public void registerOptions() {
 				.description("Android API level")
 				.defaultValue(27)
 				.setter(v -> apiLevel = v);
+
+		cacheOption(SmaliInputPlugin.PLUGIN_ID, "save assembled files in cache directory and reuse them for unchanged smali files")
+				.setter(v -> useCache = v);
 	}
 
 	public int getApiLevel() {
 		return apiLevel;
 	}
 
+	public boolean isUseCache() {
+		return useCache;
+	}
+
 	public int getThreads() {
 		return threads;
 	}
@@ -23,7 +23,8 @@ public void init(JadxPluginContext context) {
 
 		DexInputPlugin dexInput = context.plugins().getInstance(DexInputPlugin.class);
 		context.addCodeInput(input -> {
-			SmaliConvert convert = new SmaliConvert();
+			SmaliCache cache = options.isUseCache() ? new SmaliCache(context.files().getPluginCacheDir(), options) : null;
+			SmaliConvert convert = new SmaliConvert(cache);
 			if (!convert.execute(input, options)) {
 				return EmptyCodeLoader.INSTANCE;
 			}
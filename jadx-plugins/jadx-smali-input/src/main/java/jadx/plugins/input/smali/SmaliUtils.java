@@ -1,9 +1,11 @@
 package jadx.plugins.input.smali;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.Reader;
 import java.nio.charset.StandardCharsets;
 
 import org.antlr.runtime.CommonTokenStream;
@@ -26,12 +28,26 @@
  */
 public class SmaliUtils {
 
-	@SuppressWarnings("ExtractMethodRecommender")
 	public static byte[] assemble(File smaliFile, SmaliOptions options) throws IOException {
-		StringBuilder errors = new StringBuilder();
 		try (FileInputStream fis = new FileInputStream(smaliFile);
 				InputStreamReader reader = new InputStreamReader(fis, StandardCharsets.UTF_8)) {
+			return assemble(reader, smaliFile, options);
+		}
+	}
 
+	/**
+	 * Assemble already loaded smali file content
+	 */
+	public static byte[] assemble(byte[] content, File smaliFile, SmaliOptions options) throws IOException {
+		try (InputStreamReader reader = new InputStreamReader(new ByteArrayInputStream(content), StandardCharsets.UTF_8)) {
+			return assemble(reader, smaliFile, options);
+		}
+	}
+
+	@SuppressWarnings("ExtractMethodRecommender")
+	private static byte[] assemble(Reader reader, File smaliFile, SmaliOptions options) throws IOException {
+		StringBuilder errors = new StringBuilder();
+		try {
 			smaliFlexLexer lexer = new smaliFlexLexer(reader, options.apiLevel);
 			lexer.setSourceFile(smaliFile);
 			CommonTokenStream tokens = new CommonTokenStream(lexer);
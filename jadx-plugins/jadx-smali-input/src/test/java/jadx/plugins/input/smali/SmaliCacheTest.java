@@ -0,0 +1,91 @@
+package jadx.plugins.input.smali;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jadx.plugins.input.dex.utils.IDexData;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SmaliCacheTest {
+
+	@TempDir
+	Path tempDir;
+
+	private SmaliInputOptions options;
+
+	@BeforeEach
+	public void init() {
+		options = new SmaliInputOptions();
+		options.setOptions(Collections.emptyMap());
+		options.setThreads(2);
+	}
+
+	@Test
+	public void test() throws IOException {
+		Path smaliA = writeSmali("A", 1);
+		Path smaliB = writeSmali("B", 2);
+		List<Path> input = Arrays.asList(smaliA, smaliB);
+
+		SmaliConvert first = assemble(input);
+		assertThat(first.getCachedCount()).isEqualTo(0);
+		List<IDexData> firstDex = first.getDexData();
+		assertThat(firstDex).hasSize(2);
+
+		// unchanged files loaded from cache
+		SmaliConvert second = assemble(input);
+		assertThat(second.getCachedCount()).isEqualTo(2);
+		checkSameDex(second.getDexData(), firstDex);
+
+		// only changed file assembled again
+		writeSmali("A", 3);
+		SmaliConvert third = assemble(input);
+		assertThat(third.getCachedCount()).isEqualTo(1);
+		List<IDexData> thirdDex = third.getDexData();
+		assertThat(thirdDex).hasSize(2);
+		assertThat(thirdDex.get(0).getContent()).isNotEqualTo(firstDex.get(0).getContent());
+		assertThat(thirdDex.get(1).getContent()).isEqualTo(firstDex.get(1).getContent());
+
+		// same result without cache
+		SmaliConvert noCache = new SmaliConvert();
+		assertThat(noCache.execute(input, options)).isTrue();
+		checkSameDex(thirdDex, noCache.getDexData());
+	}
+
+	private SmaliConvert assemble(List<Path> input) {
+		SmaliConvert convert = new SmaliConvert(new SmaliCache(tempDir.resolve("cache"), options));
+		assertThat(convert.execute(input, options)).isTrue();
+		return convert;
+	}
+
+	private static void checkSameDex(List<IDexData> dexList, List<IDexData> expected) {
+		assertThat(dexList).hasSameSizeAs(expected);
+		for (int i = 0; i < expected.size(); i++) {
+			assertThat(dexList.get(i).getFileName()).isEqualTo(expected.get(i).getFileName());
+			assertThat(dexList.get(i).getContent()).isEqualTo(expected.get(i).getContent());
+		}
+	}
+
+	private Path writeSmali(String clsName, int value) throws IOException {
+		String smali = ".class public L" + clsName + ";\n"
+				+ ".super Ljava/lang/Object;\n"
+				+ "\n"
+				+ ".method public static get()I\n"
+				+ "    .registers 1\n"
+				+ "    const/4 v0, " + value + "\n"
+				+ "    return v0\n"
+				+ ".end method\n";
+		Path file = tempDir.resolve(clsName + ".smali");
+		Files.write(file, smali.getBytes(StandardCharsets.UTF_8));
+		return file;
+	}
+}